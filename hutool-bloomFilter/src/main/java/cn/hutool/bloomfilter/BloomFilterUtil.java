@@ -1,5 +1,7 @@
 package cn.hutool.bloomfilter;
 
+import cn.hutool.core.lang.Assert;
+
 /**
  * 布隆过滤器工具
  *
@@ -29,4 +31,66 @@ public class BloomFilterUtil {
 	public static BitMapBloomFilter createBitMap(int m) {
 		return new BitMapBloomFilter(m);
 	}
+
+	/**
+	 * 创建计数布隆过滤器，支持移除元素
+	 *
+	 * @param expectedInsertions 预计插入的元素个数
+	 * @param fpp                期望的误判率，取值范围(0, 1)
+	 * @return CountingBloomFilter
+	 * @since 5.8.22
+	 */
+	public static CountingBloomFilter createCounting(int expectedInsertions, double fpp) {
+		return new CountingBloomFilter(expectedInsertions, fpp);
+	}
+
+	/**
+	 * 创建可扩容的布隆过滤器，元素超出预计个数时自动增加新的过滤器，整体误判率不超过给定值
+	 *
+	 * @param initialCapacity 初始容量，即第一个过滤器预计插入的元素个数
+	 * @param fpp             期望的误判率，取值范围(0, 1)
+	 * @return ScalableBloomFilter
+	 * @since 5.8.22
+	 */
+	public static ScalableBloomFilter createScalable(int initialCapacity, double fpp) {
+		return new ScalableBloomFilter(initialCapacity, fpp);
+	}
+
+	/**
+	 * 创建基于MurmurHash3双重Hash的布隆过滤器，支持{@link CharSequence}、{@code byte[]}和{@code long}类型的元素
+	 *
+	 * @param expectedInsertions 预计插入的元素个数
+	 * @param fpp                期望的误判率，取值范围(0, 1)
+	 * @return MurmurBloomFilter
+	 * @since 5.8.22
+	 */
+	public static MurmurBloomFilter createMurmur(long expectedInsertions, double fpp) {
+		return new MurmurBloomFilter(expectedInsertions, fpp);
+	}
+
+	/**
+	 * 根据预计插入的元素个数和期望的误判率计算最优的位数，即m = -n * ln(p) / (ln2)^2
+	 *
+	 * @param n 预计插入的元素个数
+	 * @param p 期望的误判率，取值范围(0, 1)
+	 * @return 位数
+	 * @since 5.8.22
+	 */
+	public static long optimalNumOfBits(long n, double p) {
+		Assert.isTrue(n > 0, "Expected insertions must be positive!");
+		Assert.isTrue(p > 0 && p < 1, "False positive probability must be in (0, 1)!");
+		return Math.max(1, (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2))));
+	}
+
+	/**
+	 * 根据预计插入的元素个数和位数计算最优的Hash函数个数，即k = m / n * ln2
+	 *
+	 * @param n 预计插入的元素个数
+	 * @param m 位数
+	 * @return Hash函数个数，至少为1
+	 * @since 5.8.22
+	 */
+	public static int optimalNumOfHashFunctions(long n, long m) {
+		return Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+	}
 }
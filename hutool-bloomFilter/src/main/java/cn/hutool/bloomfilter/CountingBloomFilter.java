@@ -0,0 +1,213 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.HashUtil;
+import cn.hutool.core.util.StrUtil;
+
+/**
+ * 计数布隆过滤器，支持移除元素<br>
+ * 与普通布隆过滤器每个位置使用1个bit不同，此过滤器每个位置使用一个4-bit计数器，16个计数器紧凑存放在一个long中：
+ * <ul>
+ *     <li>加入元素时对应的k个计数器加1，移除时减1，计数器全部大于0时认为元素可能存在</li>
+ *     <li>计数器达到最大值15后不再变化，避免溢出后减为0导致误删其它元素</li>
+ *     <li>k个位置使用MurmurHash3 128-bit结果的两段通过双重Hash（h1 + i * h2）计算</li>
+ * </ul>
+ * 只能移除确实加入过的元素，移除未加入的元素（误判为存在时）会导致其它元素被误判为不存在。<br>
+ * 此类非线程安全。
+ *
+ * @author looly
+ * @since 5.8.22
+ */
+public class CountingBloomFilter implements BloomFilter {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 每个计数器的位数
+	 */
+	private static final int COUNTER_BITS = 4;
+	/**
+	 * 计数器的最大值
+	 */
+	private static final long COUNTER_MAX = (1L << COUNTER_BITS) - 1;
+	/**
+	 * 每个long存放的计数器个数
+	 */
+	private static final int COUNTERS_PER_WORD = Long.SIZE / COUNTER_BITS;
+
+	private final long[] counters;
+	private final int size;
+	private final int hashFunctionNumber;
+	private int count;
+
+	/**
+	 * 构造，根据预计插入的元素个数和期望的误判率计算计数器个数和Hash函数个数
+	 *
+	 * @param expectedInsertions 预计插入的元素个数
+	 * @param fpp                期望的误判率，取值范围(0, 1)
+	 */
+	public CountingBloomFilter(int expectedInsertions, double fpp) {
+		this(BloomFilterUtil.optimalNumOfBits(expectedInsertions, fpp), expectedInsertions);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param size               计数器个数
+	 * @param expectedInsertions 预计插入的元素个数
+	 */
+	private CountingBloomFilter(long size, int expectedInsertions) {
+		Assert.isTrue(size <= (long) Integer.MAX_VALUE, "Counter size {} is too large!", size);
+		this.size = (int) size;
+		this.hashFunctionNumber = BloomFilterUtil.optimalNumOfHashFunctions(expectedInsertions, size);
+		this.counters = new long[(this.size + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD];
+	}
+
+	/**
+	 * 加入字符串，对应的计数器均加1<br>
+	 * 与其它布隆过滤器不同，字符串已存在时依旧计数，以保证重复加入的元素可以被对应次数的移除
+	 *
+	 * @param str 字符串
+	 * @return 加入前是否不存在，存在返回{@code false}
+	 */
+	@Override
+	public boolean add(String str) {
+		final long[] hash = hash(str);
+		final boolean exists = contains(hash);
+		for (int i = 0; i < hashFunctionNumber; i++) {
+			increment(index(hash, i));
+		}
+		count++;
+		return false == exists;
+	}
+
+	@Override
+	public boolean contains(String str) {
+		return contains(hash(str));
+	}
+
+	/**
+	 * 移除字符串，对应的计数器均减1
+	 *
+	 * @param str 字符串
+	 * @return 是否移除，字符串不存在时返回{@code false}
+	 */
+	public boolean remove(String str) {
+		final long[] hash = hash(str);
+		if (false == contains(hash)) {
+			return false;
+		}
+		for (int i = 0; i < hashFunctionNumber; i++) {
+			decrement(index(hash, i));
+		}
+		count--;
+		return true;
+	}
+
+	/**
+	 * @return 计数器个数
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * @return Hash函数个数
+	 */
+	public int getHashFunctionNumber() {
+		return hashFunctionNumber;
+	}
+
+	/**
+	 * @return 当前加入的元素个数，即加入次数减去移除次数
+	 */
+	public int getCount() {
+		return count;
+	}
+
+	/**
+	 * @return 根据当前元素个数估算的误判率
+	 */
+	public double getFalsePositiveProbability() {
+		// (1 - e^(-k * n / m)) ^ k
+		return Math.pow((1 - Math.exp(-hashFunctionNumber * (double) count / size)), hashFunctionNumber);
+	}
+
+	/**
+	 * 是否所有计数器均大于0
+	 *
+	 * @param hash 128位Hash值
+	 * @return 是否可能存在
+	 */
+	private boolean contains(long[] hash) {
+		for (int i = 0; i < hashFunctionNumber; i++) {
+			if (0 == get(index(hash, i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 获取计数器的值
+	 *
+	 * @param index 计数器位置
+	 * @return 计数值
+	 */
+	private long get(int index) {
+		return (counters[index / COUNTERS_PER_WORD] >>> shift(index)) & COUNTER_MAX;
+	}
+
+	/**
+	 * 计数器加1，已达最大值时不变
+	 *
+	 * @param index 计数器位置
+	 */
+	private void increment(int index) {
+		if (get(index) < COUNTER_MAX) {
+			counters[index / COUNTERS_PER_WORD] += 1L << shift(index);
+		}
+	}
+
+	/**
+	 * 计数器减1，已达最大值时不变（无法确定真实计数）
+	 *
+	 * @param index 计数器位置
+	 */
+	private void decrement(int index) {
+		final long value = get(index);
+		if (value > 0 && value < COUNTER_MAX) {
+			counters[index / COUNTERS_PER_WORD] -= 1L << shift(index);
+		}
+	}
+
+	/**
+	 * 计数器在long中的偏移
+	 *
+	 * @param index 计数器位置
+	 * @return 偏移位数
+	 */
+	private static int shift(int index) {
+		return (index % COUNTERS_PER_WORD) * COUNTER_BITS;
+	}
+
+	/**
+	 * 使用双重Hash计算第i个计数器的位置
+	 *
+	 * @param hash 128位Hash值
+	 * @param i    Hash函数序号
+	 * @return 计数器位置
+	 */
+	private int index(long[] hash, int i) {
+		return (int) (((hash[0] + i * hash[1]) & Long.MAX_VALUE) % size);
+	}
+
+	/**
+	 * 计算字符串的128位MurmurHash
+	 *
+	 * @param str 字符串
+	 * @return 128位Hash值
+	 */
+	private static long[] hash(String str) {
+		return HashUtil.murmur128(StrUtil.utf8Bytes(str));
+	}
+}
@@ -0,0 +1,448 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.bloomfilter.bitMap.MappedBitMap;
+import cn.hutool.core.lang.Assert;
+
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 基于MurmurHash3的双重Hash布隆过滤器<br>
+ * 与{@link BitMapBloomFilter}对每个字符串分别执行多个Hash算法不同，此过滤器只计算一次128位的MurmurHash3（算法同{@link cn.hutool.core.lang.hash.MurmurHash#hash128(byte[])}），
+ * 使用Kirsch-Mitzenmacher方法由两个64位结果h1、h2生成k个位置：{@code h1 + i * h2}，特点如下：
+ * <ul>
+ *     <li>支持{@link CharSequence}、{@code byte[]}和{@code long}类型的元素，计算Hash时不创建任何对象</li>
+ *     <li>{@link CharSequence}按照每个字符的UTF-16LE编码计算Hash，无需转换为byte[]</li>
+ *     <li>根据预计插入的元素个数和期望的误判率计算最优的位数和Hash函数个数</li>
+ *     <li>堆内存储时使用CAS设置bit，线程安全</li>
+ *     <li>可使用{@link MappedBitMap}存储bit，过滤器在重启后直接恢复，此时过滤器不支持序列化</li>
+ * </ul>
+ *
+ * @author looly
+ * @since 5.8.22
+ */
+public class MurmurBloomFilter implements BloomFilter {
+	private static final long serialVersionUID = 1L;
+
+	private static final long C1 = 0x87c37b91114253d5L;
+	private static final long C2 = 0x4cf5ad432745937fL;
+
+	/**
+	 * 堆内存储，使用{@link MappedBitMap}时为{@code null}
+	 */
+	private final AtomicLongArray bits;
+	/**
+	 * 映射文件存储，不参与序列化
+	 */
+	private final transient MappedBitMap mappedBits;
+	private final long bitSize;
+	private final int hashFunctionNumber;
+
+	/**
+	 * 构造，根据预计插入的元素个数和期望的误判率计算位数和Hash函数个数
+	 *
+	 * @param expectedInsertions 预计插入的元素个数
+	 * @param fpp                期望的误判率，取值范围(0, 1)
+	 */
+	public MurmurBloomFilter(long expectedInsertions, double fpp) {
+		this(BloomFilterUtil.optimalNumOfBits(expectedInsertions, fpp), expectedInsertions);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param bitSize            位数
+	 * @param expectedInsertions 预计插入的元素个数
+	 */
+	private MurmurBloomFilter(long bitSize, long expectedInsertions) {
+		final long wordCount = (bitSize + Long.SIZE - 1) / Long.SIZE;
+		Assert.isTrue(wordCount <= Integer.MAX_VALUE, "Bit size {} is too large!", bitSize);
+		this.bits = new AtomicLongArray((int) wordCount);
+		this.mappedBits = null;
+		// 使用全部bit，减少误判
+		this.bitSize = wordCount * Long.SIZE;
+		this.hashFunctionNumber = BloomFilterUtil.optimalNumOfHashFunctions(expectedInsertions, bitSize);
+	}
+
+	/**
+	 * 构造，使用映射文件存储bit，位数为{@link MappedBitMap#size()}<br>
+	 * 使用相同的参数重新打开同一个文件即可恢复过滤器
+	 *
+	 * @param expectedInsertions 预计插入的元素个数
+	 * @param mappedBits         映射文件BitMap，大小可使用{@link BloomFilterUtil#optimalNumOfBits(long, double)}计算
+	 * @since 5.8.22
+	 */
+	public MurmurBloomFilter(long expectedInsertions, MappedBitMap mappedBits) {
+		this.bits = null;
+		this.mappedBits = mappedBits;
+		this.bitSize = mappedBits.size();
+		this.hashFunctionNumber = BloomFilterUtil.optimalNumOfHashFunctions(expectedInsertions, bitSize);
+	}
+
+	// ---------------------------------------------------------------- add
+
+	@Override
+	public boolean add(String str) {
+		return add((CharSequence) str);
+	}
+
+	/**
+	 * 加入字符序列，按照UTF-16LE编码计算Hash
+	 *
+	 * @param str 字符序列
+	 * @return 是否加入成功，如果可能已经存在返回{@code false}
+	 */
+	public boolean add(CharSequence str) {
+		return hash(str, true);
+	}
+
+	/**
+	 * 加入字节数组
+	 *
+	 * @param data 字节数组
+	 * @return 是否加入成功，如果可能已经存在返回{@code false}
+	 */
+	public boolean add(byte[] data) {
+		return add(data, 0, data.length);
+	}
+
+	/**
+	 * 加入字节数组的一部分
+	 *
+	 * @param data   字节数组
+	 * @param offset 开始位置
+	 * @param length 长度
+	 * @return 是否加入成功，如果可能已经存在返回{@code false}
+	 */
+	public boolean add(byte[] data, int offset, int length) {
+		return hash(data, offset, length, true);
+	}
+
+	/**
+	 * 加入long值，按照8字节小端序计算Hash
+	 *
+	 * @param value long值
+	 * @return 是否加入成功，如果可能已经存在返回{@code false}
+	 */
+	public boolean add(long value) {
+		return hash(value, true);
+	}
+
+	// ---------------------------------------------------------------- contains
+
+	@Override
+	public boolean contains(String str) {
+		return contains((CharSequence) str);
+	}
+
+	/**
+	 * 是否可能包含字符序列，存在误判
+	 *
+	 * @param str 字符序列
+	 * @return 是否可能包含
+	 */
+	public boolean contains(CharSequence str) {
+		return hash(str, false);
+	}
+
+	/**
+	 * 是否可能包含字节数组，存在误判
+	 *
+	 * @param data 字节数组
+	 * @return 是否可能包含
+	 */
+	public boolean contains(byte[] data) {
+		return contains(data, 0, data.length);
+	}
+
+	/**
+	 * 是否可能包含字节数组的一部分，存在误判
+	 *
+	 * @param data   字节数组
+	 * @param offset 开始位置
+	 * @param length 长度
+	 * @return 是否可能包含
+	 */
+	public boolean contains(byte[] data, int offset, int length) {
+		return hash(data, offset, length, false);
+	}
+
+	/**
+	 * 是否可能包含long值，存在误判
+	 *
+	 * @param value long值
+	 * @return 是否可能包含
+	 */
+	public boolean contains(long value) {
+		return hash(value, false);
+	}
+
+	// ---------------------------------------------------------------- info
+
+	/**
+	 * @return 位数
+	 */
+	public long getBitSize() {
+		return bitSize;
+	}
+
+	/**
+	 * @return Hash函数个数
+	 */
+	public int getHashFunctionNumber() {
+		return hashFunctionNumber;
+	}
+
+	/**
+	 * @return 已设置的bit数
+	 */
+	public long getBitCount() {
+		if (null != mappedBits) {
+			return mappedBits.cardinality();
+		}
+		long count = 0;
+		for (int i = 0; i < bits.length(); i++) {
+			count += Long.bitCount(bits.get(i));
+		}
+		return count;
+	}
+
+	/**
+	 * @return 根据已设置的bit数估算的误判率
+	 */
+	public double getFalsePositiveProbability() {
+		return Math.pow((double) getBitCount() / bitSize, hashFunctionNumber);
+	}
+
+	// ---------------------------------------------------------------- private
+
+	/**
+	 * 序列化，使用{@link MappedBitMap}存储时bit位于映射文件中，无法序列化
+	 *
+	 * @param out 输出流
+	 * @throws IOException IO异常，使用映射文件存储时抛出{@link NotSerializableException}
+	 */
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		if (null != mappedBits) {
+			throw new NotSerializableException("MurmurBloomFilter backed by MappedBitMap is not serializable, reopen the mapped file instead.");
+		}
+		out.defaultWriteObject();
+	}
+
+	/**
+	 * 设置或检查h1、h2生成的k个位置
+	 *
+	 * @param h1  Hash值1
+	 * @param h2  Hash值2
+	 * @param set {@code true}设置bit，{@code false}检查bit
+	 * @return 设置时返回是否有bit被改变，检查时返回是否所有bit均已设置
+	 */
+	private boolean apply(long h1, long h2, boolean set) {
+		boolean changed = false;
+		long combined = h1;
+		for (int i = 0; i < hashFunctionNumber; i++) {
+			final long index = (combined & Long.MAX_VALUE) % bitSize;
+			if (set) {
+				changed |= setBit(index);
+			} else if (false == getBit(index)) {
+				return false;
+			}
+			combined += h2;
+		}
+		return set ? changed : true;
+	}
+
+	/**
+	 * 检查bit是否设置
+	 *
+	 * @param index 位置
+	 * @return 是否设置
+	 */
+	private boolean getBit(long index) {
+		if (null != mappedBits) {
+			return mappedBits.contains(index);
+		}
+		return 0 != (bits.get((int) (index >>> 6)) & (1L << index));
+	}
+
+	/**
+	 * 使用CAS设置bit
+	 *
+	 * @param index 位置
+	 * @return 是否由此次调用设置
+	 */
+	private boolean setBit(long index) {
+		if (null != mappedBits) {
+			return mappedBits.addIfAbsent(index);
+		}
+		final int wordIndex = (int) (index >>> 6);
+		final long mask = 1L << index;
+		long oldValue;
+		do {
+			oldValue = bits.get(wordIndex);
+			if (0 != (oldValue & mask)) {
+				return false;
+			}
+		} while (false == bits.compareAndSet(wordIndex, oldValue, oldValue | mask));
+		return true;
+	}
+
+	/**
+	 * 计算字节数组的MurmurHash3 128位值并设置或检查对应位置
+	 *
+	 * @param data   字节数组
+	 * @param offset 开始位置
+	 * @param length 长度
+	 * @param set    {@code true}设置bit，{@code false}检查bit
+	 * @return 见{@link #apply(long, long, boolean)}
+	 */
+	private boolean hash(byte[] data, int offset, int length, boolean set) {
+		long h1 = 0;
+		long h2 = 0;
+		final int nblocks = length >> 4;
+		int pos = offset;
+		for (int i = 0; i < nblocks; i++, pos += 16) {
+			h1 = mixH1(h1, h2, getLongLE(data, pos, 8));
+			h2 = mixH2(h1, h2, getLongLE(data, pos + 8, 8));
+		}
+
+		final int tail = offset + length - pos;
+		final long k1 = getLongLE(data, pos, Math.min(tail, 8));
+		final long k2 = tail > 8 ? getLongLE(data, pos + 8, tail - 8) : 0;
+		return finish(h1, h2 ^ mixK2(k2), k1, length, set);
+	}
+
+	/**
+	 * 计算字符序列UTF-16LE编码的MurmurHash3 128位值并设置或检查对应位置，每16字节为8个字符
+	 *
+	 * @param str 字符序列
+	 * @param set {@code true}设置bit，{@code false}检查bit
+	 * @return 见{@link #apply(long, long, boolean)}
+	 */
+	private boolean hash(CharSequence str, boolean set) {
+		long h1 = 0;
+		long h2 = 0;
+		final int charLength = str.length();
+		final int nblocks = charLength >> 3;
+		int pos = 0;
+		for (int i = 0; i < nblocks; i++, pos += 8) {
+			h1 = mixH1(h1, h2, getCharsLE(str, pos, 4));
+			h2 = mixH2(h1, h2, getCharsLE(str, pos + 4, 4));
+		}
+
+		final int tail = charLength - pos;
+		final long k1 = getCharsLE(str, pos, Math.min(tail, 4));
+		final long k2 = tail > 4 ? getCharsLE(str, pos + 4, tail - 4) : 0;
+		return finish(h1, h2 ^ mixK2(k2), k1, charLength << 1, set);
+	}
+
+	/**
+	 * 计算long值8字节小端序的MurmurHash3 128位值并设置或检查对应位置
+	 *
+	 * @param value long值
+	 * @param set   {@code true}设置bit，{@code false}检查bit
+	 * @return 见{@link #apply(long, long, boolean)}
+	 */
+	private boolean hash(long value, boolean set) {
+		return finish(0, 0, value, Long.BYTES, set);
+	}
+
+	/**
+	 * 混入尾部的k1并完成最终混合，之后设置或检查对应位置
+	 *
+	 * @param h1     Hash值1
+	 * @param h2     已混入尾部k2的Hash值2
+	 * @param k1     尾部前8字节
+	 * @param length 数据总字节数
+	 * @param set    {@code true}设置bit，{@code false}检查bit
+	 * @return 见{@link #apply(long, long, boolean)}
+	 */
+	private boolean finish(long h1, long h2, long k1, int length, boolean set) {
+		// 尾部为0时混合结果也为0，无需判断尾部长度
+		h1 ^= mixK1(k1);
+
+		h1 ^= length;
+		h2 ^= length;
+
+		h1 += h2;
+		h2 += h1;
+
+		h1 = fmix64(h1);
+		h2 = fmix64(h2);
+
+		h1 += h2;
+		h2 += h1;
+		return apply(h1, h2, set);
+	}
+
+	private static long mixK1(long k1) {
+		k1 *= C1;
+		k1 = Long.rotateLeft(k1, 31);
+		k1 *= C2;
+		return k1;
+	}
+
+	private static long mixK2(long k2) {
+		k2 *= C2;
+		k2 = Long.rotateLeft(k2, 33);
+		k2 *= C1;
+		return k2;
+	}
+
+	private static long mixH1(long h1, long h2, long k1) {
+		h1 ^= mixK1(k1);
+		h1 = Long.rotateLeft(h1, 27);
+		h1 += h2;
+		return h1 * 5 + 0x52dce729;
+	}
+
+	private static long mixH2(long h1, long h2, long k2) {
+		h2 ^= mixK2(k2);
+		h2 = Long.rotateLeft(h2, 31);
+		h2 += h1;
+		return h2 * 5 + 0x38495ab5;
+	}
+
+	private static long fmix64(long h) {
+		h ^= (h >>> 33);
+		h *= 0xff51afd7ed558ccdL;
+		h ^= (h >>> 33);
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= (h >>> 33);
+		return h;
+	}
+
+	/**
+	 * 按小端序读取最多8个字节
+	 *
+	 * @param data   字节数组
+	 * @param offset 开始位置
+	 * @param count  字节数
+	 * @return long值
+	 */
+	private static long getLongLE(byte[] data, int offset, int count) {
+		long value = 0;
+		for (int i = 0; i < count; i++) {
+			value |= (data[offset + i] & 0xffL) << (i << 3);
+		}
+		return value;
+	}
+
+	/**
+	 * 按小端序读取最多4个字符，每个字符2字节
+	 *
+	 * @param str    字符序列
+	 * @param offset 开始位置
+	 * @param count  字符数
+	 * @return long值
+	 */
+	private static long getCharsLE(CharSequence str, int offset, int count) {
+		long value = 0;
+		for (int i = 0; i < count; i++) {
+			value |= (long) str.charAt(offset + i) << (i << 4);
+		}
+		return value;
+	}
+}
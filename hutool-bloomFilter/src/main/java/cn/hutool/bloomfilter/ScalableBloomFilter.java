@@ -0,0 +1,193 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.HashUtil;
+import cn.hutool.core.util.StrUtil;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 可扩容的布隆过滤器（Scalable Bloom Filter）<br>
+ * 固定大小的布隆过滤器在元素超出预计个数后误判率迅速上升，此过滤器在当前过滤器满时追加一个新的过滤器：
+ * <ul>
+ *     <li>新过滤器的容量为上一个的growthFactor倍，误判率为上一个的tighteningRatio倍</li>
+ *     <li>第一个过滤器的误判率为fpp * (1 - tighteningRatio)，因此整体误判率不超过fpp</li>
+ *     <li>判断是否存在时依次检查所有过滤器，加入时只加入最后一个过滤器</li>
+ * </ul>
+ * 此类非线程安全。
+ *
+ * @author looly
+ * @since 5.8.22
+ */
+public class ScalableBloomFilter implements BloomFilter {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 默认的容量增长倍数
+	 */
+	public static final int DEFAULT_GROWTH_FACTOR = 2;
+	/**
+	 * 默认的误判率收紧比例
+	 */
+	public static final double DEFAULT_TIGHTENING_RATIO = 0.5;
+
+	private final int growthFactor;
+	private final double tighteningRatio;
+	private final List<Slice> slices = new ArrayList<>();
+	private int count;
+
+	/**
+	 * 构造，使用默认的增长倍数和收紧比例
+	 *
+	 * @param initialCapacity 初始容量，即第一个过滤器预计插入的元素个数
+	 * @param fpp             期望的误判率，取值范围(0, 1)
+	 */
+	public ScalableBloomFilter(int initialCapacity, double fpp) {
+		this(initialCapacity, fpp, DEFAULT_GROWTH_FACTOR, DEFAULT_TIGHTENING_RATIO);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param initialCapacity 初始容量，即第一个过滤器预计插入的元素个数
+	 * @param fpp             期望的误判率，取值范围(0, 1)
+	 * @param growthFactor    容量增长倍数，至少为1
+	 * @param tighteningRatio 误判率收紧比例，取值范围(0, 1)
+	 */
+	public ScalableBloomFilter(int initialCapacity, double fpp, int growthFactor, double tighteningRatio) {
+		Assert.isTrue(initialCapacity > 0, "Initial capacity must be positive!");
+		Assert.isTrue(fpp > 0 && fpp < 1, "False positive probability must be in (0, 1)!");
+		Assert.isTrue(growthFactor >= 1, "Growth factor must be at least 1!");
+		Assert.isTrue(tighteningRatio > 0 && tighteningRatio < 1, "Tightening ratio must be in (0, 1)!");
+		this.growthFactor = growthFactor;
+		this.tighteningRatio = tighteningRatio;
+		this.slices.add(new Slice(initialCapacity, fpp * (1 - tighteningRatio)));
+	}
+
+	@Override
+	public boolean add(String str) {
+		final long[] hash = hash(str);
+		if (contains(hash)) {
+			return false;
+		}
+
+		Slice slice = slices.get(slices.size() - 1);
+		if (slice.count >= slice.capacity) {
+			final long capacity = Math.min((long) slice.capacity * growthFactor, Integer.MAX_VALUE);
+			slice = new Slice((int) capacity, slice.fpp * tighteningRatio);
+			slices.add(slice);
+		}
+		slice.add(hash);
+		count++;
+		return true;
+	}
+
+	@Override
+	public boolean contains(String str) {
+		return contains(hash(str));
+	}
+
+	/**
+	 * @return 加入的元素个数
+	 */
+	public int getCount() {
+		return count;
+	}
+
+	/**
+	 * @return 当前过滤器个数
+	 */
+	public int getSliceCount() {
+		return slices.size();
+	}
+
+	/**
+	 * @return 根据当前元素个数估算的整体误判率
+	 */
+	public double getFalsePositiveProbability() {
+		double notFalsePositive = 1;
+		for (Slice slice : slices) {
+			notFalsePositive *= 1 - slice.getFalsePositiveProbability();
+		}
+		return 1 - notFalsePositive;
+	}
+
+	/**
+	 * 是否有任一过滤器包含此Hash值，新加入的元素更可能在后面的过滤器中，因此倒序检查
+	 *
+	 * @param hash 128位Hash值
+	 * @return 是否可能存在
+	 */
+	private boolean contains(long[] hash) {
+		for (int i = slices.size() - 1; i >= 0; i--) {
+			if (slices.get(i).contains(hash)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 计算字符串的128位MurmurHash
+	 *
+	 * @param str 字符串
+	 * @return 128位Hash值
+	 */
+	private static long[] hash(String str) {
+		return HashUtil.murmur128(StrUtil.utf8Bytes(str));
+	}
+
+	/**
+	 * 固定容量的子过滤器，使用long[]存储bit，使用双重Hash计算位置
+	 */
+	private static class Slice implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private final int capacity;
+		private final double fpp;
+		private final long bitSize;
+		private final int hashFunctionNumber;
+		private final long[] bits;
+		private int count;
+
+		Slice(int capacity, double fpp) {
+			this.capacity = capacity;
+			this.fpp = fpp;
+			this.bitSize = BloomFilterUtil.optimalNumOfBits(capacity, fpp);
+			Assert.isTrue(bitSize <= (long) Integer.MAX_VALUE * Long.SIZE, "Bit size {} is too large!", bitSize);
+			this.hashFunctionNumber = BloomFilterUtil.optimalNumOfHashFunctions(capacity, bitSize);
+			this.bits = new long[(int) ((bitSize + Long.SIZE - 1) / Long.SIZE)];
+		}
+
+		void add(long[] hash) {
+			long index;
+			for (int i = 0; i < hashFunctionNumber; i++) {
+				index = index(hash, i);
+				bits[(int) (index >>> 6)] |= 1L << index;
+			}
+			count++;
+		}
+
+		boolean contains(long[] hash) {
+			long index;
+			for (int i = 0; i < hashFunctionNumber; i++) {
+				index = index(hash, i);
+				if (0 == (bits[(int) (index >>> 6)] & (1L << index))) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		double getFalsePositiveProbability() {
+			// (1 - e^(-k * n / m)) ^ k
+			return Math.pow((1 - Math.exp(-hashFunctionNumber * (double) count / bitSize)), hashFunctionNumber);
+		}
+
+		private long index(long[] hash, int i) {
+			return ((hash[0] + i * hash[1]) & Long.MAX_VALUE) % bitSize;
+		}
+	}
+}
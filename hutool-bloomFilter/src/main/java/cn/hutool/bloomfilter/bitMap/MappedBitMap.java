@@ -0,0 +1,239 @@
+package cn.hutool.bloomfilter.bitMap;
+
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.lang.Assert;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 基于内存映射文件的BitMap，用于持久化布隆过滤器<br>
+ * 与{@link IntMap}、{@link LongMap}使用堆内数组不同，bit直接存放在映射文件中：
+ * <ul>
+ *     <li>修改直接写入映射内存，由操作系统刷盘，重启后重新映射文件即可恢复，无需重建</li>
+ *     <li>文件按1GB分段映射，容量不受单个数组或单个映射2GB的限制</li>
+ *     <li>以只读方式打开时可被多个进程共享</li>
+ *     <li>读取无锁；修改按long分段加锁，保证同一个long内的并发修改不丢失</li>
+ * </ul>
+ * 映射在JVM回收buffer时释放，调用{@link #close()}只会将修改刷入磁盘。
+ *
+ * @author looly
+ * @since 5.8.22
+ */
+public class MappedBitMap implements BitMap, Closeable {
+
+	/**
+	 * 每个映射段的字节数，1GB
+	 */
+	private static final int SEGMENT_SHIFT = 30;
+	private static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+	/**
+	 * 修改锁分段数，必须为2的幂
+	 */
+	private static final int LOCK_COUNT = 64;
+
+	private final MappedByteBuffer[] segments;
+	private final long bitSize;
+	private final boolean readOnly;
+	private final Object[] locks;
+
+	/**
+	 * 以读写方式打开或创建映射文件，文件不足指定大小时扩展
+	 *
+	 * @param file    映射文件
+	 * @param bitSize bit数
+	 * @throws IORuntimeException IO异常
+	 */
+	public MappedBitMap(File file, long bitSize) throws IORuntimeException {
+		this(file, bitSize, false);
+	}
+
+	/**
+	 * 以只读方式打开已存在的映射文件，bit数由文件大小决定
+	 *
+	 * @param file 映射文件
+	 * @throws IORuntimeException IO异常
+	 */
+	public MappedBitMap(File file) throws IORuntimeException {
+		this(file, file.length() * Byte.SIZE, true);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param file     映射文件
+	 * @param bitSize  bit数
+	 * @param readOnly 是否只读
+	 * @throws IORuntimeException IO异常
+	 */
+	private MappedBitMap(File file, long bitSize, boolean readOnly) throws IORuntimeException {
+		Assert.isTrue(bitSize > 0, "Bit size must be positive!");
+		this.readOnly = readOnly;
+		// 按long对齐
+		final long byteSize = (bitSize + Long.SIZE - 1) / Long.SIZE * Long.BYTES;
+		this.bitSize = byteSize * Byte.SIZE;
+		this.segments = new MappedByteBuffer[(int) ((byteSize + SEGMENT_SIZE - 1) >>> SEGMENT_SHIFT)];
+
+		final FileChannel.MapMode mode = readOnly ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE;
+		final StandardOpenOption[] options = readOnly
+				? new StandardOpenOption[]{StandardOpenOption.READ}
+				: new StandardOpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE};
+		// 映射建立后即可关闭文件通道，映射依旧有效
+		try (FileChannel channel = FileChannel.open(file.toPath(), options)) {
+			for (int i = 0; i < segments.length; i++) {
+				final long position = (long) i << SEGMENT_SHIFT;
+				// READ_WRITE模式下文件不足时自动扩展，扩展部分为0
+				segments[i] = channel.map(mode, position, Math.min(SEGMENT_SIZE, byteSize - position));
+				// 固定使用小端序，保证文件在不同平台间可用
+				segments[i].order(ByteOrder.LITTLE_ENDIAN);
+			}
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+
+		if (readOnly) {
+			this.locks = null;
+		} else {
+			this.locks = new Object[LOCK_COUNT];
+			for (int i = 0; i < LOCK_COUNT; i++) {
+				this.locks[i] = new Object();
+			}
+		}
+	}
+
+	@Override
+	public void add(long i) {
+		addIfAbsent(i);
+	}
+
+	/**
+	 * 加入值，并返回对应的bit是否由此次调用设置
+	 *
+	 * @param i 值
+	 * @return 加入前是否不存在
+	 */
+	public boolean addIfAbsent(long i) {
+		final long wordIndex = checkWritable(i);
+		final long mask = 1L << i;
+		synchronized (lock(wordIndex)) {
+			final long word = getWord(wordIndex);
+			if (0 != (word & mask)) {
+				return false;
+			}
+			putWord(wordIndex, word | mask);
+			return true;
+		}
+	}
+
+	@Override
+	public boolean contains(long i) {
+		return 0 != (getWord(i >>> 6) & (1L << i));
+	}
+
+	@Override
+	public void remove(long i) {
+		final long wordIndex = checkWritable(i);
+		synchronized (lock(wordIndex)) {
+			putWord(wordIndex, getWord(wordIndex) & ~(1L << i));
+		}
+	}
+
+	/**
+	 * @return bit数
+	 */
+	public long size() {
+		return bitSize;
+	}
+
+	/**
+	 * @return 已设置的bit数
+	 */
+	public long cardinality() {
+		long count = 0;
+		for (MappedByteBuffer segment : segments) {
+			for (int pos = 0; pos < segment.capacity(); pos += Long.BYTES) {
+				count += Long.bitCount(segment.getLong(pos));
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * @return 是否只读
+	 */
+	public boolean isReadOnly() {
+		return readOnly;
+	}
+
+	/**
+	 * 将修改刷入磁盘
+	 */
+	public void flush() {
+		if (false == readOnly) {
+			for (MappedByteBuffer segment : segments) {
+				segment.force();
+			}
+		}
+	}
+
+	/**
+	 * 将修改刷入磁盘
+	 */
+	@Override
+	public void close() {
+		flush();
+	}
+
+	/**
+	 * 检查是否可写及值是否越界
+	 *
+	 * @param i 值
+	 * @return long的序号
+	 */
+	private long checkWritable(long i) {
+		if (readOnly) {
+			throw new UnsupportedOperationException("Read only bit map!");
+		}
+		if (i < 0 || i >= bitSize) {
+			throw new IndexOutOfBoundsException("Bit index " + i + " out of size " + bitSize);
+		}
+		return i >>> 6;
+	}
+
+	/**
+	 * 获取修改锁
+	 *
+	 * @param wordIndex long的序号
+	 * @return 锁
+	 */
+	private Object lock(long wordIndex) {
+		return locks[(int) (wordIndex & (LOCK_COUNT - 1))];
+	}
+
+	/**
+	 * 读取long
+	 *
+	 * @param wordIndex long的序号
+	 * @return long值
+	 */
+	private long getWord(long wordIndex) {
+		final long offset = wordIndex << 3;
+		return segments[(int) (offset >>> SEGMENT_SHIFT)].getLong((int) (offset & (SEGMENT_SIZE - 1)));
+	}
+
+	/**
+	 * 写入long
+	 *
+	 * @param wordIndex long的序号
+	 * @param word      long值
+	 */
+	private void putWord(long wordIndex, long word) {
+		final long offset = wordIndex << 3;
+		segments[(int) (offset >>> SEGMENT_SHIFT)].putLong((int) (offset & (SEGMENT_SIZE - 1)), word);
+	}
+}
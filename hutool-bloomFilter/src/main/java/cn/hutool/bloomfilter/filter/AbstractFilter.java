@@ -30,6 +30,18 @@ public abstract class AbstractFilter implements BloomFilter {
 		init(maxValue, machineNum);
 	}
 
+	/**
+	 * 使用指定的BitMap构造，可用于{@link cn.hutool.bloomfilter.bitMap.MappedBitMap}等持久化的BitMap
+	 *
+	 * @param maxValue 最大值，BitMap的容量不能小于此值
+	 * @param bitMap   BitMap
+	 * @since 5.8.22
+	 */
+	public AbstractFilter(long maxValue, BitMap bitMap) {
+		this.size = maxValue;
+		this.bm = bitMap;
+	}
+
 	/**
 	 * 构造32位
 	 *
@@ -1,6 +1,7 @@
 package cn.hutool.bloomfilter.filter;
 
 import cn.hutool.bloomfilter.BloomFilter;
+import cn.hutool.bloomfilter.bitMap.BitMap;
 
 import java.util.function.Function;
 
@@ -35,6 +36,19 @@ public class FuncFilter extends AbstractFilter {
 		this.hashFunc = hashFunc;
 	}
 
+	/**
+	 * 使用指定的BitMap构造，可用于{@link cn.hutool.bloomfilter.bitMap.MappedBitMap}等持久化的BitMap
+	 *
+	 * @param maxValue 最大值，BitMap的容量不能小于此值
+	 * @param bitMap   BitMap
+	 * @param hashFunc Hash函数
+	 * @since 5.8.22
+	 */
+	public FuncFilter(long maxValue, BitMap bitMap, Function<String, Number> hashFunc) {
+		super(maxValue, bitMap);
+		this.hashFunc = hashFunc;
+	}
+
 	@Override
 	public long hash(String str) {
 		return hashFunc.apply(str).longValue() % size;
@@ -0,0 +1,48 @@
+package cn.hutool.bloomfilter;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CountingBloomFilterTest {
+
+	@Test
+	public void addAndRemoveTest() {
+		final CountingBloomFilter filter = BloomFilterUtil.createCounting(1000, 0.01);
+		Assert.assertTrue(filter.add("abc"));
+		Assert.assertTrue(filter.add("123"));
+		Assert.assertFalse(filter.add("abc"));
+		Assert.assertEquals(3, filter.getCount());
+
+		Assert.assertTrue(filter.contains("abc"));
+		Assert.assertTrue(filter.remove("abc"));
+		// 加入两次，移除一次后依旧存在
+		Assert.assertTrue(filter.contains("abc"));
+		Assert.assertTrue(filter.remove("abc"));
+		Assert.assertFalse(filter.contains("abc"));
+		Assert.assertFalse(filter.remove("abc"));
+
+		Assert.assertTrue(filter.contains("123"));
+	}
+
+	@Test
+	public void falsePositiveTest() {
+		final CountingBloomFilter filter = BloomFilterUtil.createCounting(10000, 0.01);
+		for (int i = 0; i < 10000; i++) {
+			filter.add("key" + i);
+		}
+		for (int i = 0; i < 5000; i++) {
+			Assert.assertTrue(filter.remove("key" + i));
+		}
+		for (int i = 5000; i < 10000; i++) {
+			Assert.assertTrue(filter.contains("key" + i));
+		}
+
+		int falsePositive = 0;
+		for (int i = 0; i < 10000; i++) {
+			if (filter.contains("other" + i)) {
+				falsePositive++;
+			}
+		}
+		Assert.assertTrue(falsePositive < 200);
+	}
+}
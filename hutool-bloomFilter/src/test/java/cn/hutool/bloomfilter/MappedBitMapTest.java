@@ -0,0 +1,93 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.bloomfilter.bitMap.MappedBitMap;
+import cn.hutool.bloomfilter.filter.FuncFilter;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.core.util.HashUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+
+public class MappedBitMapTest {
+
+	@Test
+	public void addAndReopenTest() {
+		final File file = FileUtil.createTempFile();
+		try {
+			try (MappedBitMap bitMap = new MappedBitMap(file, 1000)) {
+				Assert.assertEquals(1024, bitMap.size());
+				Assert.assertTrue(bitMap.addIfAbsent(3));
+				Assert.assertFalse(bitMap.addIfAbsent(3));
+				bitMap.add(999);
+				bitMap.add(64);
+				bitMap.remove(64);
+				Assert.assertEquals(2, bitMap.cardinality());
+			}
+
+			// 重新以只读方式打开，数据依旧存在
+			final MappedBitMap readOnly = new MappedBitMap(file);
+			Assert.assertTrue(readOnly.isReadOnly());
+			Assert.assertTrue(readOnly.contains(3));
+			Assert.assertTrue(readOnly.contains(999));
+			Assert.assertFalse(readOnly.contains(64));
+			Assert.assertThrows(UnsupportedOperationException.class, () -> readOnly.add(1));
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Test
+	public void murmurFilterReopenTest() {
+		final File file = FileUtil.createTempFile();
+		try {
+			final long bitSize = BloomFilterUtil.optimalNumOfBits(10000, 0.01);
+			try (MappedBitMap bitMap = new MappedBitMap(file, bitSize)) {
+				final MurmurBloomFilter filter = new MurmurBloomFilter(10000, bitMap);
+				for (int i = 0; i < 10000; i++) {
+					filter.add("key" + i);
+				}
+			}
+
+			final MurmurBloomFilter filter = new MurmurBloomFilter(10000, new MappedBitMap(file, bitSize));
+			for (int i = 0; i < 10000; i++) {
+				Assert.assertTrue(filter.contains("key" + i));
+			}
+			Assert.assertFalse(filter.add("key0"));
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Test
+	public void murmurFilterSerializeTest() {
+		// 堆内存储可正常序列化
+		final MurmurBloomFilter heapFilter = BloomFilterUtil.createMurmur(1000, 0.01);
+		heapFilter.add("abc");
+		Assert.assertTrue(ObjectUtil.cloneByStream(heapFilter).contains("abc"));
+
+		// 映射文件存储不支持序列化，避免反序列化后bit为空
+		final File file = FileUtil.createTempFile();
+		try (MappedBitMap bitMap = new MappedBitMap(file, 1024)) {
+			final MurmurBloomFilter filter = new MurmurBloomFilter(100, bitMap);
+			Assert.assertThrows(IORuntimeException.class, () -> ObjectUtil.serialize(filter));
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Test
+	public void funcFilterTest() {
+		final File file = FileUtil.createTempFile();
+		try (MappedBitMap bitMap = new MappedBitMap(file, 1 << 20)) {
+			final FuncFilter filter = new FuncFilter(1 << 20, bitMap, HashUtil::fnvHash);
+			Assert.assertTrue(filter.add("abc"));
+			Assert.assertTrue(filter.contains("abc"));
+			Assert.assertFalse(filter.contains("abd"));
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.core.util.ByteUtil;
+import cn.hutool.core.util.StrUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+public class MurmurBloomFilterTest {
+
+	@Test
+	public void addAndContainsTest() {
+		final MurmurBloomFilter filter = BloomFilterUtil.createMurmur(1000, 0.01);
+		Assert.assertTrue(filter.add("abc"));
+		Assert.assertFalse(filter.add("abc"));
+		Assert.assertTrue(filter.contains(new StringBuilder("abc")));
+
+		Assert.assertTrue(filter.add(123L));
+		Assert.assertTrue(filter.contains(123L));
+
+		final byte[] data = StrUtil.utf8Bytes("hutool");
+		Assert.assertTrue(filter.add(data));
+		Assert.assertTrue(filter.contains(data));
+		Assert.assertFalse(filter.contains(124L));
+	}
+
+	@Test
+	public void keyTypeConsistentTest() {
+		final MurmurBloomFilter filter = BloomFilterUtil.createMurmur(1000, 0.01);
+		// long按8字节小端序计算，字符序列按UTF-16LE计算
+		filter.add(Long.MAX_VALUE - 1);
+		Assert.assertTrue(filter.contains(ByteUtil.longToBytes(Long.MAX_VALUE - 1, ByteOrder.LITTLE_ENDIAN)));
+
+		filter.add("布隆过滤器bloom filter");
+		final byte[] bytes = "布隆过滤器bloom filter".getBytes(StandardCharsets.UTF_16LE);
+		final byte[] padded = new byte[bytes.length + 2];
+		System.arraycopy(bytes, 0, padded, 1, bytes.length);
+		Assert.assertTrue(filter.contains(padded, 1, bytes.length));
+	}
+
+	@Test
+	public void falsePositiveTest() {
+		final MurmurBloomFilter filter = BloomFilterUtil.createMurmur(100000, 0.01);
+		for (long i = 0; i < 100000; i++) {
+			filter.add(i);
+		}
+		for (long i = 0; i < 100000; i++) {
+			Assert.assertTrue(filter.contains(i));
+		}
+
+		int falsePositive = 0;
+		for (long i = 100000; i < 200000; i++) {
+			if (filter.contains(i)) {
+				falsePositive++;
+			}
+		}
+		Assert.assertTrue(falsePositive < 1500);
+		Assert.assertEquals(0.01, filter.getFalsePositiveProbability(), 0.005);
+	}
+}
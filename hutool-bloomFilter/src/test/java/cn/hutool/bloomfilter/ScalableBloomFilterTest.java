@@ -0,0 +1,29 @@
+package cn.hutool.bloomfilter;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ScalableBloomFilterTest {
+
+	@Test
+	public void growTest() {
+		final ScalableBloomFilter filter = BloomFilterUtil.createScalable(1000, 0.01);
+		for (int i = 0; i < 10000; i++) {
+			filter.add("key" + i);
+		}
+		Assert.assertTrue(filter.getSliceCount() > 1);
+		for (int i = 0; i < 10000; i++) {
+			Assert.assertTrue(filter.contains("key" + i));
+		}
+
+		int falsePositive = 0;
+		for (int i = 0; i < 100000; i++) {
+			if (filter.contains("other" + i)) {
+				falsePositive++;
+			}
+		}
+		// 整体误判率不超过0.01
+		Assert.assertTrue(falsePositive < 1000);
+		Assert.assertTrue(filter.getFalsePositiveProbability() < 0.01);
+	}
+}
@@ -2,9 +2,19 @@ package cn.hutool.cache;
 
 import cn.hutool.cache.impl.CacheObj;
 import cn.hutool.core.lang.func.Func0;
+import cn.hutool.core.thread.GlobalThreadPool;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 /**
  * 缓存接口
@@ -48,6 +58,16 @@ public interface Cache<K, V> extends Iterable<V>, Serializable {
 	 */
 	void put(K key, V object, long timeout);
 
+	/**
+	 * 批量将对象加入到缓存，使用默认失效时长
+	 *
+	 * @param map 键值对
+	 * @since 5.8.22
+	 */
+	default void putAll(Map<? extends K, ? extends V> map) {
+		map.forEach(this::put);
+	}
+
 	/**
 	 * 从缓存中获得对象，当对象不在缓存中或已经过期返回{@code null}
 	 * <p>
@@ -105,6 +125,77 @@ public interface Cache<K, V> extends Iterable<V>, Serializable {
 	 */
 	V get(K key, boolean isUpdateLastAccess);
 
+	/**
+	 * 批量从缓存中获得对象，不在缓存中或已经过期的键一次性交给loader加载，加载的结果放入缓存
+	 * <p>
+	 * 返回的Map按照给定键的顺序排列，loader未返回值的键不在结果中。
+	 *
+	 * @param keys   键列表
+	 * @param loader 批量加载函数，参数为缺失的键，返回键值对，{@code null}表示不加载
+	 * @return 键值对
+	 * @since 5.8.22
+	 */
+	default Map<K, V> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> loader) {
+		final Map<K, V> found = new HashMap<>(keys.size(), 1);
+		final Set<K> missingKeys = new LinkedHashSet<>();
+		V v;
+		for (K key : keys) {
+			v = get(key);
+			if (null != v) {
+				found.put(key, v);
+			} else {
+				missingKeys.add(key);
+			}
+		}
+
+		if (false == missingKeys.isEmpty() && null != loader) {
+			final Map<K, V> loaded = loader.apply(missingKeys);
+			if (null != loaded) {
+				putAll(loaded);
+				found.putAll(loaded);
+			}
+		}
+
+		final Map<K, V> result = new LinkedHashMap<>(found.size(), 1);
+		for (K key : keys) {
+			v = found.get(key);
+			if (null != v) {
+				result.put(key, v);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 异步从缓存中获得对象，当对象不在缓存中或已经过期时使用{@link GlobalThreadPool}执行supplier加载
+	 *
+	 * @param key      键
+	 * @param supplier 如果不存在回调方法，用于生产值对象
+	 * @return 值对象的{@link CompletableFuture}
+	 * @since 5.8.22
+	 */
+	default CompletableFuture<V> getAsync(K key, Func0<V> supplier) {
+		return getAsync(key, supplier, GlobalThreadPool.getExecutor());
+	}
+
+	/**
+	 * 异步从缓存中获得对象，当对象不在缓存中或已经过期时使用给定的执行器执行supplier加载<br>
+	 * 命中时返回已完成的{@link CompletableFuture}
+	 *
+	 * @param key      键
+	 * @param supplier 如果不存在回调方法，用于生产值对象
+	 * @param executor 执行加载的执行器
+	 * @return 值对象的{@link CompletableFuture}
+	 * @since 5.8.22
+	 */
+	default CompletableFuture<V> getAsync(K key, Func0<V> supplier, Executor executor) {
+		final V v = get(key);
+		if (null != v) {
+			return CompletableFuture.completedFuture(v);
+		}
+		return CompletableFuture.supplyAsync(() -> get(key, supplier), executor);
+	}
+
 	/**
 	 * 返回包含键和值得迭代器
 	 *
@@ -161,6 +252,17 @@ public interface Cache<K, V> extends Iterable<V>, Serializable {
 	 */
 	boolean containsKey(K key);
 
+	/**
+	 * 获取缓存统计信息快照<br>
+	 * 默认实现只包含缓存的对象数量，具体实现可提供命中、加载及移除等统计
+	 *
+	 * @return {@link CacheStats}
+	 * @since 5.8.22
+	 */
+	default CacheStats stats() {
+		return new CacheStats(0, 0, 0, 0, 0, 0, 0, 0, size());
+	}
+
 	/**
 	 * 设置监听
 	 *
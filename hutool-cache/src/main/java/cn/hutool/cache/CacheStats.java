@@ -0,0 +1,197 @@
+package cn.hutool.cache;
+
+import java.io.Serializable;
+
+/**
+ * 缓存统计信息快照，数据为获取时的累计值<br>
+ * 如需统计某个时间窗口内的命中率等信息，可使用两个快照相减：
+ * <pre>
+ * CacheStats before = cache.stats();
+ * // ...
+ * CacheStats window = cache.stats().minus(before);
+ * double hitRate = window.hitRate();
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.22
+ */
+public class CacheStats implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final long hitCount;
+	private final long missCount;
+	private final long loadSuccessCount;
+	private final long loadFailureCount;
+	private final long totalLoadTime;
+	private final long expiredCount;
+	private final long evictionCount;
+	private final long explicitRemovalCount;
+	private final long size;
+
+	/**
+	 * 构造
+	 *
+	 * @param hitCount             命中数
+	 * @param missCount            丢失数
+	 * @param loadSuccessCount     加载成功数
+	 * @param loadFailureCount     加载失败数
+	 * @param totalLoadTime        加载总耗时，单位纳秒
+	 * @param expiredCount         过期移除数
+	 * @param evictionCount        容量淘汰数
+	 * @param explicitRemovalCount 主动移除数
+	 * @param size                 缓存的对象数量
+	 */
+	public CacheStats(long hitCount, long missCount,
+					  long loadSuccessCount, long loadFailureCount, long totalLoadTime,
+					  long expiredCount, long evictionCount, long explicitRemovalCount,
+					  long size) {
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.loadSuccessCount = loadSuccessCount;
+		this.loadFailureCount = loadFailureCount;
+		this.totalLoadTime = totalLoadTime;
+		this.expiredCount = expiredCount;
+		this.evictionCount = evictionCount;
+		this.explicitRemovalCount = explicitRemovalCount;
+		this.size = size;
+	}
+
+	/**
+	 * @return 命中数
+	 */
+	public long hitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * @return 丢失数
+	 */
+	public long missCount() {
+		return missCount;
+	}
+
+	/**
+	 * @return 请求数，即命中数+丢失数
+	 */
+	public long requestCount() {
+		return hitCount + missCount;
+	}
+
+	/**
+	 * @return 命中率，无请求时为{@code 1.0}
+	 */
+	public double hitRate() {
+		final long requestCount = requestCount();
+		return (requestCount == 0) ? 1.0 : (double) hitCount / requestCount;
+	}
+
+	/**
+	 * @return 丢失率，无请求时为{@code 0.0}
+	 */
+	public double missRate() {
+		final long requestCount = requestCount();
+		return (requestCount == 0) ? 0.0 : (double) missCount / requestCount;
+	}
+
+	/**
+	 * @return 加载成功数
+	 */
+	public long loadSuccessCount() {
+		return loadSuccessCount;
+	}
+
+	/**
+	 * @return 加载失败数
+	 */
+	public long loadFailureCount() {
+		return loadFailureCount;
+	}
+
+	/**
+	 * @return 加载总耗时，单位纳秒
+	 */
+	public long totalLoadTime() {
+		return totalLoadTime;
+	}
+
+	/**
+	 * @return 平均加载耗时，单位纳秒
+	 */
+	public double averageLoadPenalty() {
+		final long loadCount = loadSuccessCount + loadFailureCount;
+		return (loadCount == 0) ? 0.0 : (double) totalLoadTime / loadCount;
+	}
+
+	/**
+	 * @return 过期移除数
+	 */
+	public long expiredCount() {
+		return expiredCount;
+	}
+
+	/**
+	 * @return 容量淘汰数
+	 */
+	public long evictionCount() {
+		return evictionCount;
+	}
+
+	/**
+	 * @return 主动移除数
+	 */
+	public long explicitRemovalCount() {
+		return explicitRemovalCount;
+	}
+
+	/**
+	 * 获取指定原因的移除数
+	 *
+	 * @param cause 移除原因
+	 * @return 移除数
+	 */
+	public long removalCount(RemovalCause cause) {
+		switch (cause) {
+			case EXPIRED:
+				return expiredCount;
+			case CAPACITY:
+				return evictionCount;
+			default:
+				return explicitRemovalCount;
+		}
+	}
+
+	/**
+	 * @return 缓存的对象数量
+	 */
+	public long size() {
+		return size;
+	}
+
+	/**
+	 * 计算此快照与之前快照的差值，用于统计时间窗口内的数据，缓存对象数量取此快照的值
+	 *
+	 * @param other 之前的快照
+	 * @return 差值
+	 */
+	public CacheStats minus(CacheStats other) {
+		return new CacheStats(
+				Math.max(0, hitCount - other.hitCount),
+				Math.max(0, missCount - other.missCount),
+				Math.max(0, loadSuccessCount - other.loadSuccessCount),
+				Math.max(0, loadFailureCount - other.loadFailureCount),
+				Math.max(0, totalLoadTime - other.totalLoadTime),
+				Math.max(0, expiredCount - other.expiredCount),
+				Math.max(0, evictionCount - other.evictionCount),
+				Math.max(0, explicitRemovalCount - other.explicitRemovalCount),
+				size);
+	}
+
+	@Override
+	public String toString() {
+		return "CacheStats [hitCount=" + hitCount + ", missCount=" + missCount
+				+ ", loadSuccessCount=" + loadSuccessCount + ", loadFailureCount=" + loadFailureCount
+				+ ", totalLoadTime=" + totalLoadTime + ", expiredCount=" + expiredCount
+				+ ", evictionCount=" + evictionCount + ", explicitRemovalCount=" + explicitRemovalCount
+				+ ", size=" + size + "]";
+	}
+}
@@ -0,0 +1,65 @@
+package cn.hutool.cache;
+
+/**
+ * 缓存统计的JMX接口，通过{@link CacheUtil#registerMBean(Cache, String)}注册
+ *
+ * @author looly
+ * @since 5.8.22
+ */
+public interface CacheStatsMXBean {
+
+	/**
+	 * @return 缓存容量，{@code 0}表示无大小限制
+	 */
+	int getCapacity();
+
+	/**
+	 * @return 缓存的对象数量
+	 */
+	long getSize();
+
+	/**
+	 * @return 命中数
+	 */
+	long getHitCount();
+
+	/**
+	 * @return 丢失数
+	 */
+	long getMissCount();
+
+	/**
+	 * @return 命中率
+	 */
+	double getHitRate();
+
+	/**
+	 * @return 加载成功数
+	 */
+	long getLoadSuccessCount();
+
+	/**
+	 * @return 加载失败数
+	 */
+	long getLoadFailureCount();
+
+	/**
+	 * @return 平均加载耗时，单位纳秒
+	 */
+	double getAverageLoadPenalty();
+
+	/**
+	 * @return 过期移除数
+	 */
+	long getExpiredCount();
+
+	/**
+	 * @return 容量淘汰数
+	 */
+	long getEvictionCount();
+
+	/**
+	 * @return 主动移除数
+	 */
+	long getExplicitRemovalCount();
+}
@@ -1,11 +1,20 @@
 package cn.hutool.cache;
 
+import cn.hutool.cache.impl.ConcurrentLRUCache;
 import cn.hutool.cache.impl.FIFOCache;
 import cn.hutool.cache.impl.LFUCache;
 import cn.hutool.cache.impl.LRUCache;
 import cn.hutool.cache.impl.NoCache;
+import cn.hutool.cache.impl.OffHeapCache;
 import cn.hutool.cache.impl.TimedCache;
 import cn.hutool.cache.impl.WeakCache;
+import cn.hutool.core.exceptions.UtilException;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.lang.management.ManagementFactory;
 
 /**
  * 缓存工具类
@@ -90,6 +99,35 @@ public class CacheUtil {
 		return new LRUCache<>(capacity);
 	}
 
+	/**
+	 * 创建高并发LRU (least recently used)最近最久未使用缓存.<br>
+	 * 读操作无锁，适用于读多写少、并发较高的场景
+	 *
+	 * @param <K> Key类型
+	 * @param <V> Value类型
+	 * @param capacity 容量
+	 * @param timeout 过期时长，单位：毫秒
+	 * @return {@link ConcurrentLRUCache}
+	 * @since 5.8.22
+	 */
+	public static <K, V> ConcurrentLRUCache<K, V> newConcurrentLRUCache(int capacity, long timeout){
+		return new ConcurrentLRUCache<>(capacity, timeout);
+	}
+
+	/**
+	 * 创建高并发LRU (least recently used)最近最久未使用缓存.<br>
+	 * 读操作无锁，适用于读多写少、并发较高的场景
+	 *
+	 * @param <K> Key类型
+	 * @param <V> Value类型
+	 * @param capacity 容量
+	 * @return {@link ConcurrentLRUCache}
+	 * @since 5.8.22
+	 */
+	public static <K, V> ConcurrentLRUCache<K, V> newConcurrentLRUCache(int capacity){
+		return new ConcurrentLRUCache<>(capacity);
+	}
+
 	/**
 	 * 创建定时缓存.
 	 *
@@ -115,6 +153,32 @@ public class CacheUtil {
 		return new WeakCache<>(timeout);
 	}
 
+	/**
+	 * 创建堆外字节缓存，按总字节数限制大小，FIFO淘汰.
+	 *
+	 * @param <K> Key类型
+	 * @param maxBytes 最大占用的堆外内存字节数
+	 * @return {@link OffHeapCache}
+	 * @since 5.8.22
+	 */
+	public static <K> OffHeapCache<K> newOffHeapCache(long maxBytes){
+		return new OffHeapCache<>(maxBytes);
+	}
+
+	/**
+	 * 创建堆外字节缓存，按总字节数限制大小.
+	 *
+	 * @param <K> Key类型
+	 * @param maxBytes 最大占用的堆外内存字节数
+	 * @param timeout 过期时长，单位：毫秒
+	 * @param lru {@code true}为LRU淘汰，{@code false}为FIFO淘汰
+	 * @return {@link OffHeapCache}
+	 * @since 5.8.22
+	 */
+	public static <K> OffHeapCache<K> newOffHeapCache(long maxBytes, long timeout, boolean lru){
+		return new OffHeapCache<>(maxBytes, (int) Math.min(maxBytes, OffHeapCache.DEFAULT_SLAB_SIZE), timeout, lru);
+	}
+
 	/**
 	 * 创建无缓存实现.
 	 *
@@ -125,4 +189,124 @@ public class CacheUtil {
 	public static <K, V> NoCache<K, V> newNoCache(){
 		return new NoCache<>();
 	}
+
+	/**
+	 * 将缓存的统计信息注册为JMX MBean，ObjectName为{@code cn.hutool.cache:type=Cache,name=缓存名}<br>
+	 * 注册后可通过JConsole等工具查看命中率、加载耗时及淘汰数等信息
+	 *
+	 * @param cache 缓存
+	 * @param name  缓存名，同名MBean已存在时将被替换
+	 * @return 注册的ObjectName
+	 * @throws UtilException 注册失败
+	 * @since 5.8.22
+	 */
+	public static ObjectName registerMBean(Cache<?, ?> cache, String name) throws UtilException {
+		final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			final ObjectName objectName = toObjectName(name);
+			if (server.isRegistered(objectName)) {
+				server.unregisterMBean(objectName);
+			}
+			server.registerMBean(new StandardMBean(new CacheStatsMXBeanImpl(cache), CacheStatsMXBean.class, true), objectName);
+			return objectName;
+		} catch (JMException e) {
+			throw new UtilException(e);
+		}
+	}
+
+	/**
+	 * 注销通过{@link #registerMBean(Cache, String)}注册的MBean，未注册时忽略
+	 *
+	 * @param name 缓存名
+	 * @throws UtilException 注销失败
+	 * @since 5.8.22
+	 */
+	public static void unregisterMBean(String name) throws UtilException {
+		final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			final ObjectName objectName = toObjectName(name);
+			if (server.isRegistered(objectName)) {
+				server.unregisterMBean(objectName);
+			}
+		} catch (JMException e) {
+			throw new UtilException(e);
+		}
+	}
+
+	/**
+	 * 缓存名转换为ObjectName
+	 *
+	 * @param name 缓存名
+	 * @return ObjectName
+	 * @throws JMException 名称不合法
+	 */
+	private static ObjectName toObjectName(String name) throws JMException {
+		return new ObjectName("cn.hutool.cache:type=Cache,name=" + ObjectName.quote(name));
+	}
+
+	/**
+	 * 缓存统计MBean实现，每次读取时获取最新的统计快照
+	 */
+	private static class CacheStatsMXBeanImpl implements CacheStatsMXBean {
+		private final Cache<?, ?> cache;
+
+		CacheStatsMXBeanImpl(Cache<?, ?> cache) {
+			this.cache = cache;
+		}
+
+		@Override
+		public int getCapacity() {
+			return cache.capacity();
+		}
+
+		@Override
+		public long getSize() {
+			return cache.size();
+		}
+
+		@Override
+		public long getHitCount() {
+			return cache.stats().hitCount();
+		}
+
+		@Override
+		public long getMissCount() {
+			return cache.stats().missCount();
+		}
+
+		@Override
+		public double getHitRate() {
+			return cache.stats().hitRate();
+		}
+
+		@Override
+		public long getLoadSuccessCount() {
+			return cache.stats().loadSuccessCount();
+		}
+
+		@Override
+		public long getLoadFailureCount() {
+			return cache.stats().loadFailureCount();
+		}
+
+		@Override
+		public double getAverageLoadPenalty() {
+			return cache.stats().averageLoadPenalty();
+		}
+
+		@Override
+		public long getExpiredCount() {
+			return cache.stats().expiredCount();
+		}
+
+		@Override
+		public long getEvictionCount() {
+			return cache.stats().evictionCount();
+		}
+
+		@Override
+		public long getExplicitRemovalCount() {
+			return cache.stats().explicitRemovalCount();
+		}
+	}
 }
@@ -0,0 +1,23 @@
+package cn.hutool.cache;
+
+/**
+ * 缓存对象被移除的原因，用于统计
+ *
+ * @author looly
+ * @since 5.8.22
+ */
+public enum RemovalCause {
+
+	/**
+	 * 对象过期
+	 */
+	EXPIRED,
+	/**
+	 * 缓存已满，按照淘汰策略被清除
+	 */
+	CAPACITY,
+	/**
+	 * 调用remove方法主动移除
+	 */
+	EXPLICIT
+}
@@ -0,0 +1,279 @@
+package cn.hutool.cache.file;
+
+import cn.hutool.cache.Cache;
+import cn.hutool.cache.impl.CacheObj;
+import cn.hutool.cache.impl.LRUCache;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.map.FixedLinkedHashMap;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 基于内存映射的文件缓存，以解决频繁读取文件引起的性能问题<br>
+ * 与{@link AbstractFileCache}不同，文件内容不会被复制到堆内的byte[]中：
+ * <ul>
+ *     <li>文件通过{@link FileChannel#map(FileChannel.MapMode, long, long)}映射，读取时返回只读的{@link ByteBuffer}视图</li>
+ *     <li>写出到{@link WritableByteChannel}时直接写出映射内存，超过最大缓存文件大小的文件使用{@link FileChannel#transferTo(long, long, WritableByteChannel)}</li>
+ *     <li>每次读取时检查文件的修改时间和大小，文件变化后重新映射</li>
+ * </ul>
+ * 缓存使用LRU策略，容量为所有映射文件的总字节数。
+ *
+ * @author looly
+ * @since 5.8.22
+ */
+public class MappedFileCache {
+
+	/** 容量，即映射文件的总字节数 */
+	protected final long capacity;
+	/** 缓存的最大文件大小，文件大于此大小时将不被缓存 */
+	protected final int maxFileSize;
+	/** 默认超时时间，0表示无默认超时 */
+	protected final long timeout;
+	/** 缓存实现 */
+	protected final Cache<File, MappedFile> cache;
+
+	/** 已使用缓存空间 */
+	protected final AtomicLong usedSize = new AtomicLong();
+	/** 按照文件分段的映射锁，同一文件同时只有一个线程映射，避免重复映射和重复计算已使用空间 */
+	private final Object[] mapLocks = new Object[16];
+
+	/**
+	 * 构造<br>
+	 * 最大文件大小为缓存容量的一半<br>
+	 * 默认无超时
+	 *
+	 * @param capacity 缓存容量，即映射文件的总字节数
+	 */
+	public MappedFileCache(long capacity) {
+		this(capacity, (int) Math.min(capacity / 2, Integer.MAX_VALUE), 0);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param capacity    缓存容量，即映射文件的总字节数
+	 * @param maxFileSize 文件最大大小，0表示不限制
+	 * @param timeout     默认超时时间，0表示无默认超时
+	 */
+	public MappedFileCache(long capacity, int maxFileSize, long timeout) {
+		this.capacity = capacity;
+		this.maxFileSize = maxFileSize;
+		this.timeout = timeout;
+		for (int i = 0; i < mapLocks.length; i++) {
+			mapLocks[i] = new Object();
+		}
+		this.cache = new LRUCache<File, MappedFile>(16, timeout) {
+			private static final long serialVersionUID = 1L;
+
+			{
+				// 16仅作为初始大小，文件个数不做限制，淘汰由映射的总字节数决定
+				((FixedLinkedHashMap<?, ?>) cacheMap).setCapacity(Integer.MAX_VALUE);
+			}
+
+			@Override
+			public boolean isFull() {
+				return MappedFileCache.this.usedSize.get() > MappedFileCache.this.capacity;
+			}
+
+			@Override
+			protected int pruneCache() {
+				int count = super.pruneCache();
+				// 清理过期对象后依旧超出容量，按照最久未使用的顺序淘汰
+				final Iterator<CacheObj<File, MappedFile>> values = cacheObjIter();
+				CacheObj<File, MappedFile> co;
+				while (isFull() && values.hasNext()) {
+					co = values.next();
+					values.remove();
+					onRemove(co.getKey(), co.getValue());
+					count++;
+				}
+				return count;
+			}
+
+			@Override
+			protected void onRemove(File key, MappedFile cachedObject) {
+				usedSize.addAndGet(-cachedObject.length);
+			}
+		};
+	}
+
+	/**
+	 * @return 缓存容量（byte数）
+	 */
+	public long capacity() {
+		return capacity;
+	}
+
+	/**
+	 * @return 已使用空间大小（byte数）
+	 */
+	public long getUsedSize() {
+		return usedSize.get();
+	}
+
+	/**
+	 * @return 允许被缓存文件的最大byte数
+	 */
+	public int maxFileSize() {
+		return maxFileSize;
+	}
+
+	/**
+	 * @return 缓存的文件数
+	 */
+	public int getCachedFilesCount() {
+		return cache.size();
+	}
+
+	/**
+	 * @return 超时时间
+	 */
+	public long timeout() {
+		return this.timeout;
+	}
+
+	/**
+	 * 清空缓存
+	 */
+	public void clear() {
+		cache.clear();
+		usedSize.set(0);
+	}
+
+	// ---------------------------------------------------------------- get
+
+	/**
+	 * 获得文件内容的只读{@link ByteBuffer}视图，视图之间的position互不影响<br>
+	 * 文件修改时间或大小变化后重新映射
+	 *
+	 * @param file 文件
+	 * @return 只读的{@link ByteBuffer}
+	 * @throws IORuntimeException IO异常
+	 */
+	public ByteBuffer getFileBuffer(File file) throws IORuntimeException {
+		MappedFile mapped = cache.get(file);
+		if (null != mapped && false == mapped.isModified(file)) {
+			return mapped.buffer.asReadOnlyBuffer();
+		}
+
+		synchronized (mapLocks[(file.hashCode() & Integer.MAX_VALUE) % mapLocks.length]) {
+			// 其它线程可能已映射此文件
+			mapped = cache.get(file, false);
+			if (null != mapped) {
+				if (false == mapped.isModified(file)) {
+					return mapped.buffer.asReadOnlyBuffer();
+				}
+				// 文件已变化，重新映射
+				cache.remove(file);
+			}
+
+			mapped = MappedFile.map(file);
+			if ((maxFileSize != 0) && (mapped.length > maxFileSize)) {
+				//大于缓存空间，不缓存，直接返回
+				return mapped.buffer.asReadOnlyBuffer();
+			}
+
+			usedSize.addAndGet(mapped.length);
+			//文件放入缓存，如果usedSize > capacity，purge()方法将被调用
+			cache.put(file, mapped);
+		}
+		return mapped.buffer.asReadOnlyBuffer();
+	}
+
+	/**
+	 * 将文件内容写出到{@link WritableByteChannel}，不关闭channel<br>
+	 * 可缓存的文件直接写出映射内存，过大的文件使用{@link FileChannel#transferTo(long, long, WritableByteChannel)}写出，均不经过堆内存<br>
+	 * 写出期间文件被截断时在文件末尾停止，输出通道不接受数据（如非阻塞通道）时抛出异常
+	 *
+	 * @param file 文件
+	 * @param out  输出通道，须为阻塞通道
+	 * @return 实际写出的字节数
+	 * @throws IORuntimeException IO异常
+	 */
+	public long transferTo(File file, WritableByteChannel out) throws IORuntimeException {
+		try {
+			if ((maxFileSize != 0) && (file.length() > maxFileSize)) {
+				try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+					final long totalBytes = channel.size();
+					// transferTo单次传输的字节数可能小于请求的字节数
+					long pos = 0;
+					long count;
+					while (pos < totalBytes) {
+						count = channel.transferTo(pos, totalBytes - pos, out);
+						if (count <= 0) {
+							if (pos >= channel.size()) {
+								// 文件已被截断
+								break;
+							}
+							throw new IORuntimeException("Output channel accepts no bytes, non-blocking channel is not supported!");
+						}
+						pos += count;
+					}
+					return pos;
+				}
+			}
+
+			final ByteBuffer buffer = getFileBuffer(file);
+			final long totalBytes = buffer.remaining();
+			while (buffer.hasRemaining()) {
+				if (out.write(buffer) <= 0) {
+					throw new IORuntimeException("Output channel accepts no bytes, non-blocking channel is not supported!");
+				}
+			}
+			return totalBytes;
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 映射的文件及映射时的文件状态
+	 */
+	protected static class MappedFile {
+		private final MappedByteBuffer buffer;
+		private final long lastModified;
+		private final long length;
+
+		private MappedFile(MappedByteBuffer buffer, long lastModified, long length) {
+			this.buffer = buffer;
+			this.lastModified = lastModified;
+			this.length = length;
+		}
+
+		/**
+		 * 只读映射文件，映射建立后即关闭文件通道，映射依旧有效
+		 *
+		 * @param file 文件
+		 * @return MappedFile
+		 * @throws IORuntimeException IO异常
+		 */
+		static MappedFile map(File file) throws IORuntimeException {
+			// 先获取修改时间，映射期间文件被修改时，下次读取会重新映射
+			final long lastModified = file.lastModified();
+			try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+				final long length = channel.size();
+				return new MappedFile(channel.map(FileChannel.MapMode.READ_ONLY, 0, length), lastModified, length);
+			} catch (IOException e) {
+				throw new IORuntimeException(e);
+			}
+		}
+
+		/**
+		 * 文件是否在映射后被修改
+		 *
+		 * @param file 文件
+		 * @return 是否被修改
+		 */
+		boolean isModified(File file) {
+			return file.lastModified() != this.lastModified || file.length() != this.length;
+		}
+	}
+}
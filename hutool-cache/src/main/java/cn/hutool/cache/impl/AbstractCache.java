@@ -2,6 +2,8 @@ package cn.hutool.cache.impl;
 
 import cn.hutool.cache.Cache;
 import cn.hutool.cache.CacheListener;
+import cn.hutool.cache.CacheStats;
+import cn.hutool.cache.RemovalCause;
 import cn.hutool.core.exceptions.ExceptionUtil;
 import cn.hutool.core.lang.func.Func0;
 import cn.hutool.core.lang.mutable.Mutable;
@@ -11,9 +13,12 @@ import cn.hutool.core.map.SafeConcurrentHashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 /**
@@ -35,9 +40,17 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 
 	/**
 	 * 写的时候每个key一把锁，降低锁的粒度
+	 *
+	 * @deprecated 并发加载改为使用{@link #loadingMap}合并，此字段不再使用
 	 */
+	@Deprecated
 	protected final SafeConcurrentHashMap<K, Lock> keyLockMap = new SafeConcurrentHashMap<>();
 
+	/**
+	 * 正在加载的key，同一个key的并发加载共享一个结果
+	 */
+	protected final SafeConcurrentHashMap<K, CompletableFuture<V>> loadingMap = new SafeConcurrentHashMap<>();
+
 	/**
 	 * 返回缓存容量，{@code 0}表示无大小限制
 	 */
@@ -61,6 +74,23 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 	 */
 	protected LongAdder missCount = new LongAdder();
 
+	/**
+	 * 加载成功数
+	 */
+	protected LongAdder loadSuccessCount = new LongAdder();
+	/**
+	 * 加载失败数
+	 */
+	protected LongAdder loadFailureCount = new LongAdder();
+	/**
+	 * 加载总耗时，单位纳秒
+	 */
+	protected LongAdder totalLoadTime = new LongAdder();
+	/**
+	 * 按原因分类的移除数，下标为{@link RemovalCause#ordinal()}
+	 */
+	protected final LongAdder[] removalCounts = new LongAdder[]{new LongAdder(), new LongAdder(), new LongAdder()};
+
 	/**
 	 * 缓存监听
 	 */
@@ -111,32 +141,165 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 	public V get(K key, boolean isUpdateLastAccess, Func0<V> supplier) {
 		V v = get(key, isUpdateLastAccess);
 		if (null == v && null != supplier) {
-			//每个key单独获取一把锁，降低锁的粒度提高并发能力，see pr#1385@Github
-			final Lock keyLock = keyLockMap.computeIfAbsent(key, k -> new ReentrantLock());
-			keyLock.lock();
-			try {
-				// 双重检查锁，防止在竞争锁的过程中已经有其它线程写入
-				final CacheObj<K, V> co = getWithoutLock(key);
-				if (null == co || co.isExpired()) {
+			// 同一个key的并发加载合并为一次，其它线程等待加载结果，see pr#1385@Github
+			final LoadingFuture<V> future = new LoadingFuture<>(Thread.currentThread());
+			final CompletableFuture<V> loading = loadingMap.putIfAbsent(key, future);
+			if (null != loading) {
+				if (loading instanceof LoadingFuture && ((LoadingFuture<?>) loading).owner == Thread.currentThread()) {
+					// supplier中重入加载同一个key，等待自身的加载会死锁，直接加载
 					try {
-						v = supplier.call();
+						return callSupplier(key, supplier);
 					} catch (Exception e) {
 						// issue#I7RJZT 运行时异常不做包装
 						throw ExceptionUtil.wrapRuntime(e);
-						//throw new RuntimeException(e);
 					}
-					put(key, v, this.timeout);
-				} else {
-					v = co.get(isUpdateLastAccess);
 				}
-			} finally {
-				keyLock.unlock();
-				keyLockMap.remove(key);
+				return join(loading);
 			}
+			v = load(key, isUpdateLastAccess, supplier, future, false);
 		}
 		return v;
 	}
 
+	@Override
+	public CompletableFuture<V> getAsync(K key, Func0<V> supplier, Executor executor) {
+		final V v = get(key);
+		if (null != v || null == supplier) {
+			return CompletableFuture.completedFuture(v);
+		}
+		return loadAsync(key, supplier, executor, false);
+	}
+
+	/**
+	 * 在给定的执行器中异步重新加载值并放入缓存，无论对象是否存在或过期<br>
+	 * 同一个key正在加载时不重复加载，直接返回正在加载的future；加载失败时缓存中的原对象保持不变
+	 *
+	 * @param key      键
+	 * @param supplier 用于生产值对象
+	 * @param executor 执行加载的执行器
+	 * @return 值对象的{@link CompletableFuture}
+	 * @since 5.8.22
+	 */
+	protected CompletableFuture<V> reloadAsync(K key, Func0<V> supplier, Executor executor) {
+		return loadAsync(key, supplier, executor, true);
+	}
+
+	/**
+	 * 在给定的执行器中异步加载值，同一个key的加载合并为一次
+	 *
+	 * @param key      键
+	 * @param supplier 用于生产值对象
+	 * @param executor 执行加载的执行器
+	 * @param reload   是否强制重新加载，{@code false}时对象存在且未过期则不加载
+	 * @return 值对象的{@link CompletableFuture}
+	 */
+	private CompletableFuture<V> loadAsync(K key, Func0<V> supplier, Executor executor, boolean reload) {
+		final LoadingFuture<V> future = new LoadingFuture<>(null);
+		final CompletableFuture<V> loading = loadingMap.putIfAbsent(key, future);
+		if (null != loading) {
+			return loading;
+		}
+		try {
+			executor.execute(() -> {
+				future.owner = Thread.currentThread();
+				try {
+					load(key, true, supplier, future, reload);
+				} catch (RuntimeException ignore) {
+					// 异常已通过future传递
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			loadingMap.remove(key, future);
+			future.completeExceptionally(e);
+		}
+		return future;
+	}
+
+	/**
+	 * 加载值并放入缓存，结果通过future通知等待同一个key的其它调用者
+	 *
+	 * @param key                键
+	 * @param isUpdateLastAccess 是否更新最后访问时间
+	 * @param supplier           用于生产值对象
+	 * @param future             在{@link #loadingMap}中注册的future
+	 * @param reload             是否强制重新加载
+	 * @return 值对象
+	 */
+	private V load(K key, boolean isUpdateLastAccess, Func0<V> supplier, CompletableFuture<V> future, boolean reload) {
+		try {
+			// 双重检查，防止在注册future前已经有其它线程完成加载
+			final CacheObj<K, V> co = reload ? null : getWithoutLock(key);
+			final V v;
+			if (null == co || co.isExpired()) {
+				v = callSupplier(key, supplier);
+			} else {
+				v = co.get(isUpdateLastAccess);
+			}
+			future.complete(v);
+			return v;
+		} catch (Throwable e) {
+			future.completeExceptionally(e);
+			// issue#I7RJZT 运行时异常不做包装
+			throw ExceptionUtil.wrapRuntime(e);
+		} finally {
+			loadingMap.remove(key, future);
+		}
+	}
+
+	/**
+	 * 调用supplier生产值对象并放入缓存，同时记录加载指标
+	 *
+	 * @param key      键
+	 * @param supplier 用于生产值对象
+	 * @return 值对象
+	 * @throws Exception supplier抛出的异常
+	 */
+	private V callSupplier(K key, Func0<V> supplier) throws Exception {
+		final long start = System.nanoTime();
+		final V v;
+		try {
+			v = supplier.call();
+		} catch (Throwable e) {
+			loadFailureCount.increment();
+			throw e;
+		} finally {
+			totalLoadTime.add(System.nanoTime() - start);
+		}
+		loadSuccessCount.increment();
+		put(key, v, this.timeout);
+		return v;
+	}
+
+	/**
+	 * 等待其它线程的加载结果
+	 *
+	 * @param loading 加载中的future
+	 * @return 值对象
+	 */
+	private V join(CompletableFuture<V> loading) {
+		try {
+			return loading.join();
+		} catch (CompletionException e) {
+			throw ExceptionUtil.wrapRuntime(e.getCause());
+		}
+	}
+
+	/**
+	 * 记录执行加载线程的future，用于识别同一线程在supplier中的重入加载
+	 *
+	 * @param <V> 值类型
+	 */
+	private static class LoadingFuture<V> extends CompletableFuture<V> {
+		/**
+		 * 执行加载的线程，异步加载开始执行前为{@code null}
+		 */
+		private volatile Thread owner;
+
+		LoadingFuture(Thread owner) {
+			this.owner = owner;
+		}
+	}
+
 	/**
 	 * 获取键对应的{@link CacheObj}
 	 * @param key 键，实际使用时会被包装为{@link MutableObj}
@@ -148,6 +311,16 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 	}
 	// ---------------------------------------------------------------- get end
 
+	@Override
+	public CacheStats stats() {
+		return new CacheStats(hitCount.sum(), missCount.sum(),
+				loadSuccessCount.sum(), loadFailureCount.sum(), totalLoadTime.sum(),
+				removalCounts[RemovalCause.EXPIRED.ordinal()].sum(),
+				removalCounts[RemovalCause.CAPACITY.ordinal()].sum(),
+				removalCounts[RemovalCause.EXPLICIT.ordinal()].sum(),
+				size());
+	}
+
 	@Override
 	public Iterator<V> iterator() {
 		CacheObjIterator<K, V> copiedIterator = (CacheObjIterator<K, V>) this.cacheObjIterator();
@@ -245,6 +418,19 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 		}
 	}
 
+	/**
+	 * 对象移除回调，记录移除原因后调用{@link #onRemove(Object, Object)}
+	 *
+	 * @param key          键
+	 * @param cachedObject 被缓存的对象
+	 * @param cause        移除原因
+	 * @since 5.8.22
+	 */
+	protected void onRemove(K key, V cachedObject, RemovalCause cause) {
+		removalCounts[cause.ordinal()].increment();
+		onRemove(key, cachedObject);
+	}
+
 	/**
 	 * 移除key对应的对象，不加锁
 	 *
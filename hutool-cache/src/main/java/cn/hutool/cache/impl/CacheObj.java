@@ -117,6 +117,26 @@ public class CacheObj<K, V> implements Serializable {
 		return false;
 	}
 
+	/**
+	 * 判断对象是否对外可见，即是否可被{@code containsKey}和迭代器获取，默认未过期即可见
+	 *
+	 * @return 是否可见
+	 * @since 5.8.22
+	 */
+	boolean isAvailable() {
+		return false == isExpired();
+	}
+
+	/**
+	 * 获取可被清理的时间点，单位毫秒，默认为最后访问时间加存活时长
+	 *
+	 * @return 可被清理的时间点
+	 * @since 5.8.22
+	 */
+	long getExpireAt() {
+		return this.lastAccess + this.ttl;
+	}
+
 	/**
 	 * 获取值
 	 *
@@ -0,0 +1,360 @@
+package cn.hutool.cache.impl;
+
+import cn.hutool.cache.RemovalCause;
+import cn.hutool.core.collection.CopiedIter;
+import cn.hutool.core.lang.mutable.Mutable;
+import cn.hutool.core.lang.mutable.MutableObj;
+import cn.hutool.core.map.FixedLinkedHashMap;
+import cn.hutool.core.map.SafeConcurrentHashMap;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 高并发LRU (least recently used)最近最久未使用缓存<br>
+ * 与{@link LRUCache}不同，此缓存的读操作不加锁：
+ * <ul>
+ *     <li>数据存放于{@link SafeConcurrentHashMap}中，get时无锁读取</li>
+ *     <li>访问记录先写入按线程分段的读缓冲区，积压到一定数量后，由抢到锁的线程批量回放到访问顺序链表中</li>
+ *     <li>写操作（put、remove、清理）使用一把锁串行执行，写入前先回放读缓冲区，保证淘汰顺序</li>
+ * </ul>
+ * 读缓冲区满时访问记录会被丢弃，因此淘汰顺序是近似LRU，这在高并发场景下是可接受的代价。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.22
+ */
+public class ConcurrentLRUCache<K, V> extends AbstractCache<K, V> {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 读缓冲区分段数，必须为2的幂
+	 */
+	private static final int READ_BUFFER_COUNT = ceilingPowerOfTwo(Runtime.getRuntime().availableProcessors());
+	/**
+	 * 单个读缓冲区积压达到此数量时尝试回放
+	 */
+	private static final int READ_BUFFER_DRAIN_THRESHOLD = 32;
+	/**
+	 * 单个读缓冲区最大积压数量，超出后访问记录被丢弃
+	 */
+	private static final int READ_BUFFER_MAX_SIZE = 128;
+
+	/**
+	 * 访问顺序链表，仅在持有{@link #evictionLock}时访问
+	 */
+	private final FixedLinkedHashMap<Mutable<K>, CacheObj<K, V>> accessOrderMap;
+	/**
+	 * 按线程分段的读缓冲区
+	 */
+	private final ReadBuffer<K, V>[] readBuffers;
+	/**
+	 * 写锁，保护访问顺序链表及所有写操作
+	 */
+	protected final ReentrantLock evictionLock = new ReentrantLock();
+
+	/**
+	 * 构造<br>
+	 * 默认无超时
+	 *
+	 * @param capacity 容量，{@code 0}表示无大小限制
+	 */
+	public ConcurrentLRUCache(int capacity) {
+		this(capacity, 0);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param capacity 容量，{@code 0}表示无大小限制
+	 * @param timeout  默认超时时间，单位：毫秒
+	 */
+	@SuppressWarnings("unchecked")
+	public ConcurrentLRUCache(int capacity, long timeout) {
+		if (Integer.MAX_VALUE == capacity) {
+			capacity -= 1;
+		}
+
+		this.capacity = capacity;
+		this.timeout = timeout;
+		this.cacheMap = new SafeConcurrentHashMap<>(capacity > 0 ? capacity + 1 : 16);
+
+		this.accessOrderMap = new FixedLinkedHashMap<>(capacity > 0 ? capacity : 16);
+		if (capacity <= 0) {
+			// 无大小限制，16仅作为初始大小，直接使用Integer.MAX_VALUE会导致初始容量溢出
+			this.accessOrderMap.setCapacity(Integer.MAX_VALUE);
+		}
+		// 链表满时移除最久未使用的元素，同步移除数据Map中的对象
+		this.accessOrderMap.setRemoveListener(entry -> {
+			this.cacheMap.remove(entry.getKey());
+			final CacheObj<K, V> co = entry.getValue();
+			onRemove(co.key, co.obj, RemovalCause.CAPACITY);
+		});
+
+		this.readBuffers = new ReadBuffer[READ_BUFFER_COUNT];
+		for (int i = 0; i < READ_BUFFER_COUNT; i++) {
+			this.readBuffers[i] = new ReadBuffer<>();
+		}
+	}
+
+	// ---------------------------------------------------------------- put start
+	@Override
+	public void put(K key, V object, long timeout) {
+		evictionLock.lock();
+		try {
+			drainReadBuffers();
+			putWithoutLock(key, object, timeout);
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	@Override
+	public void putAll(Map<? extends K, ? extends V> map) {
+		evictionLock.lock();
+		try {
+			drainReadBuffers();
+			map.forEach((key, object) -> putWithoutLock(key, object, this.timeout));
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	@Override
+	protected void putWithoutLock(K key, V object, long timeout) {
+		final CacheObj<K, V> co = new CacheObj<>(key, object, timeout);
+		if (timeout != 0) {
+			existCustomTimeout = true;
+		}
+		if (isFull()) {
+			pruneCache();
+		}
+		final MutableObj<K> mKey = MutableObj.of(key);
+		cacheMap.put(mKey, co);
+		// 超出容量时，由accessOrderMap的移除监听淘汰最久未使用的对象
+		accessOrderMap.put(mKey, co);
+	}
+	// ---------------------------------------------------------------- put end
+
+	// ---------------------------------------------------------------- get start
+	@Override
+	public boolean containsKey(K key) {
+		final CacheObj<K, V> co = getWithoutLock(key);
+		if (co == null) {
+			return false;
+		}
+
+		if (false == co.isExpired()) {
+			// 命中
+			return true;
+		}
+
+		// 过期
+		remove(key, true);
+		return false;
+	}
+
+	@Override
+	public V get(K key, boolean isUpdateLastAccess) {
+		final CacheObj<K, V> co = getWithoutLock(key);
+
+		// 未命中
+		if (null == co) {
+			missCount.increment();
+			return null;
+		} else if (false == co.isExpired()) {
+			hitCount.increment();
+			afterRead(co);
+			return co.get(isUpdateLastAccess);
+		}
+
+		// 过期，既不算命中也不算非命中
+		remove(key, true);
+		return null;
+	}
+	// ---------------------------------------------------------------- get end
+
+	@Override
+	public Iterator<CacheObj<K, V>> cacheObjIterator() {
+		// ConcurrentHashMap的迭代器是弱一致性的，无需加锁
+		return new CacheObjIterator<>(CopiedIter.copyOf(cacheObjIter()));
+	}
+
+	@Override
+	public final int prune() {
+		evictionLock.lock();
+		try {
+			return pruneCache();
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	@Override
+	public void remove(K key) {
+		remove(key, false);
+	}
+
+	@Override
+	public void clear() {
+		evictionLock.lock();
+		try {
+			for (ReadBuffer<K, V> readBuffer : readBuffers) {
+				readBuffer.clear();
+			}
+			accessOrderMap.clear();
+			cacheMap.clear();
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	// ---------------------------------------------------------------- prune
+
+	/**
+	 * 只清理超时对象，LRU的淘汰由访问顺序链表完成
+	 */
+	@Override
+	protected int pruneCache() {
+		if (isPruneExpiredActive() == false) {
+			return 0;
+		}
+		int count = 0;
+		final Iterator<Map.Entry<Mutable<K>, CacheObj<K, V>>> entries = accessOrderMap.entrySet().iterator();
+		Map.Entry<Mutable<K>, CacheObj<K, V>> entry;
+		CacheObj<K, V> co;
+		while (entries.hasNext()) {
+			entry = entries.next();
+			co = entry.getValue();
+			if (co.isExpired()) {
+				entries.remove();
+				cacheMap.remove(entry.getKey());
+				onRemove(co.key, co.obj, RemovalCause.EXPIRED);
+				count++;
+			}
+		}
+		return count;
+	}
+
+	@Override
+	protected CacheObj<K, V> removeWithoutLock(K key, boolean withMissCount) {
+		accessOrderMap.remove(MutableObj.of(key));
+		return super.removeWithoutLock(key, withMissCount);
+	}
+
+	/**
+	 * 移除key对应的对象
+	 *
+	 * @param key           键
+	 * @param withMissCount 是否计数丢失数
+	 */
+	private void remove(K key, boolean withMissCount) {
+		CacheObj<K, V> co;
+		evictionLock.lock();
+		try {
+			co = removeWithoutLock(key, withMissCount);
+		} finally {
+			evictionLock.unlock();
+		}
+		if (null != co) {
+			// 带丢失计数的移除为get时发现对象过期
+			onRemove(co.key, co.obj, withMissCount ? RemovalCause.EXPIRED : RemovalCause.EXPLICIT);
+		}
+	}
+
+	/**
+	 * 记录一次访问，积压较多时尝试回放，回放只在无竞争时进行，不会阻塞读线程
+	 *
+	 * @param co 被访问的缓存对象
+	 */
+	private void afterRead(CacheObj<K, V> co) {
+		final ReadBuffer<K, V> readBuffer = readBuffers[(int) Thread.currentThread().getId() & (READ_BUFFER_COUNT - 1)];
+		final int pending = readBuffer.record(co);
+		if (pending >= READ_BUFFER_DRAIN_THRESHOLD && evictionLock.tryLock()) {
+			try {
+				drainReadBuffers();
+			} finally {
+				evictionLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * 将读缓冲区中的访问记录回放到访问顺序链表，调用者须持有{@link #evictionLock}
+	 */
+	private void drainReadBuffers() {
+		for (ReadBuffer<K, V> readBuffer : readBuffers) {
+			CacheObj<K, V> co;
+			// 单次最多回放READ_BUFFER_MAX_SIZE条，避免持续写入的情况下无法退出
+			for (int i = 0; i < READ_BUFFER_MAX_SIZE && null != (co = readBuffer.poll()); i++) {
+				// access order的LinkedHashMap在get时将元素移至尾部，已被移除的key此处无任何作用
+				accessOrderMap.get(MutableObj.of(co.key));
+			}
+		}
+	}
+
+	/**
+	 * 求不小于给定值的最小2的幂
+	 *
+	 * @param x 值
+	 * @return 2的幂
+	 */
+	private static int ceilingPowerOfTwo(int x) {
+		return 1 << (32 - Integer.numberOfLeadingZeros(Math.max(x, 2) - 1));
+	}
+
+	/**
+	 * 读缓冲区，记录被访问的缓存对象
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 */
+	private static class ReadBuffer<K, V> implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private final ConcurrentLinkedQueue<CacheObj<K, V>> queue = new ConcurrentLinkedQueue<>();
+		private final AtomicInteger size = new AtomicInteger();
+
+		/**
+		 * 记录访问，缓冲区已满时丢弃
+		 *
+		 * @param co 缓存对象
+		 * @return 当前积压数量
+		 */
+		int record(CacheObj<K, V> co) {
+			final int pending = size.get();
+			if (pending >= READ_BUFFER_MAX_SIZE) {
+				return pending;
+			}
+			queue.offer(co);
+			return size.incrementAndGet();
+		}
+
+		/**
+		 * 取出一条访问记录
+		 *
+		 * @return 访问记录，无记录返回{@code null}
+		 */
+		CacheObj<K, V> poll() {
+			final CacheObj<K, V> co = queue.poll();
+			if (null != co) {
+				size.decrementAndGet();
+			}
+			return co;
+		}
+
+		/**
+		 * 清空缓冲区
+		 */
+		void clear() {
+			while (null != poll()) {
+				// 逐条取出以保持计数一致
+			}
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package cn.hutool.cache.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 缓存过期时间轮<br>
+ * 缓存对象按照过期时间放入对应的时间槽，时间推进时只检查到期槽中的对象，而非遍历全部缓存对象：
+ * <ul>
+ *     <li>加入对象时无锁，只向对应槽的队列中追加</li>
+ *     <li>槽到期时，已过期的对象被返回给调用者移除，期间被访问过（最后访问时间更新）的对象按照新的过期时间重新入槽</li>
+ *     <li>超过一圈的对象在每圈被检查一次后重新入槽</li>
+ * </ul>
+ * 被替换或已被移除的对象不会从时间轮中主动删除，在到期时由调用者判断是否依旧有效。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.22
+ */
+class ExpireWheel<K, V> {
+
+	/**
+	 * 时间槽个数，必须为2的幂
+	 */
+	private static final int WHEEL_SIZE = 512;
+	private static final int MASK = WHEEL_SIZE - 1;
+
+	/**
+	 * 一个时间槽的跨度，单位毫秒
+	 */
+	private final long tickMs;
+	/**
+	 * 时间槽
+	 */
+	private final AtomicReferenceArray<ConcurrentLinkedQueue<CacheObj<K, V>>> buckets;
+	/**
+	 * 当前已处理到的时间槽序号
+	 */
+	private volatile long currentTick;
+
+	/**
+	 * 构造
+	 *
+	 * @param tickMs 一个时间槽的跨度，单位毫秒
+	 */
+	ExpireWheel(long tickMs) {
+		this.tickMs = Math.max(1, tickMs);
+		this.buckets = new AtomicReferenceArray<>(WHEEL_SIZE);
+		for (int i = 0; i < WHEEL_SIZE; i++) {
+			this.buckets.set(i, new ConcurrentLinkedQueue<>());
+		}
+		this.currentTick = System.currentTimeMillis() / this.tickMs;
+	}
+
+	/**
+	 * 加入缓存对象，永不过期的对象被忽略
+	 *
+	 * @param co 缓存对象
+	 */
+	void add(CacheObj<K, V> co) {
+		if (null == co || co.ttl <= 0) {
+			return;
+		}
+		final long expireAt = co.getExpireAt();
+		if (expireAt < co.lastAccess) {
+			// 溢出，视为永不过期
+			return;
+		}
+		// 已经到期的对象放入下一个槽，保证尽快被检查
+		final long tick = Math.max(expireAt / tickMs, currentTick + 1);
+		buckets.get((int) (tick & MASK)).offer(co);
+	}
+
+	/**
+	 * 推进时间到指定时刻，返回到期槽中已经过期的对象
+	 *
+	 * @param now 当前时间，单位毫秒
+	 * @return 过期的对象
+	 */
+	synchronized List<CacheObj<K, V>> advance(long now) {
+		final long targetTick = now / tickMs;
+		final List<CacheObj<K, V>> expired = new ArrayList<>();
+		// 落后超过一圈时，只需处理一圈
+		for (long tick = Math.max(currentTick + 1, targetTick - MASK); tick <= targetTick; tick++) {
+			currentTick = tick;
+			final ConcurrentLinkedQueue<CacheObj<K, V>> bucket = buckets.getAndSet((int) (tick & MASK), new ConcurrentLinkedQueue<>());
+			for (CacheObj<K, V> co : bucket) {
+				if (co.isExpired()) {
+					expired.add(co);
+				} else {
+					// 期间被访问或未到期（超过一圈），重新入槽
+					add(co);
+				}
+			}
+		}
+		return expired;
+	}
+}
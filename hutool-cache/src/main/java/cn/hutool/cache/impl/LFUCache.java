@@ -1,14 +1,27 @@
 package cn.hutool.cache.impl;
 
+import cn.hutool.cache.RemovalCause;
+import cn.hutool.core.lang.mutable.MutableObj;
+
+import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 
 /**
  * LFU(least frequently used) 最少使用率缓存<br>
  * 根据使用次数来判定对象是否被持续缓存<br>
  * 使用率是通过访问次数计算的。<br>
- * 当缓存满时清理过期对象。<br>
- * 清理后依旧满的情况下清除最少访问（访问计数最小）的对象并将其他对象的访问数减去这个最小访问数，以便新对象进入后可以公平计数。
+ * 当缓存满时清除最少访问（访问计数最小）的对象，新对象的访问计数从被清除对象的计数开始，以便新对象进入后可以公平计数。
+ *
+ * <p>
+ * 缓存对象按照访问计数分桶，桶之间按计数从小到大组成双向链表，因此淘汰时无需遍历全部对象：
+ * <ul>
+ *     <li>get时只增加对象的访问计数，不修改桶结构，读操作依旧使用乐观锁</li>
+ *     <li>淘汰时从计数最小的桶开始检查，计数已增加的对象被移动到对应的桶中，计数未变的对象被清除</li>
+ * </ul>
+ * 每次访问最多引起一次后续的移动，因此put、get和淘汰的均摊复杂度都是O(1)。<br>
+ * 缓存满时不再遍历清理过期对象，过期对象在get时或调用{@link #prune()}时被清除。
  *
  * @author Looly,jodd
  *
@@ -18,6 +31,15 @@ import java.util.Iterator;
 public class LFUCache<K, V> extends StampedCache<K, V> {
 	private static final long serialVersionUID = 1L;
 
+	/**
+	 * 计数最小的桶，即桶链表的头部
+	 */
+	private FreqBucket<K, V> minBucket;
+	/**
+	 * 最近一次被淘汰对象的访问计数，新加入对象以此为初始计数
+	 */
+	private long age;
+
 	/**
 	 * 构造
 	 *
@@ -43,53 +65,233 @@ public class LFUCache<K, V> extends StampedCache<K, V> {
 		cacheMap = new HashMap<>(capacity + 1, 1.0f);
 	}
 
+	@Override
+	protected void putWithoutLock(K key, V object, long timeout) {
+		if (timeout != 0) {
+			existCustomTimeout = true;
+		}
+		final MutableObj<K> mKey = MutableObj.of(key);
+		if (isFull() && false == cacheMap.containsKey(mKey)) {
+			pruneLeastFrequent();
+		}
+
+		final LFUCacheObj<K, V> co = new LFUCacheObj<>(key, object, timeout, this.age);
+		final CacheObj<K, V> old = cacheMap.put(mKey, co);
+		if (null != old) {
+			unlink((LFUCacheObj<K, V>) old);
+		}
+		// age不大于任何现存对象的计数，因此新对象总是进入头部的桶
+		if (null == minBucket || minBucket.freq != co.base) {
+			final FreqBucket<K, V> bucket = new FreqBucket<>(co.base);
+			bucket.next = minBucket;
+			if (null != minBucket) {
+				minBucket.prev = bucket;
+			}
+			minBucket = bucket;
+		}
+		minBucket.add(co);
+	}
+
+	@Override
+	protected CacheObj<K, V> removeWithoutLock(K key, boolean withMissCount) {
+		final CacheObj<K, V> co = super.removeWithoutLock(key, withMissCount);
+		if (null != co) {
+			unlink((LFUCacheObj<K, V>) co);
+		}
+		return co;
+	}
+
+	@Override
+	public void clear() {
+		final long stamp = lock.writeLock();
+		try {
+			cacheMap.clear();
+			minBucket = null;
+			age = 0;
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
 	// ---------------------------------------------------------------- prune
 
 	/**
 	 * 清理过期对象。<br>
-	 * 清理后依旧满的情况下清除最少访问（访问计数最小）的对象并将其他对象的访问数减去这个最小访问数，以便新对象进入后可以公平计数。
+	 * 按访问计数的淘汰只在缓存满且加入新对象时进行，见{@link #pruneLeastFrequent()}。
 	 *
 	 * @return 清理个数
 	 */
 	@Override
 	protected int pruneCache() {
-		int count = 0;
-		CacheObj<K, V> comin = null;
+		if (false == isPruneExpiredActive()) {
+			return 0;
+		}
 
-		// 清理过期对象并找出访问最少的对象
-		Iterator<CacheObj<K, V>> values = cacheObjIter();
+		int count = 0;
+		final Iterator<CacheObj<K, V>> values = cacheObjIter();
 		CacheObj<K, V> co;
 		while (values.hasNext()) {
 			co = values.next();
-			if (co.isExpired() == true) {
+			if (co.isExpired()) {
 				values.remove();
-				onRemove(co.key, co.obj);
+				unlink((LFUCacheObj<K, V>) co);
+				onRemove(co.key, co.obj, RemovalCause.EXPIRED);
 				count++;
-				continue;
-			}
-
-			//找出访问最少的对象
-			if (comin == null || co.accessCount.get() < comin.accessCount.get()) {
-				comin = co;
 			}
 		}
+		return count;
+	}
 
-		// 减少所有对象访问量，并清除减少后为0的访问对象
-		if (isFull() && comin != null) {
-			long minAccessCount = comin.accessCount.get();
-
-			values = cacheObjIter();
-			CacheObj<K, V> co1;
-			while (values.hasNext()) {
-				co1 = values.next();
-				if (co1.accessCount.addAndGet(-minAccessCount) <= 0) {
-					values.remove();
-					onRemove(co1.key, co1.obj);
+	/**
+	 * 清除访问计数最小的所有对象，计数在上次整理后增加过的对象被移动到对应的桶中<br>
+	 * 新对象以被清除对象的计数为起点，以便新对象进入后可以公平计数
+	 *
+	 * @return 清理个数
+	 */
+	private int pruneLeastFrequent() {
+		int count = 0;
+		FreqBucket<K, V> bucket;
+		while (null != (bucket = minBucket)) {
+			final Iterator<LFUCacheObj<K, V>> items = bucket.items.iterator();
+			LFUCacheObj<K, V> co;
+			long freq;
+			while (items.hasNext()) {
+				co = items.next();
+				freq = co.freq();
+				if (freq > bucket.freq && false == co.isExpired()) {
+					// 访问计数已增加，移动到对应桶，此处只会向后查找，移动距离不超过期间的访问次数
+					items.remove();
+					findOrCreateAfter(bucket, freq).add(co);
+				} else {
+					items.remove();
+					co.bucket = null;
+					cacheMap.remove(MutableObj.of(co.key));
+					onRemove(co.key, co.obj, co.isExpired() ? RemovalCause.EXPIRED : RemovalCause.CAPACITY);
 					count++;
 				}
 			}
-		}
 
+			removeBucket(bucket);
+			if (count > 0) {
+				this.age = bucket.freq;
+				break;
+			}
+		}
 		return count;
 	}
+
+	/**
+	 * 从所在的桶中移除对象
+	 *
+	 * @param co 缓存对象
+	 */
+	private void unlink(LFUCacheObj<K, V> co) {
+		final FreqBucket<K, V> bucket = co.bucket;
+		if (null != bucket) {
+			bucket.items.remove(co);
+			co.bucket = null;
+			if (bucket.items.isEmpty()) {
+				removeBucket(bucket);
+			}
+		}
+	}
+
+	/**
+	 * 从给定桶向后查找计数为freq的桶，不存在则在合适位置创建
+	 *
+	 * @param from 起始桶
+	 * @param freq 访问计数
+	 * @return 桶
+	 */
+	private FreqBucket<K, V> findOrCreateAfter(FreqBucket<K, V> from, long freq) {
+		FreqBucket<K, V> prev = from;
+		while (null != prev.next && prev.next.freq <= freq) {
+			prev = prev.next;
+		}
+		if (prev.freq == freq) {
+			return prev;
+		}
+
+		final FreqBucket<K, V> bucket = new FreqBucket<>(freq);
+		bucket.prev = prev;
+		bucket.next = prev.next;
+		if (null != prev.next) {
+			prev.next.prev = bucket;
+		}
+		prev.next = bucket;
+		return bucket;
+	}
+
+	/**
+	 * 将桶从链表中移除
+	 *
+	 * @param bucket 桶
+	 */
+	private void removeBucket(FreqBucket<K, V> bucket) {
+		if (null != bucket.prev) {
+			bucket.prev.next = bucket.next;
+		} else if (minBucket == bucket) {
+			minBucket = bucket.next;
+		}
+		if (null != bucket.next) {
+			bucket.next.prev = bucket.prev;
+		}
+		bucket.prev = null;
+		bucket.next = null;
+	}
+
+	/**
+	 * 访问计数相同的缓存对象桶，同一桶内按加入顺序排列
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 */
+	private static class FreqBucket<K, V> implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private final long freq;
+		private final LinkedHashSet<LFUCacheObj<K, V>> items = new LinkedHashSet<>();
+		private FreqBucket<K, V> prev;
+		private FreqBucket<K, V> next;
+
+		FreqBucket(long freq) {
+			this.freq = freq;
+		}
+
+		void add(LFUCacheObj<K, V> co) {
+			co.bucket = this;
+			items.add(co);
+		}
+	}
+
+	/**
+	 * 带有计数基数和所在桶的缓存对象
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 */
+	private static class LFUCacheObj<K, V> extends CacheObj<K, V> {
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * 计数基数，即加入时缓存的age
+		 */
+		private final long base;
+		/**
+		 * 所在的桶
+		 */
+		private FreqBucket<K, V> bucket;
+
+		LFUCacheObj(K key, V obj, long ttl, long base) {
+			super(key, obj, ttl);
+			this.base = base;
+		}
+
+		/**
+		 * @return 实际访问计数，即基数+访问次数
+		 */
+		long freq() {
+			return base + accessCount.get();
+		}
+	}
 }
@@ -0,0 +1,599 @@
+package cn.hutool.cache.impl;
+
+import cn.hutool.cache.Cache;
+import cn.hutool.cache.CacheListener;
+import cn.hutool.cache.CacheStats;
+import cn.hutool.cache.RemovalCause;
+import cn.hutool.core.exceptions.ExceptionUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.func.Func0;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 堆外字节缓存<br>
+ * 值以byte[]形式复制到堆外的直接内存（{@link ByteBuffer#allocateDirect(int)}）中，堆内只保留很小的索引，
+ * 适用于缓存大量序列化后的数据（如JSON），避免大对象长期驻留堆内引起GC停顿。
+ *
+ * <p>
+ * 堆外内存被划分为固定大小的slab，组成环形结构：
+ * <ul>
+ *     <li>写入时追加到当前slab，当前slab写满后切换到下一个slab</li>
+ *     <li>下一个slab中有数据时，整个slab中的对象一起被淘汰（FIFO）</li>
+ *     <li>LRU模式下，命中的对象如果不在当前slab中，会被复制到当前slab，从而避免被淘汰</li>
+ * </ul>
+ * 缓存大小由总字节数限制，而非对象个数。覆盖或移除的对象占用的空间在所在slab被淘汰时才会被回收。<br>
+ * 大于slab大小的对象不被缓存。
+ *
+ * @param <K> 键类型
+ * @author looly
+ * @since 5.8.22
+ */
+public class OffHeapCache<K> implements Cache<K, byte[]> {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 默认slab大小，4MB
+	 */
+	public static final int DEFAULT_SLAB_SIZE = 4 * 1024 * 1024;
+
+	/**
+	 * 单个slab大小，单位byte
+	 */
+	private final int slabSize;
+	/**
+	 * slab个数
+	 */
+	private final int slabCount;
+	/**
+	 * 默认过期时长，{@code 0}表示不过期，单位毫秒
+	 */
+	private final long timeout;
+	/**
+	 * 是否LRU模式，否则为FIFO
+	 */
+	private final boolean lru;
+
+	/**
+	 * 堆外内存，延迟分配
+	 */
+	private transient ByteBuffer[] slabs;
+	/**
+	 * 每个slab中存放的键，用于slab被淘汰时移除索引
+	 */
+	private transient List<List<K>> slabKeys;
+	/**
+	 * 键到堆外位置的索引
+	 */
+	private transient Map<K, Slot> index;
+	/**
+	 * 当前写入的slab
+	 */
+	private transient int writeSlab;
+	/**
+	 * 当前slab中的写入位置
+	 */
+	private transient int writePos;
+	/**
+	 * 是否所有slab都已被写入过，此后切换slab会淘汰数据
+	 */
+	private transient boolean wrapped;
+	/**
+	 * 有效数据的总字节数
+	 */
+	private transient long usedBytes;
+	private transient StampedLock lock;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder loadSuccessCount = new LongAdder();
+	private final LongAdder loadFailureCount = new LongAdder();
+	private final LongAdder totalLoadTime = new LongAdder();
+	private final LongAdder[] removalCounts = new LongAdder[]{new LongAdder(), new LongAdder(), new LongAdder()};
+	private CacheListener<K, byte[]> listener;
+
+	/**
+	 * 构造，FIFO模式，默认不过期
+	 *
+	 * @param maxBytes 最大占用的堆外内存字节数
+	 */
+	public OffHeapCache(long maxBytes) {
+		this(maxBytes, 0);
+	}
+
+	/**
+	 * 构造，FIFO模式
+	 *
+	 * @param maxBytes 最大占用的堆外内存字节数
+	 * @param timeout  默认过期时长，单位毫秒，{@code 0}表示不过期
+	 */
+	public OffHeapCache(long maxBytes, long timeout) {
+		this(maxBytes, (int) Math.min(maxBytes, DEFAULT_SLAB_SIZE), timeout, false);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param maxBytes 最大占用的堆外内存字节数
+	 * @param slabSize 单个slab大小，单位byte，大于此大小的对象不被缓存
+	 * @param timeout  默认过期时长，单位毫秒，{@code 0}表示不过期
+	 * @param lru      {@code true}为LRU模式，{@code false}为FIFO模式
+	 */
+	public OffHeapCache(long maxBytes, int slabSize, long timeout, boolean lru) {
+		Assert.isTrue(slabSize > 0, "Slab size must be greater than 0!");
+		Assert.isTrue(maxBytes >= slabSize, "Max bytes must be greater than or equal to slab size!");
+		final long slabCount = (maxBytes + slabSize - 1) / slabSize;
+		Assert.isTrue(slabCount <= Integer.MAX_VALUE, "Too many slabs: {}", slabCount);
+
+		this.slabSize = slabSize;
+		this.slabCount = (int) slabCount;
+		this.timeout = timeout;
+		this.lru = lru;
+		init();
+	}
+
+	/**
+	 * @return 缓存最大字节数
+	 */
+	public long byteCapacity() {
+		return (long) slabSize * slabCount;
+	}
+
+	/**
+	 * @return 有效数据占用的字节数
+	 */
+	public long usedBytes() {
+		final long stamp = lock.readLock();
+		try {
+			return usedBytes;
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * @return 命中数
+	 */
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	/**
+	 * @return 丢失数
+	 */
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	/**
+	 * 容量按字节数限制，对象个数无限制，因此返回{@code 0}
+	 *
+	 * @return {@code 0}
+	 * @see #byteCapacity()
+	 */
+	@Override
+	public int capacity() {
+		return 0;
+	}
+
+	@Override
+	public long timeout() {
+		return this.timeout;
+	}
+
+	@Override
+	public void put(K key, byte[] object) {
+		put(key, object, this.timeout);
+	}
+
+	@Override
+	public void put(K key, byte[] object, long timeout) {
+		if (null == object || object.length > slabSize) {
+			// 过大的对象不缓存
+			return;
+		}
+		List<Slot> evicted;
+		final long stamp = lock.writeLock();
+		try {
+			evicted = write(key, object, timeout, System.currentTimeMillis());
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+		notifyRemoved(evicted, RemovalCause.CAPACITY);
+	}
+
+	@Override
+	public byte[] get(K key, boolean isUpdateLastAccess, Func0<byte[]> supplier) {
+		byte[] v = get(key, isUpdateLastAccess);
+		if (null == v && null != supplier) {
+			final long start = System.nanoTime();
+			try {
+				v = supplier.call();
+				loadSuccessCount.increment();
+			} catch (Exception e) {
+				loadFailureCount.increment();
+				throw ExceptionUtil.wrapRuntime(e);
+			} finally {
+				totalLoadTime.add(System.nanoTime() - start);
+			}
+			put(key, v);
+		}
+		return v;
+	}
+
+	@Override
+	public byte[] get(K key, boolean isUpdateLastAccess) {
+		// LRU模式下命中后可能移动数据，需要写锁
+		final long stamp = lru ? lock.writeLock() : lock.readLock();
+		final Slot slot;
+		byte[] bytes = null;
+		List<Slot> evicted = null;
+		try {
+			slot = index.get(key);
+			if (null != slot && false == slot.isExpired()) {
+				bytes = read(slot);
+				if (isUpdateLastAccess) {
+					slot.lastAccess = System.currentTimeMillis();
+				}
+				if (lru && slot.slab != writeSlab) {
+					evicted = write(key, bytes, slot.ttl, slot.lastAccess);
+				}
+			}
+		} finally {
+			lock.unlock(stamp);
+		}
+
+		if (null == slot) {
+			missCount.increment();
+			return null;
+		} else if (null == bytes) {
+			// 过期，既不算命中也不算非命中
+			remove(key, true);
+			return null;
+		}
+		hitCount.increment();
+		notifyRemoved(evicted, RemovalCause.CAPACITY);
+		return bytes;
+	}
+
+	@Override
+	public Iterator<CacheObj<K, byte[]>> cacheObjIterator() {
+		final List<CacheObj<K, byte[]>> list;
+		final long stamp = lock.readLock();
+		try {
+			list = new ArrayList<>(index.size());
+			for (Slot slot : index.values()) {
+				if (false == slot.isExpired()) {
+					list.add(new CacheObj<>(slot.key, read(slot), slot.ttl));
+				}
+			}
+		} finally {
+			lock.unlockRead(stamp);
+		}
+		return new CacheObjIterator<>(list.iterator());
+	}
+
+	@Override
+	public Iterator<byte[]> iterator() {
+		return new CacheValuesIterator<>((CacheObjIterator<K, byte[]>) cacheObjIterator());
+	}
+
+	/**
+	 * 清理过期对象，过期对象所占空间在所在slab被淘汰时回收
+	 *
+	 * @return 清理的缓存对象个数
+	 */
+	@Override
+	public int prune() {
+		final List<Slot> removed = new ArrayList<>();
+		final long stamp = lock.writeLock();
+		try {
+			final Iterator<Slot> slots = index.values().iterator();
+			Slot slot;
+			while (slots.hasNext()) {
+				slot = slots.next();
+				if (slot.isExpired()) {
+					slots.remove();
+					usedBytes -= slot.length;
+					removed.add(slot);
+				}
+			}
+			if (null != listener) {
+				for (Slot s : removed) {
+					s.value = read(s);
+				}
+			}
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+		notifyRemoved(removed, RemovalCause.EXPIRED);
+		return removed.size();
+	}
+
+	/**
+	 * 所有slab都被写入过，再次切换slab时会淘汰数据
+	 *
+	 * @return 是否已满
+	 */
+	@Override
+	public boolean isFull() {
+		final long stamp = lock.readLock();
+		try {
+			return wrapped;
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	@Override
+	public void remove(K key) {
+		remove(key, false);
+	}
+
+	@Override
+	public void clear() {
+		final long stamp = lock.writeLock();
+		try {
+			index.clear();
+			for (List<K> keys : slabKeys) {
+				keys.clear();
+			}
+			writeSlab = 0;
+			writePos = 0;
+			wrapped = false;
+			usedBytes = 0;
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public int size() {
+		final long stamp = lock.readLock();
+		try {
+			return index.size();
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return 0 == size();
+	}
+
+	@Override
+	public boolean containsKey(K key) {
+		final Slot slot;
+		final long stamp = lock.readLock();
+		try {
+			slot = index.get(key);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+		if (null == slot) {
+			return false;
+		}
+		if (false == slot.isExpired()) {
+			return true;
+		}
+		remove(key, true);
+		return false;
+	}
+
+	@Override
+	public OffHeapCache<K> setListener(CacheListener<K, byte[]> listener) {
+		this.listener = listener;
+		return this;
+	}
+
+	@Override
+	public CacheStats stats() {
+		return new CacheStats(hitCount.sum(), missCount.sum(),
+				loadSuccessCount.sum(), loadFailureCount.sum(), totalLoadTime.sum(),
+				removalCounts[RemovalCause.EXPIRED.ordinal()].sum(),
+				removalCounts[RemovalCause.CAPACITY.ordinal()].sum(),
+				removalCounts[RemovalCause.EXPLICIT.ordinal()].sum(),
+				size());
+	}
+
+	@Override
+	public String toString() {
+		return "OffHeapCache [size=" + size() + ", usedBytes=" + usedBytes() + ", byteCapacity=" + byteCapacity() + "]";
+	}
+
+	// ---------------------------------------------------------------- private method start
+
+	/**
+	 * 初始化堆外内存及索引，堆外内存不参与序列化，反序列化后为空缓存
+	 */
+	private void init() {
+		this.slabs = new ByteBuffer[slabCount];
+		this.slabKeys = new ArrayList<>(slabCount);
+		for (int i = 0; i < slabCount; i++) {
+			this.slabKeys.add(new ArrayList<>());
+		}
+		this.index = new HashMap<>();
+		this.lock = new StampedLock();
+	}
+
+	/**
+	 * 写入数据到当前slab，当前slab空间不足时切换到下一个slab并淘汰其中数据，调用者须持有写锁
+	 *
+	 * @param key        键
+	 * @param bytes      值
+	 * @param ttl        过期时长
+	 * @param lastAccess 最后访问时间
+	 * @return 被淘汰的对象，可能为{@code null}
+	 */
+	private List<Slot> write(K key, byte[] bytes, long ttl, long lastAccess) {
+		List<Slot> evicted = null;
+		if (writePos + bytes.length > slabSize) {
+			evicted = nextSlab();
+			// 被淘汰的slab中可能正是此键的旧值，由于随后会重新写入，不视为移除
+			evicted.removeIf(slot -> Objects.equals(key, slot.key));
+		}
+
+		ByteBuffer slab = slabs[writeSlab];
+		if (null == slab) {
+			slab = ByteBuffer.allocateDirect(slabSize);
+			slabs[writeSlab] = slab;
+		}
+		slab.position(writePos);
+		slab.put(bytes);
+
+		final Slot slot = new Slot(key, writeSlab, writePos, bytes.length, ttl, lastAccess);
+		writePos += bytes.length;
+		slabKeys.get(writeSlab).add(key);
+		usedBytes += bytes.length;
+
+		final Slot old = index.put(key, slot);
+		if (null != old) {
+			usedBytes -= old.length;
+		}
+		return evicted;
+	}
+
+	/**
+	 * 切换到下一个slab，并淘汰其中的有效数据
+	 *
+	 * @return 被淘汰的对象
+	 */
+	private List<Slot> nextSlab() {
+		writeSlab++;
+		if (writeSlab == slabCount) {
+			writeSlab = 0;
+			wrapped = true;
+		}
+		writePos = 0;
+
+		final List<K> keys = slabKeys.get(writeSlab);
+		final List<Slot> evicted = new ArrayList<>();
+		Slot slot;
+		for (K key : keys) {
+			slot = index.get(key);
+			// 键可能已被覆盖到其它slab或被移除
+			if (null != slot && slot.slab == writeSlab) {
+				index.remove(key);
+				usedBytes -= slot.length;
+				if (null != listener) {
+					slot.value = read(slot);
+				}
+				evicted.add(slot);
+			}
+		}
+		keys.clear();
+		return evicted;
+	}
+
+	/**
+	 * 读取slot对应的数据，调用者须持有锁
+	 *
+	 * @param slot 位置
+	 * @return 数据
+	 */
+	private byte[] read(Slot slot) {
+		final byte[] bytes = new byte[slot.length];
+		// 使用副本读取，避免修改共享的position
+		final ByteBuffer buffer = slabs[slot.slab].duplicate();
+		buffer.position(slot.offset);
+		buffer.get(bytes);
+		return bytes;
+	}
+
+	/**
+	 * 移除key对应的对象
+	 *
+	 * @param key           键
+	 * @param withMissCount 是否计数丢失数
+	 */
+	private void remove(K key, boolean withMissCount) {
+		final Slot slot;
+		final long stamp = lock.writeLock();
+		try {
+			slot = index.remove(key);
+			if (null != slot) {
+				usedBytes -= slot.length;
+				if (null != listener) {
+					slot.value = read(slot);
+				}
+			}
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+		if (withMissCount) {
+			missCount.increment();
+		}
+		if (null != slot) {
+			// 带丢失计数的移除为get时发现对象过期
+			removalCounts[(withMissCount ? RemovalCause.EXPIRED : RemovalCause.EXPLICIT).ordinal()].increment();
+		}
+		if (null != slot && null != listener) {
+			listener.onRemove(slot.key, slot.value);
+		}
+	}
+
+	/**
+	 * 记录移除数并通知监听被移除的对象
+	 *
+	 * @param removed 被移除的对象
+	 * @param cause   移除原因
+	 */
+	private void notifyRemoved(List<Slot> removed, RemovalCause cause) {
+		if (null == removed) {
+			return;
+		}
+		removalCounts[cause.ordinal()].add(removed.size());
+		final CacheListener<K, byte[]> listener = this.listener;
+		if (null != listener) {
+			for (Slot slot : removed) {
+				listener.onRemove(slot.key, slot.value);
+			}
+		}
+	}
+
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		init();
+	}
+	// ---------------------------------------------------------------- private method end
+
+	/**
+	 * 堆外数据的位置信息
+	 */
+	private class Slot {
+		private final K key;
+		private final int slab;
+		private final int offset;
+		private final int length;
+		private final long ttl;
+		private volatile long lastAccess;
+		/**
+		 * 被移除时读取的数据，仅用于回调监听
+		 */
+		private byte[] value;
+
+		Slot(K key, int slab, int offset, int length, long ttl, long lastAccess) {
+			this.key = key;
+			this.slab = slab;
+			this.offset = offset;
+			this.length = length;
+			this.ttl = ttl;
+			this.lastAccess = lastAccess;
+		}
+
+		boolean isExpired() {
+			return ttl > 0 && (System.currentTimeMillis() - lastAccess) > ttl;
+		}
+	}
+}
@@ -1,8 +1,10 @@
 package cn.hutool.cache.impl;
 
+import cn.hutool.cache.RemovalCause;
 import cn.hutool.core.collection.CopiedIter;
 
 import java.util.Iterator;
+import java.util.Map;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
@@ -31,6 +33,16 @@ public abstract class ReentrantCache<K, V> extends AbstractCache<K, V> {
 		}
 	}
 
+	@Override
+	public void putAll(Map<? extends K, ? extends V> map) {
+		lock.lock();
+		try {
+			map.forEach((key, object) -> putWithoutLock(key, object, this.timeout));
+		} finally {
+			lock.unlock();
+		}
+	}
+
 	@Override
 	public boolean containsKey(K key) {
 		lock.lock();
@@ -41,10 +53,14 @@ public abstract class ReentrantCache<K, V> extends AbstractCache<K, V> {
 				return false;
 			}
 
-			if (false == co.isExpired()) {
+			if (co.isAvailable()) {
 				// 命中
 				return true;
 			}
+			if (false == co.isExpired()) {
+				// 保留期内的旧值，不可见但不移除
+				return false;
+			}
 		} finally {
 			lock.unlock();
 		}
@@ -140,7 +156,8 @@ public abstract class ReentrantCache<K, V> extends AbstractCache<K, V> {
 			lock.unlock();
 		}
 		if (null != co) {
-			onRemove(co.key, co.obj);
+			// 带丢失计数的移除为get时发现对象过期
+			onRemove(co.key, co.obj, withMissCount ? RemovalCause.EXPIRED : RemovalCause.EXPLICIT);
 		}
 	}
 }
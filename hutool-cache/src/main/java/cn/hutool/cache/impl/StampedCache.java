@@ -1,8 +1,10 @@
 package cn.hutool.cache.impl;
 
+import cn.hutool.cache.RemovalCause;
 import cn.hutool.core.collection.CopiedIter;
 
 import java.util.Iterator;
+import java.util.Map;
 import java.util.concurrent.locks.StampedLock;
 
 /**
@@ -31,6 +33,16 @@ public abstract class StampedCache<K, V> extends AbstractCache<K, V>{
 		}
 	}
 
+	@Override
+	public void putAll(Map<? extends K, ? extends V> map) {
+		final long stamp = lock.writeLock();
+		try {
+			map.forEach((key, object) -> putWithoutLock(key, object, this.timeout));
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
 	@Override
 	public boolean containsKey(K key) {
 		final long stamp = lock.readLock();
@@ -41,10 +53,14 @@ public abstract class StampedCache<K, V> extends AbstractCache<K, V>{
 				return false;
 			}
 
-			if (false == co.isExpired()) {
+			if (co.isAvailable()) {
 				// 命中
 				return true;
 			}
+			if (false == co.isExpired()) {
+				// 保留期内的旧值，不可见但不移除
+				return false;
+			}
 		} finally {
 			lock.unlockRead(stamp);
 		}
@@ -56,18 +72,7 @@ public abstract class StampedCache<K, V> extends AbstractCache<K, V>{
 
 	@Override
 	public V get(K key, boolean isUpdateLastAccess) {
-		// 尝试读取缓存，使用乐观读锁
-		long stamp = lock.tryOptimisticRead();
-		CacheObj<K, V> co = getWithoutLock(key);
-		if(false == lock.validate(stamp)){
-			// 有写线程修改了此对象，悲观读
-			stamp = lock.readLock();
-			try {
-				co = getWithoutLock(key);
-			} finally {
-				lock.unlockRead(stamp);
-			}
-		}
+		final CacheObj<K, V> co = getWithOptimisticRead(key);
 
 		// 未命中
 		if (null == co) {
@@ -83,6 +88,29 @@ public abstract class StampedCache<K, V> extends AbstractCache<K, V>{
 		return null;
 	}
 
+	/**
+	 * 使用乐观读锁获取键对应的{@link CacheObj}，不判断是否过期
+	 *
+	 * @param key 键
+	 * @return {@link CacheObj}，不存在返回{@code null}
+	 * @since 5.8.22
+	 */
+	protected CacheObj<K, V> getWithOptimisticRead(K key) {
+		// 尝试读取缓存，使用乐观读锁
+		long stamp = lock.tryOptimisticRead();
+		CacheObj<K, V> co = getWithoutLock(key);
+		if(false == lock.validate(stamp)){
+			// 有写线程修改了此对象，悲观读
+			stamp = lock.readLock();
+			try {
+				co = getWithoutLock(key);
+			} finally {
+				lock.unlockRead(stamp);
+			}
+		}
+		return co;
+	}
+
 	@Override
 	public Iterator<CacheObj<K, V>> cacheObjIterator() {
 		CopiedIter<CacheObj<K, V>> copiedIterator;
@@ -135,7 +163,8 @@ public abstract class StampedCache<K, V> extends AbstractCache<K, V>{
 			lock.unlockWrite(stamp);
 		}
 		if (null != co) {
-			onRemove(co.key, co.obj);
+			// 带丢失计数的移除为get时发现对象过期
+			onRemove(co.key, co.obj, withMissCount ? RemovalCause.EXPIRED : RemovalCause.EXPLICIT);
 		}
 	}
 }
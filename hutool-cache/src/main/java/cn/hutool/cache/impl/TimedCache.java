@@ -1,16 +1,30 @@
 package cn.hutool.cache.impl;
 
 import cn.hutool.cache.GlobalPruneTimer;
+import cn.hutool.cache.RemovalCause;
+import cn.hutool.core.lang.func.Func0;
 import cn.hutool.core.lang.mutable.Mutable;
+import cn.hutool.core.lang.mutable.MutableObj;
+import cn.hutool.core.thread.GlobalThreadPool;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledFuture;
 
 /**
  * 定时缓存<br>
- * 此缓存没有容量限制，对象只有在过期后才会被移除
+ * 此缓存没有容量限制，对象只有在过期后才会被移除<br>
+ * 开启定时清理后，缓存对象按照过期时间放入时间轮，每次清理只检查到期的对象，清理时间与缓存对象总数无关<br>
+ * 使用{@link #get(Object, boolean, Func0)}加载时，可以开启后台刷新，避免热点对象过期时请求阻塞在加载上：
+ * <ul>
+ *     <li>{@link #setRefreshAfterWrite(long)}：对象写入超过给定时长后，访问时返回当前值，同时在后台重新加载</li>
+ *     <li>{@link #setStaleTimeout(long)}：对象过期后的给定时长内依旧保留，访问时返回旧值，同时在后台重新加载</li>
+ * </ul>
+ * 同一个key的后台加载合并为一次，加载失败时保留原对象。
  *
  * @author Looly
  *
@@ -22,6 +36,15 @@ public class TimedCache<K, V> extends StampedCache<K, V> {
 
 	/** 正在执行的定时任务 */
 	private ScheduledFuture<?> pruneJobFuture;
+	/** 过期时间轮，开启定时清理后创建 */
+	private transient volatile ExpireWheel<K, V> expireWheel;
+
+	/** 写入后多久开始后台刷新，单位毫秒，0表示不刷新 */
+	private long refreshAfterWrite;
+	/** 过期后允许返回旧值的时长，单位毫秒，0表示不返回旧值 */
+	private long staleTimeout;
+	/** 执行后台刷新的执行器，{@code null}表示使用{@link GlobalThreadPool} */
+	private transient Executor refreshExecutor;
 
 	/**
 	 * 构造
@@ -44,6 +67,116 @@ public class TimedCache<K, V> extends StampedCache<K, V> {
 		this.cacheMap = map;
 	}
 
+	/**
+	 * 设置写入后多久开始后台刷新<br>
+	 * 对象写入超过此时长后，{@link #get(Object, boolean, Func0)}依旧返回当前值，同时在后台使用supplier重新加载
+	 *
+	 * @param refreshAfterWrite 写入后多久开始刷新，单位毫秒，0表示不刷新
+	 * @return this
+	 * @since 5.8.22
+	 */
+	public TimedCache<K, V> setRefreshAfterWrite(long refreshAfterWrite) {
+		this.refreshAfterWrite = refreshAfterWrite;
+		return this;
+	}
+
+	/**
+	 * 设置过期后允许返回旧值的时长<br>
+	 * 过期对象在此时长内不会被清理，{@link #get(Object, boolean, Func0)}返回旧值，同时在后台使用supplier重新加载；
+	 * 不带supplier的get视此对象为未命中。此设置只对之后加入的对象生效
+	 *
+	 * @param staleTimeout 过期后允许返回旧值的时长，单位毫秒，0表示不返回旧值
+	 * @return this
+	 * @since 5.8.22
+	 */
+	public TimedCache<K, V> setStaleTimeout(long staleTimeout) {
+		this.staleTimeout = staleTimeout;
+		return this;
+	}
+
+	/**
+	 * 设置执行后台刷新的执行器，默认使用{@link GlobalThreadPool}
+	 *
+	 * @param refreshExecutor 执行器
+	 * @return this
+	 * @since 5.8.22
+	 */
+	public TimedCache<K, V> setRefreshExecutor(Executor refreshExecutor) {
+		this.refreshExecutor = refreshExecutor;
+		return this;
+	}
+
+	@Override
+	protected void putWithoutLock(K key, V object, long timeout) {
+		if (timeout != 0) {
+			existCustomTimeout = true;
+		}
+		final CacheObj<K, V> co = new TimedCacheObj<>(key, object, timeout, this.staleTimeout);
+		cacheMap.put(MutableObj.of(key), co);
+		final ExpireWheel<K, V> wheel = this.expireWheel;
+		if (null != wheel) {
+			wheel.add(co);
+		}
+	}
+
+	// ---------------------------------------------------------------- get
+	@Override
+	public V get(K key, boolean isUpdateLastAccess) {
+		if (this.staleTimeout > 0) {
+			final CacheObj<K, V> co = getWithOptimisticRead(key);
+			if (isStale(co) && false == co.isExpired()) {
+				// 处于过期后的保留期，保留给带supplier的get返回旧值
+				missCount.increment();
+				return null;
+			}
+		}
+		return super.get(key, isUpdateLastAccess);
+	}
+
+	@Override
+	public V get(K key, boolean isUpdateLastAccess, Func0<V> supplier) {
+		if (null == supplier || (this.refreshAfterWrite <= 0 && this.staleTimeout <= 0)) {
+			return super.get(key, isUpdateLastAccess, supplier);
+		}
+
+		final CacheObj<K, V> co = getWithOptimisticRead(key);
+		if (null == co || co.isExpired()) {
+			// 不存在或超出保留期，阻塞加载
+			return super.get(key, isUpdateLastAccess, supplier);
+		}
+
+		hitCount.increment();
+		if (isStale(co)) {
+			// 返回旧值，不更新访问时间，避免旧值被续期
+			reloadAsync(key, supplier, getRefreshExecutor());
+			return co.get(false);
+		}
+		final V v = co.get(isUpdateLastAccess);
+		if (this.refreshAfterWrite > 0 && co instanceof TimedCacheObj
+				&& System.currentTimeMillis() - ((TimedCacheObj<K, V>) co).writeTime >= this.refreshAfterWrite) {
+			reloadAsync(key, supplier, getRefreshExecutor());
+		}
+		return v;
+	}
+
+	/**
+	 * 对象是否已过期但处于保留期内
+	 *
+	 * @param co 缓存对象
+	 * @return 是否处于保留期
+	 */
+	private boolean isStale(CacheObj<K, V> co) {
+		return co instanceof TimedCacheObj && ((TimedCacheObj<K, V>) co).isStale();
+	}
+
+	/**
+	 * @return 执行后台刷新的执行器
+	 */
+	private Executor getRefreshExecutor() {
+		final Executor executor = this.refreshExecutor;
+		return null != executor ? executor : GlobalThreadPool.getExecutor();
+	}
+
 	// ---------------------------------------------------------------- prune
 	/**
 	 * 清理过期对象
@@ -59,7 +192,7 @@ public class TimedCache<K, V> extends StampedCache<K, V> {
 			co = values.next();
 			if (co.isExpired()) {
 				values.remove();
-				onRemove(co.key, co.obj);
+				onRemove(co.key, co.obj, RemovalCause.EXPIRED);
 				count++;
 			}
 		}
@@ -68,12 +201,22 @@ public class TimedCache<K, V> extends StampedCache<K, V> {
 
 	// ---------------------------------------------------------------- auto prune
 	/**
-	 * 定时清理
+	 * 定时清理<br>
+	 * 缓存对象按照过期时间放入时间轮，每隔delay毫秒推进一次，只检查到期的对象
 	 *
 	 * @param delay 间隔时长，单位毫秒
 	 */
 	public void schedulePrune(long delay) {
-		this.pruneJobFuture = GlobalPruneTimer.INSTANCE.schedule(this::prune, delay);
+		final ExpireWheel<K, V> wheel = new ExpireWheel<>(delay);
+		// 先发布时间轮，保证遍历期间新加入的对象也被调度，重复加入的对象在到期时被忽略
+		this.expireWheel = wheel;
+		final long stamp = lock.readLock();
+		try {
+			cacheObjIter().forEachRemaining(wheel::add);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+		this.pruneJobFuture = GlobalPruneTimer.INSTANCE.schedule(this::pruneExpired, delay);
 	}
 
 	/**
@@ -83,6 +226,95 @@ public class TimedCache<K, V> extends StampedCache<K, V> {
 		if (null != pruneJobFuture) {
 			pruneJobFuture.cancel(true);
 		}
+		this.expireWheel = null;
 	}
 
+	/**
+	 * 推进时间轮，清理到期的对象<br>
+	 * 只在移除时短暂持有写锁，不阻塞读操作
+	 *
+	 * @return 清理数
+	 */
+	private int pruneExpired() {
+		final ExpireWheel<K, V> wheel = this.expireWheel;
+		if (null == wheel) {
+			return 0;
+		}
+		final List<CacheObj<K, V>> expired = wheel.advance(System.currentTimeMillis());
+		if (expired.isEmpty()) {
+			return 0;
+		}
+
+		final List<CacheObj<K, V>> removed = new ArrayList<>(expired.size());
+		final long stamp = lock.writeLock();
+		try {
+			MutableObj<K> mKey;
+			for (CacheObj<K, V> co : expired) {
+				mKey = MutableObj.of(co.key);
+				// 对象可能已被移除或替换，只移除时间轮中记录的对象
+				if (cacheMap.get(mKey) == co) {
+					cacheMap.remove(mKey);
+					removed.add(co);
+				}
+			}
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+
+		for (CacheObj<K, V> co : removed) {
+			onRemove(co.key, co.obj, RemovalCause.EXPIRED);
+		}
+		return removed.size();
+	}
+
+	/**
+	 * 带写入时间和保留期的缓存对象<br>
+	 * 过期后在保留期内{@link #isExpired()}依旧返回{@code false}，保证对象不被清理，使用{@link #isStale()}判断是否已过期
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 */
+	private static class TimedCacheObj<K, V> extends CacheObj<K, V> {
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * 写入时间
+		 */
+		private final long writeTime;
+		/**
+		 * 过期后的保留时长
+		 */
+		private final long staleTimeout;
+
+		TimedCacheObj(K key, V obj, long ttl, long staleTimeout) {
+			super(key, obj, ttl);
+			this.writeTime = this.lastAccess;
+			this.staleTimeout = staleTimeout;
+		}
+
+		/**
+		 * @return 是否已过期，即超出存活时长
+		 */
+		boolean isStale() {
+			return super.isExpired();
+		}
+
+		@Override
+		protected boolean isExpired() {
+			if (this.ttl > 0) {
+				return (System.currentTimeMillis() - this.lastAccess) > this.ttl + this.staleTimeout;
+			}
+			return false;
+		}
+
+		@Override
+		boolean isAvailable() {
+			return false == isStale();
+		}
+
+		@Override
+		long getExpireAt() {
+			return this.lastAccess + this.ttl + this.staleTimeout;
+		}
+	}
 }
@@ -1,12 +1,25 @@
 package cn.hutool.cache;
 
 import cn.hutool.cache.impl.TimedCache;
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.collection.ListUtil;
 import cn.hutool.core.date.DateUnit;
 import cn.hutool.core.thread.ThreadUtil;
 import cn.hutool.core.util.RandomUtil;
 import org.junit.Assert;
 import org.junit.Test;
 
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * 缓存测试用例
  * @author Looly
@@ -14,6 +27,20 @@ import org.junit.Test;
  */
 public class CacheTest {
 
+	@Test(timeout = 5000)
+	public void reentrantLoadTest() {
+		final Cache<String, String> cache = CacheUtil.newLRUCache(10);
+		final AtomicInteger count = new AtomicInteger();
+		// supplier中重入加载同一个key，不能等待自身未完成的加载
+		final String value = cache.get("key", () -> {
+			count.incrementAndGet();
+			return cache.get("key", () -> "inner") + "-outer";
+		});
+		Assert.assertEquals("inner-outer", value);
+		Assert.assertEquals("inner-outer", cache.get("key"));
+		Assert.assertEquals(1, count.get());
+	}
+
 	@Test
 	public void fifoCacheTest(){
 		Cache<String,String> fifoCache = CacheUtil.newFIFOCache(3);
@@ -68,6 +95,46 @@ public class CacheTest {
 		Assert.assertNull(s);
 	}
 
+	@Test
+	public void lfuCacheFrequencyTest(){
+		final Cache<Integer, Integer> lfuCache = CacheUtil.newLFUCache(100);
+		for (int i = 0; i < 100; i++) {
+			lfuCache.put(i, i);
+			// 偶数访问i次，访问越多越不容易被淘汰
+			for (int j = 0; j < (i % 2 == 0 ? i + 1 : 0); j++) {
+				lfuCache.get(i);
+			}
+		}
+
+		// 未被访问过的奇数被一次性淘汰，新加入的对象从被淘汰的计数开始
+		for (int i = 100; i < 110; i++) {
+			lfuCache.put(i, i);
+		}
+		Assert.assertEquals(60, lfuCache.size());
+		for (int i = 0; i < 100; i++) {
+			Assert.assertEquals(i % 2 == 0, lfuCache.containsKey(i));
+		}
+
+		lfuCache.remove(0);
+		lfuCache.put(0, 0);
+		Assert.assertEquals(Integer.valueOf(0), lfuCache.get(0));
+		Assert.assertEquals(60, lfuCache.size());
+	}
+
+	@Test
+	public void lfuCachePruneTest(){
+		final Cache<Integer, Integer> lfuCache = CacheUtil.newLFUCache(3);
+		lfuCache.put(1, 1);
+		lfuCache.put(2, 2);
+		lfuCache.put(3, 3, 1);
+		ThreadUtil.sleep(10);
+		// 缓存满时prune只清理过期对象，不按访问计数淘汰
+		Assert.assertEquals(1, lfuCache.prune());
+		Assert.assertEquals(2, lfuCache.size());
+		Assert.assertEquals(0, lfuCache.prune());
+		Assert.assertEquals(2, lfuCache.size());
+	}
+
 	@Test
 	public void lruCacheTest(){
 		Cache<String, String> lruCache = CacheUtil.newLRUCache(3);
@@ -121,4 +188,173 @@ public class CacheTest {
 		//取消定时清理
 		timedCache.cancelPruneSchedule();
 	}
+
+	@Test
+	public void timedCacheWheelPruneTest(){
+		final AtomicInteger removeCount = new AtomicInteger();
+		final TimedCache<Integer, Integer> timedCache = CacheUtil.newTimedCache(10);
+		timedCache.setListener((key, value) -> removeCount.incrementAndGet());
+		for (int i = 0; i < 1000; i++) {
+			timedCache.put(i, i);
+		}
+		// 永不过期
+		timedCache.put(-1, -1, Long.MAX_VALUE);
+
+		timedCache.schedulePrune(5);
+		// 开启定时清理后加入的对象
+		timedCache.put(1000, 1000, 30);
+
+		ThreadUtil.sleep(100);
+		Assert.assertEquals(1001, removeCount.get());
+		Assert.assertEquals(1, timedCache.size());
+		Assert.assertEquals(Integer.valueOf(-1), timedCache.get(-1));
+
+		timedCache.cancelPruneSchedule();
+	}
+
+	@Test
+	public void getAllTest(){
+		final Cache<Integer, String> cache = CacheUtil.newLRUCache(10);
+		cache.put(1, "v1");
+		cache.put(3, "v3");
+
+		final AtomicInteger loadCount = new AtomicInteger();
+		final Map<Integer, String> result = cache.getAll(ListUtil.of(1, 2, 3, 4), keys -> {
+			loadCount.incrementAndGet();
+			Assert.assertEquals(CollUtil.newLinkedHashSet(2, 4), keys);
+			final Map<Integer, String> loaded = new HashMap<>();
+			keys.forEach(key -> loaded.put(key, "v" + key));
+			return loaded;
+		});
+		Assert.assertEquals(1, loadCount.get());
+		Assert.assertEquals(ListUtil.of(1, 2, 3, 4), ListUtil.toList(result.keySet()));
+		Assert.assertEquals("v4", cache.get(4));
+		Assert.assertEquals(4, cache.size());
+	}
+
+	@Test
+	public void getAsyncTest(){
+		final Cache<Integer, Integer> cache = CacheUtil.newFIFOCache(10);
+		final AtomicInteger loadCount = new AtomicInteger();
+		final List<CompletableFuture<Integer>> futures = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			futures.add(cache.getAsync(1, () -> {
+				ThreadUtil.sleep(100);
+				return loadCount.incrementAndGet();
+			}));
+		}
+		// 并发的加载合并为一次
+		futures.forEach(future -> Assert.assertEquals(Integer.valueOf(1), future.join()));
+		Assert.assertEquals(1, loadCount.get());
+		Assert.assertEquals(Integer.valueOf(1), cache.get(1));
+
+		final CompletableFuture<Integer> failed = cache.getAsync(2, () -> {
+			throw new IllegalStateException("load error");
+		});
+		Assert.assertThrows(CompletionException.class, failed::join);
+		Assert.assertFalse(cache.containsKey(2));
+	}
+
+	@Test
+	public void statsTest() throws Exception {
+		final Cache<String, String> cache = CacheUtil.newLRUCache(2);
+		cache.put("k1", "v1");
+		cache.get("k1");
+		cache.get("k2");
+		cache.get("k3", () -> "v3");
+		try {
+			cache.get("k4", () -> {
+				throw new IllegalStateException("load error");
+			});
+			Assert.fail();
+		} catch (IllegalStateException e) {
+			// ignore
+		}
+		final CacheStats before = cache.stats();
+
+		// 超出容量，淘汰k1
+		cache.put("k5", "v5");
+		cache.remove("k3");
+		final CacheStats stats = cache.stats();
+
+		Assert.assertEquals(1, stats.hitCount());
+		Assert.assertEquals(3, stats.missCount());
+		Assert.assertEquals(0.25, stats.hitRate(), 0);
+		Assert.assertEquals(1, stats.loadSuccessCount());
+		Assert.assertEquals(1, stats.loadFailureCount());
+		Assert.assertEquals(1, stats.evictionCount());
+		Assert.assertEquals(1, stats.explicitRemovalCount());
+		Assert.assertEquals(1, stats.size());
+
+		final CacheStats delta = stats.minus(before);
+		Assert.assertEquals(0, delta.hitCount());
+		Assert.assertEquals(1, delta.removalCount(RemovalCause.CAPACITY));
+
+		final ObjectName name = CacheUtil.registerMBean(cache, "statsTest");
+		try {
+			final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			Assert.assertEquals(1L, server.getAttribute(name, "HitCount"));
+			Assert.assertEquals(2, server.getAttribute(name, "Capacity"));
+		} finally {
+			CacheUtil.unregisterMBean("statsTest");
+		}
+	}
+
+	@Test
+	public void timedCacheRefreshAfterWriteTest(){
+		final TimedCache<String, Integer> cache = CacheUtil.newTimedCache(10000);
+		// 使用调用线程执行刷新，便于断言
+		cache.setRefreshAfterWrite(50).setRefreshExecutor(Runnable::run);
+		final AtomicInteger loadCount = new AtomicInteger();
+
+		Assert.assertEquals(1, cache.get("k", loadCount::incrementAndGet).intValue());
+		Assert.assertEquals(1, cache.get("k", loadCount::incrementAndGet).intValue());
+		Assert.assertEquals(1, loadCount.get());
+
+		ThreadUtil.sleep(100);
+		// 超过刷新时长，返回当前值并触发刷新
+		Assert.assertEquals(1, cache.get("k", loadCount::incrementAndGet).intValue());
+		Assert.assertEquals(2, cache.get("k", loadCount::incrementAndGet).intValue());
+		Assert.assertEquals(2, loadCount.get());
+	}
+
+	@Test
+	public void timedCacheStaleTest(){
+		final TimedCache<String, Integer> cache = CacheUtil.newTimedCache(50);
+		cache.setStaleTimeout(10000).setRefreshExecutor(Runnable::run);
+		final AtomicInteger loadCount = new AtomicInteger();
+		cache.get("k", false, loadCount::incrementAndGet);
+
+		ThreadUtil.sleep(100);
+		// 已过期，不带supplier视为未命中，但对象依旧保留
+		Assert.assertNull(cache.get("k", false));
+		Assert.assertEquals(1, cache.prune() + cache.size());
+		// 带supplier返回旧值并后台刷新
+		Assert.assertEquals(1, cache.get("k", false, loadCount::incrementAndGet).intValue());
+		Assert.assertEquals(2, cache.get("k", false, loadCount::incrementAndGet).intValue());
+
+		// 刷新失败时保留旧值
+		ThreadUtil.sleep(100);
+		Assert.assertEquals(2, cache.get("k", false, () -> {
+			throw new IllegalStateException("refresh error");
+		}).intValue());
+		Assert.assertEquals(2, cache.get("k", false, loadCount::incrementAndGet).intValue());
+	}
+
+	@Test
+	public void timedCacheStaleVisibleTest(){
+		final TimedCache<String, Integer> cache = CacheUtil.newTimedCache(50);
+		cache.setStaleTimeout(10000);
+		cache.put("k", 1);
+		Assert.assertTrue(cache.containsKey("k"));
+
+		ThreadUtil.sleep(100);
+		// 保留期内的旧值与get保持一致，containsKey和迭代均不可见，但不被清理
+		Assert.assertNull(cache.get("k", false));
+		Assert.assertFalse(cache.containsKey("k"));
+		Assert.assertFalse(cache.iterator().hasNext());
+		Assert.assertFalse(cache.cacheObjIterator().hasNext());
+		Assert.assertEquals(0, cache.prune());
+		Assert.assertEquals(1, cache.size());
+	}
 }
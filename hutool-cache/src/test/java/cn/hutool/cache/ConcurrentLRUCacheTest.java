@@ -0,0 +1,92 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.ConcurrentLRUCache;
+import cn.hutool.core.util.StrUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ConcurrentLRUCacheTest {
+
+	@Test
+	public void concurrentReadTest() throws InterruptedException {
+		final ConcurrentLRUCache<Integer, Integer> cache = CacheUtil.newConcurrentLRUCache(10);
+		for (int i = 0; i < 10; i++) {
+			cache.put(i, i);
+		}
+
+		final CountDownLatch countDownLatch = new CountDownLatch(10);
+		// 10个线程分别读0-9 10000次
+		for (int i = 0; i < 10; i++) {
+			final int finalI = i;
+			new Thread(() -> {
+				for (int j = 0; j < 10000; j++) {
+					cache.get(finalI);
+				}
+				countDownLatch.countDown();
+			}).start();
+		}
+		countDownLatch.await();
+		Assert.assertEquals(100000, cache.getHitCount());
+		Assert.assertEquals(10, cache.size());
+	}
+
+	@Test
+	public void noCapacityTest() {
+		final ConcurrentLRUCache<Integer, Integer> cache = new ConcurrentLRUCache<>(0, 0);
+		for (int i = 0; i < 1000; i++) {
+			cache.put(i, i);
+		}
+		Assert.assertEquals(1000, cache.size());
+		Assert.assertFalse(cache.isFull());
+		Assert.assertEquals(Integer.valueOf(0), cache.get(0));
+	}
+
+	@Test
+	public void evictOrderTest() {
+		final ConcurrentLRUCache<Integer, Integer> cache = CacheUtil.newConcurrentLRUCache(10);
+		for (int i = 0; i < 10; i++) {
+			cache.put(i, i);
+		}
+
+		// 按顺序读0-9
+		final StringBuilder sb1 = new StringBuilder();
+		for (int i = 0; i < 10; i++) {
+			sb1.append(cache.get(i));
+		}
+		Assert.assertEquals("0123456789", sb1.toString());
+
+		// 新加11，写入前回放读缓冲区，此时0最久未使用，应该淘汰0
+		cache.put(11, 11);
+
+		final StringBuilder sb2 = new StringBuilder();
+		for (int i = 0; i < 10; i++) {
+			sb2.append(cache.get(i));
+		}
+		Assert.assertEquals("null123456789", sb2.toString());
+		Assert.assertEquals(10, cache.size());
+	}
+
+	@Test
+	public void listenerTest() {
+		final AtomicInteger removeCount = new AtomicInteger();
+
+		final ConcurrentLRUCache<String, Integer> cache = CacheUtil.newConcurrentLRUCache(3);
+		cache.setListener((key, value) -> removeCount.incrementAndGet());
+
+		for (int i = 0; i < 10; i++) {
+			cache.put(StrUtil.format("key-{}", i), i);
+		}
+
+		Assert.assertEquals(7, removeCount.get());
+		Assert.assertEquals(3, cache.size());
+		Assert.assertTrue(cache.containsKey("key-9"));
+
+		cache.remove("key-9");
+		Assert.assertEquals(8, removeCount.get());
+		Assert.assertFalse(cache.containsKey("key-9"));
+		Assert.assertEquals(2, cache.size());
+	}
+}
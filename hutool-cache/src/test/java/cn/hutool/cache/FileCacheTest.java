@@ -4,6 +4,21 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import cn.hutool.cache.file.LFUFileCache;
+import cn.hutool.cache.file.MappedFileCache;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.util.StrUtil;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 文件缓存单元测试
@@ -16,4 +31,123 @@ public class FileCacheTest {
 		LFUFileCache cache = new LFUFileCache(1000, 500, 2000);
 		Assert.assertNotNull(cache);
 	}
+
+	@Test
+	public void mappedFileCacheTest() {
+		final File file = FileUtil.createTempFile();
+		try {
+			FileUtil.writeUtf8String("hutool", file);
+			final MappedFileCache cache = new MappedFileCache(1000, 500, 0);
+			Assert.assertEquals("hutool", StrUtil.utf8Str(cache.getFileBuffer(file)));
+			// 视图之间互不影响
+			Assert.assertEquals("hutool", StrUtil.utf8Str(cache.getFileBuffer(file)));
+			Assert.assertEquals(1, cache.getCachedFilesCount());
+			Assert.assertEquals(6, cache.getUsedSize());
+
+			// 文件修改后重新映射
+			FileUtil.writeUtf8String("hutool-cache", file);
+			Assert.assertTrue(file.setLastModified(file.lastModified() + 1000));
+			final ByteArrayOutputStream out = new ByteArrayOutputStream();
+			Assert.assertEquals(12, cache.transferTo(file, Channels.newChannel(out)));
+			Assert.assertEquals("hutool-cache", StrUtil.utf8Str(out.toByteArray()));
+			Assert.assertEquals(12, cache.getUsedSize());
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Test
+	public void transferTruncatedTest() {
+		final File file = FileUtil.createTempFile();
+		try {
+			FileUtil.writeBytes(new byte[100000], file);
+			// 不缓存，使用transferTo写出
+			final MappedFileCache cache = new MappedFileCache(1000, 500, 0);
+			final AtomicLong written = new AtomicLong();
+			final long count = cache.transferTo(file, new WritableByteChannel() {
+				@Override
+				public int write(ByteBuffer src) {
+					if (0 == written.get()) {
+						// 写出期间文件被截断
+						FileUtil.writeBytes(new byte[10], file);
+					}
+					final int remaining = src.remaining();
+					src.position(src.limit());
+					written.addAndGet(remaining);
+					return remaining;
+				}
+
+				@Override
+				public boolean isOpen() {
+					return true;
+				}
+
+				@Override
+				public void close() {
+				}
+			});
+			Assert.assertEquals(written.get(), count);
+			Assert.assertTrue(count < 100000);
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Test
+	public void transferNonBlockingTest() {
+		final File file = FileUtil.createTempFile();
+		try {
+			FileUtil.writeUtf8String("hutool", file);
+			final MappedFileCache cache = new MappedFileCache(1000, 500, 0);
+			// 不接受数据的通道不应导致死循环
+			Assert.assertThrows(IORuntimeException.class, () -> cache.transferTo(file, new WritableByteChannel() {
+				@Override
+				public int write(ByteBuffer src) {
+					return 0;
+				}
+
+				@Override
+				public boolean isOpen() {
+					return true;
+				}
+
+				@Override
+				public void close() {
+				}
+			}));
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Test
+	public void mappedFileCacheConcurrentTest() throws InterruptedException {
+		final File file = FileUtil.createTempFile();
+		try {
+			FileUtil.writeUtf8String("hutool", file);
+			final MappedFileCache cache = new MappedFileCache(1000, 500, 0);
+			final int threadCount = 16;
+			final CountDownLatch start = new CountDownLatch(1);
+			final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+			for (int i = 0; i < threadCount; i++) {
+				executor.execute(() -> {
+					try {
+						start.await();
+					} catch (InterruptedException e) {
+						throw new RuntimeException(e);
+					}
+					cache.getFileBuffer(file);
+				});
+			}
+			start.countDown();
+			executor.shutdown();
+			Assert.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+			// 同时未命中时只映射并计算一次
+			Assert.assertEquals(1, cache.getCachedFilesCount());
+			Assert.assertEquals(6, cache.getUsedSize());
+		} finally {
+			FileUtil.del(file);
+		}
+	}
 }
@@ -0,0 +1,72 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.OffHeapCache;
+import cn.hutool.core.util.StrUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class OffHeapCacheTest {
+
+	@Test
+	public void putGetTest() {
+		final OffHeapCache<String> cache = CacheUtil.newOffHeapCache(1024);
+		cache.put("key1", StrUtil.utf8Bytes("value1"));
+		cache.put("key2", StrUtil.utf8Bytes("value2"));
+		// 覆盖
+		cache.put("key1", StrUtil.utf8Bytes("value11"));
+
+		Assert.assertEquals("value11", StrUtil.utf8Str(cache.get("key1")));
+		Assert.assertEquals("value2", StrUtil.utf8Str(cache.get("key2")));
+		Assert.assertNull(cache.get("key3"));
+		Assert.assertEquals(2, cache.size());
+		Assert.assertEquals(13, cache.usedBytes());
+
+		cache.remove("key1");
+		Assert.assertFalse(cache.containsKey("key1"));
+		Assert.assertEquals(6, cache.usedBytes());
+	}
+
+	@Test
+	public void fifoEvictTest() {
+		final AtomicInteger removeCount = new AtomicInteger();
+		// 4个slab，每个slab 10 byte，每个对象5 byte
+		final OffHeapCache<Integer> cache = new OffHeapCache<>(40, 10, 0, false);
+		cache.setListener((key, value) -> {
+			Assert.assertEquals(5, value.length);
+			removeCount.incrementAndGet();
+		});
+		for (int i = 0; i < 9; i++) {
+			cache.put(i, new byte[5]);
+		}
+
+		// 第9个对象写入第一个slab时，第一个slab中的0和1被淘汰
+		Assert.assertEquals(2, removeCount.get());
+		Assert.assertEquals(7, cache.size());
+		Assert.assertNull(cache.get(0));
+		Assert.assertNull(cache.get(1));
+		Assert.assertNotNull(cache.get(2));
+		Assert.assertTrue(cache.usedBytes() <= cache.byteCapacity());
+
+		// 超过slab大小的对象不缓存
+		cache.put(100, new byte[11]);
+		Assert.assertFalse(cache.containsKey(100));
+	}
+
+	@Test
+	public void lruEvictTest() {
+		final OffHeapCache<Integer> cache = new OffHeapCache<>(40, 10, 0, true);
+		for (int i = 0; i < 8; i++) {
+			cache.put(i, new byte[]{(byte) i, 0, 0, 0, 0});
+		}
+		// 访问0，0被移动到当前slab，不会随第一个slab淘汰
+		Assert.assertEquals(0, cache.get(0)[0]);
+		cache.put(8, new byte[5]);
+		cache.put(9, new byte[5]);
+
+		Assert.assertNotNull(cache.get(0));
+		Assert.assertEquals(0, cache.get(0)[0]);
+		Assert.assertNull(cache.get(1));
+	}
+}
@@ -18,6 +18,18 @@ public class CronConfig {
 	 * 是否支持秒匹配
 	 */
 	protected boolean matchSecond;
+	/**
+	 * 是否按照下次执行时间建立任务索引
+	 */
+	protected boolean nextFireTimeIndex;
+	/**
+	 * 任务重叠执行策略
+	 */
+	protected OverlapPolicy overlapPolicy = OverlapPolicy.ALLOW;
+	/**
+	 * 是否使用虚拟线程执行任务
+	 */
+	protected boolean useVirtualThread;
 
 	public CronConfig(){
 	}
@@ -61,4 +73,74 @@ public class CronConfig {
 		this.matchSecond = isMatchSecond;
 		return this;
 	}
+
+	/**
+	 * 是否按照下次执行时间建立任务索引
+	 *
+	 * @return {@code true}使用索引，{@code false}每次检查匹配所有任务
+	 * @since 5.8.22
+	 */
+	public boolean isNextFireTimeIndex() {
+		return this.nextFireTimeIndex;
+	}
+
+	/**
+	 * 设置是否按照下次执行时间建立任务索引，默认不使用<br>
+	 * 默认每次检查（每秒或每分）时匹配所有任务的表达式，任务数很多时开销较大；
+	 * 使用索引后，每个任务计算下次执行时间并放入优先队列，每次检查只处理到期的任务
+	 *
+	 * @param nextFireTimeIndex {@code true}使用索引，{@code false}每次检查匹配所有任务
+	 * @return this
+	 * @since 5.8.22
+	 */
+	public CronConfig setNextFireTimeIndex(boolean nextFireTimeIndex) {
+		this.nextFireTimeIndex = nextFireTimeIndex;
+		return this;
+	}
+
+	/**
+	 * 获取任务重叠执行策略
+	 *
+	 * @return {@link OverlapPolicy}
+	 * @since 5.8.22
+	 */
+	public OverlapPolicy getOverlapPolicy() {
+		return this.overlapPolicy;
+	}
+
+	/**
+	 * 设置任务重叠执行策略，即同一任务上次执行尚未结束时的处理方式，默认{@link OverlapPolicy#ALLOW}
+	 *
+	 * @param overlapPolicy {@link OverlapPolicy}，{@code null}表示{@link OverlapPolicy#ALLOW}
+	 * @return this
+	 * @since 5.8.22
+	 */
+	public CronConfig setOverlapPolicy(OverlapPolicy overlapPolicy) {
+		this.overlapPolicy = null == overlapPolicy ? OverlapPolicy.ALLOW : overlapPolicy;
+		return this;
+	}
+
+	/**
+	 * 是否使用虚拟线程执行任务
+	 *
+	 * @return 是否使用虚拟线程
+	 * @since 5.8.22
+	 */
+	public boolean isUseVirtualThread() {
+		return this.useVirtualThread;
+	}
+
+	/**
+	 * 设置是否使用虚拟线程执行任务，默认不使用<br>
+	 * 使用后每次执行创建一个虚拟线程，适用于大量IO密集型任务同时触发的场景，仅JDK21及以上版本有效，低版本使用默认线程池<br>
+	 * 虚拟线程始终为守护线程
+	 *
+	 * @param useVirtualThread 是否使用虚拟线程
+	 * @return this
+	 * @since 5.8.22
+	 */
+	public CronConfig setUseVirtualThread(boolean useVirtualThread) {
+		this.useVirtualThread = useVirtualThread;
+		return this;
+	}
 }
@@ -54,9 +54,18 @@ public class CronTimer extends Thread implements Serializable {
 				}
 				//执行点，时间记录为执行开始的时间，而非结束时间
 				thisTime = System.currentTimeMillis();
+				// 唤醒时间超过一个定时单位（如GC停顿），期间的检查点被跳过
+				this.scheduler.metrics.recordMisfire((thisTime - nextTime) / timerUnit);
+				this.scheduler.metrics.recordTick();
 				spawnLauncher(thisTime);
 			} else{
 				// 非正常时间重新计算（issue#1224@Github）
+				if (sleep <= 0) {
+					// 已过下一个检查点，从下一个检查点到当前的检查均被跳过
+					this.scheduler.metrics.recordMisfire(-sleep / timerUnit + 1);
+				} else {
+					this.scheduler.metrics.recordClockJump();
+				}
 				thisTime = System.currentTimeMillis();
 			}
 		}
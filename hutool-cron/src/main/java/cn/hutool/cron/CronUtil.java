@@ -61,6 +61,16 @@ public class CronUtil {
 		scheduler.setMatchSecond(isMatchSecond);
 	}
 
+	/**
+	 * 设置是否按照下次执行时间建立任务索引，任务数很多时使用，见{@link Scheduler#setNextFireTimeIndex(boolean)}
+	 *
+	 * @param nextFireTimeIndex {@code true}使用索引，{@code false}每次检查匹配所有任务
+	 * @since 5.8.22
+	 */
+	public static void setNextFireTimeIndex(boolean nextFireTimeIndex) {
+		scheduler.setNextFireTimeIndex(nextFireTimeIndex);
+	}
+
 	/**
 	 * 加入定时任务
 	 *
@@ -0,0 +1,170 @@
+package cn.hutool.cron;
+
+import cn.hutool.core.date.DateUnit;
+import cn.hutool.cron.pattern.CompiledCronPattern;
+import cn.hutool.cron.pattern.CronPattern;
+import cn.hutool.cron.task.CronTask;
+import cn.hutool.cron.task.Task;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TimeZone;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * 按照下次执行时间排序的任务索引<br>
+ * 每个任务使用{@link CompiledCronPattern#nextMatchAfter(TimeZone, long, boolean)}计算下次执行时间后放入优先队列，每次检查只取出已到期的任务：
+ * <ul>
+ *     <li>任务执行后从下一个时间单位开始重新计算下次执行时间</li>
+ *     <li>永远不会执行的任务（如2月30日）不放入队列</li>
+ *     <li>时间被向前调整（系统时间回拨）时重建索引，向后调整时错过的任务只执行一次</li>
+ * </ul>
+ * 此类非线程安全，由{@link TaskTable}的写锁保护。
+ *
+ * @author looly
+ * @since 5.8.22
+ */
+class FireTimeIndex {
+
+	private final TimeZone timezone;
+	private final boolean matchSecond;
+	/**
+	 * 检查的时间单位，秒或分的毫秒数
+	 */
+	private final long unit;
+
+	private final PriorityQueue<Entry> queue = new PriorityQueue<>(Comparator.comparingLong(entry -> entry.nextMillis));
+	private final Map<String, Entry> entries = new HashMap<>();
+	/**
+	 * 上次检查的时间单位起始点，-1表示尚未检查
+	 */
+	private long lastTick = -1;
+
+	/**
+	 * 构造
+	 *
+	 * @param timezone    时区
+	 * @param matchSecond 是否匹配秒
+	 */
+	FireTimeIndex(TimeZone timezone, boolean matchSecond) {
+		this.timezone = timezone;
+		this.matchSecond = matchSecond;
+		this.unit = matchSecond ? DateUnit.SECOND.getMillis() : DateUnit.MINUTE.getMillis();
+	}
+
+	/**
+	 * 索引是否使用给定的配置创建
+	 *
+	 * @param timezone    时区
+	 * @param matchSecond 是否匹配秒
+	 * @return 配置是否一致
+	 */
+	boolean isConfigOf(TimeZone timezone, boolean matchSecond) {
+		return this.matchSecond == matchSecond && this.timezone.equals(timezone);
+	}
+
+	/**
+	 * 加入任务，下次执行时间从上次检查的下一个时间单位开始计算
+	 *
+	 * @param id      ID
+	 * @param pattern {@link CronPattern}
+	 * @param task    {@link Task}
+	 */
+	void add(String id, CronPattern pattern, Task task) {
+		final Entry entry = new Entry(id, pattern, task);
+		entries.put(id, entry);
+		if (lastTick >= 0) {
+			schedule(entry, lastTick + unit);
+		}
+	}
+
+	/**
+	 * 移除任务，已在队列中的对象标记为取消，出队时丢弃
+	 *
+	 * @param id ID
+	 */
+	void remove(String id) {
+		final Entry entry = entries.remove(id);
+		if (null != entry) {
+			entry.cancelled = true;
+		}
+	}
+
+	/**
+	 * 执行到期的任务
+	 *
+	 * @param millis 当前时间
+	 * @param spawn  任务执行函数，参数为任务和计划执行时间
+	 */
+	void fireDue(long millis, ObjLongConsumer<CronTask> spawn) {
+		final long tick = millis / unit * unit;
+		if (lastTick < 0 || tick < lastTick) {
+			// 首次检查或时间回拨，从当前时间单位开始重建
+			rebuild(tick);
+		}
+
+		final long nextTick = tick + unit;
+		Entry entry;
+		while (null != (entry = queue.peek()) && entry.nextMillis < nextTick) {
+			queue.poll();
+			if (entry.cancelled) {
+				continue;
+			}
+			spawn.accept(entry.toCronTask(), entry.nextMillis);
+			schedule(entry, nextTick);
+		}
+		lastTick = tick;
+	}
+
+	/**
+	 * 从给定时间开始重建所有任务的下次执行时间
+	 *
+	 * @param fromMillis 开始时间
+	 */
+	private void rebuild(long fromMillis) {
+		queue.clear();
+		for (Entry entry : entries.values()) {
+			entry.cancelled = false;
+			schedule(entry, fromMillis);
+		}
+	}
+
+	/**
+	 * 计算任务在给定时间（包含）之后的下次执行时间并放入队列，永远不会执行的任务不放入队列
+	 *
+	 * @param entry      任务
+	 * @param fromMillis 开始时间
+	 */
+	private void schedule(Entry entry, long fromMillis) {
+		// 非秒匹配模式下，表达式的秒部分不参与匹配，执行时间为匹配的分钟
+		final long next = entry.pattern.compile().nextMatchAfter(timezone, fromMillis, matchSecond);
+		if (-1 == next) {
+			return;
+		}
+		entry.nextMillis = next;
+		queue.offer(entry);
+	}
+
+	/**
+	 * 索引中的任务
+	 */
+	private static class Entry {
+		private final String id;
+		private final CronPattern pattern;
+		private final Task task;
+		private long nextMillis;
+		private boolean cancelled;
+
+		Entry(String id, CronPattern pattern, Task task) {
+			this.id = id;
+			this.pattern = pattern;
+			this.task = task;
+		}
+
+		CronTask toCronTask() {
+			return new CronTask(id, pattern, task);
+		}
+	}
+}
@@ -0,0 +1,23 @@
+package cn.hutool.cron;
+
+/**
+ * 任务重叠执行策略，即同一任务到达执行时间时，上次执行尚未结束的处理方式
+ *
+ * @author looly
+ * @since 5.8.22
+ */
+public enum OverlapPolicy {
+
+	/**
+	 * 允许同一任务并发执行，每次到达执行时间都启动新的执行
+	 */
+	ALLOW,
+	/**
+	 * 上次执行尚未结束时，跳过本次执行
+	 */
+	SKIP,
+	/**
+	 * 上次执行尚未结束时，本次执行排队，待上次执行结束后依次执行，同一任务同一时间只有一个执行
+	 */
+	QUEUE
+}
@@ -5,6 +5,7 @@ import cn.hutool.core.thread.ExecutorBuilder;
 import cn.hutool.core.thread.ThreadFactoryBuilder;
 import cn.hutool.core.util.CharUtil;
 import cn.hutool.core.util.IdUtil;
+import cn.hutool.core.util.ReflectUtil;
 import cn.hutool.core.util.StrUtil;
 import cn.hutool.cron.listener.TaskListener;
 import cn.hutool.cron.listener.TaskListenerManager;
@@ -15,11 +16,18 @@ import cn.hutool.cron.task.Task;
 import cn.hutool.log.StaticLog;
 import cn.hutool.setting.Setting;
 
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
 import java.io.Serializable;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
 import java.util.LinkedHashMap;
 import java.util.Map.Entry;
 import java.util.TimeZone;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -76,6 +84,8 @@ public class Scheduler implements Serializable {
 	protected TaskListenerManager listenerManager = new TaskListenerManager();
 	/** 线程池，用于执行TaskLauncher和TaskExecutor */
 	protected ExecutorService threadExecutor;
+	/** 执行指标 */
+	protected SchedulerMetrics metrics = new SchedulerMetrics();
 
 	// --------------------------------------------------------- Getters and Setters start
 	/**
@@ -167,6 +177,71 @@ public class Scheduler implements Serializable {
 		return this;
 	}
 
+	/**
+	 * 是否按照下次执行时间建立任务索引
+	 *
+	 * @return {@code true}使用索引，{@code false}每次检查匹配所有任务
+	 * @since 5.8.22
+	 */
+	public boolean isNextFireTimeIndex() {
+		return this.config.isNextFireTimeIndex();
+	}
+
+	/**
+	 * 设置是否按照下次执行时间建立任务索引，默认不使用<br>
+	 * 任务数很多时使用索引，每次检查只处理到期的任务，而非匹配所有任务的表达式
+	 *
+	 * @param nextFireTimeIndex {@code true}使用索引，{@code false}每次检查匹配所有任务
+	 * @return this
+	 * @since 5.8.22
+	 */
+	public Scheduler setNextFireTimeIndex(boolean nextFireTimeIndex) {
+		this.config.setNextFireTimeIndex(nextFireTimeIndex);
+		return this;
+	}
+
+	/**
+	 * 获取任务重叠执行策略
+	 *
+	 * @return {@link OverlapPolicy}
+	 * @since 5.8.22
+	 */
+	public OverlapPolicy getOverlapPolicy() {
+		return this.config.getOverlapPolicy();
+	}
+
+	/**
+	 * 设置任务重叠执行策略，即同一任务上次执行尚未结束时跳过、排队或并发执行，默认并发执行
+	 *
+	 * @param overlapPolicy {@link OverlapPolicy}
+	 * @return this
+	 * @since 5.8.22
+	 */
+	public Scheduler setOverlapPolicy(OverlapPolicy overlapPolicy) {
+		this.config.setOverlapPolicy(overlapPolicy);
+		return this;
+	}
+
+	/**
+	 * 设置是否使用虚拟线程执行任务，仅JDK21及以上版本有效，低版本使用默认线程池<br>
+	 * 如果用户调用{@link #setThreadExecutor(ExecutorService)}自定义线程池则此参数无效
+	 *
+	 * @param useVirtualThread 是否使用虚拟线程
+	 * @return this
+	 * @throws CronException 定时任务已经启动抛出此异常
+	 * @since 5.8.22
+	 */
+	public Scheduler setUseVirtualThread(boolean useVirtualThread) throws CronException {
+		lock.lock();
+		try {
+			checkStarted();
+			this.config.setUseVirtualThread(useVirtualThread);
+		} finally {
+			lock.unlock();
+		}
+		return this;
+	}
+
 	/**
 	 * 增加监听器
 	 *
@@ -302,7 +377,11 @@ public class Scheduler implements Serializable {
 	 * @since 5.7.17
 	 */
 	public boolean descheduleWithStatus(String id) {
-		return this.taskTable.remove(id);
+		final boolean removed = this.taskTable.remove(id);
+		if (removed) {
+			this.metrics.remove(id);
+		}
+		return removed;
 	}
 
 	/**
@@ -409,6 +488,9 @@ public class Scheduler implements Serializable {
 		try {
 			checkStarted();
 
+			if (null == this.threadExecutor && this.config.useVirtualThread) {
+				this.threadExecutor = createVirtualThreadExecutor();
+			}
 			if(null == this.threadExecutor){
 				// 无界线程池，确保每一个需要执行的线程都可以及时运行，同时复用已有线程避免线程重复创建
 				this.threadExecutor = ExecutorBuilder.create().useSynchronousQueue().setThreadFactory(//
@@ -459,6 +541,9 @@ public class Scheduler implements Serializable {
 			this.timer.stopTimer();
 			this.timer = null;
 
+			// 停止启动排队的执行
+			this.taskExecutorManager.stop();
+
 			//停止线程池
 			this.threadExecutor.shutdown();
 			this.threadExecutor = null;
@@ -476,6 +561,83 @@ public class Scheduler implements Serializable {
 		return this;
 	}
 
+	/**
+	 * 创建每个任务一个虚拟线程的执行器，JDK21以下版本返回{@code null}
+	 *
+	 * @return {@link ExecutorService}或{@code null}
+	 */
+	private static ExecutorService createVirtualThreadExecutor() {
+		final Method method = ReflectUtil.getMethodByName(Executors.class, "newVirtualThreadPerTaskExecutor");
+		if (null == method) {
+			StaticLog.warn("Virtual thread is not supported by current JDK, use platform thread pool instead.");
+			return null;
+		}
+		return ReflectUtil.invokeStatic(method);
+	}
+
+	/**
+	 * 获取执行指标快照，包括定时器错过的检查次数、各个任务的执行延迟、耗时分布、重叠次数及线程池队列情况<br>
+	 * 可定期获取，通过错过的检查次数和最大延迟判断调度器是否已饱和
+	 *
+	 * @return {@link SchedulerStats}
+	 * @since 5.8.22
+	 */
+	public SchedulerStats stats() {
+		return this.metrics.snapshot(this);
+	}
+
+	/**
+	 * 将执行指标注册为JMX MBean，ObjectName为{@code cn.hutool.cron:type=Scheduler,name=调度器名}
+	 *
+	 * @param name 调度器名，同名MBean已存在时将被替换
+	 * @return 注册的ObjectName
+	 * @throws CronException 注册失败
+	 * @since 5.8.22
+	 */
+	public ObjectName registerMBean(String name) throws CronException {
+		final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			final ObjectName objectName = toObjectName(name);
+			if (server.isRegistered(objectName)) {
+				server.unregisterMBean(objectName);
+			}
+			server.registerMBean(new StandardMBean(new SchedulerStatsMXBeanImpl(this), SchedulerStatsMXBean.class, true), objectName);
+			return objectName;
+		} catch (JMException e) {
+			throw new CronException(e);
+		}
+	}
+
+	/**
+	 * 注销通过{@link #registerMBean(String)}注册的MBean，未注册时忽略
+	 *
+	 * @param name 调度器名
+	 * @throws CronException 注销失败
+	 * @since 5.8.22
+	 */
+	public void unregisterMBean(String name) throws CronException {
+		final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			final ObjectName objectName = toObjectName(name);
+			if (server.isRegistered(objectName)) {
+				server.unregisterMBean(objectName);
+			}
+		} catch (JMException e) {
+			throw new CronException(e);
+		}
+	}
+
+	/**
+	 * 调度器名转换为ObjectName
+	 *
+	 * @param name 调度器名
+	 * @return ObjectName
+	 * @throws JMException 名称不合法
+	 */
+	private static ObjectName toObjectName(String name) throws JMException {
+		return new ObjectName("cn.hutool.cron:type=Scheduler,name=" + ObjectName.quote(name));
+	}
+
 	/**
 	 * 检查定时任务是否已经启动
 	 *
@@ -486,4 +648,70 @@ public class Scheduler implements Serializable {
 			throw new CronException("Scheduler already started!");
 		}
 	}
+
+	/**
+	 * 调度器指标MBean实现，每次读取时获取最新的指标快照
+	 */
+	private static class SchedulerStatsMXBeanImpl implements SchedulerStatsMXBean {
+		private final Scheduler scheduler;
+
+		SchedulerStatsMXBeanImpl(Scheduler scheduler) {
+			this.scheduler = scheduler;
+		}
+
+		@Override
+		public int getTaskCount() {
+			return scheduler.size();
+		}
+
+		@Override
+		public long getTickCount() {
+			return scheduler.stats().tickCount();
+		}
+
+		@Override
+		public long getMisfireCount() {
+			return scheduler.stats().misfireCount();
+		}
+
+		@Override
+		public long getClockJumpCount() {
+			return scheduler.stats().clockJumpCount();
+		}
+
+		@Override
+		public int getRunningCount() {
+			return scheduler.stats().runningCount();
+		}
+
+		@Override
+		public int getQueueSize() {
+			return scheduler.stats().queueSize();
+		}
+
+		@Override
+		public int getActiveThreadCount() {
+			return scheduler.stats().activeThreadCount();
+		}
+
+		@Override
+		public long getRunCount() {
+			return scheduler.stats().runCount();
+		}
+
+		@Override
+		public long getFailureCount() {
+			return scheduler.stats().failureCount();
+		}
+
+		@Override
+		public long getOverlapCount() {
+			return scheduler.stats().overlapCount();
+		}
+
+		@Override
+		public long getMaxLag() {
+			return scheduler.stats().maxLag();
+		}
+	}
 }
@@ -0,0 +1,200 @@
+package cn.hutool.cron;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 调度器执行指标收集器，记录：
+ * <ul>
+ *     <li>定时器：检查次数、错过的检查次数（GC停顿或系统时间调整导致定时器未按时唤醒）、系统时间跳变次数</li>
+ *     <li>任务：执行次数、失败次数、重叠次数（到达执行时间时上次执行尚未结束）、延迟（实际开始时间与计划时间之差）、执行耗时分布</li>
+ * </ul>
+ * 计数使用{@link LongAdder}，记录时无锁竞争，通过{@link #snapshot(Scheduler)}获取快照。
+ *
+ * @author looly
+ * @since 5.8.22
+ */
+public class SchedulerMetrics implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final LongAdder tickCount = new LongAdder();
+	private final LongAdder misfireCount = new LongAdder();
+	private final LongAdder clockJumpCount = new LongAdder();
+	private final ConcurrentHashMap<String, TaskMetrics> taskMetrics = new ConcurrentHashMap<>();
+
+	/**
+	 * 记录一次定时器检查
+	 */
+	void recordTick() {
+		tickCount.increment();
+	}
+
+	/**
+	 * 记录错过的检查
+	 *
+	 * @param count 错过的检查次数
+	 */
+	void recordMisfire(long count) {
+		if (count > 0) {
+			misfireCount.add(count);
+		}
+	}
+
+	/**
+	 * 记录一次系统时间向前调整
+	 */
+	void recordClockJump() {
+		clockJumpCount.increment();
+	}
+
+	/**
+	 * 记录任务到达执行时间，上次执行尚未结束时记为一次重叠
+	 *
+	 * @param taskId 任务ID
+	 */
+	void recordFire(String taskId) {
+		final TaskMetrics metrics = getTaskMetrics(taskId);
+		if (metrics.active.get() > 0) {
+			metrics.overlapCount.increment();
+		}
+	}
+
+	/**
+	 * 记录任务执行已提交
+	 *
+	 * @param taskId 任务ID
+	 */
+	void recordSubmit(String taskId) {
+		getTaskMetrics(taskId).active.incrementAndGet();
+	}
+
+	/**
+	 * 记录任务执行提交失败，撤销{@link #recordSubmit(String)}
+	 *
+	 * @param taskId 任务ID
+	 */
+	void recordRejected(String taskId) {
+		getTaskMetrics(taskId).active.decrementAndGet();
+	}
+
+	/**
+	 * 记录任务开始执行
+	 *
+	 * @param taskId 任务ID
+	 * @param lag    实际开始时间与计划时间之差，单位毫秒
+	 */
+	void recordStart(String taskId, long lag) {
+		final TaskMetrics metrics = getTaskMetrics(taskId);
+		final long value = Math.max(0, lag);
+		metrics.startCount.increment();
+		metrics.totalLag.add(value);
+		metrics.maxLag.accumulate(value);
+	}
+
+	/**
+	 * 记录任务执行结束
+	 *
+	 * @param taskId    任务ID
+	 * @param duration  执行耗时，单位毫秒
+	 * @param isSuccess 是否成功
+	 */
+	void recordComplete(String taskId, long duration, boolean isSuccess) {
+		final TaskMetrics metrics = getTaskMetrics(taskId);
+		metrics.active.decrementAndGet();
+		metrics.runCount.increment();
+		if (false == isSuccess) {
+			metrics.failureCount.increment();
+		}
+		final long value = Math.max(0, duration);
+		metrics.totalDuration.add(value);
+		metrics.maxDuration.accumulate(value);
+		metrics.durationHistogram[TaskStats.bucketOf(value)].increment();
+	}
+
+	/**
+	 * 移除任务的指标，任务移除后调用
+	 *
+	 * @param taskId 任务ID
+	 */
+	void remove(String taskId) {
+		taskMetrics.remove(taskId);
+	}
+
+	/**
+	 * 获取当前指标的快照
+	 *
+	 * @param scheduler 调度器，用于获取正在执行的任务数和线程池状态
+	 * @return {@link SchedulerStats}
+	 */
+	public SchedulerStats snapshot(Scheduler scheduler) {
+		final Map<String, TaskStats> tasks = new LinkedHashMap<>(taskMetrics.size(), 1);
+		taskMetrics.forEach((id, metrics) -> tasks.put(id, metrics.snapshot()));
+
+		int runningCount = 0;
+		final TaskExecutorManager executorManager = scheduler.taskExecutorManager;
+		if (null != executorManager) {
+			runningCount = executorManager.getExecutors().size();
+		}
+		int queueSize = 0;
+		int activeThreadCount = 0;
+		final ExecutorService executor = scheduler.threadExecutor;
+		if (executor instanceof ThreadPoolExecutor) {
+			queueSize = ((ThreadPoolExecutor) executor).getQueue().size();
+			activeThreadCount = ((ThreadPoolExecutor) executor).getActiveCount();
+		}
+
+		return new SchedulerStats(tickCount.sum(), misfireCount.sum(), clockJumpCount.sum(),
+				runningCount, queueSize, activeThreadCount, tasks);
+	}
+
+	private TaskMetrics getTaskMetrics(String taskId) {
+		TaskMetrics metrics = taskMetrics.get(taskId);
+		if (null == metrics) {
+			metrics = taskMetrics.computeIfAbsent(taskId, id -> new TaskMetrics());
+		}
+		return metrics;
+	}
+
+	/**
+	 * 单个任务的指标
+	 */
+	private static class TaskMetrics implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * 已提交尚未结束的执行数
+		 */
+		private final AtomicInteger active = new AtomicInteger();
+		private final LongAdder startCount = new LongAdder();
+		private final LongAdder runCount = new LongAdder();
+		private final LongAdder failureCount = new LongAdder();
+		private final LongAdder overlapCount = new LongAdder();
+		private final LongAdder totalLag = new LongAdder();
+		private final LongAccumulator maxLag = new LongAccumulator(Math::max, 0);
+		private final LongAdder totalDuration = new LongAdder();
+		private final LongAccumulator maxDuration = new LongAccumulator(Math::max, 0);
+		private final LongAdder[] durationHistogram = new LongAdder[TaskStats.DURATION_BUCKETS.length + 1];
+
+		TaskMetrics() {
+			for (int i = 0; i < durationHistogram.length; i++) {
+				durationHistogram[i] = new LongAdder();
+			}
+		}
+
+		TaskStats snapshot() {
+			final long[] histogram = new long[durationHistogram.length];
+			for (int i = 0; i < histogram.length; i++) {
+				histogram[i] = durationHistogram[i].sum();
+			}
+			return new TaskStats(startCount.sum(), runCount.sum(), failureCount.sum(), overlapCount.sum(), active.get(),
+					totalLag.sum(), maxLag.get(), totalDuration.sum(), maxDuration.get(), histogram);
+		}
+	}
+}
@@ -0,0 +1,141 @@
+package cn.hutool.cron;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 调度器执行指标快照，数据为获取时的累计值<br>
+ * 错过的检查次数持续增长或最大延迟持续增大，说明调度器已饱和或定时器被阻塞，任务的实际执行时间正在偏移
+ *
+ * @author looly
+ * @since 5.8.22
+ */
+public class SchedulerStats implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final long tickCount;
+	private final long misfireCount;
+	private final long clockJumpCount;
+	private final int runningCount;
+	private final int queueSize;
+	private final int activeThreadCount;
+	private final Map<String, TaskStats> tasks;
+
+	/**
+	 * 构造
+	 *
+	 * @param tickCount         定时器检查次数
+	 * @param misfireCount      错过的检查次数
+	 * @param clockJumpCount    系统时间向前调整次数
+	 * @param runningCount      正在执行的执行器数
+	 * @param queueSize         线程池队列中等待的任务数
+	 * @param activeThreadCount 线程池中正在工作的线程数
+	 * @param tasks             各个任务的指标，key为任务ID
+	 */
+	public SchedulerStats(long tickCount, long misfireCount, long clockJumpCount,
+						  int runningCount, int queueSize, int activeThreadCount, Map<String, TaskStats> tasks) {
+		this.tickCount = tickCount;
+		this.misfireCount = misfireCount;
+		this.clockJumpCount = clockJumpCount;
+		this.runningCount = runningCount;
+		this.queueSize = queueSize;
+		this.activeThreadCount = activeThreadCount;
+		this.tasks = Collections.unmodifiableMap(tasks);
+	}
+
+	/**
+	 * @return 定时器检查次数
+	 */
+	public long tickCount() {
+		return tickCount;
+	}
+
+	/**
+	 * @return 错过的检查次数，即定时器因GC停顿、系统时间向后调整等原因未按时唤醒而跳过的检查
+	 */
+	public long misfireCount() {
+		return misfireCount;
+	}
+
+	/**
+	 * @return 系统时间向前调整（回拨）的次数
+	 */
+	public long clockJumpCount() {
+		return clockJumpCount;
+	}
+
+	/**
+	 * @return 正在执行的执行器数
+	 */
+	public int runningCount() {
+		return runningCount;
+	}
+
+	/**
+	 * @return 线程池队列中等待的任务数，非{@link java.util.concurrent.ThreadPoolExecutor}时为0
+	 */
+	public int queueSize() {
+		return queueSize;
+	}
+
+	/**
+	 * @return 线程池中正在工作的线程数，非{@link java.util.concurrent.ThreadPoolExecutor}时为0
+	 */
+	public int activeThreadCount() {
+		return activeThreadCount;
+	}
+
+	/**
+	 * @return 各个任务的指标，key为任务ID
+	 */
+	public Map<String, TaskStats> tasks() {
+		return tasks;
+	}
+
+	/**
+	 * 获取指定任务的指标
+	 *
+	 * @param id 任务ID
+	 * @return {@link TaskStats}，任务未执行过时返回{@code null}
+	 */
+	public TaskStats task(String id) {
+		return tasks.get(id);
+	}
+
+	/**
+	 * @return 所有任务的执行结束次数之和
+	 */
+	public long runCount() {
+		return tasks.values().stream().mapToLong(TaskStats::runCount).sum();
+	}
+
+	/**
+	 * @return 所有任务的执行失败次数之和
+	 */
+	public long failureCount() {
+		return tasks.values().stream().mapToLong(TaskStats::failureCount).sum();
+	}
+
+	/**
+	 * @return 所有任务的重叠次数之和
+	 */
+	public long overlapCount() {
+		return tasks.values().stream().mapToLong(TaskStats::overlapCount).sum();
+	}
+
+	/**
+	 * @return 所有任务的最大延迟，单位毫秒
+	 */
+	public long maxLag() {
+		return tasks.values().stream().mapToLong(TaskStats::maxLag).max().orElse(0);
+	}
+
+	@Override
+	public String toString() {
+		return "SchedulerStats [tickCount=" + tickCount + ", misfireCount=" + misfireCount
+				+ ", clockJumpCount=" + clockJumpCount + ", runningCount=" + runningCount
+				+ ", queueSize=" + queueSize + ", activeThreadCount=" + activeThreadCount
+				+ ", tasks=" + tasks + "]";
+	}
+}
@@ -0,0 +1,65 @@
+package cn.hutool.cron;
+
+/**
+ * 调度器执行指标的JMX接口，通过{@link Scheduler#registerMBean(String)}注册
+ *
+ * @author looly
+ * @since 5.8.22
+ */
+public interface SchedulerStatsMXBean {
+
+	/**
+	 * @return 任务数
+	 */
+	int getTaskCount();
+
+	/**
+	 * @return 定时器检查次数
+	 */
+	long getTickCount();
+
+	/**
+	 * @return 错过的检查次数
+	 */
+	long getMisfireCount();
+
+	/**
+	 * @return 系统时间向前调整次数
+	 */
+	long getClockJumpCount();
+
+	/**
+	 * @return 正在执行的执行器数
+	 */
+	int getRunningCount();
+
+	/**
+	 * @return 线程池队列中等待的任务数
+	 */
+	int getQueueSize();
+
+	/**
+	 * @return 线程池中正在工作的线程数
+	 */
+	int getActiveThreadCount();
+
+	/**
+	 * @return 所有任务的执行结束次数之和
+	 */
+	long getRunCount();
+
+	/**
+	 * @return 所有任务的执行失败次数之和
+	 */
+	long getFailureCount();
+
+	/**
+	 * @return 所有任务的重叠次数之和
+	 */
+	long getOverlapCount();
+
+	/**
+	 * @return 所有任务的最大延迟，单位毫秒
+	 */
+	long getMaxLag();
+}
@@ -14,6 +14,14 @@ public class TaskExecutor implements Runnable {
 
 	private final Scheduler scheduler;
 	private final CronTask task;
+	/**
+	 * 计划执行时间
+	 */
+	private final long scheduledMillis;
+	/**
+	 * 提交此执行器的管理器，调度器重启后仍通知原管理器
+	 */
+	TaskExecutorManager manager;
 
 	/**
 	 * 获得原始任务对象
@@ -41,20 +49,49 @@ public class TaskExecutor implements Runnable {
 	 * @param task 被执行的任务
 	 */
 	public TaskExecutor(Scheduler scheduler, CronTask task) {
+		this(scheduler, task, System.currentTimeMillis());
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param scheduler       调度器
+	 * @param task            被执行的任务
+	 * @param scheduledMillis 计划执行时间，用于统计执行延迟
+	 * @since 5.8.22
+	 */
+	public TaskExecutor(Scheduler scheduler, CronTask task, long scheduledMillis) {
 		this.scheduler = scheduler;
 		this.task = task;
+		this.scheduledMillis = scheduledMillis;
+	}
+
+	/**
+	 * 获取计划执行时间
+	 *
+	 * @return 计划执行时间毫秒数
+	 * @since 5.8.22
+	 */
+	public long getScheduledMillis() {
+		return this.scheduledMillis;
 	}
 
 	@Override
 	public void run() {
+		final String id = task.getId();
+		final long start = System.currentTimeMillis();
+		scheduler.metrics.recordStart(id, start - this.scheduledMillis);
+		boolean isSuccess = false;
 		try {
 			scheduler.listenerManager.notifyTaskStart(this);
 			task.execute();
+			isSuccess = true;
 			scheduler.listenerManager.notifyTaskSucceeded(this);
 		} catch (Exception e) {
 			scheduler.listenerManager.notifyTaskFailed(this, e);
 		} finally {
-			scheduler.taskExecutorManager.notifyExecutorCompleted(this);
+			scheduler.metrics.recordComplete(id, System.currentTimeMillis() - start, isSuccess);
+			(null != manager ? manager : scheduler.taskExecutorManager).notifyExecutorCompleted(this);
 		}
 	}
 }
@@ -2,11 +2,16 @@ package cn.hutool.cron;
 
 import cn.hutool.cron.task.CronTask;
 import cn.hutool.cron.task.Task;
+import cn.hutool.log.StaticLog;
 
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * 作业执行管理器<br>
@@ -15,6 +20,10 @@ import java.util.List;
  * <p>
  * 此类用于管理正在运行的作业情况，作业启动后加入任务列表，任务结束移除
  * </p>
+ * <p>
+ * 执行器列表使用无锁的并发集合，大量任务同时触发时不会在登记执行器上竞争；
+ * 当{@link OverlapPolicy}不为{@link OverlapPolicy#ALLOW}时，按任务ID记录执行和排队数，同一任务同一时间只有一个执行
+ * </p>
  *
  * @author Looly
  * @since 3.0.1
@@ -26,7 +35,15 @@ public class TaskExecutorManager implements Serializable {
 	/**
 	 * 执行器列表
 	 */
-	private final List<TaskExecutor> executors = new ArrayList<>();
+	private final Set<TaskExecutor> executors = ConcurrentHashMap.newKeySet();
+	/**
+	 * 任务ID和执行中及排队的执行数，仅在{@link OverlapPolicy}不为{@link OverlapPolicy#ALLOW}时使用
+	 */
+	private final ConcurrentHashMap<String, Integer> activeCounts = new ConcurrentHashMap<>();
+	/**
+	 * 调度器是否已停止，停止后不再启动排队的执行
+	 */
+	private volatile boolean stopped;
 
 	public TaskExecutorManager(Scheduler scheduler) {
 		this.scheduler = scheduler;
@@ -35,41 +52,110 @@ public class TaskExecutorManager implements Serializable {
 	/**
 	 * 获取所有正在执行的任务调度执行器
 	 *
-	 * @return 任务执行器列表
+	 * @return 任务执行器列表的快照
 	 * @since 4.6.7
 	 */
 	public List<TaskExecutor> getExecutors() {
-		return Collections.unmodifiableList(this.executors);
+		return Collections.unmodifiableList(new ArrayList<>(this.executors));
 	}
 
 	/**
-	 * 启动 执行器TaskExecutor，即启动作业
+	 * 启动 执行器TaskExecutor，即启动作业<br>
+	 * 根据{@link OverlapPolicy}，同一任务上次执行尚未结束时，本次执行可能被跳过或排队
 	 *
 	 * @param task {@link Task}
-	 * @return {@link TaskExecutor}
+	 * @return {@link TaskExecutor}，被跳过、排队或提交失败时返回{@code null}
 	 */
 	public TaskExecutor spawnExecutor(CronTask task) {
-		final TaskExecutor executor = new TaskExecutor(this.scheduler, task);
-		synchronized (this.executors) {
-			this.executors.add(executor);
+		return spawnExecutor(task, System.currentTimeMillis());
+	}
+
+	/**
+	 * 启动 执行器TaskExecutor，即启动作业<br>
+	 * 根据{@link OverlapPolicy}，同一任务上次执行尚未结束时，本次执行可能被跳过或排队
+	 *
+	 * @param task            {@link Task}
+	 * @param scheduledMillis 计划执行时间，用于统计执行延迟
+	 * @return {@link TaskExecutor}，被跳过、排队或提交失败时返回{@code null}
+	 * @since 5.8.22
+	 */
+	public TaskExecutor spawnExecutor(CronTask task, long scheduledMillis) {
+		this.scheduler.metrics.recordFire(task.getId());
+		switch (this.scheduler.config.overlapPolicy) {
+			case SKIP:
+				if (null != activeCounts.putIfAbsent(task.getId(), 1)) {
+					return null;
+				}
+				break;
+			case QUEUE:
+				if (activeCounts.merge(task.getId(), 1, Integer::sum) > 1) {
+					return null;
+				}
+				break;
+			default:
+				break;
 		}
-		// 子线程是否为deamon线程取决于父线程，因此此处无需显示调用
-		// executor.setDaemon(this.scheduler.daemon);
-//		executor.start();
-		this.scheduler.threadExecutor.execute(executor);
-		return executor;
+		return execute(task, scheduledMillis);
 	}
 
 	/**
-	 * 执行器执行完毕调用此方法，将执行器从执行器列表移除，此方法由{@link TaskExecutor}对象调用，用于通知管理器自身已完成执行
+	 * 执行器执行完毕调用此方法，将执行器从执行器列表移除，此方法由{@link TaskExecutor}对象调用，用于通知管理器自身已完成执行<br>
+	 * 同一任务有排队的执行时，启动下一个执行
 	 *
 	 * @param executor 执行器 {@link TaskExecutor}
 	 * @return this
 	 */
 	public TaskExecutorManager notifyExecutorCompleted(TaskExecutor executor) {
-		synchronized (executors) {
-			executors.remove(executor);
+		executors.remove(executor);
+		if (stopped) {
+			return this;
+		}
+		final CronTask task = executor.getCronTask();
+		// 策略可能在执行期间修改，因此无论当前策略如何，都检查计数
+		if (false == activeCounts.isEmpty()
+				&& null != activeCounts.computeIfPresent(task.getId(), (id, count) -> count > 1 ? count - 1 : null)) {
+			// 排队的执行以出队时间为计划执行时间，延迟只统计线程池中的等待
+			execute(task, System.currentTimeMillis());
 		}
 		return this;
 	}
+
+	/**
+	 * 调度器停止时调用，清除执行和排队计数，之后结束的执行不再启动排队的执行
+	 */
+	void stop() {
+		this.stopped = true;
+		this.activeCounts.clear();
+	}
+
+	/**
+	 * 创建执行器并提交到线程池<br>
+	 * 调度器已停止或线程池拒绝时，撤销此任务的执行和排队计数，避免任务被永久标记为执行中
+	 *
+	 * @param task            {@link CronTask}
+	 * @param scheduledMillis 计划执行时间
+	 * @return {@link TaskExecutor}，提交失败时返回{@code null}
+	 */
+	private TaskExecutor execute(CronTask task, long scheduledMillis) {
+		final TaskExecutor executor = new TaskExecutor(this.scheduler, task, scheduledMillis);
+		executor.manager = this;
+		this.executors.add(executor);
+		this.scheduler.metrics.recordSubmit(task.getId());
+		// 子线程是否为deamon线程取决于父线程，因此此处无需显示调用
+		// executor.setDaemon(this.scheduler.daemon);
+//		executor.start();
+		final ExecutorService threadExecutor = this.scheduler.threadExecutor;
+		try {
+			if (false == stopped && null != threadExecutor) {
+				threadExecutor.execute(executor);
+				return executor;
+			}
+		} catch (RejectedExecutionException e) {
+			StaticLog.warn("Task [{}] rejected by thread executor: {}", task.getId(), e.getMessage());
+		}
+		this.executors.remove(executor);
+		this.scheduler.metrics.recordRejected(task.getId());
+		this.activeCounts.remove(task.getId());
+		return null;
+	}
 }
@@ -0,0 +1,153 @@
+package cn.hutool.cron;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * 单个任务的执行指标快照，数据为获取时的累计值
+ *
+ * @author looly
+ * @since 5.8.22
+ */
+public class TaskStats implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 执行耗时分布的桶上限（包含），单位毫秒，超出最后一个上限的计入最后一个桶
+	 */
+	static final long[] DURATION_BUCKETS = {10, 100, 1000, 10_000, 60_000};
+
+	private final long startCount;
+	private final long runCount;
+	private final long failureCount;
+	private final long overlapCount;
+	private final int activeCount;
+	private final long totalLag;
+	private final long maxLag;
+	private final long totalDuration;
+	private final long maxDuration;
+	private final long[] durationHistogram;
+
+	/**
+	 * 构造
+	 *
+	 * @param startCount        开始执行次数
+	 * @param runCount          执行结束次数
+	 * @param failureCount      执行失败次数
+	 * @param overlapCount      重叠次数
+	 * @param activeCount       正在执行及排队的执行数
+	 * @param totalLag          总延迟，单位毫秒
+	 * @param maxLag            最大延迟，单位毫秒
+	 * @param totalDuration     总耗时，单位毫秒
+	 * @param maxDuration       最大耗时，单位毫秒
+	 * @param durationHistogram 耗时分布
+	 */
+	public TaskStats(long startCount, long runCount, long failureCount, long overlapCount, int activeCount,
+					 long totalLag, long maxLag, long totalDuration, long maxDuration, long[] durationHistogram) {
+		this.startCount = startCount;
+		this.runCount = runCount;
+		this.failureCount = failureCount;
+		this.overlapCount = overlapCount;
+		this.activeCount = activeCount;
+		this.totalLag = totalLag;
+		this.maxLag = maxLag;
+		this.totalDuration = totalDuration;
+		this.maxDuration = maxDuration;
+		this.durationHistogram = durationHistogram;
+	}
+
+	/**
+	 * @return 开始执行次数
+	 */
+	public long startCount() {
+		return startCount;
+	}
+
+	/**
+	 * @return 执行结束次数，包括失败的执行
+	 */
+	public long runCount() {
+		return runCount;
+	}
+
+	/**
+	 * @return 执行失败次数
+	 */
+	public long failureCount() {
+		return failureCount;
+	}
+
+	/**
+	 * @return 重叠次数，即到达执行时间时上次执行尚未结束的次数，无论本次执行是否被跳过或排队
+	 */
+	public long overlapCount() {
+		return overlapCount;
+	}
+
+	/**
+	 * @return 正在执行及排队的执行数
+	 */
+	public int activeCount() {
+		return activeCount;
+	}
+
+	/**
+	 * @return 平均延迟，即实际开始时间与计划时间之差，单位毫秒
+	 */
+	public double averageLag() {
+		return 0 == startCount ? 0.0 : (double) totalLag / startCount;
+	}
+
+	/**
+	 * @return 最大延迟，单位毫秒
+	 */
+	public long maxLag() {
+		return maxLag;
+	}
+
+	/**
+	 * @return 平均执行耗时，单位毫秒
+	 */
+	public double averageDuration() {
+		return 0 == runCount ? 0.0 : (double) totalDuration / runCount;
+	}
+
+	/**
+	 * @return 最大执行耗时，单位毫秒
+	 */
+	public long maxDuration() {
+		return maxDuration;
+	}
+
+	/**
+	 * 获取执行耗时分布，各个桶的上限（包含）依次为：10ms、100ms、1s、10s、60s，最后一个桶为超过60s的执行
+	 *
+	 * @return 各个桶的执行次数
+	 */
+	public long[] durationHistogram() {
+		return durationHistogram.clone();
+	}
+
+	/**
+	 * 获取耗时所在的桶
+	 *
+	 * @param duration 耗时，单位毫秒
+	 * @return 桶序号
+	 */
+	static int bucketOf(long duration) {
+		for (int i = 0; i < DURATION_BUCKETS.length; i++) {
+			if (duration <= DURATION_BUCKETS[i]) {
+				return i;
+			}
+		}
+		return DURATION_BUCKETS.length;
+	}
+
+	@Override
+	public String toString() {
+		return "TaskStats [runCount=" + runCount + ", failureCount=" + failureCount
+				+ ", overlapCount=" + overlapCount + ", activeCount=" + activeCount
+				+ ", maxLag=" + maxLag + ", maxDuration=" + maxDuration
+				+ ", durationHistogram=" + Arrays.toString(durationHistogram) + "]";
+	}
+}
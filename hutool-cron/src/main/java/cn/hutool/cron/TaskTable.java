@@ -1,5 +1,6 @@
 package cn.hutool.cron;
 
+import cn.hutool.core.date.DateUnit;
 import cn.hutool.core.util.StrUtil;
 import cn.hutool.cron.pattern.CronPattern;
 import cn.hutool.cron.task.CronTask;
@@ -16,7 +17,8 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 /**
  * 定时任务表<br>
  * 任务表将ID、表达式、任务一一对应，定时任务执行过程中，会周期性检查定时任务表中的所有任务表达式匹配情况，从而执行其对应的任务<br>
- * 任务的添加、移除使用读写锁保证线程安全性
+ * 任务的添加、移除使用读写锁保证线程安全性<br>
+ * 开启{@link CronConfig#setNextFireTimeIndex(boolean)}后，任务按照下次执行时间建立索引，每次检查只处理到期的任务
  *
  * @author Looly
  */
@@ -31,6 +33,10 @@ public class TaskTable implements Serializable {
 	private final List<CronPattern> patterns;
 	private final List<Task> tasks;
 	private int size;
+	/**
+	 * 按照下次执行时间排序的任务索引，首次按照下次执行时间检查时创建
+	 */
+	private transient FireTimeIndex fireTimeIndex;
 
 	/**
 	 * 构造
@@ -71,6 +77,9 @@ public class TaskTable implements Serializable {
 			patterns.add(pattern);
 			tasks.add(task);
 			size++;
+			if (null != fireTimeIndex) {
+				fireTimeIndex.add(id, pattern, task);
+			}
 		} finally {
 			writeLock.unlock();
 		}
@@ -143,6 +152,9 @@ public class TaskTable implements Serializable {
 			patterns.remove(index);
 			ids.remove(index);
 			size--;
+			if (null != fireTimeIndex) {
+				fireTimeIndex.remove(id);
+			}
 		} finally {
 			writeLock.unlock();
 		}
@@ -164,6 +176,10 @@ public class TaskTable implements Serializable {
 			final int index = ids.indexOf(id);
 			if (index > -1) {
 				patterns.set(index, pattern);
+				if (null != fireTimeIndex) {
+					fireTimeIndex.remove(id);
+					fireTimeIndex.add(id, pattern, tasks.get(index));
+				}
 				return true;
 			}
 		} finally {
@@ -263,6 +279,10 @@ public class TaskTable implements Serializable {
 	 * @param millis 时间毫秒
 	 */
 	public void executeTaskIfMatch(Scheduler scheduler, long millis) {
+		if (scheduler.config.nextFireTimeIndex) {
+			executeDueTask(scheduler, millis);
+			return;
+		}
 		final Lock readLock = lock.readLock();
 		readLock.lock();
 		try {
@@ -272,6 +292,31 @@ public class TaskTable implements Serializable {
 		}
 	}
 
+	/**
+	 * 执行下次执行时间已到的Task，带写锁<br>
+	 * 索引不存在或调度器的时区、秒匹配配置变更时重建索引
+	 *
+	 * @param scheduler {@link Scheduler}
+	 * @param millis    时间毫秒
+	 * @since 5.8.22
+	 */
+	public void executeDueTask(Scheduler scheduler, long millis) {
+		final CronConfig config = scheduler.config;
+		final Lock writeLock = lock.writeLock();
+		writeLock.lock();
+		try {
+			if (null == fireTimeIndex || false == fireTimeIndex.isConfigOf(config.timezone, config.matchSecond)) {
+				fireTimeIndex = new FireTimeIndex(config.timezone, config.matchSecond);
+				for (int i = 0; i < size; i++) {
+					fireTimeIndex.add(ids.get(i), patterns.get(i), tasks.get(i));
+				}
+			}
+			fireTimeIndex.fireDue(millis, scheduler.taskExecutorManager::spawnExecutor);
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
 	@Override
 	public String toString() {
 		final StringBuilder builder = StrUtil.builder();
@@ -290,9 +335,12 @@ public class TaskTable implements Serializable {
 	 * @since 3.1.1
 	 */
 	protected void executeTaskIfMatchInternal(Scheduler scheduler, long millis) {
+		// 计划执行时间为检查时间所在秒（或分）的起始时间
+		final long unit = scheduler.config.matchSecond ? DateUnit.SECOND.getMillis() : DateUnit.MINUTE.getMillis();
+		final long scheduledMillis = millis / unit * unit;
 		for (int i = 0; i < size; i++) {
 			if (patterns.get(i).match(scheduler.config.timezone, millis, scheduler.config.matchSecond)) {
-				scheduler.taskExecutorManager.spawnExecutor(new CronTask(ids.get(i), patterns.get(i), tasks.get(i)));
+				scheduler.taskExecutorManager.spawnExecutor(new CronTask(ids.get(i), patterns.get(i), tasks.get(i)), scheduledMillis);
 			}
 		}
 	}
@@ -0,0 +1,613 @@
+package cn.hutool.cron.pattern;
+
+import cn.hutool.cron.pattern.matcher.AlwaysTrueMatcher;
+import cn.hutool.cron.pattern.matcher.PartMatcher;
+import cn.hutool.cron.pattern.matcher.PatternMatcher;
+
+import java.time.Year;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * 预编译的定时任务表达式<br>
+ * 将{@link CronPattern}中每个部分的匹配器编译为位掩码，匹配和计算下次（上次）执行时间时：
+ * <ul>
+ *     <li>直接从毫秒数和时区偏移计算年月日时分秒，不创建{@link java.util.Calendar}等对象</li>
+ *     <li>每个部分使用位运算查找下一个（上一个）匹配值，逐级进位，无需按秒或分逐步尝试</li>
+ *     <li>日和周合并为当月可匹配日的掩码，永远不会匹配的表达式（如2月30日）在有限步内返回</li>
+ * </ul>
+ * 夏令时切换导致不存在的本地时间被跳过，重复的本地时间取满足条件的最早（最晚）一个。<br>
+ * 此对象不可变，线程安全。
+ *
+ * @author looly
+ * @since 5.8.22
+ */
+public final class CompiledCronPattern {
+
+	/**
+	 * 无匹配时返回的值，所有匹配结果都是整秒，因此不会与此值冲突
+	 */
+	private static final long NONE = -1;
+	private static final long DAY_SECONDS = 86400;
+	private static final long DAY_MILLIS = DAY_SECONDS * 1000;
+	/**
+	 * 不限年份的表达式，日历（包括周）每400年循环一次，超出此范围仍无匹配则永远不会匹配
+	 */
+	private static final int YEAR_CYCLE = 400;
+
+	private final CompiledMatcher[] matchers;
+
+	/**
+	 * 编译表达式
+	 *
+	 * @param pattern 表达式
+	 * @return CompiledCronPattern
+	 */
+	public static CompiledCronPattern of(String pattern) {
+		return of(new CronPattern(pattern));
+	}
+
+	/**
+	 * 获取表达式编译后的对象
+	 *
+	 * @param pattern {@link CronPattern}
+	 * @return CompiledCronPattern
+	 */
+	public static CompiledCronPattern of(CronPattern pattern) {
+		return pattern.compile();
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param patternMatchers 表达式解析后的匹配器列表
+	 */
+	CompiledCronPattern(List<PatternMatcher> patternMatchers) {
+		this.matchers = new CompiledMatcher[patternMatchers.size()];
+		for (int i = 0; i < matchers.length; i++) {
+			this.matchers[i] = new CompiledMatcher(patternMatchers.get(i));
+		}
+	}
+
+	/**
+	 * 给定时间是否匹配定时任务表达式
+	 *
+	 * @param timezone      时区
+	 * @param millis        时间毫秒数
+	 * @param isMatchSecond 是否匹配秒
+	 * @return 如果匹配返回 {@code true}, 否则返回 {@code false}
+	 */
+	public boolean match(TimeZone timezone, long millis, boolean isMatchSecond) {
+		final long local = Math.floorDiv(millis + timezone.getOffset(millis), 1000);
+		final long epochDay = Math.floorDiv(local, DAY_SECONDS);
+		final int secondOfDay = (int) (local - epochDay * DAY_SECONDS);
+		final int date = toDate(epochDay);
+		final int year = date >> 9;
+		final int month = (date >> 5) & 0xF;
+		final int day = date & 0x1F;
+		final int hour = secondOfDay / 3600;
+		final int minute = secondOfDay / 60 % 60;
+		final int second = isMatchSecond ? secondOfDay % 60 : -1;
+
+		for (CompiledMatcher matcher : matchers) {
+			if (matcher.match(second, minute, hour, day, month, year)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 获取给定时间（包含）之后第一个匹配的时间<br>
+	 * 给定时间按照秒（或分）截断后参与计算，即给定时间所在的秒（或分）匹配时返回这一秒（或分）的起始时间
+	 *
+	 * @param timezone      时区
+	 * @param millis        开始时间毫秒数
+	 * @param isMatchSecond 是否匹配秒，{@code false}时结果为匹配分钟的起始时间
+	 * @return 匹配的时间毫秒数，永远不会匹配时返回-1
+	 */
+	public long nextMatchAfter(TimeZone timezone, long millis, boolean isMatchSecond) {
+		final long unit = isMatchSecond ? 1 : 60;
+		long local = Math.floorDiv(Math.floorDiv(millis + timezone.getOffset(millis), 1000), unit) * unit;
+		while (true) {
+			long next = NONE;
+			long candidate;
+			for (CompiledMatcher matcher : matchers) {
+				candidate = matcher.next(local, isMatchSecond);
+				if (NONE != candidate && (NONE == next || candidate < next)) {
+					next = candidate;
+				}
+			}
+			if (NONE == next) {
+				return NONE;
+			}
+
+			final long result = toEpochMillis(timezone, next * 1000, millis - unit * 1000 + 1, true);
+			if (NONE != result) {
+				return result;
+			}
+			// 夏令时切换导致此本地时间不存在，继续查找
+			local = next + unit;
+		}
+	}
+
+	/**
+	 * 获取给定时间（包含）之前最后一个匹配的时间<br>
+	 * 给定时间按照秒（或分）截断后参与计算，即给定时间所在的秒（或分）匹配时返回这一秒（或分）的起始时间
+	 *
+	 * @param timezone      时区
+	 * @param millis        开始时间毫秒数
+	 * @param isMatchSecond 是否匹配秒，{@code false}时结果为匹配分钟的起始时间
+	 * @return 匹配的时间毫秒数，不存在时返回-1
+	 */
+	public long previousMatchBefore(TimeZone timezone, long millis, boolean isMatchSecond) {
+		final long unit = isMatchSecond ? 1 : 60;
+		long local = Math.floorDiv(Math.floorDiv(millis + timezone.getOffset(millis), 1000), unit) * unit;
+		while (true) {
+			long previous = NONE;
+			long candidate;
+			for (CompiledMatcher matcher : matchers) {
+				candidate = matcher.previous(local, isMatchSecond);
+				if (NONE != candidate && (NONE == previous || candidate > previous)) {
+					previous = candidate;
+				}
+			}
+			if (NONE == previous) {
+				return NONE;
+			}
+
+			final long result = toEpochMillis(timezone, previous * 1000, millis, false);
+			if (NONE != result) {
+				return result;
+			}
+			// 夏令时切换导致此本地时间不存在，继续查找
+			local = previous - unit;
+		}
+	}
+
+	/**
+	 * 本地时间转换为毫秒数<br>
+	 * 本地时间前后一天的时区偏移即切换前后的偏移，分别尝试；
+	 * 两者都有效时（夏令时结束时的重复时间），按照查找方向取满足边界条件的最早或最晚时间
+	 *
+	 * @param timezone    时区
+	 * @param localMillis 本地时间毫秒数
+	 * @param bound       边界，向后查找时结果不小于此值，向前查找时结果不大于此值
+	 * @param isNext      是否向后查找
+	 * @return 毫秒数，本地时间不存在或不满足边界条件时返回-1
+	 */
+	private static long toEpochMillis(TimeZone timezone, long localMillis, long bound, boolean isNext) {
+		final long before = localMillis - timezone.getOffset(localMillis - DAY_MILLIS);
+		final long after = localMillis - timezone.getOffset(localMillis + DAY_MILLIS);
+		final boolean beforeValid = before + timezone.getOffset(before) == localMillis
+				&& (isNext ? before >= bound : before <= bound);
+		final boolean afterValid = after + timezone.getOffset(after) == localMillis
+				&& (isNext ? after >= bound : after <= bound);
+		if (beforeValid && afterValid) {
+			return isNext ? Math.min(before, after) : Math.max(before, after);
+		}
+		if (beforeValid) {
+			return before;
+		}
+		return afterValid ? after : NONE;
+	}
+
+	// region ----- date utils
+
+	/**
+	 * 从1970-01-01起的天数转换为日期，算法见：<a href="http://howardhinnant.github.io/date_algorithms.html">date_algorithms</a>
+	 *
+	 * @param epochDay 天数
+	 * @return 日期，按位存储：年（高位），月（4位），日（5位）
+	 */
+	private static int toDate(long epochDay) {
+		final long z = epochDay + 719468;
+		final long era = Math.floorDiv(z, 146097);
+		final int dayOfEra = (int) (z - era * 146097);
+		final int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+		final int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+		final int mp = (5 * dayOfYear + 2) / 153;
+		final int day = dayOfYear - (153 * mp + 2) / 5 + 1;
+		final int month = mp < 10 ? mp + 3 : mp - 9;
+		final int year = (int) (yearOfEra + era * 400) + (month <= 2 ? 1 : 0);
+		return (year << 9) | (month << 5) | day;
+	}
+
+	/**
+	 * 日期转换为从1970-01-01起的天数
+	 *
+	 * @param year  年
+	 * @param month 月，从1开始
+	 * @param day   日
+	 * @return 天数
+	 */
+	private static long toEpochDay(int year, int month, int day) {
+		final int y = month <= 2 ? year - 1 : year;
+		final long era = Math.floorDiv(y, 400);
+		final int yearOfEra = (int) (y - era * 400);
+		final int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+		final int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+		return era * 146097 + dayOfEra - 719468;
+	}
+
+	/**
+	 * 获取某月的天数
+	 *
+	 * @param year  年
+	 * @param month 月，从1开始
+	 * @return 天数
+	 */
+	private static int lengthOfMonth(int year, int month) {
+		if (2 == month) {
+			return Year.isLeap(year) ? 29 : 28;
+		}
+		return (4 == month || 6 == month || 9 == month || 11 == month) ? 30 : 31;
+	}
+
+	/**
+	 * 获取不小于给定位置的第一个为1的位
+	 *
+	 * @param mask 位掩码
+	 * @param from 开始位置（包含）
+	 * @return 位置，不存在返回-1
+	 */
+	private static int nextBit(long mask, int from) {
+		if (from >= Long.SIZE) {
+			return -1;
+		}
+		final long masked = mask & (-1L << Math.max(from, 0));
+		return 0 == masked ? -1 : Long.numberOfTrailingZeros(masked);
+	}
+
+	/**
+	 * 获取不大于给定位置的最后一个为1的位
+	 *
+	 * @param mask 位掩码
+	 * @param from 开始位置（包含）
+	 * @return 位置，不存在返回-1
+	 */
+	private static int previousBit(long mask, int from) {
+		if (from < 0) {
+			return -1;
+		}
+		final long masked = from >= Long.SIZE - 1 ? mask : mask & ((1L << (from + 1)) - 1);
+		return 0 == masked ? -1 : Long.SIZE - 1 - Long.numberOfLeadingZeros(masked);
+	}
+	// endregion
+
+	/**
+	 * 单一表达式编译后的匹配器，每个部分对应一个位掩码，第n位为1表示值n匹配
+	 */
+	private static class CompiledMatcher {
+		private final long seconds;
+		private final long minutes;
+		private final long hours;
+		private final long days;
+		private final long months;
+		/**
+		 * 年掩码，第n位表示{@link Part#YEAR}的最小值+n，{@code null}表示匹配所有年
+		 */
+		private final long[] years;
+		/**
+		 * 按每月1日是周几（0表示周日）索引的、周部分匹配的日掩码
+		 */
+		private final long[] daysOfWeek;
+		/**
+		 * 日部分是否包含31，即匹配每月最后一天
+		 */
+		private final boolean lastDay;
+
+		CompiledMatcher(PatternMatcher matcher) {
+			this.seconds = toMask(matcher.get(Part.SECOND), Part.SECOND);
+			this.minutes = toMask(matcher.get(Part.MINUTE), Part.MINUTE);
+			this.hours = toMask(matcher.get(Part.HOUR), Part.HOUR);
+			this.days = toMask(matcher.get(Part.DAY_OF_MONTH), Part.DAY_OF_MONTH);
+			this.months = toMask(matcher.get(Part.MONTH), Part.MONTH);
+			this.lastDay = 0 != (days & (1L << Part.DAY_OF_MONTH.getMax()));
+
+			final long weeks = toMask(matcher.get(Part.DAY_OF_WEEK), Part.DAY_OF_WEEK);
+			this.daysOfWeek = new long[7];
+			for (int firstDayOfWeek = 0; firstDayOfWeek < 7; firstDayOfWeek++) {
+				long mask = 0;
+				for (int day = 1; day <= Part.DAY_OF_MONTH.getMax(); day++) {
+					if (0 != (weeks & (1L << ((firstDayOfWeek + day - 1) % 7)))) {
+						mask |= 1L << day;
+					}
+				}
+				this.daysOfWeek[firstDayOfWeek] = mask;
+			}
+
+			final PartMatcher yearMatcher = matcher.get(Part.YEAR);
+			if (yearMatcher instanceof AlwaysTrueMatcher) {
+				this.years = null;
+			} else {
+				final int min = Part.YEAR.getMin();
+				this.years = new long[(Part.YEAR.getMax() - min) / Long.SIZE + 1];
+				for (int year = min; year <= Part.YEAR.getMax(); year++) {
+					if (yearMatcher.match(year)) {
+						this.years[(year - min) / Long.SIZE] |= 1L << ((year - min) % Long.SIZE);
+					}
+				}
+			}
+		}
+
+		/**
+		 * 是否匹配
+		 *
+		 * @param second 秒，-1表示不匹配秒
+		 * @param minute 分
+		 * @param hour   时
+		 * @param day    日
+		 * @param month  月，从1开始
+		 * @param year   年
+		 * @return 是否匹配
+		 */
+		boolean match(int second, int minute, int hour, int day, int month, int year) {
+			return (second < 0 || 0 != (seconds & (1L << second)))
+					&& 0 != (minutes & (1L << minute))
+					&& 0 != (hours & (1L << hour))
+					&& 0 != (months & (1L << month))
+					&& nextYear(year) == year
+					&& 0 != (daysOf(year, month) & (1L << day));
+		}
+
+		/**
+		 * 获取给定本地时间（包含）之后第一个匹配的本地时间，从高位部分开始查找，某部分无匹配时上一部分进位，下级部分置为最小值
+		 *
+		 * @param local         本地时间秒数
+		 * @param isMatchSecond 是否匹配秒
+		 * @return 本地时间秒数，无匹配返回-1
+		 */
+		long next(long local, boolean isMatchSecond) {
+			final long epochDay = Math.floorDiv(local, DAY_SECONDS);
+			final int secondOfDay = (int) (local - epochDay * DAY_SECONDS);
+			final int date = toDate(epochDay);
+			int year = date >> 9;
+			int month = (date >> 5) & 0xF;
+			int day = date & 0x1F;
+			int hour = secondOfDay / 3600;
+			int minute = secondOfDay / 60 % 60;
+			int second = isMatchSecond ? secondOfDay % 60 : 0;
+
+			final int maxYear = null == years ? year + YEAR_CYCLE : Part.YEAR.getMax();
+			int value;
+			while (year <= maxYear) {
+				value = nextYear(year);
+				if (value < 0) {
+					return NONE;
+				} else if (value != year) {
+					year = value;
+					month = 1;
+					day = 1;
+					hour = minute = second = 0;
+				}
+
+				value = nextBit(months, month);
+				if (value < 0) {
+					year++;
+					month = 1;
+					day = 1;
+					hour = minute = second = 0;
+					continue;
+				} else if (value != month) {
+					month = value;
+					day = 1;
+					hour = minute = second = 0;
+				}
+
+				value = nextBit(daysOf(year, month), day);
+				if (value < 0) {
+					month++;
+					day = 1;
+					hour = minute = second = 0;
+					continue;
+				} else if (value != day) {
+					day = value;
+					hour = minute = second = 0;
+				}
+
+				value = nextBit(hours, hour);
+				if (value < 0) {
+					day++;
+					hour = minute = second = 0;
+					continue;
+				} else if (value != hour) {
+					hour = value;
+					minute = second = 0;
+				}
+
+				value = nextBit(minutes, minute);
+				if (value < 0) {
+					hour++;
+					minute = second = 0;
+					continue;
+				} else if (value != minute) {
+					minute = value;
+					second = 0;
+				}
+
+				if (isMatchSecond) {
+					value = nextBit(seconds, second);
+					if (value < 0) {
+						minute++;
+						second = 0;
+						continue;
+					}
+					second = value;
+				}
+				return toEpochDay(year, month, day) * DAY_SECONDS + hour * 3600 + minute * 60 + second;
+			}
+			return NONE;
+		}
+
+		/**
+		 * 获取给定本地时间（包含）之前最后一个匹配的本地时间，从高位部分开始查找，某部分无匹配时上一部分借位，下级部分置为最大值
+		 *
+		 * @param local         本地时间秒数
+		 * @param isMatchSecond 是否匹配秒
+		 * @return 本地时间秒数，无匹配返回-1
+		 */
+		long previous(long local, boolean isMatchSecond) {
+			final long epochDay = Math.floorDiv(local, DAY_SECONDS);
+			final int secondOfDay = (int) (local - epochDay * DAY_SECONDS);
+			final int date = toDate(epochDay);
+			int year = date >> 9;
+			int month = (date >> 5) & 0xF;
+			int day = date & 0x1F;
+			int hour = secondOfDay / 3600;
+			int minute = secondOfDay / 60 % 60;
+			int second = isMatchSecond ? secondOfDay % 60 : 0;
+
+			final int minYear = null == years ? year - YEAR_CYCLE : Part.YEAR.getMin();
+			int value;
+			while (year >= minYear) {
+				value = previousYear(year);
+				if (value < 0) {
+					return NONE;
+				} else if (value != year) {
+					year = value;
+					month = 12;
+					day = 31;
+					hour = 23;
+					minute = second = 59;
+				}
+
+				value = previousBit(months, month);
+				if (value < 0) {
+					year--;
+					month = 12;
+					day = 31;
+					hour = 23;
+					minute = second = 59;
+					continue;
+				} else if (value != month) {
+					month = value;
+					day = 31;
+					hour = 23;
+					minute = second = 59;
+				}
+
+				value = previousBit(daysOf(year, month), day);
+				if (value < 0) {
+					month--;
+					day = 31;
+					hour = 23;
+					minute = second = 59;
+					continue;
+				} else if (value != day) {
+					day = value;
+					hour = 23;
+					minute = second = 59;
+				}
+
+				value = previousBit(hours, hour);
+				if (value < 0) {
+					day--;
+					hour = 23;
+					minute = second = 59;
+					continue;
+				} else if (value != hour) {
+					hour = value;
+					minute = second = 59;
+				}
+
+				value = previousBit(minutes, minute);
+				if (value < 0) {
+					hour--;
+					minute = second = 59;
+					continue;
+				} else if (value != minute) {
+					minute = value;
+					second = 59;
+				}
+
+				if (isMatchSecond) {
+					value = previousBit(seconds, second);
+					if (value < 0) {
+						minute--;
+						second = 59;
+						continue;
+					}
+					second = value;
+				} else {
+					second = 0;
+				}
+				return toEpochDay(year, month, day) * DAY_SECONDS + hour * 3600 + minute * 60 + second;
+			}
+			return NONE;
+		}
+
+		/**
+		 * 获取某年某月可匹配的日掩码，即同时满足日部分和周部分的日
+		 *
+		 * @param year  年
+		 * @param month 月，从1开始
+		 * @return 日掩码
+		 */
+		private long daysOf(int year, int month) {
+			final int length = lengthOfMonth(year, month);
+			long mask = this.days;
+			if (lastDay) {
+				mask |= 1L << length;
+			}
+			// 1970-01-01为周四
+			final int firstDayOfWeek = (int) Math.floorMod(toEpochDay(year, month, 1) + 4, 7);
+			return mask & daysOfWeek[firstDayOfWeek] & ((1L << (length + 1)) - 2);
+		}
+
+		/**
+		 * 获取不小于给定年份的第一个匹配年份
+		 *
+		 * @param year 年
+		 * @return 年，不存在返回-1
+		 */
+		private int nextYear(int year) {
+			if (null == years) {
+				return year;
+			}
+			final int min = Part.YEAR.getMin();
+			for (int i = Math.max(year - min, 0); i <= Part.YEAR.getMax() - min; i++) {
+				if (0 != (years[i / Long.SIZE] & (1L << (i % Long.SIZE)))) {
+					return min + i;
+				}
+			}
+			return -1;
+		}
+
+		/**
+		 * 获取不大于给定年份的最后一个匹配年份
+		 *
+		 * @param year 年
+		 * @return 年，不存在返回-1
+		 */
+		private int previousYear(int year) {
+			if (null == years) {
+				return year;
+			}
+			final int min = Part.YEAR.getMin();
+			for (int i = Math.min(year, Part.YEAR.getMax()) - min; i >= 0; i--) {
+				if (0 != (years[i / Long.SIZE] & (1L << (i % Long.SIZE)))) {
+					return min + i;
+				}
+			}
+			return -1;
+		}
+
+		/**
+		 * 将部分匹配器转换为位掩码
+		 *
+		 * @param matcher {@link PartMatcher}
+		 * @param part    表达式部分
+		 * @return 位掩码
+		 */
+		private static long toMask(PartMatcher matcher, Part part) {
+			long mask = 0;
+			for (int i = part.getMin(); i <= part.getMax(); i++) {
+				if (matcher.match(i)) {
+					mask |= 1L << i;
+				}
+			}
+			return mask;
+		}
+	}
+}
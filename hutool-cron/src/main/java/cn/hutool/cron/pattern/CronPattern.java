@@ -1,14 +1,10 @@
 package cn.hutool.cron.pattern;
 
-import cn.hutool.core.collection.CollUtil;
-import cn.hutool.core.date.CalendarUtil;
 import cn.hutool.cron.pattern.matcher.PatternMatcher;
 import cn.hutool.cron.pattern.parser.PatternParser;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.GregorianCalendar;
 import java.util.List;
 import java.util.TimeZone;
 
@@ -72,6 +68,7 @@ public class CronPattern {
 
 	private final String pattern;
 	private final List<PatternMatcher> matchers;
+	private final CompiledCronPattern compiled;
 
 	/**
 	 * 解析表达式为 CronPattern
@@ -92,6 +89,17 @@ public class CronPattern {
 	public CronPattern(String pattern) {
 		this.pattern = pattern;
 		this.matchers = PatternParser.parse(pattern);
+		this.compiled = new CompiledCronPattern(this.matchers);
+	}
+
+	/**
+	 * 获取预编译的表达式，表达式在构造时编译为位掩码，用于快速匹配和计算执行时间
+	 *
+	 * @return {@link CompiledCronPattern}
+	 * @since 5.8.22
+	 */
+	public CompiledCronPattern compile() {
+		return this.compiled;
 	}
 
 	/**
@@ -114,9 +122,7 @@ public class CronPattern {
 	 * @return 如果匹配返回 {@code true}, 否则返回 {@code false}
 	 */
 	public boolean match(TimeZone timezone, long millis, boolean isMatchSecond) {
-		final GregorianCalendar calendar = new GregorianCalendar(timezone);
-		calendar.setTimeInMillis(millis);
-		return match(calendar, isMatchSecond);
+		return this.compiled.match(timezone, millis, isMatchSecond);
 	}
 
 	/**
@@ -146,16 +152,17 @@ public class CronPattern {
 	 * 返回匹配到的下一个时间
 	 *
 	 * @param calendar 时间
-	 * @return 匹配到的下一个时间
+	 * @return 匹配到的下一个时间，永远无法匹配（如2月30日）时返回{@code null}
 	 */
 	public Calendar nextMatchAfter(Calendar calendar) {
-		Calendar next = nextMatchAfter(PatternUtil.getFields(calendar, true), calendar.getTimeZone());
-		if (false == match(next, true)) {
-			next.set(Calendar.DAY_OF_MONTH, next.get(Calendar.DAY_OF_MONTH) + 1);
-			next = CalendarUtil.beginOfDay(next);
-			return nextMatchAfter(next);
+		final TimeZone zone = calendar.getTimeZone();
+		final long next = this.compiled.nextMatchAfter(zone, calendar.getTimeInMillis(), true);
+		if (-1 == next) {
+			return null;
 		}
-		return next;
+		final Calendar result = Calendar.getInstance(zone);
+		result.setTimeInMillis(next);
+		return result;
 	}
 
 	@Override
@@ -177,20 +184,4 @@ public class CronPattern {
 		}
 		return false;
 	}
-
-	/**
-	 * 获取下一个最近的匹配日期时间
-	 *
-	 * @param values 时间字段值，{second, minute, hour, dayOfMonth, month, dayOfWeek, year}
-	 * @param zone   时区
-	 * @return {@link Calendar}，毫秒数为0
-	 */
-	private Calendar nextMatchAfter(int[] values, TimeZone zone) {
-		final List<Calendar> nextMatches = new ArrayList<>(matchers.size());
-		for (PatternMatcher matcher : matchers) {
-			nextMatches.add(matcher.nextMatchAfter(values, zone));
-		}
-		// 返回匹配到的最早日期
-		return CollUtil.min(nextMatches);
-	}
 }
@@ -8,6 +8,7 @@ import cn.hutool.core.lang.Assert;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.TimeZone;
 
 /**
  * 定时任务表达式工具类
@@ -76,7 +77,8 @@ public class CronPatternUtil {
 	}
 
 	/**
-	 * 列举指定日期范围内所有匹配表达式的日期
+	 * 列举指定日期范围内所有匹配表达式的日期<br>
+	 * 从起始时间开始按秒（或分）步进，结果为匹配的步进时间；使用{@link CompiledCronPattern}直接跳到下一个匹配时间，无需逐步尝试
 	 * 
 	 * @param pattern 表达式
 	 * @param start 起始时间
@@ -89,14 +91,28 @@ public class CronPatternUtil {
 		Assert.isTrue(start < end, "Start date is later than end !");
 
 		final List<Date> result = new ArrayList<>(count);
-		long step = isMatchSecond ? DateUnit.SECOND.getMillis() : DateUnit.MINUTE.getMillis();
-		for (long i = start; i < end; i += step) {
-			if (pattern.match(i, isMatchSecond)) {
-				result.add(DateUtil.date(i));
-				if (result.size() >= count) {
+		final CompiledCronPattern compiled = pattern.compile();
+		final TimeZone zone = TimeZone.getDefault();
+		final long step = isMatchSecond ? DateUnit.SECOND.getMillis() : DateUnit.MINUTE.getMillis();
+		long i = start;
+		long next;
+		while (i < end) {
+			next = compiled.nextMatchAfter(zone, i, isMatchSecond);
+			if (-1 == next) {
+				break;
+			}
+			if (next > i) {
+				// 跳到不早于匹配时间的第一个步进时间，此时间与匹配时间处于同一秒（或分）
+				i += (next - i + step - 1) / step * step;
+				if (i >= end) {
 					break;
 				}
 			}
+			result.add(DateUtil.date(i));
+			if (result.size() >= count) {
+				break;
+			}
+			i += step;
 		}
 		return result;
 	}
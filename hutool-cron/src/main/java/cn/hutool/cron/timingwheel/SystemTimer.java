@@ -3,11 +3,13 @@ package cn.hutool.cron.timingwheel;
 import cn.hutool.core.thread.ThreadUtil;
 
 import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
 /**
- * 系统计时器
+ * 系统计时器<br>
+ * 轮询线程只负责推进时间轮和分发到期任务，到期任务交给独立的执行线程池执行，避免耗时任务阻塞时间轮。
  *
  * @author eliasyaoyc, looly
  */
@@ -34,9 +36,25 @@ public class SystemTimer {
 	private volatile boolean isRunning;
 
 	/**
-	 * 构造
+	 * 到期任务执行器，{@code null}表示使用全局线程池
+	 */
+	private final Executor taskExecutor;
+
+	/**
+	 * 构造，到期任务使用全局线程池执行
 	 */
 	public SystemTimer() {
+		this(null);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param taskExecutor 到期任务执行器，{@code null}表示使用全局线程池
+	 * @since 5.8.22
+	 */
+	public SystemTimer(Executor taskExecutor) {
+		this.taskExecutor = taskExecutor;
 		timeWheel = new TimingWheel(1, 20, delayQueue::offer);
 	}
 
@@ -76,15 +94,41 @@ public class SystemTimer {
 		this.bossThreadPool.shutdown();
 	}
 
+	/**
+	 * 添加延迟任务
+	 *
+	 * @param task    任务
+	 * @param delayMs 延迟毫秒数
+	 * @return 任务句柄，可用于取消任务
+	 * @since 5.8.22
+	 */
+	public TimerTask schedule(Runnable task, long delayMs) {
+		return addTask(new TimerTask(task, delayMs));
+	}
+
 	/**
 	 * 添加任务
 	 *
 	 * @param timerTask 任务
+	 * @return 任务句柄，即传入的任务，可用于取消任务
 	 */
-	public void addTask(TimerTask timerTask) {
+	public TimerTask addTask(TimerTask timerTask) {
 		//添加失败任务直接执行
 		if (false == timeWheel.addTask(timerTask)) {
-			ThreadUtil.execAsync(timerTask.getTask());
+			execute(timerTask);
+		}
+		return timerTask;
+	}
+
+	/**
+	 * 批量添加任务
+	 *
+	 * @param timerTasks 任务列表
+	 * @since 5.8.22
+	 */
+	public void addTasks(Iterable<TimerTask> timerTasks) {
+		for (TimerTask timerTask : timerTasks) {
+			addTask(timerTask);
 		}
 	}
 
@@ -99,11 +143,13 @@ public class SystemTimer {
 		}
 		try {
 			TimerTaskList timerTaskList = poll();
-			if (null != timerTaskList) {
+			//一次处理所有已到期的时间槽
+			while (null != timerTaskList) {
 				//推进时间
 				timeWheel.advanceClock(timerTaskList.getExpire());
 				//执行过期任务（包含降级操作）
 				timerTaskList.flush(this::addTask);
+				timerTaskList = delayQueue.poll();
 			}
 		} catch (InterruptedException ignore) {
 			return false;
@@ -111,6 +157,22 @@ public class SystemTimer {
 		return true;
 	}
 
+	/**
+	 * 执行到期任务，已取消的任务不执行
+	 *
+	 * @param timerTask 任务
+	 */
+	private void execute(TimerTask timerTask) {
+		if (false == timerTask.expire()) {
+			return;
+		}
+		if (null == this.taskExecutor) {
+			ThreadUtil.execute(timerTask.getTask());
+		} else {
+			this.taskExecutor.execute(timerTask.getTask());
+		}
+	}
+
 	/**
 	 * 执行队列取任务列表
 	 * @return 任务列表
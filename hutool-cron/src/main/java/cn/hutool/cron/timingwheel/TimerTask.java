@@ -1,12 +1,21 @@
 package cn.hutool.cron.timingwheel;
 
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
 /**
- * 延迟任务
+ * 延迟任务<br>
+ * 任务加入{@link SystemTimer}后，此对象即为任务的句柄，可通过{@link #cancel()}在执行前取消任务。
  *
  * @author eliasyaoyc, looly
  */
 public class TimerTask {
 
+	private static final int STATE_PENDING = 0;
+	private static final int STATE_CANCELLED = 1;
+	private static final int STATE_EXPIRED = 2;
+	private static final AtomicIntegerFieldUpdater<TimerTask> STATE_UPDATER =
+			AtomicIntegerFieldUpdater.newUpdater(TimerTask.class, "state");
+
 	/**
 	 * 延迟时间
 	 */
@@ -17,19 +26,30 @@ public class TimerTask {
 	 */
 	private final Runnable task;
 
+	/**
+	 * 任务状态：0等待执行，1已取消，2已到期
+	 */
+	private volatile int state;
+
 	/**
 	 * 时间槽
 	 */
-	protected TimerTaskList timerTaskList;
+	protected volatile TimerTaskList timerTaskList;
 
 	/**
 	 * 下一个节点
+	 *
+	 * @deprecated 时间槽改为无锁链表，链表节点由{@link TimerTaskList}内部维护，此字段不再使用
 	 */
+	@Deprecated
 	protected TimerTask next;
 
 	/**
 	 * 上一个节点
+	 *
+	 * @deprecated 时间槽改为无锁链表，链表节点由{@link TimerTaskList}内部维护，此字段不再使用
 	 */
+	@Deprecated
 	protected TimerTask prev;
 
 	/**
@@ -65,6 +85,46 @@ public class TimerTask {
 		return delayMs;
 	}
 
+	/**
+	 * 取消任务，已取消的任务不再执行，并在所在时间槽到期时丢弃<br>
+	 * 取消只修改状态，不从时间槽中移除，因此可在任意线程中无锁调用
+	 *
+	 * @return 是否取消成功，任务已到期或已取消时返回{@code false}
+	 * @since 5.8.22
+	 */
+	public boolean cancel() {
+		return STATE_UPDATER.compareAndSet(this, STATE_PENDING, STATE_CANCELLED);
+	}
+
+	/**
+	 * 任务是否已取消
+	 *
+	 * @return 是否已取消
+	 * @since 5.8.22
+	 */
+	public boolean isCancelled() {
+		return STATE_CANCELLED == state;
+	}
+
+	/**
+	 * 任务是否已到期，到期的任务已交给执行线程池执行
+	 *
+	 * @return 是否已到期
+	 * @since 5.8.22
+	 */
+	public boolean isExpired() {
+		return STATE_EXPIRED == state;
+	}
+
+	/**
+	 * 标记任务到期，与{@link #cancel()}互斥
+	 *
+	 * @return 是否标记成功，任务已取消或已到期时返回{@code false}
+	 */
+	boolean expire() {
+		return STATE_UPDATER.compareAndSet(this, STATE_PENDING, STATE_EXPIRED);
+	}
+
 	@Override
 	public String toString() {
 		return desc;
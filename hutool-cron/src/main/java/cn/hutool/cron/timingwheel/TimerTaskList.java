@@ -3,34 +3,38 @@ package cn.hutool.cron.timingwheel;
 import java.util.concurrent.Delayed;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Consumer;
 
 /**
- * 任务队列，任务双向链表
+ * 任务队列，无锁单向链表<br>
+ * 新增任务通过CAS加入链表头部，到期时一次性摘下整个链表处理，取消或已移除的任务在此时丢弃。<br>
+ * 任务所属的时间槽通过CAS绑定，同一任务同一时间只能位于一个时间槽中。
  *
  * @author siran.yao，looly
  */
 public class TimerTaskList implements Delayed {
 
+	private static final AtomicReferenceFieldUpdater<TimerTask, TimerTaskList> LIST_UPDATER =
+			AtomicReferenceFieldUpdater.newUpdater(TimerTask.class, TimerTaskList.class, "timerTaskList");
+
 	/**
 	 * 过期时间
 	 */
 	private final AtomicLong expire;
 
 	/**
-	 * 根节点
+	 * 链表头节点，最后加入的任务
 	 */
-	private final TimerTask root;
+	private final AtomicReference<Node> head;
 
 	/**
 	 * 构造
 	 */
 	public TimerTaskList(){
 		expire = new AtomicLong(-1L);
-
-		root = new TimerTask( null,-1L);
-		root.prev = root;
-		root.next = root;
+		head = new AtomicReference<>();
 	}
 
 	/**
@@ -52,53 +56,60 @@ public class TimerTaskList implements Delayed {
 	}
 
 	/**
-	 * 新增任务，将任务加入到双向链表的头部
+	 * 新增任务，将任务加入到链表的头部，任务已位于某个时间槽时忽略
 	 *
 	 * @param timerTask 延迟任务
 	 */
 	public void addTask(TimerTask timerTask) {
-		synchronized (this) {
-			if (timerTask.timerTaskList == null) {
-				timerTask.timerTaskList = this;
-				TimerTask tail = root.prev;
-				timerTask.next = root;
-				timerTask.prev = tail;
-				tail.next = timerTask;
-				root.prev = timerTask;
-			}
+		if (false == LIST_UPDATER.compareAndSet(timerTask, null, this)) {
+			return;
 		}
+		final Node node = new Node(timerTask);
+		Node first;
+		do {
+			first = head.get();
+			node.next = first;
+		} while (false == head.compareAndSet(first, node));
 	}
 
 	/**
-	 * 移除任务
+	 * 移除任务，任务与此时间槽解除绑定，不会被取消，之后可重新加入时间槽<br>
+	 * 链表节点在时间槽到期时丢弃
 	 *
 	 * @param timerTask 任务
 	 */
 	public void removeTask(TimerTask timerTask) {
-		synchronized (this) {
-			if (this.equals(timerTask.timerTaskList)) {
-				timerTask.next.prev = timerTask.prev;
-				timerTask.prev.next = timerTask.next;
-				timerTask.timerTaskList = null;
-				timerTask.next = null;
-				timerTask.prev = null;
-			}
-		}
+		LIST_UPDATER.compareAndSet(timerTask, this, null);
 	}
 
 	/**
-	 * 重新分配，即将列表中的任务全部处理
+	 * 重新分配，即将列表中的任务全部处理，按加入顺序处理，已取消的任务直接丢弃
 	 *
 	 * @param flush 任务处理函数
 	 */
-	public synchronized void flush(Consumer<TimerTask> flush) {
-		TimerTask timerTask = root.next;
-		while (false == timerTask.equals(root)) {
-			this.removeTask(timerTask);
-			flush.accept(timerTask);
-			timerTask = root.next;
-		}
+	public void flush(Consumer<TimerTask> flush) {
+		// 先重置过期时间再摘下链表，保证之后加入的任务所在的列表会被重新加入delayQueue
 		expire.set(-1L);
+		Node node = head.getAndSet(null);
+
+		// 反转为加入顺序
+		Node reversed = null;
+		while (null != node) {
+			final Node next = node.next;
+			node.next = reversed;
+			reversed = node;
+			node = next;
+		}
+
+		TimerTask timerTask;
+		while (null != reversed) {
+			timerTask = reversed.task;
+			// 解除绑定失败说明任务已被移除或已加入其它时间槽
+			if (LIST_UPDATER.compareAndSet(timerTask, this, null) && false == timerTask.isCancelled()) {
+				flush.accept(timerTask);
+			}
+			reversed = reversed.next;
+		}
 	}
 
 	@Override
@@ -113,4 +124,16 @@ public class TimerTaskList implements Delayed {
 		}
 		return 0;
 	}
+
+	/**
+	 * 链表节点，任务每次加入时间槽使用新的节点，移除后重新加入不会破坏原链表
+	 */
+	private static class Node {
+		private final TimerTask task;
+		private Node next;
+
+		Node(TimerTask task) {
+			this.task = task;
+		}
+	}
 }
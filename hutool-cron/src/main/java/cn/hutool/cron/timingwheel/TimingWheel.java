@@ -1,7 +1,5 @@
 package cn.hutool.cron.timingwheel;
 
-import cn.hutool.log.StaticLog;
-
 import java.util.function.Consumer;
 
 /**
@@ -36,7 +34,7 @@ public class TimingWheel {
 	/**
 	 * 当前时间，指向当前操作的时间格，代表当前时间
 	 */
-	private long currentTime;
+	private volatile long currentTime;
 
 	/**
 	 * 上层时间轮
@@ -85,6 +83,10 @@ public class TimingWheel {
 	 * @return 是否成功
 	 */
 	public boolean addTask(TimerTask timerTask) {
+		if (timerTask.isCancelled()) {
+			//已取消的任务直接丢弃
+			return true;
+		}
 		long expiration = timerTask.getDelayMs();
 		//过期任务直接执行
 		if (expiration < currentTime + tickMs) {
@@ -93,7 +95,6 @@ public class TimingWheel {
 			//当前时间轮可以容纳该任务 加入时间槽
 			long virtualId = expiration / tickMs;
 			int index = (int) (virtualId % wheelSize);
-			StaticLog.debug("tickMs: {} ------index: {} ------expiration: {}", tickMs, index, expiration);
 			TimerTaskList timerTaskList = timerTaskLists[index];
 			timerTaskList.addTask(timerTask);
 			if (timerTaskList.setExpiration(virtualId * tickMs)) {
@@ -0,0 +1,84 @@
+package cn.hutool.cron;
+
+import cn.hutool.core.date.DateUtil;
+import cn.hutool.cron.pattern.CronPattern;
+import cn.hutool.cron.task.CronTask;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+
+public class FireTimeIndexTest {
+
+	@Test
+	public void fireDueTest() {
+		final FireTimeIndex index = new FireTimeIndex(TimeZone.getDefault(), true);
+		index.add("every10", new CronPattern("*/10 * * * * *"), () -> {});
+		index.add("at30", new CronPattern("30 * * * * *"), () -> {});
+
+		final long start = DateUtil.parse("2023-08-20 10:00:00").getTime();
+		final List<String> fired = new ArrayList<>();
+		for (int i = 0; i < 60; i++) {
+			index.fireDue(start + i * 1000L, (task, scheduled) -> fired.add(task.getId()));
+		}
+		// 每10秒6次，30秒1次
+		Assert.assertEquals(7, fired.size());
+		Assert.assertEquals(6, fired.stream().filter("every10"::equals).count());
+		Assert.assertEquals(1, fired.stream().filter("at30"::equals).count());
+	}
+
+	@Test
+	public void addAndRemoveTest() {
+		final FireTimeIndex index = new FireTimeIndex(TimeZone.getDefault(), true);
+		final long start = DateUtil.parse("2023-08-20 10:00:00").getTime();
+		final List<String> fired = new ArrayList<>();
+
+		index.fireDue(start, (task, scheduled) -> fired.add(task.getId()));
+		index.add("every", new CronPattern("* * * * * *"), () -> {});
+		index.fireDue(start + 1000, (task, scheduled) -> fired.add(task.getId()));
+		index.remove("every");
+		index.fireDue(start + 2000, (task, scheduled) -> fired.add(task.getId()));
+
+		Assert.assertEquals(1, fired.size());
+	}
+
+	@Test
+	public void minuteUnitTest() {
+		final FireTimeIndex index = new FireTimeIndex(TimeZone.getDefault(), false);
+		index.add("every5", new CronPattern("*/5 * * * *"), () -> {});
+
+		final long start = DateUtil.parse("2023-08-20 10:00:00").getTime();
+		final List<CronTask> fired = new ArrayList<>();
+		for (int i = 0; i < 30; i++) {
+			// 检查可能发生在分钟内的任意时刻
+			index.fireDue(start + i * 60_000L + 1500, (task, scheduled) -> fired.add(task));
+		}
+		Assert.assertEquals(6, fired.size());
+	}
+
+	@Test
+	public void neverMatchTest() {
+		final FireTimeIndex index = new FireTimeIndex(TimeZone.getDefault(), true);
+		// 2月30日永远不会执行
+		index.add("never", new CronPattern("0 0 0 30 2 ?"), () -> {});
+		final List<CronTask> fired = new ArrayList<>();
+		index.fireDue(DateUtil.parse("2023-08-20 10:00:00").getTime(), (task, scheduled) -> fired.add(task));
+		Assert.assertTrue(fired.isEmpty());
+	}
+
+	@Test
+	public void clockBackTest() {
+		final FireTimeIndex index = new FireTimeIndex(TimeZone.getDefault(), true);
+		index.add("at5", new CronPattern("5 * * * * *"), () -> {});
+		final long start = DateUtil.parse("2023-08-20 10:00:00").getTime();
+		final List<CronTask> fired = new ArrayList<>();
+
+		index.fireDue(start + 5000, (task, scheduled) -> fired.add(task));
+		// 时间回拨到5秒之前，再次到达5秒时依旧执行
+		index.fireDue(start + 3000, (task, scheduled) -> fired.add(task));
+		index.fireDue(start + 5000, (task, scheduled) -> fired.add(task));
+		Assert.assertEquals(2, fired.size());
+	}
+}
@@ -0,0 +1,165 @@
+package cn.hutool.cron;
+
+import cn.hutool.cron.pattern.CronPattern;
+import cn.hutool.cron.task.CronTask;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TaskExecutorManagerTest {
+
+	@Test
+	public void skipTest() throws InterruptedException {
+		final Scheduler scheduler = createScheduler(OverlapPolicy.SKIP);
+		final CountDownLatch release = new CountDownLatch(1);
+		final AtomicInteger count = new AtomicInteger();
+		final CronTask task = new CronTask("skip", CronPattern.of("* * * * *"), () -> {
+			count.incrementAndGet();
+			await(release);
+		});
+
+		Assert.assertNotNull(scheduler.taskExecutorManager.spawnExecutor(task));
+		Assert.assertNull(scheduler.taskExecutorManager.spawnExecutor(task));
+		Assert.assertNull(scheduler.taskExecutorManager.spawnExecutor(task));
+		release.countDown();
+		shutdown(scheduler);
+
+		Assert.assertEquals(1, count.get());
+		Assert.assertTrue(scheduler.taskExecutorManager.getExecutors().isEmpty());
+	}
+
+	@Test
+	public void queueTest() throws InterruptedException {
+		final Scheduler scheduler = createScheduler(OverlapPolicy.QUEUE);
+		final CountDownLatch release = new CountDownLatch(1);
+		final AtomicInteger running = new AtomicInteger();
+		final AtomicInteger maxRunning = new AtomicInteger();
+		final AtomicInteger count = new AtomicInteger();
+		final CronTask task = new CronTask("queue", CronPattern.of("* * * * *"), () -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			await(release);
+			count.incrementAndGet();
+			running.decrementAndGet();
+		});
+
+		Assert.assertNotNull(scheduler.taskExecutorManager.spawnExecutor(task));
+		Assert.assertNull(scheduler.taskExecutorManager.spawnExecutor(task));
+		Assert.assertNull(scheduler.taskExecutorManager.spawnExecutor(task));
+		release.countDown();
+
+		// 排队的执行在上次执行结束后依次启动
+		for (int i = 0; i < 100 && count.get() < 3; i++) {
+			Thread.sleep(20);
+		}
+		shutdown(scheduler);
+		Assert.assertEquals(3, count.get());
+		Assert.assertEquals(1, maxRunning.get());
+	}
+
+	@Test
+	public void stopWhileQueuedTest() throws InterruptedException {
+		final Scheduler scheduler = createScheduler(OverlapPolicy.QUEUE);
+		final CountDownLatch release = new CountDownLatch(1);
+		final AtomicInteger count = new AtomicInteger();
+		final CronTask task = new CronTask("stop", CronPattern.of("* * * * *"), () -> {
+			await(release);
+			count.incrementAndGet();
+		});
+
+		Assert.assertNotNull(scheduler.taskExecutorManager.spawnExecutor(task));
+		Assert.assertNull(scheduler.taskExecutorManager.spawnExecutor(task));
+
+		// 模拟Scheduler.stop()，执行结束后不再启动排队的执行
+		final ExecutorService executor = scheduler.threadExecutor;
+		scheduler.taskExecutorManager.stop();
+		executor.shutdown();
+		scheduler.threadExecutor = null;
+		release.countDown();
+		Assert.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+		Assert.assertEquals(1, count.get());
+		Assert.assertTrue(scheduler.taskExecutorManager.getExecutors().isEmpty());
+	}
+
+	@Test
+	public void rejectedTest() throws InterruptedException {
+		final Scheduler scheduler = createScheduler(OverlapPolicy.SKIP);
+		final ExecutorService executor = scheduler.threadExecutor;
+		executor.shutdown();
+		final CronTask task = new CronTask("rejected", CronPattern.of("* * * * *"), () -> {});
+
+		Assert.assertNull(scheduler.taskExecutorManager.spawnExecutor(task));
+		Assert.assertTrue(scheduler.taskExecutorManager.getExecutors().isEmpty());
+
+		// 提交失败时撤销计数，线程池恢复后任务可正常执行
+		scheduler.setThreadExecutor(Executors.newFixedThreadPool(1));
+		Assert.assertNotNull(scheduler.taskExecutorManager.spawnExecutor(task));
+		shutdown(scheduler);
+		Assert.assertEquals(0, scheduler.stats().task("rejected").failureCount());
+		Assert.assertEquals(1, scheduler.stats().task("rejected").runCount());
+	}
+
+	@Test
+	public void statsTest() throws Exception {
+		final Scheduler scheduler = createScheduler(OverlapPolicy.SKIP);
+		final CountDownLatch release = new CountDownLatch(1);
+		final CronTask slow = new CronTask("slow", CronPattern.of("* * * * *"), () -> await(release));
+		final CronTask failed = new CronTask("failed", CronPattern.of("* * * * *"), () -> {
+			throw new IllegalStateException("failed");
+		});
+
+		scheduler.taskExecutorManager.spawnExecutor(slow, System.currentTimeMillis() - 100);
+		// 上次执行尚未结束，记为重叠
+		scheduler.taskExecutorManager.spawnExecutor(slow);
+		scheduler.taskExecutorManager.spawnExecutor(failed);
+		release.countDown();
+		shutdown(scheduler);
+
+		final SchedulerStats stats = scheduler.stats();
+		final TaskStats slowStats = stats.task("slow");
+		Assert.assertEquals(1, slowStats.runCount());
+		Assert.assertEquals(1, slowStats.overlapCount());
+		Assert.assertTrue(slowStats.maxLag() >= 100);
+		Assert.assertEquals(1, stats.task("failed").failureCount());
+		Assert.assertEquals(2, stats.runCount());
+		Assert.assertEquals(1, Arrays.stream(slowStats.durationHistogram()).sum());
+
+		final ObjectName objectName = scheduler.registerMBean("statsTest");
+		try {
+			Assert.assertEquals(1L, ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "FailureCount"));
+			Assert.assertEquals(1L, ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "OverlapCount"));
+		} finally {
+			scheduler.unregisterMBean("statsTest");
+		}
+	}
+
+	private static Scheduler createScheduler(OverlapPolicy policy) {
+		final Scheduler scheduler = new Scheduler();
+		scheduler.setOverlapPolicy(policy);
+		scheduler.setThreadExecutor(Executors.newFixedThreadPool(4));
+		scheduler.taskExecutorManager = new TaskExecutorManager(scheduler);
+		return scheduler;
+	}
+
+	private static void shutdown(Scheduler scheduler) throws InterruptedException {
+		final ExecutorService executor = scheduler.threadExecutor;
+		executor.shutdown();
+		Assert.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		}
+	}
+}
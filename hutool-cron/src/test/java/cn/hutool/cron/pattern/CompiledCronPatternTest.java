@@ -0,0 +1,104 @@
+package cn.hutool.cron.pattern;
+
+import cn.hutool.core.date.DateUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.Random;
+import java.util.TimeZone;
+
+public class CompiledCronPatternTest {
+
+	private static final String[] PATTERNS = {
+			"* * * * *",
+			"*/7 3-18 * * *",
+			"0 0 L * ?",
+			"0 12 29 2 *",
+			"15 10 * * MON-FRI",
+			"1 1 1 * * Sat *",
+			"23 12 * 12 * * *",
+			"0/13 5,35 */5 1-10,L 3,6,9,12 ? 2023-2025",
+			"30 9 * * 0 | 0 18 15 * *",
+	};
+
+	@Test
+	public void matchTest() {
+		final TimeZone zone = TimeZone.getTimeZone("Asia/Shanghai");
+		final Random random = new Random(42);
+		final long start = DateUtil.parse("2022-01-01 00:00:00").getTime();
+		for (String patternStr : PATTERNS) {
+			final CronPattern pattern = new CronPattern(patternStr);
+			final CompiledCronPattern compiled = pattern.compile();
+			for (int i = 0; i < 20000; i++) {
+				final long millis = start + (random.nextLong() & Long.MAX_VALUE) % (4L * 365 * 86400_000L);
+				final Calendar calendar = Calendar.getInstance(zone);
+				calendar.setTimeInMillis(millis);
+				Assert.assertEquals(patternStr, pattern.match(calendar, true), compiled.match(zone, millis, true));
+				Assert.assertEquals(patternStr, pattern.match(calendar, false), compiled.match(zone, millis, false));
+			}
+		}
+	}
+
+	@Test
+	public void nextAndPreviousTest() {
+		final TimeZone zone = TimeZone.getTimeZone("Asia/Shanghai");
+		final long start = DateUtil.parse("2023-12-30 10:00:00").getTime();
+		for (String patternStr : PATTERNS) {
+			final CompiledCronPattern compiled = CompiledCronPattern.of(patternStr);
+			long next = compiled.nextMatchAfter(zone, start, false);
+			// 与逐分钟匹配的结果一致
+			long expected = start;
+			while (false == compiled.match(zone, expected, false)) {
+				expected += 60_000;
+			}
+			Assert.assertEquals(patternStr, expected, next);
+
+			// 从下一次执行时间的上一分钟向前查找，结果不晚于开始时间
+			final long previous = compiled.previousMatchBefore(zone, next - 60_000, false);
+			Assert.assertTrue(patternStr, previous < start);
+			Assert.assertTrue(patternStr, compiled.match(zone, previous, false));
+			Assert.assertEquals(patternStr, next, compiled.nextMatchAfter(zone, previous + 60_000, false));
+		}
+	}
+
+	@Test
+	public void nextMatchAfterTest() {
+		final TimeZone zone = TimeZone.getDefault();
+		// 闰年2月29日
+		CompiledCronPattern compiled = CompiledCronPattern.of("0 0 12 29 2 ?");
+		Assert.assertEquals(DateUtil.parse("2024-02-29 12:00:00").getTime(),
+				compiled.nextMatchAfter(zone, DateUtil.parse("2023-03-01 00:00:00").getTime(), true));
+		Assert.assertEquals(DateUtil.parse("2020-02-29 12:00:00").getTime(),
+				compiled.previousMatchBefore(zone, DateUtil.parse("2024-02-29 11:59:59").getTime(), true));
+
+		// 每月最后一天
+		compiled = CompiledCronPattern.of("0 0 L * ?");
+		Assert.assertEquals(DateUtil.parse("2023-04-30 00:00:00").getTime(),
+				compiled.nextMatchAfter(zone, DateUtil.parse("2023-04-01 00:00:00").getTime(), false));
+
+		// 永远不会匹配
+		compiled = CompiledCronPattern.of("0 0 0 30 2 ?");
+		Assert.assertEquals(-1, compiled.nextMatchAfter(zone, System.currentTimeMillis(), true));
+		Assert.assertEquals(-1, compiled.previousMatchBefore(zone, System.currentTimeMillis(), true));
+
+		// 年份已过
+		compiled = CompiledCronPattern.of("0 0 0 1 1 ? 2020");
+		Assert.assertEquals(-1, compiled.nextMatchAfter(zone, DateUtil.parse("2021-01-01 00:00:00").getTime(), true));
+	}
+
+	@Test
+	public void daylightSavingTest() {
+		final TimeZone zone = TimeZone.getTimeZone("America/New_York");
+		final CompiledCronPattern compiled = CompiledCronPattern.of("30 2 * * *");
+		// 2023-03-12 02:30不存在，跳到下一天
+		final long from = 1678597200000L;// 2023-03-12 00:00:00 EST
+		// 2023-03-13 02:30:00 EDT
+		Assert.assertEquals(from + 86400_000L + 90 * 60_000L, compiled.nextMatchAfter(zone, from, false));
+
+		// 2023-11-05 01:30出现两次，取第一次
+		final long fallBack = 1699156800000L;// 2023-11-05 00:00:00 EDT
+		final long next = CompiledCronPattern.of("30 1 * * *").nextMatchAfter(zone, fallBack, false);
+		Assert.assertEquals(fallBack + 90 * 60_000L, next);
+	}
+}
@@ -0,0 +1,59 @@
+package cn.hutool.cron.timingwheel;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SystemTimerTest {
+
+	@Test
+	public void cancelTest() throws InterruptedException {
+		final SystemTimer timer = new SystemTimer().start();
+		try {
+			final AtomicInteger count = new AtomicInteger();
+			final CountDownLatch latch = new CountDownLatch(1);
+			final TimerTask cancelled = timer.schedule(count::incrementAndGet, 50);
+			timer.schedule(latch::countDown, 100);
+
+			Assert.assertTrue(cancelled.cancel());
+			Assert.assertFalse(cancelled.cancel());
+			Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+			Assert.assertEquals(0, count.get());
+			Assert.assertTrue(cancelled.isCancelled());
+		} finally {
+			timer.stop();
+		}
+	}
+
+	@Test
+	public void addTasksTest() throws InterruptedException {
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		final SystemTimer timer = new SystemTimer(executor).start();
+		try {
+			final int size = 1000;
+			final CountDownLatch latch = new CountDownLatch(size);
+			final List<TimerTask> tasks = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				// 分布在多层时间轮中
+				tasks.add(new TimerTask(latch::countDown, i % 500));
+			}
+			timer.addTasks(tasks);
+
+			Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+			for (TimerTask task : tasks) {
+				Assert.assertTrue(task.isExpired());
+				Assert.assertFalse(task.cancel());
+			}
+		} finally {
+			timer.stop();
+			executor.shutdown();
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package cn.hutool.cron.timingwheel;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class TimerTaskListTest {
+
+	@Test
+	public void concurrentAddTest() throws InterruptedException {
+		final int listCount = 8;
+		final TimerTaskList[] lists = new TimerTaskList[listCount];
+		for (int i = 0; i < listCount; i++) {
+			lists[i] = new TimerTaskList();
+		}
+
+		for (int round = 0; round < 100; round++) {
+			final TimerTask task = new TimerTask(() -> {
+			}, 0);
+			final CountDownLatch start = new CountDownLatch(1);
+			final ExecutorService executor = Executors.newFixedThreadPool(listCount);
+			for (TimerTaskList list : lists) {
+				executor.execute(() -> {
+					try {
+						start.await();
+					} catch (InterruptedException e) {
+						throw new RuntimeException(e);
+					}
+					list.addTask(task);
+				});
+			}
+			start.countDown();
+			executor.shutdown();
+			Assert.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+			// 同一任务只能加入一个时间槽
+			final List<TimerTask> flushed = new ArrayList<>();
+			for (TimerTaskList list : lists) {
+				list.flush(flushed::add);
+			}
+			Assert.assertEquals(1, flushed.size());
+		}
+	}
+
+	@Test
+	public void removeTaskTest() {
+		final TimerTaskList list = new TimerTaskList();
+		final TimerTaskList other = new TimerTaskList();
+		final TimerTask task = new TimerTask(() -> {
+		}, 0);
+		list.addTask(task);
+
+		// 移除只解除绑定，不取消任务，之后可加入其它时间槽
+		list.removeTask(task);
+		Assert.assertFalse(task.isCancelled());
+		other.addTask(task);
+
+		final List<TimerTask> flushed = new ArrayList<>();
+		list.flush(flushed::add);
+		Assert.assertTrue(flushed.isEmpty());
+		other.flush(flushed::add);
+		Assert.assertEquals(1, flushed.size());
+		Assert.assertSame(task, flushed.get(0));
+	}
+}
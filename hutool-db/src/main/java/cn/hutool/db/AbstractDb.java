@@ -3,10 +3,12 @@ package cn.hutool.db;
 import cn.hutool.core.collection.CollUtil;
 import cn.hutool.core.lang.func.Func1;
 import cn.hutool.db.dialect.Dialect;
+import cn.hutool.db.ds.RoutingDataSource;
 import cn.hutool.db.handler.*;
 import cn.hutool.db.sql.Condition;
 import cn.hutool.db.sql.Condition.LikeType;
 import cn.hutool.db.sql.LogicalOperator;
+import cn.hutool.db.sql.Order;
 import cn.hutool.db.sql.Query;
 import cn.hutool.db.sql.SqlBuilder;
 import cn.hutool.db.sql.SqlExecutor;
@@ -17,10 +19,13 @@ import javax.sql.DataSource;
 import java.io.Serializable;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * 抽象数据库操作类<br>
@@ -32,6 +37,11 @@ import java.util.Map;
 public abstract class AbstractDb implements Serializable {
 	private static final long serialVersionUID = 3858951941916349062L;
 
+	/**
+	 * 流式查询默认每次从数据库获取的行数
+	 */
+	public static final int DEFAULT_FETCH_SIZE = 1000;
+
 	protected final DataSource ds;
 	/**
 	 * 是否支持事务
@@ -73,6 +83,23 @@ public abstract class AbstractDb implements Serializable {
 	 */
 	public abstract void closeConnection(Connection conn);
 
+	/**
+	 * 获取用于只读查询的连接，获取时标记为只读（见{@link RoutingDataSource#setReadHint(boolean)}）<br>
+	 * 数据源为{@link RoutingDataSource}时，不在事务中的查询被路由到从库
+	 *
+	 * @return {@link Connection}
+	 * @throws SQLException 连接获取异常
+	 * @since 5.8.22
+	 */
+	protected Connection getReadConnection() throws SQLException {
+		final boolean previous = RoutingDataSource.setReadHint(true);
+		try {
+			return getConnection();
+		} finally {
+			RoutingDataSource.setReadHint(previous);
+		}
+	}
+
 	/**
 	 * 查询
 	 *
@@ -163,7 +190,7 @@ public abstract class AbstractDb implements Serializable {
 	public <T> T query(String sql, RsHandler<T> rsh, Object... params) throws SQLException {
 		Connection conn = null;
 		try {
-			conn = this.getConnection();
+			conn = this.getReadConnection();
 			return SqlExecutor.query(conn, sql, rsh, params);
 		} finally {
 			this.closeConnection(conn);
@@ -184,7 +211,7 @@ public abstract class AbstractDb implements Serializable {
 	public <T> T query(String sql, RsHandler<T> rsh, Map<String, Object> paramMap) throws SQLException {
 		Connection conn = null;
 		try {
-			conn = this.getConnection();
+			conn = this.getReadConnection();
 			return SqlExecutor.query(conn, sql, rsh, paramMap);
 		} finally {
 			this.closeConnection(conn);
@@ -205,13 +232,78 @@ public abstract class AbstractDb implements Serializable {
 	public <T> T query(Func1<Connection, PreparedStatement> statementFunc, RsHandler<T> rsh) throws SQLException {
 		Connection conn = null;
 		try {
-			conn = this.getConnection();
+			conn = this.getReadConnection();
 			return SqlExecutor.query(conn, statementFunc, rsh);
 		} finally {
 			this.closeConnection(conn);
 		}
 	}
 
+	/**
+	 * 流式查询，逐行读取结果，不会将结果全部加载到内存中，适用于大量数据的导出<br>
+	 * 流使用独立的连接，流关闭时释放，使用完毕后必须关闭流，如：
+	 * <pre>
+	 * try (Stream&lt;Entity&gt; stream = db.stream("select * from user")) {
+	 *     stream.forEach(...);
+	 * }
+	 * </pre>
+	 *
+	 * @param sql    查询语句
+	 * @param params 参数
+	 * @return 结果流
+	 * @throws SQLException SQL执行异常
+	 * @since 5.8.22
+	 */
+	public Stream<Entity> stream(String sql, Object... params) throws SQLException {
+		return iter(SqlBuilder.of(sql).addParams(params), DEFAULT_FETCH_SIZE,
+				(columnCount, meta, rs) -> HandleHelper.handleRow(columnCount, meta, rs, this.caseInsensitive)).toStream();
+	}
+
+	/**
+	 * 流式查询，逐行读取结果并转换为Bean，不会将结果全部加载到内存中，使用完毕后必须关闭流
+	 *
+	 * @param <T>       Bean类型
+	 * @param sql       查询语句
+	 * @param beanClass Bean类
+	 * @param params    参数
+	 * @return 结果流
+	 * @throws SQLException SQL执行异常
+	 * @since 5.8.22
+	 */
+	public <T> Stream<T> stream(String sql, Class<T> beanClass, Object... params) throws SQLException {
+		return iter(SqlBuilder.of(sql).addParams(params), DEFAULT_FETCH_SIZE, ResultSetIter.beanRowHandler(beanClass)).toStream();
+	}
+
+	/**
+	 * 流式查询，返回结果集迭代器，迭代结束或关闭迭代器时释放连接<br>
+	 * 查询语句由方言生成，方言会设置流式读取所需的参数，如MySQL使用逐行读取，PostgreSQL使用游标。
+	 *
+	 * @param <T>        行对象类型
+	 * @param sqlBuilder SQL构建器，包含参数
+	 * @param fetchSize  每次从数据库获取的行数，MySQL忽略此参数
+	 * @param rowHandler 行处理器
+	 * @return {@link ResultSetIter}
+	 * @throws SQLException SQL执行异常
+	 * @since 5.8.22
+	 */
+	public <T> ResultSetIter<T> iter(SqlBuilder sqlBuilder, int fetchSize, ResultSetIter.RowHandler<T> rowHandler) throws SQLException {
+		final Connection conn = getStreamConnection();
+		boolean autoCommit = true;
+		PreparedStatement ps = null;
+		ResultSet rs = null;
+		try {
+			autoCommit = conn.getAutoCommit();
+			ps = runner.getDialect().psForStream(conn, sqlBuilder, fetchSize);
+			rs = ps.executeQuery();
+			final boolean restoreAutoCommit = autoCommit;
+			return new ResultSetIter<>(ps, rs, rowHandler, () -> releaseStreamConnection(conn, restoreAutoCommit));
+		} catch (SQLException | RuntimeException e) {
+			DbUtil.close(rs, ps);
+			releaseStreamConnection(conn, autoCommit);
+			throw e;
+		}
+	}
+
 	/**
 	 * 执行非查询语句<br>
 	 * 语句包括 插入、更新、删除
@@ -403,6 +495,41 @@ public abstract class AbstractDb implements Serializable {
 		}
 	}
 
+	/**
+	 * 流式批量插入数据，每累积{@link BatchInsertConfig#getBatchSize()}条记录执行一次，适用于大量数据的导入<br>
+	 * 方言支持时（如MySQL、PostgreSQL、H2）使用多行 INSERT ... VALUES (...), (...) 语句，否则使用JDBC批处理<br>
+	 * 每条记录的结构必须与第一条记录一致
+	 *
+	 * @param records 记录，可为惰性生成的记录
+	 * @param config  批量插入配置，{@code null}表示使用默认配置
+	 * @return 影响的总行数
+	 * @throws SQLException SQL执行异常
+	 * @since 5.8.22
+	 */
+	public long insertBatch(Iterator<Entity> records, BatchInsertConfig config) throws SQLException {
+		Connection conn = null;
+		try {
+			conn = this.getConnection();
+			return runner.insertBatch(conn, records, config);
+		} finally {
+			this.closeConnection(conn);
+		}
+	}
+
+	/**
+	 * 流式批量插入数据，每累积{@link BatchInsertConfig#getBatchSize()}条记录执行一次，适用于大量数据的导入<br>
+	 * 每条记录的结构必须与第一条记录一致
+	 *
+	 * @param records 记录流
+	 * @param config  批量插入配置，{@code null}表示使用默认配置
+	 * @return 影响的总行数
+	 * @throws SQLException SQL执行异常
+	 * @since 5.8.22
+	 */
+	public long insertBatch(Stream<Entity> records, BatchInsertConfig config) throws SQLException {
+		return insertBatch(records.iterator(), config);
+	}
+
 	/**
 	 * 插入数据
 	 *
@@ -530,7 +657,7 @@ public abstract class AbstractDb implements Serializable {
 	public <T> T find(Collection<String> fields, Entity where, RsHandler<T> rsh) throws SQLException {
 		Connection conn = null;
 		try {
-			conn = this.getConnection();
+			conn = this.getReadConnection();
 			return runner.find(conn, fields, where, rsh);
 		} finally {
 			this.closeConnection(conn);
@@ -565,7 +692,7 @@ public abstract class AbstractDb implements Serializable {
 	public <T> T find(Query query, RsHandler<T> rsh) throws SQLException {
 		Connection conn = null;
 		try {
-			conn = this.getConnection();
+			conn = this.getReadConnection();
 			return runner.find(conn, query, rsh);
 		} finally {
 			this.closeConnection(conn);
@@ -704,7 +831,7 @@ public abstract class AbstractDb implements Serializable {
 	public long count(Entity where) throws SQLException {
 		Connection conn = null;
 		try {
-			conn = this.getConnection();
+			conn = this.getReadConnection();
 			return runner.count(conn, where);
 		} finally {
 			this.closeConnection(conn);
@@ -721,7 +848,7 @@ public abstract class AbstractDb implements Serializable {
 	public long count(SqlBuilder sql) throws SQLException {
 		Connection conn = null;
 		try {
-			conn = this.getConnection();
+			conn = this.getReadConnection();
 			return runner.count(conn, sql);
 		} finally {
 			this.closeConnection(conn);
@@ -740,7 +867,7 @@ public abstract class AbstractDb implements Serializable {
 	public long count(CharSequence selectSql, Object... params) throws SQLException {
 		Connection conn = null;
 		try {
-			conn = this.getConnection();
+			conn = this.getReadConnection();
 			return runner.count(conn, selectSql, params);
 		} finally {
 			this.closeConnection(conn);
@@ -763,7 +890,7 @@ public abstract class AbstractDb implements Serializable {
 	public <T> T page(Collection<String> fields, Entity where, int page, int numPerPage, RsHandler<T> rsh) throws SQLException {
 		Connection conn = null;
 		try {
-			conn = this.getConnection();
+			conn = this.getReadConnection();
 			return runner.page(conn, fields, where, page, numPerPage, rsh);
 		} finally {
 			this.closeConnection(conn);
@@ -847,7 +974,7 @@ public abstract class AbstractDb implements Serializable {
 	public <T> T page(Collection<String> fields, Entity where, Page page, RsHandler<T> rsh) throws SQLException {
 		Connection conn = null;
 		try {
-			conn = this.getConnection();
+			conn = this.getReadConnection();
 			return runner.page(conn, fields, where, page, rsh);
 		} finally {
 			this.closeConnection(conn);
@@ -869,7 +996,7 @@ public abstract class AbstractDb implements Serializable {
 	public <T> T page(CharSequence sql, Page page, RsHandler<T> rsh, Object... params) throws SQLException {
 		Connection conn = null;
 		try {
-			conn = this.getConnection();
+			conn = this.getReadConnection();
 			return runner.page(conn, SqlBuilder.of(sql).addParams(params), page, rsh);
 		} finally {
 			this.closeConnection(conn);
@@ -889,10 +1016,17 @@ public abstract class AbstractDb implements Serializable {
 	 * @since 5.8.11
 	 */
 	public <T> PageResult<T> page(CharSequence sql, Page page, Class<T> elementBeanType, Object... params) throws SQLException {
-		final PageResult<T> result = new PageResult<>(page.getPageNumber(), page.getPageSize(), (int) count(sql, params));
-		return page(sql, page,
-			(RsHandler<? extends PageResult<T>>) rs -> HandleHelper.handleRsToBeanList(rs, result, elementBeanType),
-			params);
+		Connection conn = null;
+		try {
+			conn = this.getReadConnection();
+			final SqlBuilder sqlBuilder = SqlBuilder.of(sql).addParams(params);
+			final PageResult<T> result = new PageResult<>(page.getPageNumber(), page.getPageSize(),
+					(int) runner.countForPage(conn, sqlBuilder, page));
+			return runner.page(conn, sqlBuilder, page,
+					rs -> HandleHelper.handleRsToBeanList(rs, result, elementBeanType));
+		} finally {
+			this.closeConnection(conn);
+		}
 	}
 
 	/**
@@ -908,7 +1042,7 @@ public abstract class AbstractDb implements Serializable {
 	public <T> T page(SqlBuilder sql, Page page, RsHandler<T> rsh) throws SQLException {
 		Connection conn = null;
 		try {
-			conn = this.getConnection();
+			conn = this.getReadConnection();
 			return runner.page(conn, sql, page, rsh);
 		} finally {
 			this.closeConnection(conn);
@@ -928,7 +1062,7 @@ public abstract class AbstractDb implements Serializable {
 	public PageResult<Entity> page(CharSequence sql, Page page, Object... params) throws SQLException {
 		Connection conn = null;
 		try {
-			conn = this.getConnection();
+			conn = this.getReadConnection();
 			return runner.page(conn, SqlBuilder.of(sql).addParams(params), page);
 		} finally {
 			this.closeConnection(conn);
@@ -963,7 +1097,7 @@ public abstract class AbstractDb implements Serializable {
 	public PageResult<Entity> page(Collection<String> fields, Entity where, Page page) throws SQLException {
 		Connection conn = null;
 		try {
-			conn = this.getConnection();
+			conn = this.getReadConnection();
 			return runner.page(conn, fields, where, page);
 		} finally {
 			this.closeConnection(conn);
@@ -997,6 +1131,53 @@ public abstract class AbstractDb implements Serializable {
 	public PageResult<Entity> page(Entity where, Page page) throws SQLException {
 		return this.page(where.getFieldNames(), where, page);
 	}
+
+	/**
+	 * 键集分页（Keyset/Seek）查询，即只查询排序在上一页最后一条记录之后的记录，生成类似于：
+	 * <pre>
+	 * SELECT * FROM user WHERE (age, id) &gt; (?, ?) ORDER BY age, id LIMIT 20
+	 * </pre>
+	 * 与{@link #page(Entity, Page)}相比，数据库通过索引直接定位起始记录，翻页深度不影响查询耗时，且不统计总数。<br>
+	 * 排序字段即为键，其组合必须唯一（通常以主键作为最后一个排序字段）；下一页的键值取本页最后一条记录的排序字段值。
+	 *
+	 * @param where    条件实体类（包含表名）
+	 * @param lastKey  上一页最后一条记录的键值，与排序字段一一对应，{@code null}或空表示第一页
+	 * @param pageSize 每页结果数
+	 * @param orders   排序，即键字段，不能为空
+	 * @return 结果列表
+	 * @throws SQLException SQL执行异常
+	 * @since 5.8.22
+	 */
+	public List<Entity> pageAfter(Entity where, Object[] lastKey, int pageSize, Order... orders) throws SQLException {
+		return pageAfter(where.getFieldNames(), where, lastKey, pageSize, new EntityListHandler(this.caseInsensitive), orders);
+	}
+
+	/**
+	 * 键集分页（Keyset/Seek）查询，即只查询排序在上一页最后一条记录之后的记录
+	 *
+	 * @param <T>      结果对象类型
+	 * @param fields   返回的字段列表，null则返回所有字段
+	 * @param where    条件实体类（包含表名）
+	 * @param lastKey  上一页最后一条记录的键值，与排序字段一一对应，{@code null}或空表示第一页
+	 * @param pageSize 每页结果数
+	 * @param rsh      结果集处理对象
+	 * @param orders   排序，即键字段，不能为空
+	 * @return 结果对象
+	 * @throws SQLException SQL执行异常
+	 * @see #pageAfter(Entity, Object[], int, Order...)
+	 * @since 5.8.22
+	 */
+	public <T> T pageAfter(Collection<String> fields, Entity where, Object[] lastKey, int pageSize, RsHandler<T> rsh, Order... orders) throws SQLException {
+		final Page page = new Page(0, pageSize);
+		page.setOrder(orders);
+		Connection conn = null;
+		try {
+			conn = this.getReadConnection();
+			return runner.pageAfter(conn, Query.of(where).setFields(fields).setPage(page), lastKey, rsh);
+		} finally {
+			this.closeConnection(conn);
+		}
+	}
 	// ---------------------------------------------------------------------------- CRUD end
 
 	// ---------------------------------------------------------------------------- Getters and Setters start
@@ -1067,6 +1248,27 @@ public abstract class AbstractDb implements Serializable {
 
 	// ---------------------------------------------------------------------------- protected method start
 
+	/**
+	 * 获取用于流式查询的连接，默认与其它操作使用相同的连接
+	 *
+	 * @return 连接
+	 * @throws SQLException SQL执行异常
+	 * @since 5.8.22
+	 */
+	protected Connection getStreamConnection() throws SQLException {
+		return getReadConnection();
+	}
+
+	/**
+	 * 关闭用于流式查询的连接，默认调用{@link #closeConnection(Connection)}
+	 *
+	 * @param conn 连接
+	 * @since 5.8.22
+	 */
+	protected void closeStreamConnection(Connection conn) {
+		closeConnection(conn);
+	}
+
 	/**
 	 * 检查数据库是否支持事务，此项检查同一个数据源只检查一次，如果不支持抛出DbRuntimeException异常
 	 *
@@ -1083,4 +1285,22 @@ public abstract class AbstractDb implements Serializable {
 		}
 	}
 	// ---------------------------------------------------------------------------- protected method end
+
+	/**
+	 * 恢复流式查询前连接的自动提交状态（方言可能为游标读取关闭自动提交）并关闭连接
+	 *
+	 * @param conn       连接
+	 * @param autoCommit 流式查询前的自动提交状态
+	 */
+	private void releaseStreamConnection(Connection conn, boolean autoCommit) {
+		try {
+			if (autoCommit && false == conn.getAutoCommit()) {
+				// 只读查询，恢复自动提交时提交事务即可
+				conn.setAutoCommit(true);
+			}
+		} catch (SQLException e) {
+			// ignore
+		}
+		closeStreamConnection(conn);
+	}
 }
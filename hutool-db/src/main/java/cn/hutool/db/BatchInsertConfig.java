@@ -0,0 +1,143 @@
+package cn.hutool.db;
+
+import cn.hutool.core.lang.Assert;
+
+import java.io.Serializable;
+
+/**
+ * 流式批量插入配置，用于{@link AbstractDb#insertBatch(java.util.Iterator, BatchInsertConfig)}
+ *
+ * @author looly
+ * @since 5.8.22
+ */
+public class BatchInsertConfig implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 单条语句最多的参数个数，PostgreSQL等驱动限制占位符数量不超过32767
+	 */
+	public static final int MAX_PARAMS_PER_STATEMENT = 32767;
+
+	/**
+	 * 每批记录数
+	 */
+	private int batchSize = 1000;
+	/**
+	 * 是否每批执行后提交事务
+	 */
+	private boolean commitPerBatch;
+	/**
+	 * 方言支持时是否使用多行 INSERT ... VALUES (...), (...) 语句
+	 */
+	private boolean multiRow = true;
+	/**
+	 * 进度监听
+	 */
+	private ProgressListener listener;
+
+	/**
+	 * 创建默认配置，每批1000条，方言支持时使用多行插入
+	 *
+	 * @return BatchInsertConfig
+	 */
+	public static BatchInsertConfig create() {
+		return new BatchInsertConfig();
+	}
+
+	/**
+	 * 获取每批记录数
+	 *
+	 * @return 每批记录数
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * 设置每批记录数，每累积到此数量执行一次
+	 *
+	 * @param batchSize 每批记录数，必须大于0
+	 * @return this
+	 */
+	public BatchInsertConfig setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than 0!");
+		this.batchSize = batchSize;
+		return this;
+	}
+
+	/**
+	 * 是否每批执行后提交事务
+	 *
+	 * @return 是否每批执行后提交事务
+	 */
+	public boolean isCommitPerBatch() {
+		return commitPerBatch;
+	}
+
+	/**
+	 * 设置是否每批执行后提交事务<br>
+	 * 开启后插入期间关闭自动提交，每批执行后提交，出错时回滚当前批次，已提交的批次不回滚，结束后恢复原自动提交状态。<br>
+	 * 在{@link Session}事务中不应开启此选项。
+	 *
+	 * @param commitPerBatch 是否每批执行后提交事务
+	 * @return this
+	 */
+	public BatchInsertConfig setCommitPerBatch(boolean commitPerBatch) {
+		this.commitPerBatch = commitPerBatch;
+		return this;
+	}
+
+	/**
+	 * 方言支持时是否使用多行插入语句
+	 *
+	 * @return 是否使用多行插入语句
+	 */
+	public boolean isMultiRow() {
+		return multiRow;
+	}
+
+	/**
+	 * 设置方言支持时是否使用多行 INSERT ... VALUES (...), (...) 语句，不支持的方言使用JDBC批处理
+	 *
+	 * @param multiRow 是否使用多行插入语句
+	 * @return this
+	 */
+	public BatchInsertConfig setMultiRow(boolean multiRow) {
+		this.multiRow = multiRow;
+		return this;
+	}
+
+	/**
+	 * 获取进度监听
+	 *
+	 * @return 进度监听
+	 */
+	public ProgressListener getListener() {
+		return listener;
+	}
+
+	/**
+	 * 设置进度监听，每批执行后调用
+	 *
+	 * @param listener 进度监听
+	 * @return this
+	 */
+	public BatchInsertConfig setListener(ProgressListener listener) {
+		this.listener = listener;
+		return this;
+	}
+
+	/**
+	 * 批量插入进度监听
+	 */
+	@FunctionalInterface
+	public interface ProgressListener {
+		/**
+		 * 每批执行后调用
+		 *
+		 * @param rowCount      已处理的记录数
+		 * @param affectedCount 已影响的行数
+		 */
+		void onProgress(long rowCount, long affectedCount);
+	}
+}
@@ -4,6 +4,7 @@ import cn.hutool.core.lang.func.VoidFunc1;
 import cn.hutool.db.dialect.Dialect;
 import cn.hutool.db.dialect.DialectFactory;
 import cn.hutool.db.ds.DSFactory;
+import cn.hutool.db.ds.RoutingDataSource;
 import cn.hutool.db.sql.Wrapper;
 import cn.hutool.db.transaction.TransactionLevel;
 import cn.hutool.log.StaticLog;
@@ -143,6 +144,33 @@ public class Db extends AbstractDb {
 		ThreadLocalConnection.INSTANCE.close(this.ds);
 	}
 
+	/**
+	 * 获取用于流式查询的连接<br>
+	 * 当前线程在事务中时使用事务连接，否则从数据源获取独立的连接，避免流未关闭时同一线程的其它操作关闭线程绑定的连接
+	 */
+	@Override
+	protected Connection getStreamConnection() throws SQLException {
+		final Connection conn = ThreadLocalConnection.INSTANCE.getIfPresent(this.ds);
+		if (null != conn && false == conn.getAutoCommit()) {
+			return conn;
+		}
+		final boolean previous = RoutingDataSource.setReadHint(true);
+		try {
+			return this.ds.getConnection();
+		} finally {
+			RoutingDataSource.setReadHint(previous);
+		}
+	}
+
+	@Override
+	protected void closeStreamConnection(Connection conn) {
+		if (conn == ThreadLocalConnection.INSTANCE.getIfPresent(this.ds)) {
+			// 事务连接由事务负责关闭
+			return;
+		}
+		DbUtil.close(conn);
+	}
+
 	/**
 	 * 执行事务，使用默认的事务级别<br>
 	 * 在同一事务中，所有对数据库操作都是原子的，同时提交或者同时回滚
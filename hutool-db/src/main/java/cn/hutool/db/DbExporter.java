@@ -0,0 +1,464 @@
+package cn.hutool.db;
+
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.exceptions.ExceptionUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.text.csv.CsvWriter;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.db.handler.HandleHelper;
+import cn.hutool.db.handler.ResultSetIter;
+import cn.hutool.db.sql.SqlBuilder;
+
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 查询结果导出器，将大量数据以流水线方式导出到CSV、Excel等，内存占用有上限：
+ * <ul>
+ *     <li>读取线程通过{@link Db#iter(SqlBuilder, int, ResultSetIter.RowHandler)}流式读取结果，每{@link #setBatchSize(int)}行为一批</li>
+ *     <li>每批数据提交到转换线程池转换（如格式化为字符串），转换结果按照读取顺序放入有界队列</li>
+ *     <li>调用线程从队列中依次取出转换结果并写出，写出较慢时队列满，读取线程阻塞，内存中最多有{@link #setQueueSize(int)}加分区数批数据</li>
+ *     <li>通过{@link #setPartition(String, int)}按照数字主键的范围将查询拆分为多个分区，每个分区使用独立的连接并行读取</li>
+ * </ul>
+ * 不分区时，导出顺序与查询结果一致；分区时，各分区的数据交替写出，分区内保持查询顺序。
+ *
+ * <pre>
+ * // 导出到CSV
+ * DbExporter.of(db, "select * from user").exportCsv(csvWriter);
+ * // 导出到Excel，使用BigExcelWriter
+ * DbExporter.of(db, "select * from user")
+ *     .setPartition("id", 4)
+ *     .export(excelWriter::writeHeadRow, Function.identity(), excelWriter::writeRow);
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.22
+ */
+public class DbExporter {
+
+	/**
+	 * 默认每批的行数
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 500;
+
+	private final Db db;
+	private final String sql;
+	private final Object[] params;
+
+	private int fetchSize = AbstractDb.DEFAULT_FETCH_SIZE;
+	private int batchSize = DEFAULT_BATCH_SIZE;
+	private int threadSize = Math.max(1, Runtime.getRuntime().availableProcessors());
+	private int queueSize = threadSize * 2;
+	private String partitionColumn;
+	private int partitionCount = 1;
+
+	/**
+	 * 创建导出器
+	 *
+	 * @param db     {@link Db}，分区导出时每个分区从其数据源获取独立的连接
+	 * @param sql    查询语句
+	 * @param params 参数
+	 * @return DbExporter
+	 */
+	public static DbExporter of(Db db, String sql, Object... params) {
+		return new DbExporter(db, sql, params);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param db     {@link Db}，分区导出时每个分区从其数据源获取独立的连接
+	 * @param sql    查询语句
+	 * @param params 参数
+	 */
+	public DbExporter(Db db, String sql, Object... params) {
+		this.db = Assert.notNull(db, "Db must be not null!");
+		this.sql = Assert.notBlank(sql, "Sql must be not blank!");
+		this.params = params;
+	}
+
+	/**
+	 * 设置每次从数据库获取的行数，默认{@link AbstractDb#DEFAULT_FETCH_SIZE}
+	 *
+	 * @param fetchSize 每次获取的行数
+	 * @return this
+	 */
+	public DbExporter setFetchSize(int fetchSize) {
+		this.fetchSize = fetchSize;
+		return this;
+	}
+
+	/**
+	 * 设置每批转换的行数，默认{@link #DEFAULT_BATCH_SIZE}
+	 *
+	 * @param batchSize 每批的行数，大于0
+	 * @return this
+	 */
+	public DbExporter setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than 0!");
+		this.batchSize = batchSize;
+		return this;
+	}
+
+	/**
+	 * 设置转换线程数，默认为CPU核数
+	 *
+	 * @param threadSize 转换线程数，大于0
+	 * @return this
+	 */
+	public DbExporter setThreadSize(int threadSize) {
+		Assert.isTrue(threadSize > 0, "Thread size must be greater than 0!");
+		this.threadSize = threadSize;
+		return this;
+	}
+
+	/**
+	 * 设置等待写出的最大批数，队列满时读取线程阻塞，默认为转换线程数的2倍
+	 *
+	 * @param queueSize 最大批数，大于0
+	 * @return this
+	 */
+	public DbExporter setQueueSize(int queueSize) {
+		Assert.isTrue(queueSize > 0, "Queue size must be greater than 0!");
+		this.queueSize = queueSize;
+		return this;
+	}
+
+	/**
+	 * 设置分区读取，按照指定数字列的最小值和最大值将查询拆分为多个范围，每个范围使用独立的连接并行读取<br>
+	 * 分区查询将原查询作为子查询，并添加范围条件，列名原样使用，分区列应有索引。分区列为{@code NULL}的行在第一个分区中读取。
+	 *
+	 * @param column 分区列，一般为自增主键，值必须为整数
+	 * @param count  分区数，1表示不分区
+	 * @return this
+	 */
+	public DbExporter setPartition(String column, int count) {
+		Assert.isTrue(count > 0, "Partition count must be greater than 0!");
+		Assert.isTrue(count == 1 || null != column, "Partition column must be not null!");
+		this.partitionColumn = column;
+		this.partitionCount = count;
+		return this;
+	}
+
+	/**
+	 * 导出到CSV，首行为列名，值使用{@link Convert#toStr(Object)}转换为字符串，导出完毕后刷新但不关闭CsvWriter
+	 *
+	 * @param writer {@link CsvWriter}
+	 * @return 导出的行数
+	 * @throws SQLException SQL执行异常
+	 */
+	public long exportCsv(CsvWriter writer) throws SQLException {
+		final long count = export(header -> writer.writeHeaderLine(header.toArray(new String[0])),
+				row -> {
+					final String[] line = new String[row.size()];
+					for (int i = 0; i < line.length; i++) {
+						line[i] = Convert.toStr(row.get(i));
+					}
+					return line;
+				}, writer::writeLine);
+		writer.flush();
+		return count;
+	}
+
+	/**
+	 * 导出，转换在转换线程池中执行，列名和行的写出在调用线程中执行
+	 *
+	 * @param <T>          转换后的行类型
+	 * @param headerWriter 列名写出器，{@code null}表示不写出列名
+	 * @param converter    行转换器，行中的Clob和Blob已读取为String和byte[]，需线程安全
+	 * @param rowWriter    行写出器
+	 * @return 导出的行数
+	 * @throws SQLException SQL执行异常
+	 */
+	public <T> long export(Consumer<List<String>> headerWriter, Function<List<Object>, T> converter, Consumer<T> rowWriter) throws SQLException {
+		final List<SqlBuilder> partitions = partition();
+		final ExecutorService readers = Executors.newFixedThreadPool(partitions.size(),
+				ThreadUtil.newNamedThreadFactory("hutool-export-reader-", true));
+		final ExecutorService converters = Executors.newFixedThreadPool(this.threadSize,
+				ThreadUtil.newNamedThreadFactory("hutool-export-converter-", true));
+		final Pipeline<T> pipeline = new Pipeline<>(converter, converters);
+		try {
+			for (SqlBuilder partition : partitions) {
+				readers.execute(() -> pipeline.read(partition));
+			}
+			return pipeline.write(headerWriter, rowWriter, partitions.size());
+		} finally {
+			// 写出失败时通知读取线程停止，并等待其释放连接
+			pipeline.cancelled = true;
+			converters.shutdownNow();
+			readers.shutdown();
+			awaitTermination(readers);
+		}
+	}
+
+	/**
+	 * 按照分区列的范围拆分查询
+	 *
+	 * @return 各分区的查询
+	 * @throws SQLException SQL执行异常
+	 */
+	private List<SqlBuilder> partition() throws SQLException {
+		final List<SqlBuilder> partitions = new ArrayList<>(this.partitionCount);
+		if (this.partitionCount > 1) {
+			final String rangeSql = "SELECT MIN(" + partitionColumn + "), MAX(" + partitionColumn + ") FROM (" + sql + ") hutool_export";
+			final Object[] range = db.query(rangeSql, rs -> {
+				rs.next();
+				return new Object[]{rs.getObject(1), rs.getObject(2)};
+			}, params);
+			if (null != range[0]) {
+				final Long min = Convert.toLong(range[0]);
+				final Long max = Convert.toLong(range[1]);
+				if (null == min || null == max) {
+					throw new DbRuntimeException("Partition column [{}] must be integer!", partitionColumn);
+				}
+				// 范围小于分区数时减少分区
+				final long step = (max - min) / Math.min(this.partitionCount, max - min + 1) + 1;
+				final long count = (max - min) / step + 1;
+				for (int i = 0; i < count; i++) {
+					final long lower = min + step * i;
+					if (i == count - 1) {
+						// 最后一个分区不设上限，包含导出期间新增的数据
+						partitions.add(SqlBuilder.of(partitionSql(partitionColumn, false, 0 == i))
+								.addParams(params).addParams(lower));
+					} else {
+						partitions.add(SqlBuilder.of(partitionSql(partitionColumn, true, 0 == i))
+								.addParams(params).addParams(lower, lower + step));
+					}
+				}
+				return partitions;
+			}
+		}
+		// 不分区或无数据
+		partitions.add(SqlBuilder.of(sql).addParams(params));
+		return partitions;
+	}
+
+	/**
+	 * 等待读取线程结束
+	 *
+	 * @param readers 读取线程池
+	 */
+	private static void awaitTermination(ExecutorService readers) {
+		try {
+			while (false == readers.awaitTermination(1, TimeUnit.SECONDS)) {
+				// 读取线程在当前批次读取完毕后检查取消标记并退出
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * 生成分区查询语句，原查询作为子查询
+	 *
+	 * @param column   分区列
+	 * @param hasUpper 是否包含上限条件
+	 * @param withNull 是否包含分区列为{@code NULL}的行，范围条件无法匹配{@code NULL}，由第一个分区读取
+	 * @return 分区查询语句
+	 */
+	private String partitionSql(String column, boolean hasUpper, boolean withNull) {
+		String condition = column + " >= ?";
+		if (hasUpper) {
+			condition += " AND " + column + " < ?";
+		}
+		if (withNull) {
+			condition = "(" + condition + ") OR " + column + " IS NULL";
+		}
+		return "SELECT * FROM (" + sql + ") hutool_export WHERE " + condition;
+	}
+
+	/**
+	 * 一次导出的流水线，读取线程读取并提交转换，调用线程按照提交顺序写出
+	 *
+	 * @param <T> 转换后的行类型
+	 */
+	private class Pipeline<T> {
+		private final Function<List<Object>, T> converter;
+		private final ExecutorService converters;
+		/**
+		 * 各批的转换结果，按照提交顺序排列
+		 */
+		private final BlockingQueue<Future<List<T>>> queue = new ArrayBlockingQueue<>(queueSize);
+		/**
+		 * 分区读取结束标记
+		 */
+		private final Future<List<T>> end = CompletableFuture.completedFuture(null);
+		private final AtomicReference<List<String>> header = new AtomicReference<>();
+		private final AtomicReference<Throwable> error = new AtomicReference<>();
+		private volatile boolean cancelled;
+
+		Pipeline(Function<List<Object>, T> converter, ExecutorService converters) {
+			this.converter = converter;
+			this.converters = converters;
+		}
+
+		/**
+		 * 读取一个分区，在读取线程中执行
+		 *
+		 * @param partition 分区查询
+		 */
+		void read(SqlBuilder partition) {
+			try (final ResultSetIter<List<Object>> iter = db.iter(partition, fetchSize, DbExporter::readRow)) {
+				header.compareAndSet(null, labels(iter.getMetaData()));
+				List<List<Object>> batch = new ArrayList<>(batchSize);
+				while (false == cancelled && iter.hasNext()) {
+					batch.add(iter.next());
+					if (batch.size() >= batchSize) {
+						submit(batch);
+						batch = new ArrayList<>(batchSize);
+					}
+				}
+				if (false == batch.isEmpty()) {
+					submit(batch);
+				}
+			} catch (Throwable e) {
+				error.compareAndSet(null, e);
+			} finally {
+				put(end);
+			}
+		}
+
+		/**
+		 * 写出所有分区的转换结果，在调用线程中执行
+		 *
+		 * @param headerWriter   列名写出器
+		 * @param rowWriter      行写出器
+		 * @param partitionCount 分区数
+		 * @return 写出的行数
+		 * @throws SQLException SQL执行异常
+		 */
+		long write(Consumer<List<String>> headerWriter, Consumer<T> rowWriter, int partitionCount) throws SQLException {
+			long count = 0;
+			boolean headerWritten = (null == headerWriter);
+			int endCount = 0;
+			try {
+				while (endCount < partitionCount && null == error.get()) {
+					final Future<List<T>> future = queue.take();
+					if (end == future) {
+						endCount++;
+						continue;
+					}
+					final List<T> rows = future.get();
+					if (false == headerWritten) {
+						headerWriter.accept(header.get());
+						headerWritten = true;
+					}
+					for (T row : rows) {
+						rowWriter.accept(row);
+					}
+					count += rows.size();
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new DbRuntimeException(e);
+			} catch (ExecutionException e) {
+				error.compareAndSet(null, e.getCause());
+			}
+
+			final Throwable e = error.get();
+			if (null != e) {
+				if (e instanceof SQLException) {
+					throw (SQLException) e;
+				}
+				throw ExceptionUtil.wrapRuntime(e);
+			}
+			if (false == headerWritten && null != header.get()) {
+				// 无数据时仍写出列名
+				headerWriter.accept(header.get());
+			}
+			return count;
+		}
+
+		/**
+		 * 提交一批数据转换，队列满时阻塞
+		 *
+		 * @param batch 一批行数据
+		 */
+		private void submit(List<List<Object>> batch) {
+			put(converters.submit(() -> {
+				final List<T> rows = new ArrayList<>(batch.size());
+				for (List<Object> row : batch) {
+					rows.add(converter.apply(row));
+				}
+				return rows;
+			}));
+		}
+
+		/**
+		 * 放入队列，队列满时阻塞，直到有空位或导出被取消
+		 *
+		 * @param future 转换结果
+		 */
+		private void put(Future<List<T>> future) {
+			try {
+				while (false == queue.offer(future, 100, TimeUnit.MILLISECONDS)) {
+					if (cancelled) {
+						return;
+					}
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				cancelled = true;
+			}
+		}
+	}
+
+	/**
+	 * 读取当前行，Clob和Blob在读取线程中读取，避免结果集移动后失效，不支持超过2GB的Blob
+	 *
+	 * @param columnCount 列数
+	 * @param meta        结果集元数据
+	 * @param rs          结果集
+	 * @return 行数据
+	 * @throws SQLException SQL异常
+	 */
+	private static List<Object> readRow(int columnCount, ResultSetMetaData meta, ResultSet rs) throws SQLException {
+		final List<Object> row = HandleHelper.handleRowToList(columnCount, meta, rs);
+		for (int i = 0; i < columnCount; i++) {
+			final Object value = row.get(i);
+			if (value instanceof Clob) {
+				row.set(i, Convert.toStr(value));
+			} else if (value instanceof Blob) {
+				final Blob blob = (Blob) value;
+				final long length = blob.length();
+				if (length > Integer.MAX_VALUE) {
+					throw new DbRuntimeException("Blob of column [{}] is too large to export: {} bytes", meta.getColumnLabel(i + 1), length);
+				}
+				row.set(i, blob.getBytes(1, (int) length));
+			}
+		}
+		return row;
+	}
+
+	/**
+	 * 获取列名
+	 *
+	 * @param meta 结果集元数据
+	 * @return 列名
+	 * @throws SQLException SQL异常
+	 */
+	private static List<String> labels(ResultSetMetaData meta) throws SQLException {
+		final int columnCount = meta.getColumnCount();
+		final List<String> labels = new ArrayList<>(columnCount);
+		for (int i = 1; i <= columnCount; i++) {
+			labels.add(meta.getColumnLabel(i));
+		}
+		return labels;
+	}
+}
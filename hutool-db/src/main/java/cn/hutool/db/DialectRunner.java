@@ -18,6 +18,11 @@ import java.io.Serializable;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
 
 /**
  * 提供基于方言的原始增删改查执行封装
@@ -86,6 +91,85 @@ public class DialectRunner implements Serializable {
 		}
 	}
 
+	/**
+	 * 流式批量插入数据，每累积{@link BatchInsertConfig#getBatchSize()}条记录执行一次，内存中只保留一批记录<br>
+	 * 方言支持时（如MySQL、PostgreSQL、H2）使用多行 INSERT ... VALUES (...), (...) 语句，否则使用JDBC批处理<br>
+	 * 每批记录的结构必须与第一条记录一致，此方法不会关闭Connection
+	 *
+	 * @param conn    数据库连接
+	 * @param records 记录，可为惰性生成的记录
+	 * @param config  批量插入配置，{@code null}表示使用默认配置
+	 * @return 影响的总行数
+	 * @throws SQLException SQL执行异常
+	 * @since 5.8.22
+	 */
+	public long insertBatch(Connection conn, Iterator<Entity> records, BatchInsertConfig config) throws SQLException {
+		checkConn(conn);
+		if (null == config) {
+			config = BatchInsertConfig.create();
+		}
+		final int batchSize = config.getBatchSize();
+		final boolean commitPerBatch = config.isCommitPerBatch();
+		final BatchInsertConfig.ProgressListener listener = config.getListener();
+		final boolean restoreAutoCommit = commitPerBatch && conn.getAutoCommit();
+		if (restoreAutoCommit) {
+			conn.setAutoCommit(false);
+		}
+
+		boolean multiRow = config.isMultiRow();
+		final List<Entity> batch = new ArrayList<>(Math.min(batchSize, 1024));
+		long rowCount = 0;
+		long affectedCount = 0;
+		try {
+			while (records.hasNext()) {
+				batch.add(records.next());
+				if (batch.size() < batchSize && records.hasNext()) {
+					continue;
+				}
+
+				final Entity[] entities = batch.toArray(new Entity[0]);
+				batch.clear();
+				long affected = -1;
+				if (multiRow) {
+					try {
+						affected = insertMultiRow(conn, entities);
+					} catch (SQLFeatureNotSupportedException e) {
+						// 方言不支持，之后的批次使用JDBC批处理
+						multiRow = false;
+					}
+				}
+				if (affected < 0) {
+					PreparedStatement ps = null;
+					try {
+						ps = dialect.psForInsertBatch(conn, entities);
+						affected = SqlUtil.sumAffectedRows(ps.executeBatch());
+					} finally {
+						DbUtil.close(ps);
+					}
+				}
+				if (commitPerBatch) {
+					conn.commit();
+				}
+
+				rowCount += entities.length;
+				affectedCount += affected;
+				if (null != listener) {
+					listener.onProgress(rowCount, affectedCount);
+				}
+			}
+		} catch (SQLException | RuntimeException e) {
+			if (commitPerBatch) {
+				quietRollback(conn);
+			}
+			throw e;
+		} finally {
+			if (restoreAutoCommit) {
+				quietSetAutoCommit(conn);
+			}
+		}
+		return affectedCount;
+	}
+
 	/**
 	 * 更新或插入数据<br>
 	 * 此方法不会关闭Connection
@@ -283,6 +367,79 @@ public class DialectRunner implements Serializable {
 				new NumberHandler()).longValue();
 	}
 
+	/**
+	 * 获取分页结果的总数，按照分页对象的{@link Page#getTotalMode()}精确统计、估算或不统计<br>
+	 * 此方法不会关闭Connection
+	 *
+	 * @param conn       数据库连接对象
+	 * @param sqlBuilder 查询语句
+	 * @param page       分页对象
+	 * @return 结果总数，不统计时返回-1
+	 * @throws SQLException SQL执行异常
+	 * @since 5.8.22
+	 */
+	public long countForPage(Connection conn, SqlBuilder sqlBuilder, Page page) throws SQLException {
+		switch (page.getTotalMode()) {
+			case NONE:
+				return -1;
+			case ESTIMATE:
+				checkConn(conn);
+				final long estimated = dialect.estimateCount(conn, sqlBuilder);
+				if (estimated >= 0) {
+					return estimated;
+				}
+				// 方言不支持估算时精确统计
+			default:
+				return count(conn, sqlBuilder);
+		}
+	}
+
+	/**
+	 * 获取分页结果的总数，按照分页对象的{@link Page#getTotalMode()}精确统计、估算或不统计<br>
+	 * 此方法不会关闭Connection
+	 *
+	 * @param conn  数据库连接对象
+	 * @param where 查询条件
+	 * @param page  分页对象
+	 * @return 结果总数，不统计时返回-1
+	 * @throws SQLException SQL执行异常
+	 * @since 5.8.22
+	 */
+	public long countForPage(Connection conn, Entity where, Page page) throws SQLException {
+		switch (page.getTotalMode()) {
+			case NONE:
+				return -1;
+			case ESTIMATE:
+				checkConn(conn);
+				final long estimated = dialect.estimateCount(conn, SqlBuilder.create(dialect.getWrapper()).query(Query.of(where)));
+				if (estimated >= 0) {
+					return estimated;
+				}
+				// 方言不支持估算时精确统计
+			default:
+				return count(conn, where);
+		}
+	}
+
+	/**
+	 * 键集分页（Keyset/Seek）查询，即只查询排序在上一页最后一条记录之后的记录<br>
+	 * 与LIMIT/OFFSET分页相比，查询耗时与页码无关，适用于大表的顺序翻页和遍历。<br>
+	 * 此方法不会关闭Connection
+	 *
+	 * @param <T>     结果对象类型
+	 * @param conn    数据库连接对象
+	 * @param query   查询条件（包含表名），分页对象中的排序字段即为键，排序字段的组合必须唯一，页码被忽略
+	 * @param lastKey 上一页最后一条记录的键值，与排序字段一一对应，{@code null}或空表示第一页
+	 * @param rsh     结果集处理对象
+	 * @return 结果对象
+	 * @throws SQLException SQL执行异常
+	 * @since 5.8.22
+	 */
+	public <T> T pageAfter(Connection conn, Query query, Object[] lastKey, RsHandler<T> rsh) throws SQLException {
+		checkConn(conn);
+		return SqlExecutor.queryAndClosePs(dialect.psForPageAfter(conn, query, lastKey), rsh);
+	}
+
 	/**
 	 * 分页查询<br>
 	 * 此方法不会关闭Connection
@@ -378,5 +535,58 @@ public class DialectRunner implements Serializable {
 	private void checkConn(Connection conn) {
 		Assert.notNull(conn, "Connection object must be not null!");
 	}
+
+	/**
+	 * 使用多行插入语句插入一批记录，按照{@link BatchInsertConfig#MAX_PARAMS_PER_STATEMENT}拆分为多条语句
+	 *
+	 * @param conn     数据库连接
+	 * @param entities 记录
+	 * @return 影响的行数
+	 * @throws SQLException SQL执行异常，方言不支持时抛出{@link SQLFeatureNotSupportedException}
+	 */
+	private long insertMultiRow(Connection conn, Entity[] entities) throws SQLException {
+		final long fieldCount = entities[0].keySet().stream().filter(StrUtil::isNotBlank).count();
+		final int rowsPerStatement = (int) Math.max(1, BatchInsertConfig.MAX_PARAMS_PER_STATEMENT / Math.max(1, fieldCount));
+
+		long affected = 0;
+		for (int from = 0; from < entities.length; from += rowsPerStatement) {
+			final Entity[] rows = (0 == from && entities.length <= rowsPerStatement) ? entities :
+					Arrays.copyOfRange(entities, from, Math.min(entities.length, from + rowsPerStatement));
+			PreparedStatement ps = null;
+			try {
+				ps = dialect.psForInsertMultiRow(conn, rows);
+				affected += ps.executeUpdate();
+			} finally {
+				DbUtil.close(ps);
+			}
+		}
+		return affected;
+	}
+
+	/**
+	 * 静默回滚事务
+	 *
+	 * @param conn 数据库连接
+	 */
+	private static void quietRollback(Connection conn) {
+		try {
+			conn.rollback();
+		} catch (SQLException ignore) {
+			// ignore
+		}
+	}
+
+	/**
+	 * 静默恢复自动提交
+	 *
+	 * @param conn 数据库连接
+	 */
+	private static void quietSetAutoCommit(Connection conn) {
+		try {
+			conn.setAutoCommit(true);
+		} catch (SQLException ignore) {
+			// ignore
+		}
+	}
 	//---------------------------------------------------------------------------- Private method start
 }
@@ -30,6 +30,10 @@ public class Page implements Segment<Integer>, Serializable {
 	 * 排序
 	 */
 	private Order[] orders;
+	/**
+	 * 结果总数的统计方式
+	 */
+	private PageTotalMode totalMode = PageTotalMode.EXACT;
 
 	/**
 	 * 创建Page对象
@@ -43,6 +47,19 @@ public class Page implements Segment<Integer>, Serializable {
 		return new Page(pageNumber, pageSize);
 	}
 
+	/**
+	 * 创建相同每页结果数和排序的第一页Page对象
+	 *
+	 * @param page 分页对象
+	 * @return 第一页的Page对象
+	 * @since 5.8.22
+	 */
+	public static Page firstOf(Page page) {
+		final Page firstPage = new Page(0, page.getPageSize());
+		firstPage.setOrder(page.getOrders());
+		return firstPage;
+	}
+
 	// ---------------------------------------------------------- Constructor start
 
 	/**
@@ -136,6 +153,24 @@ public class Page implements Segment<Integer>, Serializable {
 	public void addOrder(Order... orders) {
 		this.orders = ArrayUtil.append(this.orders, orders);
 	}
+
+	/**
+	 * @return 结果总数的统计方式
+	 * @since 5.8.22
+	 */
+	public PageTotalMode getTotalMode() {
+		return totalMode;
+	}
+
+	/**
+	 * 设置结果总数的统计方式，默认{@link PageTotalMode#EXACT}
+	 *
+	 * @param totalMode 结果总数的统计方式
+	 * @since 5.8.22
+	 */
+	public void setTotalMode(PageTotalMode totalMode) {
+		this.totalMode = null == totalMode ? PageTotalMode.EXACT : totalMode;
+	}
 	// ---------------------------------------------------------- Getters and Setters end
 
 	/**
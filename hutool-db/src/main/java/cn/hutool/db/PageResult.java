@@ -59,13 +59,13 @@ public class PageResult<T> extends ArrayList<T> {
 	 *
 	 * @param page     页码，0表示第一页
 	 * @param pageSize 每页结果数
-	 * @param total    结果总数
+	 * @param total    结果总数，小于0表示未统计，此时总页数为-1
 	 */
 	public PageResult(int page, int pageSize, int total) {
 		this(page, pageSize);
 
 		this.total = total;
-		this.totalPage = PageUtil.totalPage(total, pageSize);
+		this.totalPage = total < 0 ? -1 : PageUtil.totalPage(total, pageSize);
 	}
 	//---------------------------------------------------------- Constructor end
 
@@ -146,9 +146,14 @@ public class PageResult<T> extends ArrayList<T> {
 	}
 
 	/**
+	 * 是否最后一页，未统计总数时，根据本页结果数是否不足每页结果数判断
+	 *
 	 * @return 是否最后一页
 	 */
 	public boolean isLast() {
+		if (this.totalPage < 0) {
+			return size() < this.pageSize;
+		}
 		return this.page >= (this.totalPage - 1);
 	}
 }
@@ -0,0 +1,23 @@
+package cn.hutool.db;
+
+/**
+ * 分页查询时结果总数的统计方式<br>
+ * 大表上精确统计（SELECT count(1)）的耗时可能远超分页查询本身，此时可选择估算或不统计总数
+ *
+ * @author looly
+ * @since 5.8.22
+ */
+public enum PageTotalMode {
+	/**
+	 * 精确统计，即执行 SELECT count(1)
+	 */
+	EXACT,
+	/**
+	 * 估算，使用数据库执行计划中的预估行数（如MySQL和PostgreSQL的EXPLAIN），方言不支持估算时退回到精确统计
+	 */
+	ESTIMATE,
+	/**
+	 * 不统计，结果总数和总页数为-1
+	 */
+	NONE
+}
@@ -285,6 +285,18 @@ public class Session extends AbstractDb implements Closeable {
 		return ThreadLocalConnection.INSTANCE.get(this.ds);
 	}
 
+	/**
+	 * Session的连接在当前线程中共享，并可能用于写操作和事务，因此查询不标记为只读，始终使用主库
+	 *
+	 * @return {@link Connection}
+	 * @throws SQLException 连接获取异常
+	 * @since 5.8.22
+	 */
+	@Override
+	protected Connection getReadConnection() throws SQLException {
+		return getConnection();
+	}
+
 	@Override
 	public void closeConnection(Connection conn) {
 		try {
@@ -224,6 +224,36 @@ public class StatementUtil {
 		return ps;
 	}
 
+	/**
+	 * 创建用于流式查询的{@link PreparedStatement}，结果集为只进只读，并设置每次从数据库获取的行数
+	 *
+	 * @param conn      数据库连接
+	 * @param sql       SQL语句，使用"?"做为占位符
+	 * @param fetchSize 每次从数据库获取的行数，驱动的特殊值（如MySQL的{@link Integer#MIN_VALUE}）直接传递，0表示使用驱动默认值
+	 * @param params    "?"对应参数列表
+	 * @return {@link PreparedStatement}
+	 * @throws SQLException SQL异常
+	 * @since 5.8.22
+	 */
+	public static PreparedStatement prepareStatementForStream(Connection conn, String sql, int fetchSize, Object... params) throws SQLException {
+		Assert.notBlank(sql, "Sql String must be not blank!");
+		sql = sql.trim();
+
+		if(ArrayUtil.isNotEmpty(params) && 1 == params.length && params[0] instanceof Map){
+			// 检查参数是否为命名方式的参数
+			final NamedSql namedSql = new NamedSql(sql, Convert.toMap(String.class, Object.class, params[0]));
+			sql = namedSql.getSql();
+			params = namedSql.getParams();
+		}
+
+		SqlLog.INSTANCE.log(sql, ArrayUtil.isEmpty(params) ? null : params);
+		final PreparedStatement ps = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+		if (0 != fetchSize) {
+			ps.setFetchSize(fetchSize);
+		}
+		return fillParams(ps, params);
+	}
+
 	/**
 	 * 创建{@link CallableStatement}
 	 *
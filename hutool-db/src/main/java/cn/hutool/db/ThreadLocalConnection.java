@@ -35,6 +35,18 @@ public enum ThreadLocalConnection {
 		return groupedConnection.get(ds);
 	}
 
+	/**
+	 * 获取当前线程已持有的数据源对应的数据库连接，不存在时返回{@code null}，不会创建新连接
+	 *
+	 * @param ds 数据源
+	 * @return Connection或{@code null}
+	 * @since 5.8.22
+	 */
+	public Connection getIfPresent(DataSource ds) {
+		final GroupedConnection groupedConnection = threadLocal.get();
+		return null == groupedConnection ? null : groupedConnection.connMap.get(ds);
+	}
+
 	/**
 	 * 关闭数据库，并从线程池中移除
 	 * 
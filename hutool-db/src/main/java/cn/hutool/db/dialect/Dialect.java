@@ -2,6 +2,7 @@ package cn.hutool.db.dialect;
 
 import cn.hutool.db.Entity;
 import cn.hutool.db.Page;
+import cn.hutool.db.StatementUtil;
 import cn.hutool.db.sql.Order;
 import cn.hutool.db.sql.Query;
 import cn.hutool.db.sql.SqlBuilder;
@@ -11,6 +12,7 @@ import java.io.Serializable;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 
 /**
  * SQL方言，不同的数据库由于在某些SQL上有所区别，故为每种数据库配置不同的方言。<br>
@@ -157,6 +159,36 @@ public interface Dialect extends Serializable {
 		return psForPage(conn, sqlBuilder, null);
 	}
 
+	/**
+	 * 构建用于键集分页（Keyset/Seek）查询的{@link PreparedStatement}，即只查询排序在上一页最后一条记录之后的记录，分页页码被忽略<br>
+	 * 默认使用 k1 &gt; ? OR (k1 = ? AND k2 &gt; ?) 形式的条件，支持行值比较的方言可使用 (k1, k2) &gt; (?, ?) 形式
+	 *
+	 * @param conn    数据库连接对象
+	 * @param query   查询条件（包含表名），分页对象中的排序字段即为键，排序字段的组合必须唯一
+	 * @param lastKey 上一页最后一条记录的键值，与排序字段一一对应，{@code null}或空表示第一页
+	 * @return PreparedStatement
+	 * @throws SQLException SQL执行异常
+	 * @since 5.8.22
+	 */
+	default PreparedStatement psForPageAfter(Connection conn, Query query, Object[] lastKey) throws SQLException {
+		final SqlBuilder find = SqlBuilder.create(getWrapper()).queryAfter(query, lastKey, false);
+		return psForPage(conn, find, Page.firstOf(query.getPage()));
+	}
+
+	/**
+	 * 估算查询结果总数，用于分页时避免执行代价较高的 SELECT count(1)<br>
+	 * 估算值来自数据库的统计信息，可能与实际结果数相差较大，方言不支持时返回-1
+	 *
+	 * @param conn       数据库连接对象
+	 * @param sqlBuilder 查询语句，包含参数
+	 * @return 估算的结果数，不支持估算时返回-1
+	 * @throws SQLException SQL执行异常
+	 * @since 5.8.22
+	 */
+	default long estimateCount(Connection conn, SqlBuilder sqlBuilder) throws SQLException {
+		return -1;
+	}
+
 	/**
 	 * 构建用于upsert的{@link PreparedStatement}<br>
 	 * 方言实现需实现此默认方法，如果没有实现，抛出{@link SQLException}
@@ -172,6 +204,36 @@ public interface Dialect extends Serializable {
 		throw new SQLException("Unsupported upsert operation of " + dialectName());
 	}
 
+	/**
+	 * 构建用于流式查询的{@link PreparedStatement}<br>
+	 * 结果集为只进只读，方言可根据数据库特性设置流式读取所需的参数，如MySQL的fetchSize为{@link Integer#MIN_VALUE}，PostgreSQL需关闭自动提交才能使用游标。<br>
+	 * 调用方负责在流关闭后恢复连接的自动提交状态
+	 *
+	 * @param conn       数据库连接对象
+	 * @param sqlBuilder SQL构建器，包含参数
+	 * @param fetchSize  每次从数据库获取的行数
+	 * @return PreparedStatement
+	 * @throws SQLException SQL执行异常
+	 * @since 5.8.22
+	 */
+	default PreparedStatement psForStream(Connection conn, SqlBuilder sqlBuilder, int fetchSize) throws SQLException {
+		return StatementUtil.prepareStatementForStream(conn, sqlBuilder.build(), fetchSize, sqlBuilder.getParamValueArray());
+	}
+
+	/**
+	 * 构建用于多行插入的{@link PreparedStatement}，即一条 INSERT ... VALUES (...), (...) 语句插入多条记录<br>
+	 * 方言实现需实现此默认方法，如果没有实现，抛出{@link SQLFeatureNotSupportedException}，调用方应退回到{@link #psForInsertBatch(Connection, Entity...)}
+	 *
+	 * @param conn     数据库连接对象
+	 * @param entities 数据实体，实体的结构必须全部一致，否则插入结果将不可预知
+	 * @return PreparedStatement
+	 * @throws SQLException SQL执行异常，或方言数据不支持此操作
+	 * @since 5.8.22
+	 */
+	default PreparedStatement psForInsertMultiRow(Connection conn, Entity... entities) throws SQLException {
+		throw new SQLFeatureNotSupportedException("Unsupported multi-row insert operation of " + dialectName());
+	}
+
 
 	/**
 	 * 方言名
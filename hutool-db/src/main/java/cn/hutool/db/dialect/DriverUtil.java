@@ -10,6 +10,7 @@ import cn.hutool.core.util.StrUtil;
 import cn.hutool.db.DbRuntimeException;
 import cn.hutool.db.DbUtil;
 import cn.hutool.db.ds.DataSourceWrapper;
+import cn.hutool.db.ds.RoutingDataSource;
 
 /**
  * 驱动相关工具类，包括自动获取驱动类名
@@ -36,6 +37,10 @@ public class DriverUtil {
 	 * @return 驱动
 	 */
 	public static String identifyDriver(DataSource ds) {
+		if(ds instanceof RoutingDataSource) {
+			// 读写分离数据源以主库为准
+			return identifyDriver(((RoutingDataSource) ds).getPrimary());
+		}
 		if(ds instanceof DataSourceWrapper) {
 			final String driver = ((DataSourceWrapper)ds).getDriver();
 			if(StrUtil.isNotBlank(driver)) {
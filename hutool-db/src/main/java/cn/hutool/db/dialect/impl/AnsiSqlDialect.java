@@ -113,6 +113,23 @@ public class AnsiSqlDialect implements Dialect {
 		return StatementUtil.prepareStatement(conn, sqlBuilder);
 	}
 
+	@Override
+	public PreparedStatement psForPageAfter(Connection conn, Query query, Object[] lastKey) throws SQLException {
+		final SqlBuilder find = SqlBuilder.create(wrapper).queryAfter(query, lastKey, isSupportRowValue());
+		return psForPage(conn, find, Page.firstOf(query.getPage()));
+	}
+
+	/**
+	 * 是否支持行值比较，即 (k1, k2) &gt; (?, ?) 形式的条件<br>
+	 * 支持时键集分页使用此形式，数据库可直接使用联合索引定位起始记录
+	 *
+	 * @return 是否支持行值比较
+	 * @since 5.8.22
+	 */
+	protected boolean isSupportRowValue() {
+		return false;
+	}
+
 	/**
 	 * 根据不同数据库在查询SQL语句基础上包装其分页的语句<br>
 	 * 各自数据库通过重写此方法实现最小改动情况下修改分页语句
@@ -30,6 +30,16 @@ public class H2Dialect extends AnsiSqlDialect {
 		return DialectName.H2.name();
 	}
 
+	@Override
+	protected boolean isSupportRowValue() {
+		return true;
+	}
+
+	@Override
+	public PreparedStatement psForInsertMultiRow(Connection conn, Entity... entities) throws SQLException {
+		return StatementUtil.prepareStatement(conn, SqlBuilder.create(wrapper).insertMultiRow(entities));
+	}
+
 	@Override
 	protected SqlBuilder wrapPageSql(SqlBuilder find, Page page) {
 		// limit A , B 表示：A就是查询的起点位置，B就是你需要多少行。
@@ -5,6 +5,7 @@ import cn.hutool.db.Entity;
 import cn.hutool.db.Page;
 import cn.hutool.db.StatementUtil;
 import cn.hutool.db.dialect.DialectName;
+import cn.hutool.db.sql.SqlExecutor;
 import cn.hutool.db.sql.SqlBuilder;
 import cn.hutool.db.sql.Wrapper;
 
@@ -34,6 +35,44 @@ public class MysqlDialect extends AnsiSqlDialect{
 		return DialectName.MYSQL.toString();
 	}
 
+	@Override
+	protected boolean isSupportRowValue() {
+		return true;
+	}
+
+	/**
+	 * 估算查询结果总数，使用EXPLAIN结果中第一个表的预估扫描行数（rows）乘以过滤比例（filtered）
+	 */
+	@Override
+	public long estimateCount(Connection conn, SqlBuilder sqlBuilder) throws SQLException {
+		return SqlExecutor.query(conn, "EXPLAIN " + sqlBuilder.build(), rs -> {
+			if (false == rs.next()) {
+				return 0L;
+			}
+			double rows = rs.getLong("rows");
+			try {
+				rows = rows * rs.getDouble("filtered") / 100;
+			} catch (SQLException ignore) {
+				// MySQL 5.7以下的EXPLAIN结果无filtered列
+			}
+			return (long) rows;
+		}, sqlBuilder.getParamValueArray());
+	}
+
+	/**
+	 * 构建用于流式查询的{@link PreparedStatement}<br>
+	 * MySQL驱动仅在fetchSize为{@link Integer#MIN_VALUE}时逐行读取，否则会将结果全部加载到内存（开启useCursorFetch时除外），故忽略传入的fetchSize
+	 */
+	@Override
+	public PreparedStatement psForStream(Connection conn, SqlBuilder sqlBuilder, int fetchSize) throws SQLException {
+		return StatementUtil.prepareStatementForStream(conn, sqlBuilder.build(), Integer.MIN_VALUE, sqlBuilder.getParamValueArray());
+	}
+
+	@Override
+	public PreparedStatement psForInsertMultiRow(Connection conn, Entity... entities) throws SQLException {
+		return StatementUtil.prepareStatement(conn, SqlBuilder.create(wrapper).insertMultiRow(entities));
+	}
+
 	/**
 	 * 构建用于upsert的{@link PreparedStatement}<br>
 	 * MySQL通过主键方式实现Upsert，故keys无效，生成SQL语法为：
@@ -2,16 +2,19 @@ package cn.hutool.db.dialect.impl;
 
 import cn.hutool.core.lang.Assert;
 import cn.hutool.core.util.ArrayUtil;
+import cn.hutool.core.util.ReUtil;
 import cn.hutool.core.util.StrUtil;
 import cn.hutool.db.Entity;
 import cn.hutool.db.StatementUtil;
 import cn.hutool.db.dialect.DialectName;
 import cn.hutool.db.sql.SqlBuilder;
+import cn.hutool.db.sql.SqlExecutor;
 import cn.hutool.db.sql.Wrapper;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.regex.Pattern;
 
 
 /**
@@ -22,6 +25,11 @@ import java.sql.SQLException;
 public class PostgresqlDialect extends AnsiSqlDialect{
 	private static final long serialVersionUID = 3889210427543389642L;
 
+	/**
+	 * 执行计划中预估行数的匹配，如：Seq Scan on user  (cost=0.00..35.50 rows=2550 width=4)
+	 */
+	private static final Pattern PATTERN_PLAN_ROWS = Pattern.compile("rows=(\\d+)");
+
 	public PostgresqlDialect() {
 		wrapper = new Wrapper('"');
 	}
@@ -31,6 +39,39 @@ public class PostgresqlDialect extends AnsiSqlDialect{
 		return DialectName.POSTGRESQL.name();
 	}
 
+	@Override
+	protected boolean isSupportRowValue() {
+		return true;
+	}
+
+	/**
+	 * 估算查询结果总数，使用EXPLAIN结果中最外层计划节点的预估行数，其基于pg_class.reltuples等统计信息
+	 */
+	@Override
+	public long estimateCount(Connection conn, SqlBuilder sqlBuilder) throws SQLException {
+		final String plan = SqlExecutor.query(conn, "EXPLAIN " + sqlBuilder.build(),
+				rs -> rs.next() ? rs.getString(1) : null, sqlBuilder.getParamValueArray());
+		final String rows = ReUtil.getGroup1(PATTERN_PLAN_ROWS, plan);
+		return null == rows ? -1 : Long.parseLong(rows);
+	}
+
+	/**
+	 * 构建用于流式查询的{@link PreparedStatement}<br>
+	 * PostgreSQL驱动仅在关闭自动提交且fetchSize大于0时使用游标分批读取，故此处关闭自动提交
+	 */
+	@Override
+	public PreparedStatement psForStream(Connection conn, SqlBuilder sqlBuilder, int fetchSize) throws SQLException {
+		if (conn.getAutoCommit()) {
+			conn.setAutoCommit(false);
+		}
+		return StatementUtil.prepareStatementForStream(conn, sqlBuilder.build(), fetchSize, sqlBuilder.getParamValueArray());
+	}
+
+	@Override
+	public PreparedStatement psForInsertMultiRow(Connection conn, Entity... entities) throws SQLException {
+		return StatementUtil.prepareStatement(conn, SqlBuilder.create(wrapper).insertMultiRow(entities));
+	}
+
 	@Override
 	public PreparedStatement psForUpsert(Connection conn, Entity entity, String... keys) throws SQLException {
 		Assert.notEmpty(keys, "Keys must be not empty for Postgres.");
@@ -12,6 +12,7 @@ import cn.hutool.setting.Setting;
 
 import javax.sql.DataSource;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -101,6 +102,12 @@ public abstract class AbstractDSFactory extends DSFactory {
 			throw new DbRuntimeException("No config for group: [{}]", group);
 		}
 
+		// 读写分离
+		final String primary = config.getAndRemoveStr(KEY_PRIMARY);
+		if (StrUtil.isNotBlank(primary)) {
+			return createRoutingDataSource(group, primary, config);
+		}
+
 		// 基本信息
 		final String url = config.getAndRemoveStr(KEY_ALIAS_URL);
 		if (StrUtil.isBlank(url)) {
@@ -122,6 +129,33 @@ public abstract class AbstractDSFactory extends DSFactory {
 		return DataSourceWrapper.wrap(createDataSource(url, driver, user, pass, config), driver);
 	}
 
+	/**
+	 * 创建读写分离的路由数据源，主库和从库为其它分组的数据源
+	 *
+	 * @param group   分组
+	 * @param primary 主库分组
+	 * @param config  分组配置，包括replicas、stickyTime和ejectTime
+	 * @return {@link DataSourceWrapper} 数据源包装
+	 */
+	private DataSourceWrapper createRoutingDataSource(String group, String primary, Setting config) {
+		if (StrUtil.equals(group, primary)) {
+			throw new DbRuntimeException("Primary group of [{}] must be another group!", group);
+		}
+		final DataSourceWrapper primaryDs = (DataSourceWrapper) getDataSource(primary);
+		final RoutingDataSource routingDs = new RoutingDataSource(primaryDs);
+
+		// 从库，格式为：分组名:权重，权重默认为1
+		for (String replica : StrUtil.splitTrim(config.getStr(KEY_REPLICAS), StrUtil.C_COMMA)) {
+			final List<String> groupAndWeight = StrUtil.splitTrim(replica, StrUtil.C_COLON, 2);
+			final double weight = groupAndWeight.size() > 1 ? Double.parseDouble(groupAndWeight.get(1)) : 1;
+			routingDs.addReplica(getDataSource(groupAndWeight.get(0)), weight);
+		}
+		routingDs.setStickyTime(config.getLong("stickyTime", RoutingDataSource.DEFAULT_STICKY_TIME));
+		routingDs.setEjectTime(config.getLong("ejectTime", RoutingDataSource.DEFAULT_EJECT_TIME));
+
+		return DataSourceWrapper.wrap(routingDs, primaryDs.getDriver());
+	}
+
 	/**
 	 * 创建新的{@link DataSource}<br>
 	 *
@@ -40,6 +40,10 @@ public abstract class DSFactory implements Closeable, Serializable{
 	public static final String[] KEY_ALIAS_USER = { "user", "username" };
 	/** 别名字段名：密码 */
 	public static final String[] KEY_ALIAS_PASSWORD = { "pass", "password" };
+	/** 读写分离的主库分组名，配置此项的分组为{@link RoutingDataSource}，since 5.8.22 */
+	public static final String KEY_PRIMARY = "primary";
+	/** 读写分离的从库分组名，多个使用逗号分隔，分组名后可使用":"指定权重，since 5.8.22 */
+	public static final String KEY_REPLICAS = "replicas";
 
 	/** 数据源名 */
 	protected final String dataSourceName;
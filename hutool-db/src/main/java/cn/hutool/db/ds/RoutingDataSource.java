@@ -0,0 +1,301 @@
+package cn.hutool.db.ds;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.WeightRandom;
+import cn.hutool.db.ds.pooled.ConnectionWraper;
+import cn.hutool.db.ds.simple.AbstractDataSource;
+import cn.hutool.log.StaticLog;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 读写分离的路由数据源，由一个主库和多个从库组成：
+ * <ul>
+ *     <li>标记为只读的连接获取（如{@link cn.hutool.db.Db#query(String, Object...)}、find、page、count等查询）按照权重随机路由到从库</li>
+ *     <li>其它连接获取（写操作、事务）路由到主库，事务中的查询复用事务连接，也在主库执行</li>
+ *     <li>{@link cn.hutool.db.Session}的连接在线程中共享，其查询不标记为只读，始终在主库执行</li>
+ *     <li>当前线程的主库连接关闭后的{@link #setStickyTime(long)}时长内，此线程的查询仍路由到主库，避免因主从复制延迟读不到刚写入的数据</li>
+ *     <li>从库获取连接失败时，在{@link #setEjectTime(long)}时长内将其剔除，查询路由到其它从库，无可用从库时路由到主库</li>
+ * </ul>
+ * 通过{@link #setReadHint(boolean)}标记当前线程接下来获取的连接是否只读，{@link cn.hutool.db.AbstractDb}的查询方法已自动标记。<br>
+ * 主库和从库数据源由创建者负责关闭，关闭此数据源不会关闭它们。
+ *
+ * <p>在db.setting中，分组配置primary（主库分组名）和replicas（从库分组名，可使用":"指定权重）即为路由数据源：
+ * <pre>
+ * [rw]
+ * primary = master
+ * replicas = slave1:2, slave2:1
+ * stickyTime = 1000
+ * ejectTime = 30000
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.22
+ */
+public class RoutingDataSource extends AbstractDataSource {
+
+	/**
+	 * 默认写操作后查询路由到主库的时长，单位毫秒
+	 */
+	public static final long DEFAULT_STICKY_TIME = 1000;
+	/**
+	 * 默认从库获取连接失败后的剔除时长，单位毫秒
+	 */
+	public static final long DEFAULT_EJECT_TIME = 30000;
+
+	/**
+	 * 当前线程接下来获取的连接是否只读
+	 */
+	private static final ThreadLocal<Boolean> READ_HINT = new ThreadLocal<>();
+
+	private final DataSource primary;
+	private final List<Replica> replicas = new CopyOnWriteArrayList<>();
+	/**
+	 * 当前线程在此时间之前的查询路由到主库
+	 */
+	private final ThreadLocal<Long> stickyUntil = new ThreadLocal<>();
+	private long stickyTime = DEFAULT_STICKY_TIME;
+	private long ejectTime = DEFAULT_EJECT_TIME;
+
+	/**
+	 * 可用从库的权重随机选择器
+	 */
+	private volatile WeightRandom<Replica> selector = new WeightRandom<>();
+	/**
+	 * 被剔除的从库中，最早恢复的时间
+	 */
+	private volatile long recoverAt = Long.MAX_VALUE;
+
+	/**
+	 * 构造
+	 *
+	 * @param primary 主库数据源
+	 */
+	public RoutingDataSource(DataSource primary) {
+		this.primary = Assert.notNull(primary, "Primary DataSource must be not null!");
+	}
+
+	/**
+	 * 标记当前线程接下来获取的连接是否只读，只读的连接可能被路由到从库
+	 *
+	 * @param isRead 是否只读
+	 * @return 之前的标记
+	 */
+	public static boolean setReadHint(boolean isRead) {
+		final boolean previous = isReadHint();
+		if (isRead) {
+			READ_HINT.set(Boolean.TRUE);
+		} else {
+			READ_HINT.remove();
+		}
+		return previous;
+	}
+
+	/**
+	 * @return 当前线程接下来获取的连接是否只读
+	 */
+	public static boolean isReadHint() {
+		return Boolean.TRUE.equals(READ_HINT.get());
+	}
+
+	/**
+	 * 添加从库
+	 *
+	 * @param replica 从库数据源
+	 * @param weight  权重，大于0
+	 * @return this
+	 */
+	public RoutingDataSource addReplica(DataSource replica, double weight) {
+		Assert.notNull(replica, "Replica DataSource must be not null!");
+		Assert.isTrue(weight > 0, "Replica weight must be greater than 0!");
+		this.replicas.add(new Replica(replica, weight));
+		rebuildSelector();
+		return this;
+	}
+
+	/**
+	 * @return 主库数据源
+	 */
+	public DataSource getPrimary() {
+		return this.primary;
+	}
+
+	/**
+	 * @return 从库数
+	 */
+	public int getReplicaCount() {
+		return this.replicas.size();
+	}
+
+	/**
+	 * @return 当前未被剔除的从库数
+	 */
+	public int getAvailableReplicaCount() {
+		final long now = System.currentTimeMillis();
+		return (int) this.replicas.stream().filter(replica -> replica.isAvailable(now)).count();
+	}
+
+	/**
+	 * 设置写操作后当前线程的查询路由到主库的时长，从主库连接关闭时开始计算，0表示不保持
+	 *
+	 * @param stickyTime 时长，单位毫秒
+	 * @return this
+	 */
+	public RoutingDataSource setStickyTime(long stickyTime) {
+		this.stickyTime = stickyTime;
+		return this;
+	}
+
+	/**
+	 * 设置从库获取连接失败后的剔除时长，剔除期间查询不会路由到此从库
+	 *
+	 * @param ejectTime 时长，单位毫秒
+	 * @return this
+	 */
+	public RoutingDataSource setEjectTime(long ejectTime) {
+		this.ejectTime = ejectTime;
+		return this;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		// 每次获取连接时检查保持时间，过期后立即清除线程变量，避免线程池中的线程长期持有
+		final boolean sticky = isSticky();
+		if (isReadHint() && false == sticky) {
+			final Connection conn = getReplicaConnection();
+			if (null != conn) {
+				return conn;
+			}
+			// 无可用从库，查询在主库执行
+			return primary.getConnection();
+		}
+
+		final Connection conn = primary.getConnection();
+		return this.stickyTime > 0 ? new PrimaryConnection(conn) : conn;
+	}
+
+	/**
+	 * 使用指定用户名和密码获取主库连接
+	 */
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return primary.getConnection(username, password);
+	}
+
+	/**
+	 * 主库和从库由创建者负责关闭，此方法不做任何操作
+	 */
+	@Override
+	public void close() {
+		// 不关闭主库和从库
+	}
+
+	/**
+	 * 当前线程是否在写操作后的保持时间内，保持时间已过时清除当前线程的记录
+	 *
+	 * @return 是否路由到主库
+	 */
+	private boolean isSticky() {
+		final Long until = stickyUntil.get();
+		if (null == until) {
+			return false;
+		}
+		if (System.currentTimeMillis() < until) {
+			return true;
+		}
+		stickyUntil.remove();
+		return false;
+	}
+
+	/**
+	 * 按照权重获取从库连接，获取失败的从库被剔除，并尝试下一个从库
+	 *
+	 * @return 连接，无可用从库时返回{@code null}
+	 */
+	private Connection getReplicaConnection() {
+		for (int i = 0; i < replicas.size(); i++) {
+			if (System.currentTimeMillis() >= recoverAt) {
+				rebuildSelector();
+			}
+			final Replica replica = selector.next();
+			if (null == replica) {
+				return null;
+			}
+			try {
+				return replica.dataSource.getConnection();
+			} catch (SQLException e) {
+				replica.ejectUntil = System.currentTimeMillis() + ejectTime;
+				StaticLog.warn(e, "Get connection from replica {} failed, eject it for {}ms.", replica.dataSource, ejectTime);
+				rebuildSelector();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 使用可用的从库重建选择器，并计算被剔除从库的最早恢复时间
+	 */
+	private synchronized void rebuildSelector() {
+		final long now = System.currentTimeMillis();
+		final WeightRandom<Replica> newSelector = new WeightRandom<>();
+		long newRecoverAt = Long.MAX_VALUE;
+		for (Replica replica : replicas) {
+			if (replica.isAvailable(now)) {
+				newSelector.add(replica, replica.weight);
+			} else {
+				newRecoverAt = Math.min(newRecoverAt, replica.ejectUntil);
+			}
+		}
+		this.selector = newSelector;
+		this.recoverAt = newRecoverAt;
+	}
+
+	/**
+	 * 从库
+	 */
+	private static class Replica {
+		private final DataSource dataSource;
+		private final double weight;
+		/**
+		 * 剔除截止时间，0表示未剔除
+		 */
+		private volatile long ejectUntil;
+
+		Replica(DataSource dataSource, double weight) {
+			this.dataSource = dataSource;
+			this.weight = weight;
+		}
+
+		boolean isAvailable(long now) {
+			return now >= ejectUntil;
+		}
+	}
+
+	/**
+	 * 主库连接，关闭时记录当前线程的保持时间
+	 */
+	private class PrimaryConnection extends ConnectionWraper {
+
+		PrimaryConnection(Connection raw) {
+			this.raw = raw;
+		}
+
+		@Override
+		public boolean isClosed() throws SQLException {
+			return raw.isClosed();
+		}
+
+		@Override
+		public void close() throws SQLException {
+			try {
+				raw.close();
+			} finally {
+				stickyUntil.set(System.currentTimeMillis() + stickyTime);
+			}
+		}
+	}
+}
@@ -22,6 +22,10 @@ public class DbConfig {
 	private int minIdle;            //最小闲置连接数
 	private int maxActive;        //最大活跃连接数
 	private long maxWait;        //获取连接的超时等待
+	private long validationIdleTime = 500;    //借出时连接空闲超过此时长（毫秒）则检查有效性，小于0表示不检查
+	private long validationTimeout = 3000;    //检查连接有效性的超时时长（毫秒）
+	private long leakDetectionThreshold;    //连接借出超过此时长（毫秒）未归还则记录泄漏警告，0表示不检测
+	private int statementCacheSize;    //每个连接缓存的PreparedStatement数，0表示不缓存
 
 	// 连接配置
 	private Properties connProps;
@@ -127,6 +131,89 @@ public class DbConfig {
 		this.maxWait = maxWait;
 	}
 
+	/**
+	 * 获取借出时检查连接有效性的空闲时长阈值，单位毫秒
+	 *
+	 * @return 空闲时长阈值，小于0表示不检查
+	 * @since 5.8.22
+	 */
+	public long getValidationIdleTime() {
+		return validationIdleTime;
+	}
+
+	/**
+	 * 设置借出时检查连接有效性的空闲时长阈值，单位毫秒<br>
+	 * 连接空闲超过此时长时，借出前调用{@link java.sql.Connection#isValid(int)}检查，无效则丢弃并获取下一个连接，0表示每次借出都检查，小于0表示不检查
+	 *
+	 * @param validationIdleTime 空闲时长阈值
+	 * @since 5.8.22
+	 */
+	public void setValidationIdleTime(long validationIdleTime) {
+		this.validationIdleTime = validationIdleTime;
+	}
+
+	/**
+	 * 获取检查连接有效性的超时时长，单位毫秒
+	 *
+	 * @return 超时时长
+	 * @since 5.8.22
+	 */
+	public long getValidationTimeout() {
+		return validationTimeout;
+	}
+
+	/**
+	 * 设置检查连接有效性的超时时长，单位毫秒，JDBC以秒为单位，不足1秒按1秒计
+	 *
+	 * @param validationTimeout 超时时长
+	 * @since 5.8.22
+	 */
+	public void setValidationTimeout(long validationTimeout) {
+		this.validationTimeout = validationTimeout;
+	}
+
+	/**
+	 * 获取连接泄漏检测阈值，单位毫秒
+	 *
+	 * @return 泄漏检测阈值，0表示不检测
+	 * @since 5.8.22
+	 */
+	public long getLeakDetectionThreshold() {
+		return leakDetectionThreshold;
+	}
+
+	/**
+	 * 设置连接泄漏检测阈值，单位毫秒<br>
+	 * 连接借出超过此时长未归还时，记录包含借出位置堆栈的警告日志，0表示不检测
+	 *
+	 * @param leakDetectionThreshold 泄漏检测阈值
+	 * @since 5.8.22
+	 */
+	public void setLeakDetectionThreshold(long leakDetectionThreshold) {
+		this.leakDetectionThreshold = leakDetectionThreshold;
+	}
+
+	/**
+	 * 获取每个连接缓存的{@link java.sql.PreparedStatement}数
+	 *
+	 * @return 缓存数，0表示不缓存
+	 * @since 5.8.22
+	 */
+	public int getStatementCacheSize() {
+		return statementCacheSize;
+	}
+
+	/**
+	 * 设置每个连接缓存的{@link java.sql.PreparedStatement}数<br>
+	 * 开启后，相同SQL的语句关闭时放回连接的缓存中，再次执行时复用，避免重复预编译，0表示不缓存
+	 *
+	 * @param statementCacheSize 缓存数
+	 * @since 5.8.22
+	 */
+	public void setStatementCacheSize(int statementCacheSize) {
+		this.statementCacheSize = statementCacheSize;
+	}
+
 	public Properties getConnProps() {
 		return connProps;
 	}
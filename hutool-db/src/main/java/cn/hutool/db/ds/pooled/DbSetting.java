@@ -70,6 +70,10 @@ public class DbSetting {
 		dbConfig.setMinIdle(setting.getInt("minIdle", group, 0));
 		dbConfig.setMaxActive(setting.getInt("maxActive", group, 8));
 		dbConfig.setMaxWait(setting.getLong("maxWait", group, 6000L));
+		dbConfig.setValidationIdleTime(setting.getLong("validationIdleTime", group, 500L));
+		dbConfig.setValidationTimeout(setting.getLong("validationTimeout", group, 3000L));
+		dbConfig.setLeakDetectionThreshold(setting.getLong("leakDetectionThreshold", group, 0L));
+		dbConfig.setStatementCacheSize(setting.getInt("statementCacheSize", group, 0));
 
 		// remarks等特殊配置，since 5.3.8
 		String connValue;
@@ -0,0 +1,130 @@
+package cn.hutool.db.ds.pooled;
+
+import java.io.Serializable;
+
+/**
+ * 连接池状态快照，计数为获取时的累计值
+ *
+ * @author looly
+ * @since 5.8.22
+ */
+public class PoolStats implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final int activeCount;
+	private final int idleCount;
+	private final int waitingCount;
+	private final long borrowCount;
+	private final long borrowTimeoutCount;
+	private final long totalBorrowNanos;
+	private final long maxBorrowNanos;
+	private final long createdCount;
+	private final long invalidCount;
+	private final long leakCount;
+
+	/**
+	 * 构造
+	 *
+	 * @param activeCount        活跃（已借出）连接数
+	 * @param idleCount          空闲连接数
+	 * @param waitingCount       等待获取连接的线程数
+	 * @param borrowCount        借出成功次数
+	 * @param borrowTimeoutCount 等待超时次数
+	 * @param totalBorrowNanos   借出总耗时，单位纳秒
+	 * @param maxBorrowNanos     借出最大耗时，单位纳秒
+	 * @param createdCount       创建的物理连接数
+	 * @param invalidCount       借出检查时丢弃的无效连接数
+	 * @param leakCount          疑似泄漏的连接数
+	 */
+	public PoolStats(int activeCount, int idleCount, int waitingCount, long borrowCount, long borrowTimeoutCount,
+					 long totalBorrowNanos, long maxBorrowNanos, long createdCount, long invalidCount, long leakCount) {
+		this.activeCount = activeCount;
+		this.idleCount = idleCount;
+		this.waitingCount = waitingCount;
+		this.borrowCount = borrowCount;
+		this.borrowTimeoutCount = borrowTimeoutCount;
+		this.totalBorrowNanos = totalBorrowNanos;
+		this.maxBorrowNanos = maxBorrowNanos;
+		this.createdCount = createdCount;
+		this.invalidCount = invalidCount;
+		this.leakCount = leakCount;
+	}
+
+	/**
+	 * @return 活跃（已借出）连接数
+	 */
+	public int activeCount() {
+		return activeCount;
+	}
+
+	/**
+	 * @return 空闲连接数
+	 */
+	public int idleCount() {
+		return idleCount;
+	}
+
+	/**
+	 * @return 等待获取连接的线程数，为估计值
+	 */
+	public int waitingCount() {
+		return waitingCount;
+	}
+
+	/**
+	 * @return 借出成功次数
+	 */
+	public long borrowCount() {
+		return borrowCount;
+	}
+
+	/**
+	 * @return 等待超时次数
+	 */
+	public long borrowTimeoutCount() {
+		return borrowTimeoutCount;
+	}
+
+	/**
+	 * @return 平均借出耗时（包括等待和创建连接），单位毫秒
+	 */
+	public double averageBorrowMillis() {
+		return 0 == borrowCount ? 0.0 : totalBorrowNanos / 1_000_000.0 / borrowCount;
+	}
+
+	/**
+	 * @return 最大借出耗时（包括等待和创建连接），单位毫秒
+	 */
+	public double maxBorrowMillis() {
+		return maxBorrowNanos / 1_000_000.0;
+	}
+
+	/**
+	 * @return 创建的物理连接数
+	 */
+	public long createdCount() {
+		return createdCount;
+	}
+
+	/**
+	 * @return 借出检查时丢弃的无效连接数
+	 */
+	public long invalidCount() {
+		return invalidCount;
+	}
+
+	/**
+	 * @return 借出超过泄漏检测阈值未归还的次数
+	 */
+	public long leakCount() {
+		return leakCount;
+	}
+
+	@Override
+	public String toString() {
+		return "PoolStats [activeCount=" + activeCount + ", idleCount=" + idleCount + ", waitingCount=" + waitingCount
+				+ ", borrowCount=" + borrowCount + ", borrowTimeoutCount=" + borrowTimeoutCount
+				+ ", averageBorrowMillis=" + averageBorrowMillis() + ", maxBorrowMillis=" + maxBorrowMillis()
+				+ ", createdCount=" + createdCount + ", invalidCount=" + invalidCount + ", leakCount=" + leakCount + "]";
+	}
+}
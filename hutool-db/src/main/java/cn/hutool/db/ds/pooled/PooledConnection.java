@@ -2,12 +2,16 @@ package cn.hutool.db.ds.pooled;
 
 import cn.hutool.core.map.MapUtil;
 import cn.hutool.db.DbUtil;
+import cn.hutool.db.sql.StatementCache;
 import cn.hutool.setting.dialect.Props;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Properties;
+import java.util.concurrent.Future;
 
 /**
  * 池化
@@ -17,7 +21,19 @@ import java.util.Properties;
 public class PooledConnection extends ConnectionWraper{
 	
 	private final PooledDataSource ds;
-	private boolean isClosed;
+	private volatile boolean isClosed;
+	/**
+	 * 语句缓存，未开启时为{@code null}
+	 */
+	private final StatementCache statementCache;
+	/**
+	 * 最后一次归还的时间，单位毫秒
+	 */
+	long lastAccessTime = System.currentTimeMillis();
+	/**
+	 * 泄漏检测任务，未开启检测时为{@code null}
+	 */
+	Future<?> leakTask;
 
 	/**
 	 * 构造
@@ -46,11 +62,35 @@ public class PooledConnection extends ConnectionWraper{
 		}
 
 		this.raw = DriverManager.getConnection(config.getUrl(), info);
+		this.statementCache = createStatementCache(config);
 	}
 	
 	public PooledConnection(PooledDataSource ds, Connection conn) {
 		this.ds = ds;
 		this.raw = conn;
+		this.statementCache = createStatementCache(ds.getConfig());
+	}
+
+	/**
+	 * 创建语句，开启语句缓存时从缓存中获取
+	 */
+	@Override
+	public PreparedStatement prepareStatement(String sql) throws SQLException {
+		if (null == statementCache) {
+			return raw.prepareStatement(sql);
+		}
+		return statementCache.prepareStatement(raw, sql, Statement.NO_GENERATED_KEYS);
+	}
+
+	/**
+	 * 创建语句，开启语句缓存时从缓存中获取
+	 */
+	@Override
+	public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+		if (null == statementCache) {
+			return raw.prepareStatement(sql, autoGeneratedKeys);
+		}
+		return statementCache.prepareStatement(raw, sql, autoGeneratedKeys);
 	}
 
 	/**
@@ -58,8 +98,12 @@ public class PooledConnection extends ConnectionWraper{
 	 */
 	@Override
 	public void close() {
-		this.ds.free(this);
+		// 重复关闭时不重复归还
+		if (this.isClosed) {
+			return;
+		}
 		this.isClosed = true;
+		this.ds.free(this);
 	}
 
 	/**
@@ -86,7 +130,35 @@ public class PooledConnection extends ConnectionWraper{
 	 * @return this
 	 */
 	protected PooledConnection release() {
+		if (null != this.statementCache) {
+			this.statementCache.close();
+		}
 		DbUtil.close(this.raw);
 		return this;
 	}
+
+	/**
+	 * 检查实际连接是否有效
+	 *
+	 * @param timeoutMillis 超时时长，单位毫秒
+	 * @return 是否有效
+	 */
+	boolean validate(long timeoutMillis) {
+		try {
+			return false == raw.isClosed() && raw.isValid((int) Math.max(1, (timeoutMillis + 999) / 1000));
+		} catch (SQLException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * 根据配置创建语句缓存
+	 *
+	 * @param config 连接池配置
+	 * @return {@link StatementCache}，未开启时返回{@code null}
+	 */
+	private static StatementCache createStatementCache(DbConfig config) {
+		final int size = config.getStatementCacheSize();
+		return size > 0 ? new StatementCache(size) : null;
+	}
 }
@@ -38,6 +38,10 @@ public class PooledDSFactory extends AbstractDSFactory {
 		dbConfig.setMinIdle(poolSetting.getInt("minIdle", 0));
 		dbConfig.setMaxActive(poolSetting.getInt("maxActive", 8));
 		dbConfig.setMaxWait(poolSetting.getLong("maxWait", 6000L));
+		dbConfig.setValidationIdleTime(poolSetting.getLong("validationIdleTime", 500L));
+		dbConfig.setValidationTimeout(poolSetting.getLong("validationTimeout", 3000L));
+		dbConfig.setLeakDetectionThreshold(poolSetting.getLong("leakDetectionThreshold", 0L));
+		dbConfig.setStatementCacheSize(poolSetting.getInt("statementCacheSize", 0));
 
 		// remarks等特殊配置，since 5.3.8
 		String connValue;
@@ -1,27 +1,60 @@
 package cn.hutool.db.ds.pooled;
 
-import cn.hutool.core.collection.CollectionUtil;
 import cn.hutool.core.io.IoUtil;
 import cn.hutool.core.thread.ThreadUtil;
 import cn.hutool.core.util.StrUtil;
 import cn.hutool.db.DbRuntimeException;
 import cn.hutool.db.ds.simple.AbstractDataSource;
+import cn.hutool.log.StaticLog;
 
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * 池化数据源
+ * 池化数据源<br>
+ * 空闲连接存放于无锁双端队列中，借出和归还均无需加锁；借出许可由公平信号量控制，池满时按请求顺序等待，超时抛出异常。
  *
  * @author Looly
  *
  */
 public class PooledDataSource extends AbstractDataSource {
 
-	private Queue<PooledConnection> freePool;
-	private int activeCount; // 活跃连接数
+	/**
+	 * 空闲连接，后进先出，优先借出最近归还的连接
+	 */
+	private final ConcurrentLinkedDeque<PooledConnection> freePool;
+	/**
+	 * 空闲连接数，{@link ConcurrentLinkedDeque#size()}需要遍历，单独计数
+	 */
+	private final AtomicInteger idleCount = new AtomicInteger();
+	/**
+	 * 活跃连接数
+	 */
+	private final AtomicInteger activeCount = new AtomicInteger();
+	/**
+	 * 借出许可，数量为最大活跃连接数
+	 */
+	private final Semaphore permits;
+	/**
+	 * 泄漏检测线程，未开启检测时为{@code null}
+	 */
+	private final ScheduledThreadPoolExecutor leakDetector;
+	private volatile boolean closed;
+
+	private final LongAdder borrowCount = new LongAdder();
+	private final LongAdder borrowTimeoutCount = new LongAdder();
+	private final LongAdder totalBorrowNanos = new LongAdder();
+	private final LongAccumulator maxBorrowNanos = new LongAccumulator(Math::max, 0);
+	private final LongAdder createdCount = new LongAdder();
+	private final LongAdder invalidCount = new LongAdder();
+	private final LongAdder leakCount = new LongAdder();
 
 	private final DbConfig config;
 
@@ -78,11 +111,21 @@ public class PooledDataSource extends AbstractDataSource {
 	 */
 	public PooledDataSource(DbConfig config) {
 		this.config = config;
-		freePool = new LinkedList<>();
+		this.permits = new Semaphore(Math.max(0, config.getMaxActive()), true);
+		if (config.getLeakDetectionThreshold() > 0) {
+			this.leakDetector = new ScheduledThreadPoolExecutor(1,
+					ThreadUtil.newNamedThreadFactory("hutool-pool-leak-detector-", true));
+			this.leakDetector.setRemoveOnCancelPolicy(true);
+		} else {
+			this.leakDetector = null;
+		}
+
+		freePool = new ConcurrentLinkedDeque<>();
 		int initialSize = config.getInitialSize();
 		try {
 			while (initialSize-- > 0) {
-				freePool.offer(newConnection());
+				freePool.offerFirst(newConnection());
+				idleCount.incrementAndGet();
 			}
 		} catch (SQLException e) {
 			throw new DbRuntimeException(e);
@@ -94,7 +137,7 @@ public class PooledDataSource extends AbstractDataSource {
 	 * 从数据库连接池中获取数据库连接对象
 	 */
 	@Override
-	public synchronized Connection getConnection() throws SQLException {
+	public Connection getConnection() throws SQLException {
 		return getConnection(config.getMaxWait());
 	}
 
@@ -109,9 +152,28 @@ public class PooledDataSource extends AbstractDataSource {
 	 * @param conn 连接
 	 * @return 释放成功与否
 	 */
-	protected synchronized boolean free(PooledConnection conn) {
-		activeCount--;
-		return freePool.offer(conn);
+	protected boolean free(PooledConnection conn) {
+		if (null != conn.leakTask) {
+			conn.leakTask.cancel(false);
+			conn.leakTask = null;
+		}
+		conn.lastAccessTime = System.currentTimeMillis();
+
+		boolean isReturned = false;
+		if (false == this.closed && idleCount.incrementAndGet() <= config.getMaxActive()) {
+			freePool.offerFirst(conn);
+			isReturned = true;
+			// 归还后连接池已关闭，由此处负责清理
+			if (this.closed) {
+				clearFreePool();
+			}
+		} else {
+			idleCount.decrementAndGet();
+			conn.release();
+		}
+		activeCount.decrementAndGet();
+		permits.release();
+		return isReturned;
 	}
 
 	/**
@@ -121,7 +183,9 @@ public class PooledDataSource extends AbstractDataSource {
 	 * @throws SQLException SQL异常
 	 */
 	public PooledConnection newConnection() throws SQLException {
-		return new PooledConnection(this);
+		final PooledConnection conn = new PooledConnection(this);
+		createdCount.increment();
+		return conn;
 	}
 
 	public DbConfig getConfig() {
@@ -129,27 +193,75 @@ public class PooledDataSource extends AbstractDataSource {
 	}
 
 	/**
-	 * 获取连接对象
+	 * 获取连接对象，池中无可用连接时按请求顺序等待其它连接归还
 	 *
-	 * @param wait 当池中无连接等待的毫秒数
+	 * @param wait 当池中无连接等待的毫秒数，小于等于0表示不等待
 	 * @return 连接对象
-	 * @throws SQLException SQL异常
+	 * @throws SQLException SQL异常，连接池已关闭、等待超时或创建连接失败时抛出
 	 */
 	public PooledConnection getConnection(long wait) throws SQLException {
+		checkClosed();
+		if (config.getMaxActive() <= 0) {
+			throw new SQLException("Max Active of PooledDataSource must be greater than 0!");
+		}
+
+		final long start = System.nanoTime();
+		boolean acquired;
+		try {
+			acquired = wait > 0 ? permits.tryAcquire(wait, TimeUnit.MILLISECONDS) : permits.tryAcquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLException("Interrupted while waiting for Connection!", e);
+		}
+		if (false == acquired) {
+			borrowTimeoutCount.increment();
+			throw new SQLException(StrUtil.format("In used Connection is more than Max Active [{}], wait timeout after {}ms.",
+					config.getMaxActive(), wait));
+		}
+
+		final PooledConnection conn;
 		try {
-			return getConnectionDirect();
-		} catch (Exception e) {
-			ThreadUtil.sleep(wait);
+			checkClosed();
+			conn = borrow();
+		} catch (SQLException | RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+		activeCount.incrementAndGet();
+
+		final long elapsed = System.nanoTime() - start;
+		borrowCount.increment();
+		totalBorrowNanos.add(elapsed);
+		maxBorrowNanos.accumulate(elapsed);
+		if (null != this.leakDetector) {
+			final Exception borrowStack = new Exception("Connection borrowed here");
+			conn.leakTask = this.leakDetector.schedule(() -> {
+				leakCount.increment();
+				StaticLog.warn(borrowStack, "Connection has not been returned for more than {}ms, possible leak.",
+						config.getLeakDetectionThreshold());
+			}, config.getLeakDetectionThreshold(), TimeUnit.MILLISECONDS);
 		}
-		return getConnectionDirect();
+		return conn;
+	}
+
+	/**
+	 * 获取连接池当前状态的快照
+	 *
+	 * @return {@link PoolStats}
+	 * @since 5.8.22
+	 */
+	public PoolStats getStats() {
+		return new PoolStats(activeCount.get(), idleCount.get(), permits.getQueueLength(),
+				borrowCount.sum(), borrowTimeoutCount.sum(), totalBorrowNanos.sum(), maxBorrowNanos.get(),
+				createdCount.sum(), invalidCount.sum(), leakCount.sum());
 	}
 
 	@Override
-	synchronized public void close() {
-		if (CollectionUtil.isNotEmpty(this.freePool)) {
-			this.freePool.forEach(PooledConnection::release);
-			this.freePool.clear();
-			this.freePool = null;
+	public void close() {
+		this.closed = true;
+		clearFreePool();
+		if (null != this.leakDetector) {
+			this.leakDetector.shutdownNow();
 		}
 	}
 
@@ -159,28 +271,61 @@ public class PooledDataSource extends AbstractDataSource {
 	}
 
 	/**
-	 * 直接从连接池中获取连接，如果池中无连接直接抛出异常
+	 * 已获得许可后取出空闲连接，空闲超过阈值的连接检查有效性，无空闲连接时创建新连接
 	 *
 	 * @return PooledConnection
 	 * @throws SQLException SQL异常
 	 */
-	private PooledConnection getConnectionDirect() throws SQLException {
-		if (null == freePool) {
-			throw new SQLException("PooledDataSource is closed!");
+	private PooledConnection borrow() throws SQLException {
+		final long validationIdleTime = config.getValidationIdleTime();
+		PooledConnection conn;
+		while (null != (conn = freePool.pollFirst())) {
+			idleCount.decrementAndGet();
+			if (isRawClosed(conn) || (validationIdleTime >= 0 && System.currentTimeMillis() - conn.lastAccessTime >= validationIdleTime
+					&& false == conn.validate(config.getValidationTimeout()))) {
+				// 无效连接直接丢弃
+				invalidCount.increment();
+				conn.release();
+				continue;
+			}
+			return conn.open();
 		}
+		return newConnection();
+	}
 
-		final int maxActive = config.getMaxActive();
-		if (maxActive <= 0 || maxActive < this.activeCount) {
-			// 超过最大使用限制
-			throw new SQLException("In used Connection is more than Max Active.");
+	/**
+	 * 实际连接是否已关闭
+	 *
+	 * @param conn 连接
+	 * @return 是否已关闭
+	 */
+	private static boolean isRawClosed(PooledConnection conn) {
+		try {
+			return conn.getRaw().isClosed();
+		} catch (SQLException e) {
+			return true;
 		}
+	}
 
-		PooledConnection conn = freePool.poll();
-		if (null == conn || conn.open().isClosed()) {
-			conn = this.newConnection();
+	/**
+	 * 检查连接池是否关闭
+	 *
+	 * @throws SQLException 连接池已关闭
+	 */
+	private void checkClosed() throws SQLException {
+		if (this.closed) {
+			throw new SQLException("PooledDataSource is closed!");
 		}
-		activeCount++;
-		return conn;
 	}
 
+	/**
+	 * 关闭所有空闲连接
+	 */
+	private void clearFreePool() {
+		PooledConnection conn;
+		while (null != (conn = freePool.pollFirst())) {
+			idleCount.decrementAndGet();
+			conn.release();
+		}
+	}
 }
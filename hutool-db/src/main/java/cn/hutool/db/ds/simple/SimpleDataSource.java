@@ -1,5 +1,6 @@
 package cn.hutool.db.ds.simple;
 
+import cn.hutool.core.convert.Convert;
 import cn.hutool.core.map.MapUtil;
 import cn.hutool.core.util.StrUtil;
 import cn.hutool.db.DbRuntimeException;
@@ -30,6 +31,8 @@ public class SimpleDataSource extends AbstractDataSource {
 	private String user; // 用户名
 	private String pass; // 密码
 
+	// 每个连接缓存的PreparedStatement数，0表示不缓存
+	private int statementCacheSize;
 	// 连接配置
 	private Properties connProps;
 	// -------------------------------------------------------------------- Fields end
@@ -92,6 +95,7 @@ public class SimpleDataSource extends AbstractDataSource {
 				config.getAndRemoveStr(DSFactory.KEY_ALIAS_DRIVER)//
 		);
 
+		this.statementCacheSize = Convert.toInt(config.getAndRemoveStr("statementCacheSize"), 0);
 		// 其它连接参数
 		this.connProps = config.getProps(Setting.DEFAULT_GROUP);
 	}
@@ -186,6 +190,27 @@ public class SimpleDataSource extends AbstractDataSource {
 		this.pass = pass;
 	}
 
+	/**
+	 * 获取每个连接缓存的{@link java.sql.PreparedStatement}数
+	 *
+	 * @return 缓存数，0表示不缓存
+	 * @since 5.8.22
+	 */
+	public int getStatementCacheSize() {
+		return statementCacheSize;
+	}
+
+	/**
+	 * 设置每个连接缓存的{@link java.sql.PreparedStatement}数<br>
+	 * 简易数据源每次获取新的连接，缓存仅在同一连接中重复执行相同SQL时（如事务中）有效，0表示不缓存
+	 *
+	 * @param statementCacheSize 缓存数
+	 * @since 5.8.22
+	 */
+	public void setStatementCacheSize(int statementCacheSize) {
+		this.statementCacheSize = statementCacheSize;
+	}
+
 	public Properties getConnProps() {
 		return connProps;
 	}
@@ -218,12 +243,22 @@ public class SimpleDataSource extends AbstractDataSource {
 			info.putAll(connProps);
 		}
 
-		return DriverManager.getConnection(this.url, info);
+		return wrap(DriverManager.getConnection(this.url, info));
 	}
 
 	@Override
 	public Connection getConnection(String username, String password) throws SQLException {
-		return DriverManager.getConnection(this.url, username, password);
+		return wrap(DriverManager.getConnection(this.url, username, password));
+	}
+
+	/**
+	 * 开启语句缓存时包装连接
+	 *
+	 * @param conn 连接
+	 * @return 包装后的连接
+	 */
+	private Connection wrap(Connection conn) {
+		return this.statementCacheSize > 0 ? new StatementCachedConnection(conn, this.statementCacheSize) : conn;
 	}
 
 	@Override
@@ -0,0 +1,52 @@
+package cn.hutool.db.ds.simple;
+
+import cn.hutool.db.ds.pooled.ConnectionWraper;
+import cn.hutool.db.sql.StatementCache;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 带{@link PreparedStatement}缓存的连接，关闭连接时关闭缓存的所有语句
+ *
+ * @author looly
+ * @since 5.8.22
+ */
+class StatementCachedConnection extends ConnectionWraper {
+
+	private final StatementCache statementCache;
+
+	/**
+	 * 构造
+	 *
+	 * @param raw                实际的连接
+	 * @param statementCacheSize 缓存的语句数
+	 */
+	StatementCachedConnection(Connection raw, int statementCacheSize) {
+		this.raw = raw;
+		this.statementCache = new StatementCache(statementCacheSize);
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql) throws SQLException {
+		return statementCache.prepareStatement(raw, sql, Statement.NO_GENERATED_KEYS);
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+		return statementCache.prepareStatement(raw, sql, autoGeneratedKeys);
+	}
+
+	@Override
+	public boolean isClosed() throws SQLException {
+		return raw.isClosed();
+	}
+
+	@Override
+	public void close() throws SQLException {
+		statementCache.close();
+		raw.close();
+	}
+}
@@ -0,0 +1,252 @@
+package cn.hutool.db.handler;
+
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.bean.PropDesc;
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.exceptions.UtilException;
+import cn.hutool.core.map.SafeConcurrentHashMap;
+import cn.hutool.core.util.ClassUtil;
+import cn.hutool.core.util.ReflectUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.core.util.TypeUtil;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 结果集行到Bean的映射器<br>
+ * 按照结果集的列结构和Bean类型预先编译：列与setter的对应关系只匹配一次，setter转换为{@link MethodHandle}，
+ * 数值、字符串等常见类型直接调用{@link ResultSet#getInt(int)}等方法读取，无需每行反射和{@link Convert}转换。<br>
+ * 编译结果按照Bean类型和列结构缓存，缓存强引用Bean类型，热部署等场景下卸载类加载器前需调用{@link #clearCache()}。
+ *
+ * @param <T> Bean类型
+ * @author looly
+ * @since 5.8.22
+ */
+public class BeanRowMapper<T> {
+
+	private static final Map<Class<?>, Map<String, BeanRowMapper<?>>> CACHE = new SafeConcurrentHashMap<>();
+
+	private final Class<T> beanClass;
+	private final ColumnSetter[] setters;
+
+	/**
+	 * 获取指定结果集结构和Bean类型的映射器，优先从缓存中获取
+	 *
+	 * @param <T>       Bean类型
+	 * @param meta      结果集元数据
+	 * @param beanClass Bean类型
+	 * @return BeanRowMapper
+	 * @throws SQLException SQL异常
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> BeanRowMapper<T> of(ResultSetMetaData meta, Class<T> beanClass) throws SQLException {
+		final int columnCount = meta.getColumnCount();
+		final String[] labels = new String[columnCount];
+		final int[] types = new int[columnCount];
+		final StringBuilder shape = new StringBuilder();
+		for (int i = 0; i < columnCount; i++) {
+			labels[i] = meta.getColumnLabel(i + 1);
+			types[i] = meta.getColumnType(i + 1);
+			shape.append(labels[i]).append(':').append(types[i]).append(',');
+		}
+
+		final Map<String, BeanRowMapper<?>> mappers = CACHE.computeIfAbsent(beanClass, (key) -> new SafeConcurrentHashMap<>());
+		return (BeanRowMapper<T>) mappers.computeIfAbsent(shape.toString(), (key) -> new BeanRowMapper<>(beanClass, labels, types));
+	}
+
+	/**
+	 * 清空映射器缓存
+	 */
+	public static void clearCache() {
+		CACHE.clear();
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param beanClass Bean类型
+	 * @param labels    列名
+	 * @param types     列的SQL类型，见{@link Types}
+	 */
+	private BeanRowMapper(Class<T> beanClass, String[] labels, int[] types) {
+		this.beanClass = beanClass;
+		//忽略字段大小写
+		final Map<String, PropDesc> propMap = BeanUtil.getBeanDesc(beanClass).getPropMap(true);
+		final List<ColumnSetter> setterList = new ArrayList<>(labels.length);
+		PropDesc pd;
+		Method setter;
+		for (int i = 0; i < labels.length; i++) {
+			pd = propMap.get(labels[i]);
+			if (null == pd) {
+				// 尝试驼峰命名风格
+				pd = propMap.get(StrUtil.toCamelCase(labels[i]));
+			}
+			setter = (null == pd) ? null : pd.getSetter();
+			if (null != setter) {
+				setterList.add(new ColumnSetter(i + 1, types[i], setter));
+			}
+		}
+		this.setters = setterList.toArray(new ColumnSetter[0]);
+	}
+
+	/**
+	 * 将结果集的当前行转换为Bean
+	 *
+	 * @param rs 结果集，已指向当前行
+	 * @return Bean
+	 * @throws SQLException SQL异常
+	 */
+	public T map(ResultSet rs) throws SQLException {
+		final T bean = ReflectUtil.newInstanceIfPossible(beanClass);
+		for (ColumnSetter setter : setters) {
+			setter.set(bean, rs);
+		}
+		return bean;
+	}
+
+	/**
+	 * 单列的读取和赋值
+	 */
+	private static class ColumnSetter {
+		private final int columnIndex;
+		private final int sqlType;
+		private final Type targetType;
+		private final Class<?> targetClass;
+		private final Method setter;
+		/**
+		 * setter的{@link MethodHandle}，类型为(Object, Object)void，无法访问时为{@code null}
+		 */
+		private final MethodHandle handle;
+		private final int readMode;
+
+		private static final int READ_DEFAULT = 0;
+		private static final int READ_INT = 1;
+		private static final int READ_LONG = 2;
+		private static final int READ_DOUBLE = 3;
+		private static final int READ_BOOLEAN = 4;
+		private static final int READ_STRING = 5;
+
+		ColumnSetter(int columnIndex, int sqlType, Method setter) {
+			this.columnIndex = columnIndex;
+			this.sqlType = sqlType;
+			this.setter = setter;
+			this.targetType = TypeUtil.getFirstParamType(setter);
+			this.targetClass = setter.getParameterTypes()[0];
+			this.readMode = readModeOf(sqlType, this.targetClass);
+			this.handle = toHandle(setter);
+		}
+
+		/**
+		 * 读取当前行的列值并赋值给Bean
+		 *
+		 * @param bean Bean
+		 * @param rs   结果集
+		 * @throws SQLException SQL异常
+		 */
+		void set(Object bean, ResultSet rs) throws SQLException {
+			Object value = read(rs);
+			if (null == value && targetClass.isPrimitive()) {
+				// 参数是原始类型，而值为null时赋予默认值
+				value = ClassUtil.getDefaultValue(targetClass);
+			}
+			if (null == handle) {
+				ReflectUtil.invoke(bean, setter, value);
+				return;
+			}
+			try {
+				handle.invokeExact(bean, value);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new UtilException(e);
+			}
+		}
+
+		private Object read(ResultSet rs) throws SQLException {
+			final Object value;
+			switch (readMode) {
+				case READ_INT:
+					value = rs.getInt(columnIndex);
+					break;
+				case READ_LONG:
+					value = rs.getLong(columnIndex);
+					break;
+				case READ_DOUBLE:
+					value = rs.getDouble(columnIndex);
+					break;
+				case READ_BOOLEAN:
+					value = rs.getBoolean(columnIndex);
+					break;
+				case READ_STRING:
+					return rs.getString(columnIndex);
+				default:
+					return HandleHelper.getColumnValue(rs, columnIndex, sqlType, targetType);
+			}
+			return rs.wasNull() ? null : value;
+		}
+
+		/**
+		 * 根据列的SQL类型和目标类型确定读取方式，只有读取结果与{@link Convert}转换结果一致时才直接读取
+		 *
+		 * @param sqlType     SQL类型
+		 * @param targetClass 目标类型
+		 * @return 读取方式
+		 */
+		private static int readModeOf(int sqlType, Class<?> targetClass) {
+			final boolean isInteger = Types.TINYINT == sqlType || Types.SMALLINT == sqlType || Types.INTEGER == sqlType;
+			if (int.class == targetClass || Integer.class == targetClass) {
+				return isInteger ? READ_INT : READ_DEFAULT;
+			}
+			if (long.class == targetClass || Long.class == targetClass) {
+				return (isInteger || Types.BIGINT == sqlType) ? READ_LONG : READ_DEFAULT;
+			}
+			if (double.class == targetClass || Double.class == targetClass) {
+				return (Types.DOUBLE == sqlType || Types.FLOAT == sqlType) ? READ_DOUBLE : READ_DEFAULT;
+			}
+			if (boolean.class == targetClass || Boolean.class == targetClass) {
+				return (Types.BOOLEAN == sqlType || Types.BIT == sqlType) ? READ_BOOLEAN : READ_DEFAULT;
+			}
+			if (String.class == targetClass) {
+				switch (sqlType) {
+					case Types.CHAR:
+					case Types.VARCHAR:
+					case Types.LONGVARCHAR:
+					case Types.NCHAR:
+					case Types.NVARCHAR:
+					case Types.LONGNVARCHAR:
+						return READ_STRING;
+					default:
+						return READ_DEFAULT;
+				}
+			}
+			return READ_DEFAULT;
+		}
+
+		/**
+		 * 将setter转换为类型为(Object, Object)void的{@link MethodHandle}
+		 *
+		 * @param setter setter方法
+		 * @return MethodHandle，无法访问时返回{@code null}
+		 */
+		private static MethodHandle toHandle(Method setter) {
+			try {
+				ReflectUtil.setAccessible(setter);
+				return MethodHandles.lookup().unreflect(setter)
+						.asType(MethodType.methodType(void.class, Object.class, Object.class));
+			} catch (Exception e) {
+				return null;
+			}
+		}
+	}
+}
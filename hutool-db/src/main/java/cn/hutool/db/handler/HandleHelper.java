@@ -1,16 +1,11 @@
 package cn.hutool.db.handler;
 
-import cn.hutool.core.bean.BeanUtil;
-import cn.hutool.core.bean.PropDesc;
 import cn.hutool.core.convert.Convert;
 import cn.hutool.core.lang.Assert;
 import cn.hutool.core.util.ArrayUtil;
-import cn.hutool.core.util.ReflectUtil;
 import cn.hutool.core.util.StrUtil;
-import cn.hutool.core.util.TypeUtil;
 import cn.hutool.db.Entity;
 
-import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -19,7 +14,6 @@ import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 
 /**
  * 数据结果集处理辅助类
@@ -82,28 +76,8 @@ public class HandleHelper {
 			return (T) StrUtil.join(", ", objRow);
 		}
 
-		//普通bean
-		final T bean = ReflectUtil.newInstanceIfPossible(beanClass);
-		//忽略字段大小写
-		final Map<String, PropDesc> propMap = BeanUtil.getBeanDesc(beanClass).getPropMap(true);
-		String columnLabel;
-		PropDesc pd;
-		Method setter;
-		Object value;
-		for (int i = 1; i <= columnCount; i++) {
-			columnLabel = meta.getColumnLabel(i);
-			pd = propMap.get(columnLabel);
-			if(null == pd) {
-				// 尝试驼峰命名风格
-				pd = propMap.get(StrUtil.toCamelCase(columnLabel));
-			}
-			setter = (null == pd) ? null : pd.getSetter();
-			if(null != setter) {
-				value = getColumnValue(rs, i,  meta.getColumnType(i), TypeUtil.getFirstParamType(setter));
-				ReflectUtil.invokeWithCheck(bean, setter, value);
-			}
-		}
-		return bean;
+		//普通bean，使用按列结构缓存的映射器
+		return BeanRowMapper.of(meta, beanClass).map(rs);
 	}
 
 	/**
@@ -195,7 +169,20 @@ public class HandleHelper {
 	 */
 	public static List<Object> handleRowToList(ResultSet rs) throws SQLException {
 		final ResultSetMetaData meta = rs.getMetaData();
-		final int columnCount = meta.getColumnCount();
+		return handleRowToList(meta.getColumnCount(), meta, rs);
+	}
+
+	/**
+	 * 处理单行数据，使用已获取的元数据，避免逐行获取
+	 *
+	 * @param columnCount 列数
+	 * @param meta        ResultSetMetaData
+	 * @param rs          数据集（行）
+	 * @return 每一行的List
+	 * @throws SQLException SQL执行异常
+	 * @since 5.8.22
+	 */
+	public static List<Object> handleRowToList(int columnCount, ResultSetMetaData meta, ResultSet rs) throws SQLException {
 		final List<Object> row = new ArrayList<>(columnCount);
 		for (int i = 1; i <= columnCount; i++) {
 			row.add(getColumnValue(rs, i, meta.getColumnType(i), null));
@@ -255,6 +242,15 @@ public class HandleHelper {
 		final ResultSetMetaData meta = rs.getMetaData();
 		final int columnCount = meta.getColumnCount();
 
+		if (isPlainBean(elementBeanType)) {
+			// 映射器只获取一次
+			final BeanRowMapper<E> mapper = BeanRowMapper.of(meta, elementBeanType);
+			while (rs.next()) {
+				collection.add(mapper.map(rs));
+			}
+			return collection;
+		}
+
 		while (rs.next()) {
 			collection.add(handleRow(columnCount, meta, rs, elementBeanType));
 		}
@@ -262,6 +258,19 @@ public class HandleHelper {
 		return collection;
 	}
 
+	/**
+	 * 是否为普通Bean，即非数组、集合、Entity及其父类、字符串的类型，普通Bean使用{@link BeanRowMapper}映射
+	 *
+	 * @param beanClass 类型
+	 * @return 是否为普通Bean
+	 */
+	static boolean isPlainBean(Class<?> beanClass) {
+		return false == beanClass.isArray()
+				&& false == Iterable.class.isAssignableFrom(beanClass)
+				&& false == beanClass.isAssignableFrom(Entity.class)
+				&& String.class != beanClass;
+	}
+
 	// -------------------------------------------------------------------------------------------------------------- Private method start
 	/**
 	 * 获取字段值<br>
@@ -274,7 +283,7 @@ public class HandleHelper {
 	 * @return 字段值
 	 * @throws SQLException SQL异常
 	 */
-	private static Object getColumnValue(ResultSet rs, int columnIndex, int type, Type targetColumnType) throws SQLException {
+	static Object getColumnValue(ResultSet rs, int columnIndex, int type, Type targetColumnType) throws SQLException {
 		Object rawValue = null;
 		switch (type) {
 		case Types.TIMESTAMP:
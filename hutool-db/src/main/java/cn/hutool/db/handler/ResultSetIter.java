@@ -0,0 +1,210 @@
+package cn.hutool.db.handler;
+
+import cn.hutool.db.DbRuntimeException;
+import cn.hutool.db.DbUtil;
+import cn.hutool.db.Entity;
+
+import java.io.Closeable;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 结果集迭代器，逐行读取{@link ResultSet}并转换，不会将结果全部加载到内存中<br>
+ * 迭代结束或调用{@link #close()}时关闭结果集、语句，并执行关闭回调（如释放连接），使用完毕后必须关闭。
+ *
+ * @param <T> 行对象类型
+ * @author looly
+ * @since 5.8.22
+ */
+public class ResultSetIter<T> implements Iterator<T>, Iterable<T>, Closeable {
+
+	private final Statement statement;
+	private final ResultSet rs;
+	private final RowHandler<T> rowHandler;
+	private final Runnable closeCallback;
+	private final ResultSetMetaData meta;
+	private final int columnCount;
+
+	/**
+	 * 是否已读取下一行
+	 */
+	private boolean hasFetched;
+	private boolean hasNext;
+	private boolean closed;
+
+	/**
+	 * 创建{@link Entity}结果集迭代器
+	 *
+	 * @param statement       语句，关闭时一同关闭，可为{@code null}
+	 * @param rs              结果集
+	 * @param caseInsensitive 是否大小写不敏感
+	 * @param closeCallback   关闭回调，可为{@code null}
+	 * @return ResultSetIter
+	 * @throws SQLException SQL异常
+	 */
+	public static ResultSetIter<Entity> ofEntity(Statement statement, ResultSet rs, boolean caseInsensitive, Runnable closeCallback) throws SQLException {
+		return new ResultSetIter<>(statement, rs,
+				(columnCount, meta, row) -> HandleHelper.handleRow(columnCount, meta, row, caseInsensitive), closeCallback);
+	}
+
+	/**
+	 * 创建Bean结果集迭代器
+	 *
+	 * @param <T>           Bean类型
+	 * @param statement     语句，关闭时一同关闭，可为{@code null}
+	 * @param rs            结果集
+	 * @param beanClass     Bean类
+	 * @param closeCallback 关闭回调，可为{@code null}
+	 * @return ResultSetIter
+	 * @throws SQLException SQL异常
+	 */
+	public static <T> ResultSetIter<T> ofBean(Statement statement, ResultSet rs, Class<T> beanClass, Runnable closeCallback) throws SQLException {
+		if (HandleHelper.isPlainBean(beanClass)) {
+			final BeanRowMapper<T> mapper = BeanRowMapper.of(rs.getMetaData(), beanClass);
+			return new ResultSetIter<>(statement, rs, (columnCount, meta, row) -> mapper.map(row), closeCallback);
+		}
+		return new ResultSetIter<>(statement, rs,
+				(columnCount, meta, row) -> HandleHelper.handleRow(columnCount, meta, row, beanClass), closeCallback);
+	}
+
+	/**
+	 * 创建Bean行处理器，普通Bean的映射器在处理第一行时按照结果集结构获取一次，之后所有行复用
+	 *
+	 * @param <T>       Bean类型
+	 * @param beanClass Bean类
+	 * @return 行处理器，只能用于同一个结果集
+	 */
+	public static <T> RowHandler<T> beanRowHandler(Class<T> beanClass) {
+		if (false == HandleHelper.isPlainBean(beanClass)) {
+			return (columnCount, meta, row) -> HandleHelper.handleRow(columnCount, meta, row, beanClass);
+		}
+		return new RowHandler<T>() {
+			private BeanRowMapper<T> mapper;
+
+			@Override
+			public T handle(int columnCount, ResultSetMetaData meta, ResultSet rs) throws SQLException {
+				if (null == mapper) {
+					mapper = BeanRowMapper.of(meta, beanClass);
+				}
+				return mapper.map(rs);
+			}
+		};
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param statement     语句，关闭时一同关闭，可为{@code null}
+	 * @param rs            结果集
+	 * @param rowHandler    行处理器
+	 * @param closeCallback 关闭回调，可为{@code null}
+	 * @throws SQLException SQL异常
+	 */
+	public ResultSetIter(Statement statement, ResultSet rs, RowHandler<T> rowHandler, Runnable closeCallback) throws SQLException {
+		this.statement = statement;
+		this.rs = rs;
+		this.rowHandler = rowHandler;
+		this.closeCallback = closeCallback;
+		this.meta = rs.getMetaData();
+		this.columnCount = meta.getColumnCount();
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (false == hasFetched) {
+			if (closed) {
+				return false;
+			}
+			try {
+				hasNext = rs.next();
+			} catch (SQLException e) {
+				close();
+				throw new DbRuntimeException(e);
+			}
+			hasFetched = true;
+			if (false == hasNext) {
+				// 读取完毕自动释放资源
+				close();
+			}
+		}
+		return hasNext;
+	}
+
+	@Override
+	public T next() {
+		if (false == hasNext()) {
+			throw new NoSuchElementException();
+		}
+		hasFetched = false;
+		try {
+			return rowHandler.handle(columnCount, meta, rs);
+		} catch (SQLException e) {
+			close();
+			throw new DbRuntimeException(e);
+		}
+	}
+
+	/**
+	 * 获取结果集元数据，可用于在读取行之前获取列名
+	 *
+	 * @return {@link ResultSetMetaData}
+	 */
+	public ResultSetMetaData getMetaData() {
+		return this.meta;
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return this;
+	}
+
+	/**
+	 * 转换为顺序流，流关闭时关闭此迭代器
+	 *
+	 * @return {@link Stream}
+	 */
+	public Stream<T> toStream() {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this,
+				Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(this::close);
+	}
+
+	@Override
+	public void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		hasNext = false;
+		DbUtil.close(rs, statement);
+		if (null != closeCallback) {
+			closeCallback.run();
+		}
+	}
+
+	/**
+	 * 行处理器，将结果集的当前行转换为对象
+	 *
+	 * @param <T> 行对象类型
+	 */
+	@FunctionalInterface
+	public interface RowHandler<T> {
+		/**
+		 * 处理当前行
+		 *
+		 * @param columnCount 列数
+		 * @param meta        结果集元数据
+		 * @param rs          结果集，已指向当前行
+		 * @return 行对象
+		 * @throws SQLException SQL异常
+		 */
+		T handle(int columnCount, ResultSetMetaData meta, ResultSet rs) throws SQLException;
+	}
+}
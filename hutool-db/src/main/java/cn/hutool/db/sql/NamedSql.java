@@ -1,13 +1,17 @@
 package cn.hutool.db.sql;
 
 import cn.hutool.core.map.MapUtil;
+import cn.hutool.core.map.SafeConcurrentHashMap;
 import cn.hutool.core.text.StrBuilder;
 import cn.hutool.core.util.ArrayUtil;
 import cn.hutool.core.util.StrUtil;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * 使用命名占位符的SQL，例如：select * from table where field1=:name1<br>
@@ -17,6 +21,7 @@ import java.util.Map;
  * 2、@name
  * 3、?name
  * </pre>
+ * 相同SQL的占位符解析结果会被缓存（最多约1024条，超出时淘汰任意一条，非LRU），重复执行时仅需按照参数替换变量。
  *
  * @author looly
  * @since 4.0.10
@@ -24,6 +29,18 @@ import java.util.Map;
 public class NamedSql {
 
 	private static final char[] NAME_START_CHARS = {':', '@', '?'};
+	/**
+	 * SQL拆分结果的缓存容量
+	 */
+	private static final int CACHE_CAPACITY = 1024;
+	private static final LongAdder HIT_COUNT = new LongAdder();
+	private static final LongAdder MISS_COUNT = new LongAdder();
+	private static final LongAdder EVICTION_COUNT = new LongAdder();
+	/**
+	 * SQL拆分结果的缓存，重复出现的SQL无需再次逐字符解析<br>
+	 * 读取无锁，超出容量时淘汰任意一个已有结果，避免全局锁成为并发瓶颈
+	 */
+	private static final Map<String, Object[]> SEGMENTS_CACHE = new SafeConcurrentHashMap<>(CACHE_CAPACITY * 4 / 3 + 1);
 
 	private String sql;
 	private final List<Object> params;
@@ -66,6 +83,25 @@ public class NamedSql {
 		return this.params;
 	}
 
+	/**
+	 * 获取解析结果缓存的命中指标
+	 *
+	 * @return {@link SqlCacheStats}
+	 * @since 5.8.22
+	 */
+	public static SqlCacheStats cacheStats() {
+		return new SqlCacheStats(HIT_COUNT.sum(), MISS_COUNT.sum(), EVICTION_COUNT.sum());
+	}
+
+	/**
+	 * 清空解析结果缓存
+	 *
+	 * @since 5.8.22
+	 */
+	public static void clearCache() {
+		SEGMENTS_CACHE.clear();
+	}
+
 	/**
 	 * 解析命名占位符的SQL
 	 *
@@ -78,17 +114,71 @@ public class NamedSql {
 			return;
 		}
 
+		final Object[] segments = getSegments(namedSql);
+		if (1 == segments.length && segments[0] instanceof String) {
+			// 无变量
+			this.sql = namedSql;
+			return;
+		}
+
+		final StrBuilder sqlBuilder = StrUtil.strBuilder(namedSql.length());
+		for (Object segment : segments) {
+			if (segment instanceof Var) {
+				replaceVar((Var) segment, sqlBuilder, paramMap);
+			} else {
+				sqlBuilder.append((String) segment);
+			}
+		}
+		this.sql = sqlBuilder.toString();
+	}
+
+	/**
+	 * 获取SQL拆分后的片段，相同SQL的拆分结果被缓存
+	 *
+	 * @param namedSql 命名占位符的SQL
+	 * @return 片段，元素为普通字符串或{@link Var}
+	 */
+	private static Object[] getSegments(String namedSql) {
+		Object[] segments = SEGMENTS_CACHE.get(namedSql);
+		if (null != segments) {
+			HIT_COUNT.increment();
+			return segments;
+		}
+
+		MISS_COUNT.increment();
+		segments = split(namedSql);
+		if (SEGMENTS_CACHE.size() >= CACHE_CAPACITY) {
+			// 并发时容量可能略微超出，不影响正确性
+			final Iterator<String> keys = SEGMENTS_CACHE.keySet().iterator();
+			if (keys.hasNext()) {
+				keys.next();
+				keys.remove();
+				EVICTION_COUNT.increment();
+			}
+		}
+		SEGMENTS_CACHE.putIfAbsent(namedSql, segments);
+		return segments;
+	}
+
+	/**
+	 * 将SQL拆分为普通字符串和变量片段
+	 *
+	 * @param namedSql 命名占位符的SQL
+	 * @return 片段，元素为普通字符串或{@link Var}
+	 */
+	private static Object[] split(String namedSql) {
+		final List<Object> segments = new ArrayList<>();
 		final int len = namedSql.length();
 
 		final StrBuilder name = StrUtil.strBuilder();
-		final StrBuilder sqlBuilder = StrUtil.strBuilder();
+		final StrBuilder text = StrUtil.strBuilder();
 		char c;
 		Character nameStartChar = null;
 		for (int i = 0; i < len; i++) {
 			c = namedSql.charAt(i);
 			if (ArrayUtil.contains(NAME_START_CHARS, c)) {
 				// 新的变量开始符出现，要处理之前的变量
-				replaceVar(nameStartChar, name, sqlBuilder, paramMap);
+				addVar(segments, nameStartChar, name, text);
 				nameStartChar = c;
 			} else if (null != nameStartChar) {
 				// 变量状态
@@ -96,45 +186,63 @@ public class NamedSql {
 					// 变量名
 					name.append(c);
 				} else {
-					// 非标准字符也非变量开始的字符出现表示变量名结束，开始替换
-					replaceVar(nameStartChar, name, sqlBuilder, paramMap);
+					// 非标准字符也非变量开始的字符出现表示变量名结束
+					addVar(segments, nameStartChar, name, text);
 					nameStartChar = null;
-					sqlBuilder.append(c);
+					text.append(c);
 				}
 			} else {
 				// 变量以外的字符原样输出
-				sqlBuilder.append(c);
+				text.append(c);
 			}
 		}
 
 		// 收尾，如果SQL末尾存在变量，处理之
 		if (false == name.isEmpty()) {
-			replaceVar(nameStartChar, name, sqlBuilder, paramMap);
+			addVar(segments, nameStartChar, name, text);
 		}
-
-		this.sql = sqlBuilder.toString();
+		if (false == text.isEmpty()) {
+			segments.add(text.toString());
+		}
+		return segments.toArray();
 	}
 
 	/**
-	 * 替换变量，如果无变量，原样输出到SQL中去
+	 * 添加变量片段，变量名为空时按照普通字符处理
 	 *
+	 * @param segments      片段列表
 	 * @param nameStartChar 变量开始字符
-	 * @param name 变量名
-	 * @param sqlBuilder 结果SQL缓存
-	 * @param paramMap 变量map（非空）
+	 * @param name          变量名
+	 * @param text          变量之前的普通字符
 	 */
-	private void replaceVar(Character nameStartChar, StrBuilder name, StrBuilder sqlBuilder, Map<String, Object> paramMap){
-		if(name.isEmpty()){
-			if(null != nameStartChar){
+	private static void addVar(List<Object> segments, Character nameStartChar, StrBuilder name, StrBuilder text) {
+		if (name.isEmpty()) {
+			if (null != nameStartChar) {
 				// 类似于:的情况，需要补上:
-				sqlBuilder.append(nameStartChar);
+				text.append(nameStartChar);
 			}
 			// 无变量，按照普通字符处理
 			return;
 		}
 
-		// 变量结束
-		final String nameStr = name.toString();
+		if (false == text.isEmpty()) {
+			segments.add(text.toString());
+			text.clear();
+		}
+		segments.add(new Var(nameStartChar, name.toString()));
+		//清空变量，表示此变量处理结束
+		name.clear();
+	}
+
+	/**
+	 * 替换变量，如果无变量对应值，原样输出到SQL中去
+	 *
+	 * @param var        变量
+	 * @param sqlBuilder 结果SQL缓存
+	 * @param paramMap   变量map（非空）
+	 */
+	private void replaceVar(Var var, StrBuilder sqlBuilder, Map<String, Object> paramMap){
+		final String nameStr = var.name;
 		if(paramMap.containsKey(nameStr)) {
 			// 有变量对应值（值可以为null），替换占位符为?，变量值放入相应index位置
 			final Object paramValue = paramMap.get(nameStr);
@@ -154,11 +262,8 @@ public class NamedSql {
 			}
 		} else {
 			// 无变量对应值，原样输出
-			sqlBuilder.append(nameStartChar).append(name);
+			sqlBuilder.append(var.startChar).append(nameStr);
 		}
-
-		//清空变量，表示此变量处理结束
-		name.clear();
 	}
 
 	/**
@@ -170,4 +275,17 @@ public class NamedSql {
 	private static boolean isGenerateChar(char c) {
 		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || (c >= '0' && c <= '9');
 	}
+
+	/**
+	 * SQL中的变量片段
+	 */
+	private static class Var {
+		private final char startChar;
+		private final String name;
+
+		Var(char startChar, String name) {
+			this.startChar = startChar;
+			this.name = name;
+		}
+	}
 }
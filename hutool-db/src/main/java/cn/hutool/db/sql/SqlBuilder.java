@@ -2,10 +2,12 @@ package cn.hutool.db.sql;
 
 import cn.hutool.core.builder.Builder;
 import cn.hutool.core.collection.CollectionUtil;
+import cn.hutool.core.lang.Assert;
 import cn.hutool.core.util.ArrayUtil;
 import cn.hutool.core.util.StrUtil;
 import cn.hutool.db.DbRuntimeException;
 import cn.hutool.db.Entity;
+import cn.hutool.db.Page;
 import cn.hutool.db.dialect.DialectName;
 import cn.hutool.db.dialect.impl.OracleDialect;
 
@@ -203,6 +205,55 @@ public class SqlBuilder implements Builder<String> {
 		return this;
 	}
 
+	/**
+	 * 多行插入，生成形如 INSERT INTO table (a, b) VALUES (?, ?), (?, ?) 的语句<br>
+	 * 字段以第一条记录为准，后续记录按照第一条记录的字段取值，缺失的字段值为{@code null}
+	 *
+	 * @param entities 实体列表，表名以第一条记录为准
+	 * @return 自己
+	 * @since 5.8.22
+	 */
+	public SqlBuilder insertMultiRow(Entity... entities) {
+		if (ArrayUtil.isEmpty(entities)) {
+			throw new DbRuntimeException("Entities for multi-row insert is empty !");
+		}
+		validateEntity(entities[0]);
+
+		final List<String> fields = new ArrayList<>(entities[0].size());
+		final StringBuilder fieldsPart = new StringBuilder();
+		final StringBuilder placeHolder = new StringBuilder("(");
+		for (String field : entities[0].keySet()) {
+			if (StrUtil.isNotBlank(field)) {
+				if (fieldsPart.length() > 0) {
+					fieldsPart.append(", ");
+					placeHolder.append(", ");
+				}
+				fields.add(field);
+				fieldsPart.append((null != wrapper) ? wrapper.wrap(field) : field);
+				placeHolder.append("?");
+			}
+		}
+		placeHolder.append(")");
+
+		String tableName = entities[0].getTableName();
+		if (null != this.wrapper) {
+			tableName = this.wrapper.wrap(tableName);
+		}
+		sql.append("INSERT INTO ").append(tableName)
+				.append(" (").append(fieldsPart).append(") VALUES ");
+		for (int i = 0; i < entities.length; i++) {
+			if (i > 0) {
+				sql.append(", ");
+			}
+			sql.append(placeHolder);
+			for (String field : fields) {
+				this.paramValues.add(entities[i].get(field));
+			}
+		}
+
+		return this;
+	}
+
 	/**
 	 * 删除
 	 *
@@ -574,6 +625,35 @@ public class SqlBuilder implements Builder<String> {
 	public SqlBuilder query(Query query) {
 		return this.select(query.getFields()).from(query.getTableNames()).where(query.getWhere());
 	}
+
+	/**
+	 * 构建键集分页（Keyset/Seek）查询SQL，即在{@link #query(Query)}的基础上追加条件，只查询排序在指定键之后的记录<br>
+	 * 与LIMIT/OFFSET分页不同，数据库可直接通过索引定位到起始记录，无需扫描并丢弃前面的记录，查询耗时与页码无关。<br>
+	 * 键为分页对象中的排序字段，排序字段的组合必须唯一（通常以主键作为最后一个排序字段），否则可能遗漏记录。<br>
+	 * 此方法不添加ORDER BY和分页子句，由方言包装。
+	 *
+	 * @param query      {@link Query}，分页对象中的排序字段即为键
+	 * @param lastKey    上一页最后一条记录的键值，与排序字段一一对应，{@code null}或空表示第一页
+	 * @param isRowValue 是否使用行值比较，即(k1, k2) &gt; (?, ?)，仅在所有排序方向一致时使用，否则使用等价的展开形式：k1 &gt; ? OR (k1 = ? AND k2 &gt; ?)
+	 * @return this
+	 * @since 5.8.22
+	 */
+	public SqlBuilder queryAfter(Query query, Object[] lastKey, boolean isRowValue) {
+		final Page page = query.getPage();
+		Assert.notNull(page, "Page must be not null for keyset paging!");
+		final Order[] orders = page.getOrders();
+		Assert.notEmpty(orders, "Orders must be not empty for keyset paging!");
+
+		this.select(query.getFields()).from(query.getTableNames());
+		String where = buildCondition(query.getWhere());
+		if (ArrayUtil.isNotEmpty(lastKey)) {
+			Assert.isTrue(lastKey.length == orders.length, "Last key length [{}] not match orders length [{}]", lastKey.length, orders.length);
+			Assert.noNullElements(lastKey, "Last key must not contain null value!");
+			final String seek = buildSeekCondition(orders, lastKey, isRowValue);
+			where = StrUtil.isEmpty(where) ? seek : StrUtil.format("({}) AND {}", where, seek);
+		}
+		return where(where);
+	}
 	// --------------------------------------------------------------- Builder end
 
 	/**
@@ -639,5 +719,53 @@ public class SqlBuilder implements Builder<String> {
 
 		return ConditionBuilder.of(conditions).build(this.paramValues);
 	}
+
+	/**
+	 * 构建键集分页条件，参数按照占位符顺序加入参数列表
+	 *
+	 * @param orders     排序，即键字段
+	 * @param lastKey    上一页最后一条记录的键值
+	 * @param isRowValue 是否使用行值比较
+	 * @return 条件SQL
+	 */
+	private String buildSeekCondition(Order[] orders, Object[] lastKey, boolean isRowValue) {
+		final String[] fields = new String[orders.length];
+		final String[] operators = new String[orders.length];
+		boolean isSameDirection = true;
+		for (int i = 0; i < orders.length; i++) {
+			fields[i] = null == wrapper ? orders[i].getField() : wrapper.wrap(orders[i].getField());
+			operators[i] = Direction.DESC == orders[i].getDirection() ? "<" : ">";
+			if (false == operators[i].equals(operators[0])) {
+				isSameDirection = false;
+			}
+		}
+
+		final StringBuilder seek = new StringBuilder();
+		if (isRowValue && isSameDirection && orders.length > 1) {
+			// (k1, k2) > (?, ?)
+			seek.append('(').append(ArrayUtil.join(fields, ", ")).append(") ").append(operators[0])
+					.append(" (").append(StrUtil.repeatAndJoin("?", fields.length, ", ")).append(')');
+			Collections.addAll(this.paramValues, lastKey);
+			return seek.toString();
+		}
+
+		// k1 > ? OR (k1 = ? AND k2 > ?)
+		seek.append('(');
+		for (int i = 0; i < fields.length; i++) {
+			if (i > 0) {
+				seek.append(" OR (");
+			}
+			for (int j = 0; j < i; j++) {
+				seek.append(fields[j]).append(" = ? AND ");
+				this.paramValues.add(lastKey[j]);
+			}
+			seek.append(fields[i]).append(' ').append(operators[i]).append(" ?");
+			this.paramValues.add(lastKey[i]);
+			if (i > 0) {
+				seek.append(')');
+			}
+		}
+		return seek.append(')').toString();
+	}
 	// --------------------------------------------------------------- private method end
 }
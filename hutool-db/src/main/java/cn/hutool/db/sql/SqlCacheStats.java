@@ -0,0 +1,74 @@
+package cn.hutool.db.sql;
+
+import java.io.Serializable;
+
+/**
+ * SQL相关缓存的命中指标快照，数据为获取时的累计值
+ *
+ * @author looly
+ * @see NamedSql#cacheStats()
+ * @see StatementCache#stats()
+ * @since 5.8.22
+ */
+public class SqlCacheStats implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final long hitCount;
+	private final long missCount;
+	private final long evictionCount;
+
+	/**
+	 * 构造
+	 *
+	 * @param hitCount      命中次数
+	 * @param missCount     未命中次数
+	 * @param evictionCount 因容量不足被移除的次数
+	 */
+	public SqlCacheStats(long hitCount, long missCount, long evictionCount) {
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.evictionCount = evictionCount;
+	}
+
+	/**
+	 * @return 命中次数
+	 */
+	public long hitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * @return 未命中次数
+	 */
+	public long missCount() {
+		return missCount;
+	}
+
+	/**
+	 * @return 因容量不足被移除的次数
+	 */
+	public long evictionCount() {
+		return evictionCount;
+	}
+
+	/**
+	 * @return 请求次数，即命中与未命中次数之和
+	 */
+	public long requestCount() {
+		return hitCount + missCount;
+	}
+
+	/**
+	 * @return 命中率，无请求时为1
+	 */
+	public double hitRate() {
+		final long requestCount = requestCount();
+		return 0 == requestCount ? 1.0 : (double) hitCount / requestCount;
+	}
+
+	@Override
+	public String toString() {
+		return "SqlCacheStats [hitCount=" + hitCount + ", missCount=" + missCount
+				+ ", evictionCount=" + evictionCount + ", hitRate=" + hitRate() + "]";
+	}
+}
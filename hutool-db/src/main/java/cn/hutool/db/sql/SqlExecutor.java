@@ -2,6 +2,7 @@ package cn.hutool.db.sql;
 
 import cn.hutool.core.collection.ArrayIter;
 import cn.hutool.core.exceptions.ExceptionUtil;
+import cn.hutool.core.lang.Assert;
 import cn.hutool.core.lang.func.Func1;
 import cn.hutool.db.DbUtil;
 import cn.hutool.db.StatementUtil;
@@ -13,6 +14,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -184,6 +186,46 @@ public class SqlExecutor {
 		}
 	}
 
+	/**
+	 * 分批执行非查询语句，每累积batchSize组参数执行一次，避免大量参数一次性加入批次导致内存占用过高或超出驱动限制<br>
+	 * 语句包括 插入、更新、删除<br>
+	 * 此方法不会关闭Connection
+	 *
+	 * @param conn        数据库连接对象
+	 * @param sql         SQL
+	 * @param paramsBatch 批量的参数，可为惰性生成的参数
+	 * @param batchSize   每批参数数
+	 * @return 影响的总行数，驱动未返回行数的语句按1行计
+	 * @throws SQLException SQL执行异常
+	 * @since 5.8.22
+	 */
+	public static long executeBatch(Connection conn, String sql, Iterable<Object[]> paramsBatch, int batchSize) throws SQLException {
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than 0!");
+		sql = sql.trim();
+		SqlLog.INSTANCE.logForBatch(sql);
+		PreparedStatement ps = null;
+		try {
+			ps = conn.prepareStatement(sql);
+			final Map<Integer, Integer> nullTypeMap = new HashMap<>();
+			long affected = 0;
+			int count = 0;
+			for (Object[] params : paramsBatch) {
+				StatementUtil.fillParams(ps, new ArrayIter<>(params), nullTypeMap);
+				ps.addBatch();
+				if (++count == batchSize) {
+					affected += SqlUtil.sumAffectedRows(ps.executeBatch());
+					count = 0;
+				}
+			}
+			if (count > 0) {
+				affected += SqlUtil.sumAffectedRows(ps.executeBatch());
+			}
+			return affected;
+		} finally {
+			DbUtil.close(ps);
+		}
+	}
+
 	/**
 	 * 批量执行非查询语句<br>
 	 * 语句包括 插入、更新、删除<br>
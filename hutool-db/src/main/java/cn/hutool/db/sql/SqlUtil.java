@@ -16,6 +16,7 @@ import java.sql.Clob;
 import java.sql.Connection;
 import java.sql.RowId;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.List;
 import java.util.Map.Entry;
 
@@ -252,4 +253,23 @@ public class SqlUtil {
 	public static java.sql.Timestamp toSqlTimestamp(java.util.Date date) {
 		return new java.sql.Timestamp(date.getTime());
 	}
+
+	/**
+	 * 汇总批量执行影响的行数，{@link Statement#SUCCESS_NO_INFO}（执行成功但驱动未返回行数）按1行计，{@link Statement#EXECUTE_FAILED}不计
+	 *
+	 * @param counts {@link Statement#executeBatch()}的结果
+	 * @return 影响的行数
+	 * @since 5.8.22
+	 */
+	public static long sumAffectedRows(int[] counts) {
+		long sum = 0;
+		for (int count : counts) {
+			if (count > 0) {
+				sum += count;
+			} else if (Statement.SUCCESS_NO_INFO == count) {
+				sum++;
+			}
+		}
+		return sum;
+	}
 }
@@ -0,0 +1,260 @@
+package cn.hutool.db.sql;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.db.DbUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 单个连接的{@link PreparedStatement}缓存，按照最近最少使用（LRU）淘汰<br>
+ * 用于本身不缓存语句的连接池（如{@link cn.hutool.db.ds.pooled.PooledDataSource}），重复执行相同SQL时复用已预编译的语句：
+ * <ul>
+ *     <li>借出的语句调用{@link PreparedStatement#close()}时清空参数和批量参数并放回缓存，而非真正关闭，清空失败时关闭</li>
+ *     <li>同一SQL的语句正在使用时（如嵌套查询），再次获取时创建新的语句，归还时多余的语句被关闭</li>
+ *     <li>修改了fetchSize、maxRows或queryTimeout的语句不放回缓存，避免影响下次使用</li>
+ * </ul>
+ * 命中指标为所有连接缓存的全局累计值，通过{@link #stats()}获取。
+ *
+ * @author looly
+ * @since 5.8.22
+ */
+public class StatementCache {
+
+	private static final LongAdder HIT_COUNT = new LongAdder();
+	private static final LongAdder MISS_COUNT = new LongAdder();
+	private static final LongAdder EVICTION_COUNT = new LongAdder();
+
+	private final int capacity;
+	/**
+	 * 空闲的语句，按照访问顺序排列
+	 */
+	private final LinkedHashMap<Key, CachedStatement> cache;
+	private boolean closed;
+
+	/**
+	 * 构造
+	 *
+	 * @param capacity 最多缓存的语句数，必须大于0
+	 */
+	public StatementCache(int capacity) {
+		Assert.isTrue(capacity > 0, "Statement cache capacity must be greater than 0!");
+		this.capacity = capacity;
+		this.cache = new LinkedHashMap<>(16, 0.75f, true);
+	}
+
+	/**
+	 * 获取所有连接缓存的命中指标
+	 *
+	 * @return {@link SqlCacheStats}
+	 */
+	public static SqlCacheStats stats() {
+		return new SqlCacheStats(HIT_COUNT.sum(), MISS_COUNT.sum(), EVICTION_COUNT.sum());
+	}
+
+	/**
+	 * 从缓存中获取语句，不存在时使用连接创建
+	 *
+	 * @param conn              实际的数据库连接
+	 * @param sql               SQL语句
+	 * @param autoGeneratedKeys 是否返回自动生成的主键，见{@link Statement#RETURN_GENERATED_KEYS}
+	 * @return {@link PreparedStatement}，关闭时放回缓存
+	 * @throws SQLException SQL异常
+	 */
+	public PreparedStatement prepareStatement(Connection conn, String sql, int autoGeneratedKeys) throws SQLException {
+		final Key key = new Key(sql, autoGeneratedKeys);
+		CachedStatement statement;
+		synchronized (this) {
+			statement = closed ? null : cache.remove(key);
+		}
+		if (null != statement) {
+			HIT_COUNT.increment();
+			statement.inUse = true;
+			return statement;
+		}
+
+		MISS_COUNT.increment();
+		final PreparedStatement raw = Statement.RETURN_GENERATED_KEYS == autoGeneratedKeys
+				? conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : conn.prepareStatement(sql);
+		return new CachedStatement(this, key, raw);
+	}
+
+	/**
+	 * @return 当前缓存的空闲语句数
+	 */
+	public synchronized int size() {
+		return cache.size();
+	}
+
+	/**
+	 * 关闭缓存中的所有语句，连接关闭前调用，之后归还的语句直接关闭
+	 */
+	public void close() {
+		final List<CachedStatement> statements;
+		synchronized (this) {
+			closed = true;
+			statements = new ArrayList<>(cache.values());
+			cache.clear();
+		}
+		for (CachedStatement statement : statements) {
+			DbUtil.close(statement.raw);
+		}
+	}
+
+	/**
+	 * 归还语句，可复用时放回缓存，否则关闭
+	 *
+	 * @param statement 语句
+	 */
+	private void release(CachedStatement statement) {
+		if (statement.dirty || false == reset(statement.raw)) {
+			DbUtil.close(statement.raw);
+			return;
+		}
+
+		final List<CachedStatement> evicted = new ArrayList<>(1);
+		boolean cached = false;
+		synchronized (this) {
+			if (false == closed && false == cache.containsKey(statement.key)) {
+				cache.put(statement.key, statement);
+				cached = true;
+				final Iterator<CachedStatement> iterator = cache.values().iterator();
+				while (cache.size() > capacity) {
+					evicted.add(iterator.next());
+					iterator.remove();
+				}
+			}
+		}
+		if (false == cached) {
+			DbUtil.close(statement.raw);
+		}
+		for (CachedStatement evictedStatement : evicted) {
+			EVICTION_COUNT.increment();
+			DbUtil.close(evictedStatement.raw);
+		}
+	}
+
+	/**
+	 * 清空语句的参数、未执行的批量参数和未关闭的结果集，以便下次使用<br>
+	 * 如批量填充参数时出错，已添加的批量参数不能残留到下次使用中
+	 *
+	 * @param raw 实际的语句
+	 * @return 是否可复用
+	 */
+	private static boolean reset(PreparedStatement raw) {
+		try {
+			if (raw.isClosed()) {
+				return false;
+			}
+			raw.clearParameters();
+			raw.clearBatch();
+			final ResultSet rs = raw.getResultSet();
+			if (null != rs) {
+				rs.close();
+			}
+			raw.clearWarnings();
+			return true;
+		} catch (SQLException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * 缓存的键，SQL相同但是否返回主键不同时为不同的语句
+	 */
+	private static class Key {
+		private final String sql;
+		private final int autoGeneratedKeys;
+
+		Key(String sql, int autoGeneratedKeys) {
+			this.sql = sql;
+			this.autoGeneratedKeys = autoGeneratedKeys;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			final Key key = (Key) o;
+			return autoGeneratedKeys == key.autoGeneratedKeys && sql.equals(key.sql);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(sql, autoGeneratedKeys);
+		}
+	}
+
+	/**
+	 * 可缓存的语句，关闭时归还到缓存
+	 */
+	private static class CachedStatement extends StatementWrapper {
+		private final StatementCache cache;
+		private final Key key;
+		private final PreparedStatement raw;
+		private volatile boolean inUse = true;
+		/**
+		 * 是否修改了执行相关的设置，修改后不再放回缓存
+		 */
+		private boolean dirty;
+
+		CachedStatement(StatementCache cache, Key key, PreparedStatement raw) {
+			super(raw);
+			this.cache = cache;
+			this.key = key;
+			this.raw = raw;
+		}
+
+		@Override
+		public void close() {
+			// 重复关闭时不重复归还
+			if (false == inUse) {
+				return;
+			}
+			inUse = false;
+			cache.release(this);
+		}
+
+		@Override
+		public boolean isClosed() throws SQLException {
+			return false == inUse || raw.isClosed();
+		}
+
+		@Override
+		public void setFetchSize(int rows) throws SQLException {
+			dirty = true;
+			super.setFetchSize(rows);
+		}
+
+		@Override
+		public void setMaxRows(int max) throws SQLException {
+			dirty = true;
+			super.setMaxRows(max);
+		}
+
+		@Override
+		public void setQueryTimeout(int seconds) throws SQLException {
+			dirty = true;
+			super.setQueryTimeout(seconds);
+		}
+
+		@Override
+		public void closeOnCompletion() throws SQLException {
+			dirty = true;
+			super.closeOnCompletion();
+		}
+	}
+}
@@ -0,0 +1,99 @@
+package cn.hutool.db;
+
+import cn.hutool.core.text.csv.CsvUtil;
+import cn.hutool.core.text.csv.CsvWriter;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.db.ds.simple.SimpleDataSource;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.StringWriter;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+public class DbExporterTest {
+
+	private static final int ROW_COUNT = 2000;
+	private static Db db;
+
+	@BeforeClass
+	public static void init() throws SQLException {
+		db = Db.use(new SimpleDataSource("jdbc:h2:mem:export_test;DB_CLOSE_DELAY=-1", "sa", ""));
+		db.execute("CREATE TABLE export_test(id INT PRIMARY KEY, name VARCHAR(20))");
+		final List<Entity> records = new ArrayList<>(ROW_COUNT);
+		for (int i = 1; i <= ROW_COUNT; i++) {
+			records.add(Entity.create("export_test").set("id", i).set("name", "name" + i));
+		}
+		db.insert(records);
+	}
+
+	@Test
+	public void exportCsvTest() throws SQLException {
+		final StringWriter out = new StringWriter();
+		final CsvWriter writer = CsvUtil.getWriter(out);
+		final long count = DbExporter.of(db, "select id, name from export_test where id > ? order by id", 0)
+				.setBatchSize(100).setQueueSize(2).setThreadSize(3)
+				.exportCsv(writer);
+		Assert.assertEquals(ROW_COUNT, count);
+
+		final List<String> lines = StrUtil.splitTrim(out.toString(), '\n');
+		Assert.assertEquals(ROW_COUNT + 1, lines.size());
+		Assert.assertEquals("ID,NAME", lines.get(0));
+		// 不分区时保持查询顺序
+		for (int i = 1; i <= ROW_COUNT; i++) {
+			Assert.assertEquals(i + ",name" + i, lines.get(i));
+		}
+	}
+
+	@Test
+	public void exportPartitionTest() throws SQLException {
+		final List<List<String>> headers = new ArrayList<>();
+		final Set<Object> ids = new HashSet<>();
+		final long count = DbExporter.of(db, "select id, name from export_test")
+				.setPartition("id", 4).setBatchSize(64)
+				.export(headers::add, Function.identity(), row -> ids.add(row.get(0)));
+		Assert.assertEquals(ROW_COUNT, count);
+		Assert.assertEquals(ROW_COUNT, ids.size());
+		Assert.assertEquals(1, headers.size());
+	}
+
+	@Test
+	public void exportPartitionWithNullTest() throws SQLException {
+		final Set<Object> names = new HashSet<>();
+		// 分区列为NULL的行不应丢失
+		final long count = DbExporter.of(db, "select case when id > 1990 then null else id end as pid, name from export_test")
+				.setPartition("pid", 4).setBatchSize(64)
+				.export(null, Function.identity(), row -> names.add(row.get(1)));
+		Assert.assertEquals(ROW_COUNT, count);
+		Assert.assertEquals(ROW_COUNT, names.size());
+	}
+
+	@Test
+	public void exportEmptyTest() throws SQLException {
+		final List<List<String>> headers = new ArrayList<>();
+		final long count = DbExporter.of(db, "select id, name from export_test where id < 0")
+				.setPartition("id", 4)
+				.export(headers::add, Function.identity(), row -> Assert.fail());
+		Assert.assertEquals(0, count);
+		Assert.assertEquals(1, headers.size());
+	}
+
+	@Test
+	public void exportFailTest() {
+		try {
+			DbExporter.of(db, "select id, name from export_test")
+					.setPartition("id", 2).setBatchSize(10).setQueueSize(1)
+					.export(null, Function.identity(), row -> {
+						throw new IllegalStateException("write failed");
+					});
+			Assert.fail();
+		} catch (IllegalStateException | SQLException e) {
+			Assert.assertEquals("write failed", e.getMessage());
+		}
+	}
+}
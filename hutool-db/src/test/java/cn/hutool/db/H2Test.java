@@ -2,13 +2,21 @@ package cn.hutool.db;
 
 import cn.hutool.core.map.CaseInsensitiveMap;
 import cn.hutool.core.map.MapUtil;
+import cn.hutool.db.sql.Direction;
+import cn.hutool.db.sql.Order;
+import lombok.Data;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * H2数据库单元测试
@@ -61,4 +69,100 @@ public class H2Test {
 		Entity a1=db.get("test","a",1);
 		Assert.assertEquals(Long.valueOf(111),a1.getLong("b"));
 	}
+
+	@Test
+	public void insertBatchTest() throws SQLException {
+		final Db db = Db.use(DS_GROUP_NAME);
+		db.execute("CREATE TABLE batch_test(a INTEGER, b VARCHAR(20))");
+
+		final List<long[]> progress = new ArrayList<>();
+		final long affected = db.insertBatch(
+				IntStream.range(0, 2500).mapToObj(i -> Entity.create("batch_test").set("a", i).set("b", "b" + i)),
+				BatchInsertConfig.create().setBatchSize(1000).setCommitPerBatch(true)
+						.setListener((rowCount, affectedCount) -> progress.add(new long[]{rowCount, affectedCount})));
+
+		Assert.assertEquals(2500, affected);
+		Assert.assertEquals(3, progress.size());
+		Assert.assertArrayEquals(new long[]{2000, 2000}, progress.get(1));
+		Assert.assertEquals(2500, db.count(Entity.create("batch_test")));
+		Assert.assertEquals("b2499", db.get("batch_test", "a", 2499).getStr("b"));
+	}
+
+	@Test
+	public void streamTest() throws SQLException {
+		final Db db = Db.use(DS_GROUP_NAME);
+		try (Stream<Entity> stream = db.stream("select * from test where a > ? order by a", 1)) {
+			final Iterator<Entity> iter = stream.iterator();
+			Assert.assertEquals(Integer.valueOf(2), iter.next().getInt("a"));
+			// 流使用独立连接，同一线程中的其它查询不影响流的读取
+			Assert.assertEquals(4, db.count(Entity.create("test")));
+			Assert.assertEquals(Integer.valueOf(3), iter.next().getInt("a"));
+			Assert.assertEquals(Integer.valueOf(4), iter.next().getInt("a"));
+			Assert.assertFalse(iter.hasNext());
+		}
+
+		try (Stream<TestBean> stream = db.stream("select * from test where a = :a", TestBean.class, MapUtil.of("a", 4))) {
+			final List<TestBean> list = stream.collect(Collectors.toList());
+			Assert.assertEquals(1, list.size());
+			Assert.assertEquals(Long.valueOf(41), list.get(0).getB());
+		}
+	}
+
+	@Test
+	public void pageAfterTest() throws SQLException {
+		final Db db = Db.use(DS_GROUP_NAME);
+		db.execute("CREATE TABLE keyset_test(id INTEGER, g INTEGER)");
+		db.insertBatch(IntStream.range(0, 25).mapToObj(i -> Entity.create("keyset_test").set("id", i).set("g", i % 3)).iterator(),
+				BatchInsertConfig.create());
+
+		// 按照(g, id)逐页遍历
+		final List<Integer> ids = new ArrayList<>();
+		Object[] lastKey = null;
+		int pageCount = 0;
+		List<Entity> rows;
+		do {
+			rows = db.pageAfter(Entity.create("keyset_test"), lastKey, 10, new Order("g"), new Order("id"));
+			rows.forEach(row -> ids.add(row.getInt("id")));
+			if (false == rows.isEmpty()) {
+				final Entity last = rows.get(rows.size() - 1);
+				lastKey = new Object[]{last.getInt("g"), last.getInt("id")};
+			}
+			pageCount++;
+		} while (rows.size() == 10);
+
+		Assert.assertEquals(3, pageCount);
+		Assert.assertEquals(25, ids.size());
+		Assert.assertEquals(Integer.valueOf(0), ids.get(0));
+		Assert.assertEquals(Integer.valueOf(3), ids.get(1));
+		Assert.assertEquals(Integer.valueOf(23), ids.get(24));
+
+		// 降序
+		rows = db.pageAfter(Entity.create("keyset_test").set("g", 1), new Object[]{10}, 2, new Order("id", Direction.DESC));
+		Assert.assertEquals(Integer.valueOf(7), rows.get(0).getInt("id"));
+		Assert.assertEquals(Integer.valueOf(4), rows.get(1).getInt("id"));
+	}
+
+	@Test
+	public void pageTotalModeTest() throws SQLException {
+		final Page page = Page.of(0, 3);
+		page.setTotalMode(PageTotalMode.NONE);
+		final PageResult<Entity> result = Db.use(DS_GROUP_NAME).page("select * from test", page);
+		Assert.assertEquals(3, result.size());
+		Assert.assertEquals(-1, result.getTotal());
+		Assert.assertFalse(result.isLast());
+
+		// H2不支持估算，退回到精确统计
+		page.setTotalMode(PageTotalMode.ESTIMATE);
+		page.setPageNumber(1);
+		final PageResult<TestBean> beans = Db.use(DS_GROUP_NAME).page("select * from test", page, TestBean.class);
+		Assert.assertEquals(4, beans.getTotal());
+		Assert.assertEquals(1, beans.size());
+		Assert.assertTrue(beans.isLast());
+	}
+
+	@Data
+	public static class TestBean {
+		private Integer a;
+		private Long b;
+	}
 }
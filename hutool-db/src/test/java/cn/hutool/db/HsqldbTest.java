@@ -6,6 +6,7 @@ import org.junit.Test;
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.stream.IntStream;
 
 /**
  * HSQLDB数据库单元测试
@@ -38,4 +39,17 @@ public class HsqldbTest {
 		List<Entity> query = Db.use(DS_GROUP_NAME).find(Entity.create("test"));
 		Assert.assertEquals(4, query.size());
 	}
+
+	@Test
+	public void insertBatchTest() throws SQLException {
+		final Db db = Db.use(DS_GROUP_NAME);
+		db.execute("CREATE TABLE batch_test(a INTEGER, b BIGINT)");
+
+		// HSQLDB方言不支持多行插入，使用JDBC批处理
+		final long affected = db.insertBatch(
+				IntStream.range(0, 250).mapToObj(i -> Entity.create("batch_test").set("a", i).set("b", i * 10L)).iterator(),
+				BatchInsertConfig.create().setBatchSize(100));
+		Assert.assertEquals(250, affected);
+		Assert.assertEquals(250, db.count(Entity.create("batch_test")));
+	}
 }
@@ -86,6 +86,32 @@ public class NamedSqlTest {
 		Assert.assertEquals(3, namedSql.getParams()[2]);
 	}
 
+	@Test
+	public void cacheTest() {
+		final String sql = "select * from table where id = :id and name like :name::varchar";
+		final long hitCount = NamedSql.cacheStats().hitCount();
+
+		final NamedSql first = new NamedSql(sql, MapUtil.of("id", 1));
+		Assert.assertEquals("select * from table where id = ? and name like :name::varchar", first.getSql());
+
+		// 相同SQL复用解析结果，不同参数替换结果不同
+		final NamedSql second = new NamedSql(sql, MapUtil.builder("id", (Object) 2).put("name", "a%").build());
+		Assert.assertEquals("select * from table where id = ? and name like ?::varchar", second.getSql());
+		Assert.assertArrayEquals(new Object[]{2, "a%"}, second.getParams());
+		Assert.assertTrue(NamedSql.cacheStats().hitCount() > hitCount);
+	}
+
+	@Test
+	public void cacheCapacityTest() {
+		final long evictionCount = NamedSql.cacheStats().evictionCount();
+		// 超出容量后淘汰已有结果，解析结果不受影响
+		for (int i = 0; i < 2000; i++) {
+			final NamedSql namedSql = new NamedSql("select * from table where id = :id and type = " + i, MapUtil.of("id", i));
+			Assert.assertEquals("select * from table where id = ? and type = " + i, namedSql.getSql());
+		}
+		Assert.assertTrue(NamedSql.cacheStats().evictionCount() - evictionCount >= 2000 - 1024);
+	}
+
 	@Test
 	public void queryTest() throws SQLException {
 		Map<String, Object> paramMap = MapUtil
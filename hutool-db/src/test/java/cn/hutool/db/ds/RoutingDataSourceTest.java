@@ -0,0 +1,93 @@
+package cn.hutool.db.ds;
+
+import cn.hutool.db.Db;
+import cn.hutool.db.Session;
+import cn.hutool.db.ds.simple.SimpleDSFactory;
+import cn.hutool.db.ds.simple.SimpleDataSource;
+import cn.hutool.setting.Setting;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+public class RoutingDataSourceTest {
+
+	private static final String PRIMARY_URL = "jdbc:h2:mem:rw_primary;DB_CLOSE_DELAY=-1";
+	private static final String REPLICA_URL = "jdbc:h2:mem:rw_replica;DB_CLOSE_DELAY=-1";
+
+	@BeforeClass
+	public static void init() throws SQLException {
+		Db.use(new SimpleDataSource(PRIMARY_URL, "sa", "")).execute("CREATE TABLE rw_test(v VARCHAR(20))");
+		Db.use(new SimpleDataSource(PRIMARY_URL, "sa", "")).execute("INSERT INTO rw_test VALUES('primary')");
+		Db.use(new SimpleDataSource(REPLICA_URL, "sa", "")).execute("CREATE TABLE rw_test(v VARCHAR(20))");
+		Db.use(new SimpleDataSource(REPLICA_URL, "sa", "")).execute("INSERT INTO rw_test VALUES('replica')");
+	}
+
+	@Test
+	public void routeTest() throws SQLException, InterruptedException {
+		final RoutingDataSource ds = new RoutingDataSource(new SimpleDataSource(PRIMARY_URL, "sa", ""))
+				.addReplica(new SimpleDataSource(REPLICA_URL, "sa", ""), 1)
+				.setStickyTime(200);
+		final Db db = Db.use(ds);
+
+		// 查询路由到从库
+		Assert.assertEquals("replica", db.queryString("select v from rw_test"));
+
+		// 写操作后保持在主库
+		db.execute("update rw_test set v = ? where v = ?", "primary", "primary");
+		Assert.assertEquals("primary", db.queryString("select v from rw_test"));
+		Thread.sleep(300);
+		Assert.assertEquals("replica", db.queryString("select v from rw_test"));
+
+		// 事务中的查询在主库执行
+		db.tx(tx -> Assert.assertEquals("primary", tx.queryString("select v from rw_test")));
+	}
+
+	@Test
+	public void sessionTest() throws SQLException {
+		final RoutingDataSource ds = new RoutingDataSource(new SimpleDataSource(PRIMARY_URL, "sa", ""))
+				.addReplica(new SimpleDataSource(REPLICA_URL, "sa", ""), 1)
+				.setStickyTime(0);
+		// Session的查询始终在主库执行
+		final Session session = Session.create(ds);
+		try {
+			Assert.assertEquals("primary", session.queryString("select v from rw_test"));
+		} finally {
+			session.close();
+		}
+	}
+
+	@Test
+	public void ejectTest() throws SQLException {
+		final RoutingDataSource ds = new RoutingDataSource(new SimpleDataSource(PRIMARY_URL, "sa", ""))
+				.addReplica(new SimpleDataSource("jdbc:h2:mem:rw_missing;IFEXISTS=TRUE", "sa", ""), 100)
+				.addReplica(new SimpleDataSource(REPLICA_URL, "sa", ""), 1)
+				.setStickyTime(0);
+		final Db db = Db.use(ds);
+
+		for (int i = 0; i < 5; i++) {
+			Assert.assertEquals("replica", db.queryString("select v from rw_test"));
+		}
+		Assert.assertEquals(1, ds.getAvailableReplicaCount());
+	}
+
+	@Test
+	public void settingTest() throws SQLException {
+		final Setting setting = new Setting();
+		setting.setByGroup("url", "rw_master", PRIMARY_URL);
+		setting.setByGroup("user", "rw_master", "sa");
+		setting.setByGroup("url", "rw_slave", REPLICA_URL);
+		setting.setByGroup("user", "rw_slave", "sa");
+		setting.setByGroup("primary", "rw", "rw_master");
+		setting.setByGroup("replicas", "rw", "rw_slave:2");
+		setting.setByGroup("stickyTime", "rw", "0");
+
+		final DSFactory factory = new SimpleDSFactory(setting);
+		final DataSource ds = factory.getDataSource("rw");
+		Assert.assertTrue(((DataSourceWrapper) ds).getRaw() instanceof RoutingDataSource);
+		Assert.assertEquals("replica", Db.use(ds).queryString("select v from rw_test"));
+		factory.destroy();
+	}
+}
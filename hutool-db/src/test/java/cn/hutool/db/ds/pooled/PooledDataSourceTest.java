@@ -0,0 +1,175 @@
+package cn.hutool.db.ds.pooled;
+
+import cn.hutool.db.sql.StatementCache;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PooledDataSourceTest {
+
+	@Test
+	public void concurrentBorrowTest() throws InterruptedException {
+		final PooledDataSource ds = new PooledDataSource(createConfig("pool_concurrent", 4));
+		final ExecutorService executor = Executors.newFixedThreadPool(16);
+		final int size = 200;
+		final CountDownLatch latch = new CountDownLatch(size);
+		final AtomicInteger failed = new AtomicInteger();
+		final AtomicInteger maxActive = new AtomicInteger();
+		for (int i = 0; i < size; i++) {
+			executor.execute(() -> {
+				try (Connection conn = ds.getConnection()) {
+					maxActive.accumulateAndGet(ds.getStats().activeCount(), Math::max);
+					conn.createStatement().execute("select 1");
+				} catch (SQLException e) {
+					failed.incrementAndGet();
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+		Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+		executor.shutdown();
+
+		final PoolStats stats = ds.getStats();
+		Assert.assertEquals(0, failed.get());
+		Assert.assertTrue(maxActive.get() <= 4);
+		Assert.assertEquals(0, stats.activeCount());
+		Assert.assertEquals(size, stats.borrowCount());
+		Assert.assertTrue(stats.createdCount() <= 4);
+		ds.close();
+	}
+
+	@Test
+	public void waitTimeoutTest() throws SQLException {
+		final PooledDataSource ds = new PooledDataSource(createConfig("pool_timeout", 1));
+		final Connection conn = ds.getConnection();
+		final long start = System.currentTimeMillis();
+		Assert.assertThrows(SQLException.class, () -> ds.getConnection(100));
+		Assert.assertTrue(System.currentTimeMillis() - start >= 90);
+		Assert.assertEquals(1, ds.getStats().borrowTimeoutCount());
+
+		// 重复关闭只归还一次
+		conn.close();
+		conn.close();
+		Assert.assertEquals(1, ds.getStats().idleCount());
+		Assert.assertSame(conn, ds.getConnection(0));
+		ds.close();
+		Assert.assertThrows(SQLException.class, ds::getConnection);
+	}
+
+	@Test
+	public void validationTest() throws SQLException {
+		final DbConfig config = createConfig("pool_validation", 2);
+		config.setValidationIdleTime(0);
+		final PooledDataSource ds = new PooledDataSource(config);
+		final PooledConnection conn = ds.getConnection(0);
+		// 模拟数据库端断开连接
+		conn.getRaw().close();
+		conn.close();
+
+		final PooledConnection newConn = ds.getConnection(0);
+		Assert.assertNotSame(conn, newConn);
+		Assert.assertFalse(newConn.isClosed());
+		Assert.assertEquals(1, ds.getStats().invalidCount());
+		newConn.close();
+		ds.close();
+	}
+
+	@Test
+	public void leakDetectionTest() throws SQLException, InterruptedException {
+		final DbConfig config = createConfig("pool_leak", 2);
+		config.setLeakDetectionThreshold(50);
+		final PooledDataSource ds = new PooledDataSource(config);
+		final Connection leaked = ds.getConnection();
+		ds.getConnection().close();
+		for (int i = 0; i < 100 && ds.getStats().leakCount() < 1; i++) {
+			Thread.sleep(20);
+		}
+		Assert.assertEquals(1, ds.getStats().leakCount());
+		leaked.close();
+		ds.close();
+	}
+
+	@Test
+	public void statementCacheTest() throws SQLException {
+		final DbConfig config = createConfig("pool_statement", 1);
+		config.setStatementCacheSize(2);
+		final PooledDataSource ds = new PooledDataSource(config);
+		final long hitCount = StatementCache.stats().hitCount();
+
+		final Connection conn = ds.getConnection();
+		final PreparedStatement ps = conn.prepareStatement("select ?");
+		ps.setInt(1, 1);
+		ps.close();
+		Assert.assertTrue(ps.isClosed());
+
+		// 归还连接后语句仍缓存在连接中
+		conn.close();
+		final Connection conn2 = ds.getConnection();
+		final PreparedStatement ps2 = conn2.prepareStatement("select ?");
+		Assert.assertSame(ps, ps2);
+		Assert.assertFalse(ps2.isClosed());
+		ps2.setInt(1, 2);
+		try (ResultSet rs = ps2.executeQuery()) {
+			Assert.assertTrue(rs.next());
+			Assert.assertEquals(2, rs.getInt(1));
+		}
+
+		// 同一SQL的语句正在使用时创建新的语句
+		final PreparedStatement ps3 = conn2.prepareStatement("select ?");
+		Assert.assertNotSame(ps2, ps3);
+		ps3.close();
+		ps2.close();
+		Assert.assertEquals(1, StatementCache.stats().hitCount() - hitCount);
+		conn2.close();
+		ds.close();
+	}
+
+	@Test
+	public void statementCacheFailedBatchTest() throws SQLException {
+		final DbConfig config = createConfig("pool_statement_batch", 1);
+		config.setStatementCacheSize(2);
+		final PooledDataSource ds = new PooledDataSource(config);
+		try (Connection conn = ds.getConnection(); Statement st = conn.createStatement()) {
+			st.execute("create table batch_test(v int)");
+
+			// 模拟批量填充参数中途失败，未执行的批量参数随语句归还
+			final PreparedStatement ps = conn.prepareStatement("insert into batch_test values(?)");
+			ps.setInt(1, 1);
+			ps.addBatch();
+			ps.setInt(1, 2);
+			ps.addBatch();
+			ps.close();
+
+			final PreparedStatement ps2 = conn.prepareStatement("insert into batch_test values(?)");
+			Assert.assertSame(ps, ps2);
+			ps2.setInt(1, 99);
+			ps2.addBatch();
+			Assert.assertEquals(1, ps2.executeBatch().length);
+			ps2.close();
+
+			try (ResultSet rs = st.executeQuery("select count(*) from batch_test")) {
+				Assert.assertTrue(rs.next());
+				Assert.assertEquals(1, rs.getInt(1));
+			}
+		}
+		ds.close();
+	}
+
+	private static DbConfig createConfig(String name, int maxActive) {
+		final DbConfig config = new DbConfig("jdbc:h2:mem:" + name, "sa", "");
+		config.setMaxActive(maxActive);
+		config.setMaxWait(5000);
+		return config;
+	}
+}
@@ -0,0 +1,86 @@
+package cn.hutool.db.handler;
+
+import cn.hutool.db.Db;
+import cn.hutool.db.Entity;
+import lombok.Data;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class BeanRowMapperTest {
+
+	private static final String DS_GROUP_NAME = "h2";
+
+	@BeforeClass
+	public static void init() throws SQLException {
+		final Db db = Db.use(DS_GROUP_NAME);
+		db.execute("CREATE TABLE mapper_test(id BIGINT, user_name VARCHAR(20), age INTEGER, score DOUBLE, active BOOLEAN, create_time TIMESTAMP)");
+		db.insert(Entity.create("mapper_test").set("id", 1L).set("user_name", "a").set("age", 18)
+				.set("score", 1.5D).set("active", true).set("create_time", new Timestamp(1000L)));
+		db.insert(Entity.create("mapper_test").set("id", 2L).set("user_name", null).set("age", null)
+				.set("score", null).set("active", null).set("create_time", null));
+	}
+
+	@Test
+	public void mapTest() throws SQLException {
+		final List<MapperBean> list = Db.use(DS_GROUP_NAME).query("select * from mapper_test order by id", MapperBean.class);
+		Assert.assertEquals(2, list.size());
+
+		final MapperBean first = list.get(0);
+		Assert.assertEquals(Long.valueOf(1), first.getId());
+		Assert.assertEquals("a", first.getUserName());
+		Assert.assertEquals(18, first.getAge());
+		Assert.assertEquals(Double.valueOf(1.5D), first.getScore());
+		Assert.assertTrue(first.getActive());
+		Assert.assertEquals(1000L, first.getCreateTime().getTime());
+
+		// 原始类型为null时赋予默认值
+		final MapperBean second = list.get(1);
+		Assert.assertNull(second.getUserName());
+		Assert.assertEquals(0, second.getAge());
+		Assert.assertNull(second.getScore());
+		Assert.assertNull(second.getActive());
+		Assert.assertNull(second.getCreateTime());
+	}
+
+	@Test
+	public void cacheTest() throws SQLException {
+		final BeanRowMapper<?>[] mappers = new BeanRowMapper<?>[2];
+		for (int i = 0; i < 2; i++) {
+			final int index = i;
+			Db.use(DS_GROUP_NAME).query("select id, age from mapper_test", (RsHandler<Object>) rs -> {
+				mappers[index] = BeanRowMapper.of(rs.getMetaData(), MapperBean.class);
+				return null;
+			});
+		}
+		Assert.assertSame(mappers[0], mappers[1]);
+	}
+
+	@Test
+	public void streamTest() throws SQLException {
+		// 流式读取时映射器只获取一次，所有行复用
+		try (Stream<MapperBean> stream = Db.use(DS_GROUP_NAME).stream("select * from mapper_test order by id", MapperBean.class)) {
+			final List<MapperBean> list = stream.collect(Collectors.toList());
+			Assert.assertEquals(2, list.size());
+			Assert.assertEquals("a", list.get(0).getUserName());
+			Assert.assertEquals(0, list.get(1).getAge());
+		}
+	}
+
+	@Data
+	public static class MapperBean {
+		private Long id;
+		private String userName;
+		private int age;
+		private Double score;
+		private Boolean active;
+		private Date createTime;
+	}
+}
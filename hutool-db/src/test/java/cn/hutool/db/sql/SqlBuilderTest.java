@@ -1,5 +1,7 @@
 package cn.hutool.db.sql;
 
+import cn.hutool.db.Entity;
+import cn.hutool.db.Page;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -44,4 +46,34 @@ public class SqlBuilderTest {
 		String s1 = sqlBuilder.build();
 		Assert.assertEquals("SELECT id FROM user WHERE user LIKE '%123%'", s1);
 	}
+
+	@Test
+	public void queryAfterTest() {
+		final Page page = new Page(0, 10);
+		page.setOrder(new Order("age"), new Order("id"));
+		final Query query = Query.of(Entity.create("user").set("status", 1)).setPage(page);
+
+		SqlBuilder builder = SqlBuilder.create(null).queryAfter(query, new Object[]{18, 100}, true);
+		Assert.assertEquals("SELECT * FROM user WHERE (status = ?) AND (age, id) > (?, ?)", builder.build());
+		Assert.assertArrayEquals(new Object[]{1, 18, 100}, builder.getParamValueArray());
+
+		// 排序方向不一致时展开条件
+		page.setOrder(new Order("age", Direction.DESC), new Order("id"));
+		builder = SqlBuilder.create(null).queryAfter(query, new Object[]{18, 100}, true);
+		Assert.assertEquals("SELECT * FROM user WHERE (status = ?) AND (age < ? OR (age = ? AND id > ?))", builder.build());
+		Assert.assertArrayEquals(new Object[]{1, 18, 18, 100}, builder.getParamValueArray());
+
+		// 第一页无键集条件
+		builder = SqlBuilder.create(null).queryAfter(query, null, true);
+		Assert.assertEquals("SELECT * FROM user WHERE status = ?", builder.build());
+	}
+
+	@Test
+	public void insertMultiRowTest() {
+		final SqlBuilder builder = SqlBuilder.create(null).insertMultiRow(
+				Entity.create("user").set("name", "a").set("age", 1),
+				Entity.create("user").set("name", "b").set("age", 2));
+		Assert.assertEquals("INSERT INTO user (name, age) VALUES (?, ?), (?, ?)", builder.build());
+		Assert.assertArrayEquals(new Object[]{"a", 1, "b", 2}, builder.getParamValueArray());
+	}
 }
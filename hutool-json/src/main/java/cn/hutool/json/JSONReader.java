@@ -0,0 +1,613 @@
+package cn.hutool.json;
+
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.core.util.StrUtil;
+
+import java.io.Closeable;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 流式JSON读取器，基于{@link JSONTokener}逐个读取标记，不构建完整的{@link JSONObject}或{@link JSONArray}，内存占用与文档大小无关<br>
+ * 用法与{@link JSONTokener}的解析规则一致（如允许单引号、尾后逗号，数组中省略的元素如{@code [1,,2]}读取为{@code null}），支持多个连续的顶层值（如JSON Lines）。
+ *
+ * <pre>
+ * try (JSONReader reader = JSONReader.of(in)) {
+ *     // 逐个读取顶层数组中的元素并转换为Bean
+ *     Iterator&lt;User&gt; users = reader.iterArray(User.class);
+ *     while (users.hasNext()) {
+ *         User user = users.next();
+ *     }
+ * }
+ *
+ * try (JSONReader reader = JSONReader.of(json)) {
+ *     reader.beginObject();
+ *     while (reader.hasNext()) {
+ *         if ("items".equals(reader.nextName())) {
+ *             ...
+ *         } else {
+ *             reader.skipValue();
+ *         }
+ *     }
+ *     reader.endObject();
+ * }
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.22
+ */
+public class JSONReader implements Closeable {
+
+	// 当前所在的位置
+	private static final int EMPTY_DOCUMENT = 0;
+	private static final int NONEMPTY_DOCUMENT = 1;
+	private static final int EMPTY_ARRAY = 2;
+	private static final int NONEMPTY_ARRAY = 3;
+	private static final int EMPTY_OBJECT = 4;
+	private static final int NONEMPTY_OBJECT = 5;
+	/**
+	 * 已读取键，等待读取值
+	 */
+	private static final int DANGLING_NAME = 6;
+
+	private final Reader reader;
+	private final JSONConfig config;
+	private final JSONTokener tokener;
+
+	/**
+	 * 嵌套的位置栈
+	 */
+	private int[] stack = new int[32];
+	private int stackSize;
+	/**
+	 * 已读取但未消费的标记，{@code null}表示未读取
+	 */
+	private JSONToken peeked;
+	/**
+	 * 已读取但未消费的键或值
+	 */
+	private Object peekedValue;
+	/**
+	 * {@link #nextToken()}最近读取的键或值
+	 */
+	private Object value;
+
+	/**
+	 * 创建读取器
+	 *
+	 * @param reader {@link Reader}
+	 * @return JSONReader
+	 */
+	public static JSONReader of(Reader reader) {
+		return new JSONReader(reader, null);
+	}
+
+	/**
+	 * 创建读取器，使用UTF-8编码
+	 *
+	 * @param in {@link InputStream}
+	 * @return JSONReader
+	 */
+	public static JSONReader of(InputStream in) {
+		return new JSONReader(IoUtil.getUtf8Reader(in), null);
+	}
+
+	/**
+	 * 创建读取器
+	 *
+	 * @param json JSON字符串
+	 * @return JSONReader
+	 */
+	public static JSONReader of(CharSequence json) {
+		return new JSONReader(new StringReader(StrUtil.str(json)), null);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param reader {@link Reader}
+	 * @param config JSON配置，用于{@link #nextValue()}构建的JSON和Bean转换，{@code null}表示默认配置
+	 */
+	public JSONReader(Reader reader, JSONConfig config) {
+		this.config = ObjectUtil.defaultIfNull(config, JSONConfig::create);
+		this.tokener = new JSONTokener(reader, this.config);
+		this.reader = reader;
+		this.stack[stackSize++] = EMPTY_DOCUMENT;
+	}
+
+	/**
+	 * 查看下一个标记的类型，不消费此标记
+	 *
+	 * @return {@link JSONToken}
+	 * @throws JSONException 语法错误
+	 */
+	public JSONToken peek() throws JSONException {
+		if (null == this.peeked) {
+			this.peeked = doPeek();
+		}
+		return this.peeked;
+	}
+
+	/**
+	 * 读取下一个标记，键或简单值可通过{@link #getValue()}获取，遇到对象或数组时进入其中
+	 *
+	 * @return {@link JSONToken}
+	 * @throws JSONException 语法错误
+	 */
+	public JSONToken nextToken() throws JSONException {
+		final JSONToken token = peek();
+		this.value = null;
+		switch (token) {
+			case BEGIN_OBJECT:
+				beginObject();
+				break;
+			case END_OBJECT:
+				endObject();
+				break;
+			case BEGIN_ARRAY:
+				beginArray();
+				break;
+			case END_ARRAY:
+				endArray();
+				break;
+			case END_DOCUMENT:
+				break;
+			default:
+				this.value = consume(token);
+		}
+		return token;
+	}
+
+	/**
+	 * 获取{@link #nextToken()}最近读取的键或简单值，读取到其它标记时为{@code null}<br>
+	 * 键和字符串为String，数字为Integer、Long或BigDecimal，布尔为Boolean，null值为{@code null}
+	 *
+	 * @return 键或值
+	 */
+	public Object getValue() {
+		return this.value;
+	}
+
+	/**
+	 * 当前对象或数组中是否还有元素，文档中是否还有顶层值
+	 *
+	 * @return 是否还有元素
+	 * @throws JSONException 语法错误
+	 */
+	public boolean hasNext() throws JSONException {
+		final JSONToken token = peek();
+		return JSONToken.END_OBJECT != token && JSONToken.END_ARRAY != token && JSONToken.END_DOCUMENT != token;
+	}
+
+	/**
+	 * 读取对象开始标记"{"
+	 *
+	 * @throws JSONException 下一个标记不是对象开始
+	 */
+	public void beginObject() throws JSONException {
+		consume(JSONToken.BEGIN_OBJECT);
+		push(EMPTY_OBJECT);
+	}
+
+	/**
+	 * 读取对象结束标记"}"
+	 *
+	 * @throws JSONException 下一个标记不是对象结束
+	 */
+	public void endObject() throws JSONException {
+		consume(JSONToken.END_OBJECT);
+		stackSize--;
+	}
+
+	/**
+	 * 读取数组开始标记"["
+	 *
+	 * @throws JSONException 下一个标记不是数组开始
+	 */
+	public void beginArray() throws JSONException {
+		consume(JSONToken.BEGIN_ARRAY);
+		push(EMPTY_ARRAY);
+	}
+
+	/**
+	 * 读取数组结束标记"]"
+	 *
+	 * @throws JSONException 下一个标记不是数组结束
+	 */
+	public void endArray() throws JSONException {
+		consume(JSONToken.END_ARRAY);
+		stackSize--;
+	}
+
+	/**
+	 * 读取对象中的键
+	 *
+	 * @return 键
+	 * @throws JSONException 下一个标记不是键
+	 */
+	public String nextName() throws JSONException {
+		return (String) consume(JSONToken.NAME);
+	}
+
+	/**
+	 * 读取字符串值，数字和布尔值返回其字符串形式
+	 *
+	 * @return 字符串值
+	 * @throws JSONException 下一个标记不是字符串、数字或布尔值
+	 */
+	public String nextString() throws JSONException {
+		final JSONToken token = peek();
+		if (JSONToken.NUMBER == token || JSONToken.BOOLEAN == token) {
+			return consume(token).toString();
+		}
+		return (String) consume(JSONToken.STRING);
+	}
+
+	/**
+	 * 读取数字值
+	 *
+	 * @return Integer、Long或BigDecimal
+	 * @throws JSONException 下一个标记不是数字
+	 */
+	public Number nextNumber() throws JSONException {
+		return (Number) consume(JSONToken.NUMBER);
+	}
+
+	/**
+	 * 读取布尔值
+	 *
+	 * @return 布尔值
+	 * @throws JSONException 下一个标记不是布尔值
+	 */
+	public boolean nextBoolean() throws JSONException {
+		return (Boolean) consume(JSONToken.BOOLEAN);
+	}
+
+	/**
+	 * 读取null值
+	 *
+	 * @throws JSONException 下一个标记不是null
+	 */
+	public void nextNull() throws JSONException {
+		consume(JSONToken.NULL);
+	}
+
+	/**
+	 * 读取下一个完整的值，对象和数组构建为{@link JSONObject}和{@link JSONArray}，适用于读取大文档中的单个元素
+	 *
+	 * @return 值，null值为{@link JSONNull#NULL}
+	 * @throws JSONException 下一个标记不是值
+	 */
+	public Object nextValue() throws JSONException {
+		final JSONToken token = peek();
+		switch (token) {
+			case BEGIN_OBJECT:
+			case BEGIN_ARRAY:
+				// 开始标记已读取，回退后由JSONTokener完整解析
+				this.peeked = null;
+				this.tokener.back();
+				return this.tokener.nextValue();
+			case NULL:
+				consume(token);
+				return JSONNull.NULL;
+			case STRING:
+			case NUMBER:
+			case BOOLEAN:
+				return consume(token);
+			default:
+				throw syntaxError("Expected a value but was " + token);
+		}
+	}
+
+	/**
+	 * 读取下一个完整的值并转换为Bean
+	 *
+	 * @param <T>  Bean类型
+	 * @param type Bean类型
+	 * @return Bean，null值返回{@code null}
+	 * @throws JSONException 下一个标记不是值
+	 */
+	public <T> T nextBean(Type type) throws JSONException {
+		return JSONConverter.jsonConvert(type, nextValue(), this.config);
+	}
+
+	/**
+	 * 跳过下一个值，对象和数组整体跳过，不构建任何对象；下一个标记为键时，跳过键和对应的值
+	 *
+	 * @throws JSONException 下一个标记不是键或值
+	 */
+	public void skipValue() throws JSONException {
+		final JSONToken token = peek();
+		switch (token) {
+			case BEGIN_OBJECT:
+			case BEGIN_ARRAY:
+				this.peeked = null;
+				skipContainer();
+				break;
+			case NAME:
+				consume(token);
+				skipValue();
+				break;
+			case END_OBJECT:
+			case END_ARRAY:
+			case END_DOCUMENT:
+				throw syntaxError("Expected a value but was " + token);
+			default:
+				consume(token);
+		}
+	}
+
+	/**
+	 * 逐个读取数组中的元素并转换为Bean，下一个标记必须为数组开始，迭代结束时读取数组结束标记<br>
+	 * 每次只解析一个元素，适用于读取包含大量元素的数组。
+	 *
+	 * @param <T>         元素类型
+	 * @param elementType 元素类型
+	 * @return 元素迭代器
+	 * @throws JSONException 下一个标记不是数组开始
+	 */
+	public <T> Iterator<T> iterArray(Type elementType) throws JSONException {
+		beginArray();
+		return new Iterator<T>() {
+			private boolean ended;
+
+			@Override
+			public boolean hasNext() {
+				if (ended) {
+					return false;
+				}
+				if (JSONReader.this.hasNext()) {
+					return true;
+				}
+				endArray();
+				ended = true;
+				return false;
+			}
+
+			@Override
+			public T next() {
+				if (false == hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return nextBean(elementType);
+			}
+		};
+	}
+
+	@Override
+	public void close() {
+		IoUtil.close(this.reader);
+	}
+
+	@Override
+	public String toString() {
+		return "JSONReader" + this.tokener;
+	}
+
+	/**
+	 * 根据当前位置读取下一个标记
+	 *
+	 * @return {@link JSONToken}
+	 */
+	private JSONToken doPeek() {
+		final int top = stackSize - 1;
+		final int scope = stack[top];
+		char c;
+		switch (scope) {
+			case EMPTY_ARRAY:
+				stack[top] = NONEMPTY_ARRAY;
+				c = tokener.nextClean();
+				if (']' == c) {
+					return setPeeked(JSONToken.END_ARRAY, null);
+				}
+				tokener.back();
+				if (',' == c) {
+					// 省略的元素，与JSONParser一致视为null
+					return setPeeked(JSONToken.NULL, null);
+				}
+				break;
+			case NONEMPTY_ARRAY:
+				c = tokener.nextClean();
+				if (']' == c) {
+					return setPeeked(JSONToken.END_ARRAY, null);
+				}
+				if (',' != c) {
+					throw tokener.syntaxError("Expected a ',' or ']'");
+				}
+				// 尾后逗号
+				c = tokener.nextClean();
+				if (']' == c) {
+					return setPeeked(JSONToken.END_ARRAY, null);
+				}
+				tokener.back();
+				if (',' == c) {
+					// 省略的元素，与JSONParser一致视为null
+					return setPeeked(JSONToken.NULL, null);
+				}
+				break;
+			case EMPTY_OBJECT:
+			case NONEMPTY_OBJECT:
+				c = tokener.nextClean();
+				if (NONEMPTY_OBJECT == scope) {
+					if ('}' == c) {
+						return setPeeked(JSONToken.END_OBJECT, null);
+					}
+					if (',' != c && ';' != c) {
+						throw tokener.syntaxError("Expected a ',' or '}'");
+					}
+					c = tokener.nextClean();
+				}
+				// 空对象或尾后逗号
+				if ('}' == c) {
+					return setPeeked(JSONToken.END_OBJECT, null);
+				}
+				if (0 == c) {
+					throw tokener.syntaxError("A JSONObject text must end with '}'");
+				}
+				tokener.back();
+				stack[top] = DANGLING_NAME;
+				return setPeeked(JSONToken.NAME, tokener.nextStringValue());
+			case DANGLING_NAME:
+				if (':' != tokener.nextClean()) {
+					throw tokener.syntaxError("Expected a ':' after a key");
+				}
+				stack[top] = NONEMPTY_OBJECT;
+				break;
+			default:
+				// 文档开始或上一个顶层值之后，允许多个顶层值
+				stack[top] = NONEMPTY_DOCUMENT;
+				if (0 == tokener.nextClean()) {
+					return setPeeked(JSONToken.END_DOCUMENT, null);
+				}
+				tokener.back();
+		}
+		return peekValue();
+	}
+
+	/**
+	 * 读取值标记，简单值同时被读取
+	 *
+	 * @return {@link JSONToken}
+	 */
+	private JSONToken peekValue() {
+		final char c = tokener.nextClean();
+		switch (c) {
+			case '{':
+				return setPeeked(JSONToken.BEGIN_OBJECT, null);
+			case '[':
+				return setPeeked(JSONToken.BEGIN_ARRAY, null);
+			case '"':
+			case '\'':
+				return setPeeked(JSONToken.STRING, tokener.nextString(c));
+			case 0:
+				throw tokener.syntaxError("Unexpected end of JSON");
+		}
+
+		tokener.back();
+		final String text = tokener.nextStringValue();
+		final Object parsed = InternalJSONUtil.stringToValue(text);
+		if (JSONNull.NULL == parsed) {
+			return setPeeked(JSONToken.NULL, null);
+		} else if (parsed instanceof Boolean) {
+			return setPeeked(JSONToken.BOOLEAN, parsed);
+		} else if (parsed instanceof Number) {
+			return setPeeked(JSONToken.NUMBER, parsed);
+		}
+		// 非标准的无引号字符串
+		return setPeeked(JSONToken.STRING, text);
+	}
+
+	/**
+	 * 跳过对象或数组的剩余部分，开始标记已读取<br>
+	 * 与{@link JSONTokener}一致，引号只有出现在键或值的开头时才表示字符串，无引号字符串中的引号（如{@code it's}）作为普通字符
+	 */
+	private void skipContainer() {
+		int depth = 1;
+		// 上一个非空白字符，用于判断引号是否位于键或值的开头
+		char last = '{';
+		char c;
+		while (depth > 0) {
+			c = tokener.next();
+			switch (c) {
+				case 0:
+					throw tokener.syntaxError("Unterminated JSONObject or JSONArray");
+				case '"':
+				case '\'':
+					if ("{[,:;".indexOf(last) >= 0) {
+						skipString(c);
+					}
+					break;
+				case '{':
+				case '[':
+					depth++;
+					break;
+				case '}':
+				case ']':
+					depth--;
+					break;
+			}
+			if (c > ' ') {
+				last = c;
+			}
+		}
+	}
+
+	/**
+	 * 跳过字符串的剩余部分，开始引号已读取
+	 *
+	 * @param quote 引号
+	 */
+	private void skipString(char quote) {
+		char c;
+		while (true) {
+			c = tokener.next();
+			if (0 == c) {
+				throw tokener.syntaxError("Unterminated string");
+			}
+			if ('\\' == c) {
+				// 跳过转义的字符
+				tokener.next();
+			} else if (quote == c) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * 记录读取到的标记
+	 *
+	 * @param token 标记
+	 * @param value 键或值
+	 * @return 标记
+	 */
+	private JSONToken setPeeked(JSONToken token, Object value) {
+		this.peekedValue = value;
+		return token;
+	}
+
+	/**
+	 * 消费指定类型的标记
+	 *
+	 * @param expected 期望的标记
+	 * @return 键或值
+	 * @throws JSONException 下一个标记不是期望的标记
+	 */
+	private Object consume(JSONToken expected) throws JSONException {
+		final JSONToken token = peek();
+		if (expected != token) {
+			throw syntaxError("Expected " + expected + " but was " + token);
+		}
+		final Object result = this.peekedValue;
+		this.peeked = null;
+		this.peekedValue = null;
+		return result;
+	}
+
+	/**
+	 * 进入对象或数组
+	 *
+	 * @param scope 位置
+	 */
+	private void push(int scope) {
+		if (stackSize == stack.length) {
+			stack = Arrays.copyOf(stack, stackSize * 2);
+		}
+		stack[stackSize++] = scope;
+	}
+
+	/**
+	 * 构建语法错误
+	 *
+	 * @param message 错误消息
+	 * @return {@link JSONException}
+	 */
+	private JSONException syntaxError(String message) {
+		return tokener.syntaxError(message);
+	}
+}
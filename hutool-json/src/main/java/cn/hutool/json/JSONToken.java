@@ -0,0 +1,50 @@
+package cn.hutool.json;
+
+/**
+ * {@link JSONReader}读取到的标记类型
+ *
+ * @author looly
+ * @since 5.8.22
+ */
+public enum JSONToken {
+	/**
+	 * 对象开始，即"{"
+	 */
+	BEGIN_OBJECT,
+	/**
+	 * 对象结束，即"}"
+	 */
+	END_OBJECT,
+	/**
+	 * 数组开始，即"["
+	 */
+	BEGIN_ARRAY,
+	/**
+	 * 数组结束，即"]"
+	 */
+	END_ARRAY,
+	/**
+	 * 对象中的键
+	 */
+	NAME,
+	/**
+	 * 字符串值
+	 */
+	STRING,
+	/**
+	 * 数字值
+	 */
+	NUMBER,
+	/**
+	 * 布尔值
+	 */
+	BOOLEAN,
+	/**
+	 * null值
+	 */
+	NULL,
+	/**
+	 * 文档结束
+	 */
+	END_DOCUMENT
+}
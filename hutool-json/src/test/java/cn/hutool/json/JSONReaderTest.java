@@ -0,0 +1,128 @@
+package cn.hutool.json;
+
+import lombok.Data;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+public class JSONReaderTest {
+
+	@Test
+	public void nextTokenTest() {
+		final JSONReader reader = JSONReader.of("{\"a\": 1, \"b\": [true, null, 'x', 1.5], \"c\": {},}");
+		final List<Object> values = new ArrayList<>();
+		final List<JSONToken> tokens = new ArrayList<>();
+		JSONToken token;
+		while (JSONToken.END_DOCUMENT != (token = reader.nextToken())) {
+			tokens.add(token);
+			if (null != reader.getValue()) {
+				values.add(reader.getValue());
+			}
+		}
+
+		Assert.assertArrayEquals(new JSONToken[]{
+				JSONToken.BEGIN_OBJECT,
+				JSONToken.NAME, JSONToken.NUMBER,
+				JSONToken.NAME, JSONToken.BEGIN_ARRAY, JSONToken.BOOLEAN, JSONToken.NULL, JSONToken.STRING, JSONToken.NUMBER, JSONToken.END_ARRAY,
+				JSONToken.NAME, JSONToken.BEGIN_OBJECT, JSONToken.END_OBJECT,
+				JSONToken.END_OBJECT
+		}, tokens.toArray());
+		Assert.assertEquals("a", values.get(0));
+		Assert.assertEquals(1, values.get(1));
+		Assert.assertEquals(new BigDecimal("1.5"), values.get(values.size() - 2));
+	}
+
+	@Test
+	public void skipValueTest() {
+		final JSONReader reader = JSONReader.of("{\"skip\": {\"x\": [1, \"]}\\\"\", {}]}, \"name\": \"hutool\", \"other\": [[]]}");
+		reader.beginObject();
+		String name = null;
+		while (reader.hasNext()) {
+			if ("name".equals(reader.nextName())) {
+				name = reader.nextString();
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+		Assert.assertEquals("hutool", name);
+		Assert.assertEquals(JSONToken.END_DOCUMENT, reader.peek());
+	}
+
+	@Test
+	public void iterArrayTest() {
+		final JSONReader reader = JSONReader.of("[{\"name\": \"a\", \"age\": 1}, {\"name\": \"b\", \"age\": 2}, null]");
+		final Iterator<User> iter = reader.iterArray(User.class);
+		final List<User> users = new ArrayList<>();
+		while (iter.hasNext()) {
+			users.add(iter.next());
+		}
+		Assert.assertFalse(iter.hasNext());
+		Assert.assertEquals(3, users.size());
+		Assert.assertEquals("b", users.get(1).getName());
+		Assert.assertEquals(2, users.get(1).getAge());
+		Assert.assertNull(users.get(2));
+		Assert.assertEquals(JSONToken.END_DOCUMENT, reader.peek());
+	}
+
+	@Test
+	public void jsonLinesTest() {
+		final JSONReader reader = JSONReader.of("{\"name\": \"a\"}\n{\"name\": \"b\"}\n");
+		final List<Object> values = new ArrayList<>();
+		while (reader.hasNext()) {
+			values.add(reader.nextValue());
+		}
+		Assert.assertEquals(2, values.size());
+		Assert.assertEquals("b", ((JSONObject) values.get(1)).getStr("name"));
+	}
+
+	@Test
+	public void elidedArrayElementTest() {
+		// 省略的元素与JSONParser一致视为null
+		for (String json : new String[]{"[1,,2]", "[,1]", "[1,,]", "[,]"}) {
+			final JSONReader reader = JSONReader.of(json);
+			Assert.assertEquals(json, JSONUtil.parseArray(json), reader.nextValue());
+			Assert.assertEquals(JSONToken.END_DOCUMENT, reader.peek());
+		}
+
+		final JSONReader reader = JSONReader.of("[1,,2]");
+		reader.beginArray();
+		Assert.assertEquals(1, reader.nextNumber().intValue());
+		Assert.assertEquals(JSONToken.NULL, reader.nextToken());
+		Assert.assertEquals(2, reader.nextNumber().intValue());
+		reader.endArray();
+	}
+
+	@Test
+	public void skipUnquotedQuoteTest() {
+		// 无引号字符串中的引号不是字符串的开头，与JSONTokener一致
+		final String json = "{skip: {a: it's, b: ['}']}, name: 'hutool'}";
+		Assert.assertEquals("it's", JSONUtil.parseObj(json).getJSONObject("skip").getStr("a"));
+
+		final JSONReader reader = JSONReader.of(json);
+		reader.beginObject();
+		Assert.assertEquals("skip", reader.nextName());
+		reader.skipValue();
+		Assert.assertEquals("name", reader.nextName());
+		Assert.assertEquals("hutool", reader.nextString());
+		reader.endObject();
+	}
+
+	@Test(expected = JSONException.class)
+	public void syntaxErrorTest() {
+		final JSONReader reader = JSONReader.of("[1 2]");
+		reader.beginArray();
+		reader.nextNumber();
+		reader.nextNumber();
+	}
+
+	@Data
+	public static class User {
+		private String name;
+		private int age;
+	}
+}